@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+#
+# Mixed API + chat load against the packaged jar, once on platform threads and once on
+# virtual threads, with the offline model standing in for Gemini so only the server is
+# measured. Needs a Java 21 runtime, the MySQL instance from application.yaml, hey and jq.
+#
+#   ./mvnw -q package -DskipTests
+#   LOADTEST_USER=admin LOADTEST_PASSWORD=... scripts/compare-threading.sh
+#
+set -euo pipefail
+
+JAR=${JAR:-$(ls target/*-exec.jar | head -1)}
+PORT=${PORT:-8090}
+DURATION=${DURATION:-60s}
+API_CONCURRENCY=${API_CONCURRENCY:-200}
+CHAT_CONCURRENCY=${CHAT_CONCURRENCY:-150}
+OFFLINE_LATENCY_MS=${OFFLINE_LATENCY_MS:-800}
+RESULTS=${RESULTS:-target/threading-load-test}
+BASE_URL="http://localhost:${PORT}"
+
+: "${LOADTEST_USER:?set LOADTEST_USER}"
+: "${LOADTEST_PASSWORD:?set LOADTEST_PASSWORD}"
+command -v hey >/dev/null || { echo "hey is required (https://github.com/rakyll/hey)"; exit 1; }
+command -v jq >/dev/null || { echo "jq is required"; exit 1; }
+
+mkdir -p "$RESULTS"
+
+start_app() {
+  local virtual=$1
+  # Chat limits are raised so the executor, not the limiter, is what gets compared;
+  # the semantic cache is off so every chat request reaches the model
+  VIRTUAL_THREADS_ENABLED=$virtual java -jar "$JAR" \
+    --server.port="$PORT" \
+    --ai.model.provider=offline \
+    --ai.offline.latency-ms="$OFFLINE_LATENCY_MS" \
+    --ai.semantic-cache.enabled=false \
+    --ai.chat.max-concurrent=1000 \
+    --ai.chat.max-concurrent-per-user=1000 \
+    --ai.chat.max-queued=1000 \
+    > "$RESULTS/app-virtual-$virtual.log" 2>&1 &
+  APP_PID=$!
+
+  for _ in $(seq 1 120); do
+    if TOKEN=$(curl -sf -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$LOADTEST_USER\",\"password\":\"$LOADTEST_PASSWORD\"}" \
+        "$BASE_URL/api/auth/login" | jq -r '.token'); then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "Application did not start; see $RESULTS/app-virtual-$virtual.log"
+  kill "$APP_PID"
+  exit 1
+}
+
+run_mode() {
+  local mode=$1 virtual=$2
+  echo "== $mode threads"
+  start_app "$virtual"
+
+  # Warm up JIT, connection pool and caches before measuring
+  hey -z 10s -c 20 -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/licenses" > /dev/null
+
+  hey -z "$DURATION" -c "$API_CONCURRENCY" -H "Authorization: Bearer $TOKEN" \
+    "$BASE_URL/api/licenses" > "$RESULTS/$mode-api.txt" &
+  local api_pid=$!
+  hey -z "$DURATION" -c "$CHAT_CONCURRENCY" -m POST -T application/json \
+    -H "Authorization: Bearer $TOKEN" -d '{"message":"Which licenses expire in the next 30 days?"}' \
+    "$BASE_URL/api/ai/chat/message" > "$RESULTS/$mode-chat.txt"
+  wait "$api_pid"
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+}
+
+summarize() {
+  local file=$1
+  local rps p50 p99 errors
+  rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+  p50=$(awk '/ 50%/ {print $3}' "$file")
+  p99=$(awk '/ 99%/ {print $3}' "$file")
+  errors=$(awk '/\[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}' "$file")
+  printf "%-10s %10s %10s %10s %8s\n" "$2" "$rps" "$p50" "$p99" "$errors"
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf "\n%-10s %10s %10s %10s %8s\n" "run" "req/s" "p50 (s)" "p99 (s)" "non-200"
+for mode in platform virtual; do
+  summarize "$RESULTS/$mode-api.txt" "$mode-api"
+  summarize "$RESULTS/$mode-chat.txt" "$mode-chat"
+done
+echo
+echo "Pinned virtual threads reported: $(grep -c 'Virtual thread pinned' "$RESULTS/app-virtual-true.log" || true)"
+echo "Raw hey output and application logs are in $RESULTS"
@@ -0,0 +1,291 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.dto.ChatResponseDto;
+import com.prodapt.license_tracker_backend.exception.ChatCapacityException;
+import com.prodapt.license_tracker_backend.monitoring.RequestTracer;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs assistant conversations off the servlet threads. Model calls are executed on a
+ * dedicated pool and gated by {@link ChatConcurrencyLimiter}, so chat traffic cannot
+ * exhaust the Tomcat pool that serves the rest of the API.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssistantChatService {
+
+    private static final String BUSY_MESSAGE = "The AI assistant is busy. Please try again shortly.";
+    private static final String ERROR_MESSAGE = "Sorry, I encountered an error. Please try again.";
+
+    private final LicenseTrackerAssistant licenseTrackerAssistant;
+    private final ChatConcurrencyLimiter chatConcurrencyLimiter;
+    private final ChatMemoryStore chatMemoryStore;
+    private final SemanticAnswerCache semanticAnswerCache;
+    private final Environment environment;
+    private final ApplicationMetrics applicationMetrics;
+
+    @Value("${ai.chat.executor.pool-size:32}")
+    private int poolSize;
+
+    @Value("${ai.chat.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    // Upper bound on a streamed response, including time spent queued
+    @Value("${ai.chat.response-timeout-ms:120000}")
+    private long responseTimeoutMs;
+
+    private AsyncTaskExecutor chatExecutor;
+    private AsyncTaskExecutor securedChatExecutor;
+
+    @PostConstruct
+    void init() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // One virtual thread per chat; ChatConcurrencyLimiter still bounds model calls and waiters
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("ai-chat-");
+            virtualExecutor.setVirtualThreads(true);
+            virtualExecutor.setTaskTerminationTimeout(5000);
+            chatExecutor = virtualExecutor;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(poolSize);
+            pool.setMaxPoolSize(poolSize);
+            pool.setQueueCapacity(queueCapacity);
+            pool.setThreadNamePrefix("ai-chat-");
+            pool.initialize();
+            chatExecutor = pool;
+        }
+
+        // Keeps the caller's security context on the chat threads
+        securedChatExecutor = new DelegatingSecurityContextAsyncTaskExecutor(chatExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (chatExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (chatExecutor instanceof SimpleAsyncTaskExecutor virtualExecutor) {
+            virtualExecutor.close();
+        }
+    }
+
+    public String chatIdFor(String username) {
+        return "user-" + username;
+    }
+
+    public void clearHistory(String chatId) {
+        log.info("Clearing chat history for chatId: {}", chatId);
+        chatMemoryStore.deleteMessages(chatId);
+    }
+
+    /**
+     * Full answer in one piece, completed on the chat pool
+     */
+    public CompletableFuture<String> chat(String username, String message) {
+        String chatId = chatIdFor(username);
+        try {
+            return CompletableFuture.supplyAsync(RequestTracer.propagate(() -> {
+                SemanticAnswerCache.Lookup lookup = lookupCachedAnswer(chatId, message);
+                if (lookup.isHit()) {
+                    rememberExchange(chatId, message, lookup.getAnswer());
+                    return lookup.getAnswer();
+                }
+
+                try (ChatConcurrencyLimiter.Permit permit = chatConcurrencyLimiter.acquire(username)) {
+                    ToolUsageRecorder.start();
+                    long started = System.nanoTime();
+                    RequestTracer.Span span = RequestTracer.start("ai.model", "chat");
+                    boolean answered = false;
+                    String answer;
+                    Set<DataDomain> domains;
+                    try {
+                        answer = licenseTrackerAssistant.chat(chatId, message);
+                        answered = true;
+                    } finally {
+                        span.close();
+                        domains = ToolUsageRecorder.stop();
+                        applicationMetrics.recordModelResponse("blocking", answered, System.nanoTime() - started);
+                    }
+
+                    // A null set means a tool failed, so the answer is not reused
+                    if (domains != null) {
+                        semanticAnswerCache.store(lookup, answer, domains);
+                    }
+                    return answer;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ChatCapacityException(BUSY_MESSAGE);
+                }
+            }), securedChatExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(new ChatCapacityException(BUSY_MESSAGE));
+        }
+    }
+
+    /**
+     * Streams the answer as server-sent events: "token" events carrying {"token": ...},
+     * then a single "done" event with the full response, or an "error" event.
+     */
+    public SseEmitter stream(String username, String message) {
+        SseEmitter emitter = new SseEmitter(responseTimeoutMs);
+        String chatId = chatIdFor(username);
+        try {
+            securedChatExecutor.execute(RequestTracer.propagate(() -> streamInto(emitter, username, chatId, message)));
+        } catch (TaskRejectedException e) {
+            sendError(emitter, BUSY_MESSAGE);
+        }
+        return emitter;
+    }
+
+    private void streamInto(SseEmitter emitter, String username, String chatId, String message) {
+        SemanticAnswerCache.Lookup lookup;
+        try {
+            lookup = lookupCachedAnswer(chatId, message);
+        } catch (Exception e) {
+            log.error("Error starting chat stream for chatId {}", chatId, e);
+            sendError(emitter, ERROR_MESSAGE);
+            return;
+        }
+        if (lookup.isHit()) {
+            rememberExchange(chatId, message, lookup.getAnswer());
+            send(emitter, SseEmitter.event().name("token").data(Map.of("token", lookup.getAnswer()), MediaType.APPLICATION_JSON));
+            send(emitter, SseEmitter.event().name("done")
+                    .data(new ChatResponseDto(lookup.getAnswer(), chatId), MediaType.APPLICATION_JSON));
+            emitter.complete();
+            return;
+        }
+
+        ChatConcurrencyLimiter.Permit permit;
+        try {
+            permit = chatConcurrencyLimiter.acquire(username);
+        } catch (ChatCapacityException e) {
+            sendError(emitter, e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(emitter, BUSY_MESSAGE);
+            return;
+        }
+
+        // The streaming API cannot cancel a model call, so on timeout the client is let go and the
+        // rest of the stream is ignored; the slot is only freed once the model has actually finished
+        AtomicBoolean abandoned = new AtomicBoolean();
+        emitter.onTimeout(() -> {
+            abandoned.set(true);
+            log.warn("Chat response for chatId {} timed out; ignoring the rest of the model stream", chatId);
+            sendError(emitter, ERROR_MESSAGE);
+        });
+
+        long started = System.nanoTime();
+        // Closed from the model's callbacks, which may run on another thread
+        RequestTracer.Span span = RequestTracer.start("ai.model", "stream");
+        AtomicBoolean firstToken = new AtomicBoolean(true);
+        try {
+            licenseTrackerAssistant.streamChat(chatId, message)
+                    .onNext(token -> {
+                        if (firstToken.compareAndSet(true, false)) {
+                            applicationMetrics.recordFirstToken(System.nanoTime() - started);
+                            log.info("First token for chatId {} after {} ms", chatId, elapsedMillis(started));
+                        }
+                        if (!abandoned.get()) {
+                            send(emitter, SseEmitter.event().name("token").data(Map.of("token", token), MediaType.APPLICATION_JSON));
+                        }
+                    })
+                    .onComplete(response -> {
+                        permit.close();
+                        span.close();
+                        applicationMetrics.recordModelResponse("streaming", true, System.nanoTime() - started);
+                        log.info("AI response streamed for chatId {} in {} ms", chatId, elapsedMillis(started));
+                        // Tools may run on model threads when streaming, so dependencies are unknown
+                        semanticAnswerCache.store(lookup, response.content().text(), null);
+                        if (!abandoned.get()) {
+                            send(emitter, SseEmitter.event().name("done")
+                                    .data(new ChatResponseDto(response.content().text(), chatId), MediaType.APPLICATION_JSON));
+                            emitter.complete();
+                        }
+                    })
+                    .onError(error -> {
+                        permit.close();
+                        span.close();
+                        applicationMetrics.recordModelResponse("streaming", false, System.nanoTime() - started);
+                        log.error("Error streaming chat response for chatId {}", chatId, error);
+                        if (!abandoned.get()) {
+                            sendError(emitter, ERROR_MESSAGE);
+                        }
+                    })
+                    .start();
+        } catch (Exception e) {
+            permit.close();
+            span.close();
+            log.error("Error starting chat stream for chatId {}", chatId, e);
+            sendError(emitter, ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Keeps the conversation coherent when an answer is served from the semantic cache
+     */
+    /**
+     * Answers are generated with the conversation so far, so a question asked after earlier
+     * turns ("which of those are from Microsoft?") may mean something else for another user;
+     * only a conversation's opening question is answered from or stored in the shared cache
+     */
+    private SemanticAnswerCache.Lookup lookupCachedAnswer(String chatId, String message) {
+        boolean hasHistory = chatMemoryStore.getMessages(chatId).stream()
+                .anyMatch(earlier -> !(earlier instanceof SystemMessage));
+        return hasHistory ? SemanticAnswerCache.Lookup.SKIPPED : semanticAnswerCache.lookup(message);
+    }
+
+    private void rememberExchange(String chatId, String question, String answer) {
+        List<ChatMessage> messages = chatMemoryStore.getMessages(chatId);
+        messages.add(UserMessage.from(question));
+        messages.add(AiMessage.from(answer));
+        chatMemoryStore.updateMessages(chatId, messages);
+    }
+
+    private void sendError(SseEmitter emitter, String message) {
+        send(emitter, SseEmitter.event().name("error").data(Map.of("message", message), MediaType.APPLICATION_JSON));
+        emitter.complete();
+    }
+
+    // The client may have gone away; the model call still runs to completion and frees its slot
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Chat client disconnected: {}", e.getMessage());
+        }
+    }
+
+    private long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+}
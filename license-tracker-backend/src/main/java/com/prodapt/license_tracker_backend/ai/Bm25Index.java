@@ -0,0 +1,262 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Okapi BM25 keyword search over short text documents held in memory.
+ *
+ * Postings are kept as parallel primitive arrays per term, so a few million postings
+ * cost tens of megabytes rather than a map entry each. Replacing or removing a document
+ * only marks its slot deleted; deleted slots are skipped at query time and reclaimed by
+ * compacting once they make up a quarter of the index.
+ */
+public class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double MAX_DELETED_RATIO = 0.25;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    // Words plus identifiers such as LIC-2024-001, 10.2.1 or 192.168.1.10
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+(?:[-._/][\\p{L}\\p{N}]+)*");
+    private static final Pattern SEPARATOR = Pattern.compile("[-._/]");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "any", "about", "all", "do", "does", "for", "from", "give",
+            "how", "i", "in", "is", "it", "list", "me", "my", "of", "on", "or", "please", "show",
+            "tell", "that", "the", "there", "this", "to", "us", "we", "what", "which", "who", "with");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private int[] lengths = new int[1024];
+    private long totalLength;
+    private int liveCount;
+
+    public void put(String key, String text) {
+        lock.writeLock().lock();
+        try {
+            delete(key);
+            add(key, text);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            delete(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String getText(String key) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(key);
+            return ordinal == null ? null : texts.get(ordinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to k documents matching at least one query term, best first
+     */
+    public List<Hit> search(String query, int k) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / liveCount;
+            float[] scores = new float[keys.size()];
+            BitSet matched = new BitSet(keys.size());
+
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                // Deleted slots still count towards document frequency until compaction
+                int documentFrequency = Math.min(termPostings.size, liveCount);
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                for (int i = 0; i < termPostings.size; i++) {
+                    int ordinal = termPostings.documents[i];
+                    if (!live.get(ordinal)) {
+                        continue;
+                    }
+                    int frequency = termPostings.frequencies[i];
+                    double lengthNorm = 1 - B + B * lengths[ordinal] / averageLength;
+                    scores[ordinal] += (float) (idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm));
+                    matched.set(ordinal);
+                }
+            }
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::getScore));
+            for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+                if (best.size() < k) {
+                    best.add(new Hit(keys.get(ordinal), scores[ordinal]));
+                } else if (scores[ordinal] > best.peek().getScore()) {
+                    best.poll();
+                    best.add(new Hit(keys.get(ordinal), scores[ordinal]));
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+            // Parts of compound identifiers are searchable on their own as well
+            if (SEPARATOR.matcher(token).find()) {
+                for (String part : SEPARATOR.split(token)) {
+                    if (!part.isEmpty() && !STOP_WORDS.contains(part)) {
+                        tokens.add(part);
+                    }
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private void add(String key, String text) {
+        List<String> tokens = tokenize(text);
+        int ordinal = keys.size();
+        keys.add(key);
+        texts.add(text);
+        ordinals.put(key, ordinal);
+
+        if (ordinal == lengths.length) {
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        lengths[ordinal] = tokens.size();
+        totalLength += tokens.size();
+        live.set(ordinal);
+        liveCount++;
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, frequency));
+    }
+
+    private void delete(String key) {
+        Integer ordinal = ordinals.remove(key);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        texts.set(ordinal, null);
+        totalLength -= lengths[ordinal];
+        liveCount--;
+    }
+
+    private void compactIfNeeded() {
+        int deleted = keys.size() - liveCount;
+        if (keys.size() < MIN_COMPACTION_SIZE || deleted < keys.size() * MAX_DELETED_RATIO) {
+            return;
+        }
+
+        List<String> liveKeys = new ArrayList<>(liveCount);
+        List<String> liveTexts = new ArrayList<>(liveCount);
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            liveKeys.add(keys.get(ordinal));
+            liveTexts.add(texts.get(ordinal));
+        }
+
+        postings.clear();
+        ordinals.clear();
+        keys.clear();
+        texts.clear();
+        live.clear();
+        lengths = new int[Math.max(1024, liveKeys.size())];
+        totalLength = 0;
+        liveCount = 0;
+
+        for (int i = 0; i < liveKeys.size(); i++) {
+            add(liveKeys.get(i), liveTexts.get(i));
+        }
+    }
+
+    private static class Postings {
+        private int[] documents = new int[4];
+        private short[] frequencies = new short[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = ordinal;
+            frequencies[size] = (short) Math.min(frequency, Short.MAX_VALUE);
+            size++;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final String key;
+        private final double score;
+    }
+}
@@ -0,0 +1,250 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Chat memory with a fixed heap budget. Conversations are held as serialized JSON,
+ * weighed by size, and evicted least-recently-used once the budget is reached or
+ * after they have been idle for idleExpiry. When a directory is configured every
+ * update is also written behind as a gzip file by a single background writer, so
+ * evicted conversations are reloaded on demand and survive restarts. Writes queued
+ * for the same conversation are coalesced into the latest one.
+ */
+@Slf4j
+public class BoundedChatMemoryStore implements ChatMemoryStore, AutoCloseable {
+
+    private static final String FILE_SUFFIX = ".json.gz";
+    // Pending entry for a deleted conversation; serialized messages are never empty
+    private static final String DELETED = "";
+
+    private final Cache<String, String> conversations;
+    private final Path directory;
+    private final Duration retention;
+    // Latest unwritten JSON, or DELETED, per conversation; read before the file so a reload never sees a stale copy
+    private final ConcurrentMap<String, String> pendingWrites = new ConcurrentHashMap<>();
+    private final ExecutorService diskWriter;
+
+    /**
+     * @param maxBytes   heap budget for cached conversations, approximated by JSON length
+     * @param idleExpiry conversations not read or written for this long leave the heap
+     * @param directory  spill directory, or null to keep conversations in memory only
+     * @param retention  files untouched for this long are deleted by {@link #purgeExpiredConversations()}
+     */
+    public BoundedChatMemoryStore(long maxBytes, Duration idleExpiry, Path directory, Duration retention) {
+        this.conversations = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String memoryId, String json) -> memoryId.length() + json.length())
+                .expireAfterAccess(idleExpiry)
+                // Evicts on the writing thread, so the budget holds as soon as an update returns
+                .executor(Runnable::run)
+                .build();
+        this.directory = directory;
+        this.retention = retention;
+
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create chat memory directory " + directory, e);
+            }
+            diskWriter = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chat-memory-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            diskWriter = null;
+        }
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String key = String.valueOf(memoryId);
+        String json = conversations.getIfPresent(key);
+        if (json == null) {
+            // Read outside Caffeine's compute lock so file I/O never pins a virtual thread
+            json = readFromDisk(key);
+            if (json == null) {
+                return new ArrayList<>();
+            }
+            String concurrentlyStored = conversations.asMap().putIfAbsent(key, json);
+            if (concurrentlyStored != null) {
+                json = concurrentlyStored;
+            }
+        }
+        return new ArrayList<>(ChatMessageDeserializer.messagesFromJson(json));
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String key = String.valueOf(memoryId);
+        String json = ChatMessageSerializer.messagesToJson(messages);
+        conversations.put(key, json);
+        if (directory != null && pendingWrites.put(key, json) == null) {
+            diskWriter.execute(() -> flushPending(key));
+        }
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String key = String.valueOf(memoryId);
+        conversations.invalidate(key);
+        // Stays pending until the file is gone, so a read in between does not reload the old conversation
+        if (directory != null && pendingWrites.put(key, DELETED) == null) {
+            diskWriter.execute(() -> flushPending(key));
+        }
+    }
+
+    /**
+     * Writes out every queued update before returning
+     */
+    @Override
+    public void close() {
+        if (diskWriter == null) {
+            return;
+        }
+
+        diskWriter.shutdown();
+        try {
+            if (!diskWriter.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Gave up waiting for {} chat memory write(s)", pendingWrites.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Removes persisted conversations nobody has touched within the retention period
+     */
+    @Scheduled(cron = "${ai.chat.memory.purge-cron:0 30 2 * * *}")
+    public void purgeExpiredConversations() {
+        if (directory == null) {
+            return;
+        }
+
+        FileTime cutoff = FileTime.from(Instant.now().minus(retention));
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(file);
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to purge persisted chat memory", e);
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} persisted conversation(s) idle for more than {} days", purged, retention.toDays());
+        }
+    }
+
+    private String readFromDisk(String memoryId) {
+        if (directory == null) {
+            return null;
+        }
+
+        String pending = pendingWrites.get(memoryId);
+        if (pending != null) {
+            return DELETED.equals(pending) ? null : pending;
+        }
+
+        Path file = fileFor(memoryId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to read persisted chat memory for {}, starting a new conversation", memoryId, e);
+            return null;
+        }
+    }
+
+    // The entry stays pending until its file is in place; an update made meanwhile is picked up here
+    private void flushPending(String memoryId) {
+        String json;
+        while ((json = pendingWrites.get(memoryId)) != null) {
+            if (DELETED.equals(json)) {
+                deleteFromDisk(memoryId);
+            } else {
+                writeToDisk(memoryId, json);
+            }
+            if (pendingWrites.remove(memoryId, json)) {
+                return;
+            }
+        }
+    }
+
+    // Written to a temp file and moved into place so a crash never leaves a truncated conversation
+    private void writeToDisk(String memoryId, String json) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "chat-", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.move(temp, fileFor(memoryId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Failed to persist chat memory for {}", memoryId, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private void deleteFromDisk(String memoryId) {
+        try {
+            Files.deleteIfExists(fileFor(memoryId));
+        } catch (IOException e) {
+            log.error("Failed to delete persisted chat memory for {}", memoryId, e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete {}", file);
+        }
+    }
+
+    private Path fileFor(String memoryId) {
+        String name = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(memoryId.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(name + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,149 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.prodapt.license_tracker_backend.exception.ChatCapacityException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the number of model calls in flight, both overall and per user.
+ * Callers over the limit wait in a bounded queue for at most queue-timeout-ms
+ * and are then rejected with {@link ChatCapacityException}.
+ */
+@Component
+@Slf4j
+public class ChatConcurrencyLimiter {
+
+    private static final String BUSY_MESSAGE = "The AI assistant is busy. Please try again shortly.";
+
+    private final int maxConcurrent;
+    private final int maxConcurrentPerUser;
+    private final int maxQueued;
+    private final long queueTimeoutMs;
+
+    private final Semaphore globalPermits;
+    // Only users with a call waiting or in flight; an entry is dropped with its last reference
+    private final ConcurrentMap<String, UserSlots> userSlots = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ChatConcurrencyLimiter(@Value("${ai.chat.max-concurrent:20}") int maxConcurrent,
+                                  @Value("${ai.chat.max-concurrent-per-user:2}") int maxConcurrentPerUser,
+                                  @Value("${ai.chat.max-queued:50}") int maxQueued,
+                                  @Value("${ai.chat.queue-timeout-ms:15000}") long queueTimeoutMs) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxConcurrentPerUser = maxConcurrentPerUser;
+        this.maxQueued = maxQueued;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.globalPermits = new Semaphore(maxConcurrent, true);
+        log.info("Chat concurrency limits: {} global, {} per user, {} queued, {} ms queue timeout",
+                maxConcurrent, maxConcurrentPerUser, maxQueued, queueTimeoutMs);
+    }
+
+    /**
+     * Blocks until both a per-user and a global slot are free. The returned permit
+     * must be closed once the model call has finished.
+     */
+    public Permit acquire(String username) throws InterruptedException {
+        if (waiting.incrementAndGet() > maxQueued) {
+            waiting.decrementAndGet();
+            throw new ChatCapacityException(BUSY_MESSAGE);
+        }
+
+        UserSlots slots = reference(username);
+        boolean acquired = false;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+
+            if (!slots.semaphore.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ChatCapacityException("You already have chat requests in progress. Please wait for them to finish.");
+            }
+
+            if (!globalPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                slots.semaphore.release();
+                throw new ChatCapacityException(BUSY_MESSAGE);
+            }
+
+            acquired = true;
+            return new Permit(username, slots);
+        } finally {
+            waiting.decrementAndGet();
+            if (!acquired) {
+                dereference(username);
+            }
+        }
+    }
+
+    /**
+     * Model calls currently holding a slot
+     */
+    public int getActiveCalls() {
+        return maxConcurrent - globalPermits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Users with a chat call waiting or in flight
+     */
+    public int getTrackedUsers() {
+        return userSlots.size();
+    }
+
+    // References are counted inside the map's per-key compute, so an entry is never dropped
+    // while another caller is about to use its semaphore
+    private UserSlots reference(String username) {
+        return userSlots.compute(username, (user, slots) -> {
+            UserSlots current = slots != null ? slots : new UserSlots(maxConcurrentPerUser);
+            current.references++;
+            return current;
+        });
+    }
+
+    private void dereference(String username) {
+        userSlots.computeIfPresent(username, (user, slots) -> --slots.references == 0 ? null : slots);
+    }
+
+    private static final class UserSlots {
+
+        private final Semaphore semaphore;
+        // Guarded by the map's compute for the user's key
+        private int references;
+
+        private UserSlots(int permits) {
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+
+    /**
+     * Held for the duration of one model call; closing it more than once is a no-op
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final String username;
+        private final UserSlots slots;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String username, UserSlots slots) {
+            this.username = username;
+            this.slots = slots;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                slots.semaphore.release();
+                globalPermits.release();
+                dereference(username);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.prodapt.license_tracker_backend.ai;
+
+/**
+ * Areas of data an assistant answer can depend on; writes to a domain
+ * invalidate cached answers that used it
+ */
+public enum DataDomain {
+    LICENSES,
+    DEVICES,
+    VENDORS
+}
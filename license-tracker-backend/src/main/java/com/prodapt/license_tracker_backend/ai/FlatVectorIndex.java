@@ -0,0 +1,101 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exact nearest-neighbour search by cosine similarity over an in-memory set of vectors.
+ * Vectors are normalized on insert so similarity is a plain dot product. A linear scan
+ * is fast enough for the tens of thousands of vectors held here and needs no tuning.
+ */
+public class FlatVectorIndex<K> {
+
+    private final Map<K, float[]> vectors = new ConcurrentHashMap<>();
+
+    public void put(K key, float[] vector) {
+        vectors.put(key, normalize(vector));
+    }
+
+    public void remove(K key) {
+        vectors.remove(key);
+    }
+
+    public void clear() {
+        vectors.clear();
+    }
+
+    public int size() {
+        return vectors.size();
+    }
+
+    /**
+     * Up to k entries with similarity of at least minScore, best first
+     */
+    public List<Match<K>> search(float[] query, int k, double minScore) {
+        float[] normalizedQuery = normalize(query);
+        PriorityQueue<Match<K>> best = new PriorityQueue<>(Comparator.comparingDouble(Match::getScore));
+
+        vectors.forEach((key, vector) -> {
+            if (vector.length != normalizedQuery.length) {
+                return;
+            }
+            double score = dot(normalizedQuery, vector);
+            if (score < minScore) {
+                return;
+            }
+            if (best.size() < k) {
+                best.add(new Match<>(key, score));
+            } else if (score > best.peek().getScore()) {
+                best.poll();
+                best.add(new Match<>(key, score));
+            }
+        });
+
+        List<Match<K>> matches = new ArrayList<>(best);
+        matches.sort(Comparator.comparingDouble(Match<K>::getScore).reversed());
+        return matches;
+    }
+
+    static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        float[] normalized = new float[vector.length];
+        if (norm == 0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    // Four independent accumulators let the JIT overlap the multiply-adds
+    static double dot(float[] a, float[] b) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        int bound = a.length - (a.length % 4);
+        for (; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return (double) s0 + s1 + s2 + s3;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Match<K> {
+        private final K key;
+        private final double score;
+    }
+}
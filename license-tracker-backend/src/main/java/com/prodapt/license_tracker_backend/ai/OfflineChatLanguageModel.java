@@ -0,0 +1,61 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stand-in for the Gemini model used when ai.model.provider=offline. Answers after
+ * a fixed latency without calling any external API, so chat load tests measure
+ * this service rather than the model provider.
+ */
+public class OfflineChatLanguageModel implements ChatLanguageModel {
+
+    private final Duration latency;
+
+    public OfflineChatLanguageModel(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        pause(latency);
+        return Response.from(AiMessage.from(answer(messages)));
+    }
+
+    // Tools are advertised by AiServices but never requested by the stand-in
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generate(messages);
+    }
+
+    static String answer(List<ChatMessage> messages) {
+        String question = "";
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i) instanceof UserMessage userMessage) {
+                question = userMessage.singleText();
+                break;
+            }
+        }
+        return "This is an offline response from the NexusComply AI Assistant. " +
+                "No model was called for your message: \"" + question + "\". " +
+                "Set ai.model.provider to gemini to get real answers.";
+    }
+
+    static void pause(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
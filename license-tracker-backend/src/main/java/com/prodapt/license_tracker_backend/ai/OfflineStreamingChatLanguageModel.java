@@ -0,0 +1,53 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streaming counterpart of {@link OfflineChatLanguageModel}. Emits the canned answer
+ * word by word, waiting first-token-latency before the first word and token-delay
+ * between words.
+ */
+public class OfflineStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    private final Duration firstTokenLatency;
+    private final Duration tokenDelay;
+
+    public OfflineStreamingChatLanguageModel(Duration firstTokenLatency, Duration tokenDelay) {
+        this.firstTokenLatency = firstTokenLatency;
+        this.tokenDelay = tokenDelay;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        try {
+            String answer = OfflineChatLanguageModel.answer(messages);
+            OfflineChatLanguageModel.pause(firstTokenLatency);
+
+            String[] words = answer.split(" ");
+            for (int i = 0; i < words.length; i++) {
+                if (i > 0) {
+                    OfflineChatLanguageModel.pause(tokenDelay);
+                }
+                handler.onNext(i == 0 ? words[i] : " " + words[i]);
+            }
+
+            handler.onComplete(Response.from(AiMessage.from(answer)));
+        } catch (Exception e) {
+            handler.onError(e);
+        }
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, handler);
+    }
+}
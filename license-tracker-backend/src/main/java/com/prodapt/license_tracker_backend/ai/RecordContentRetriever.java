@@ -0,0 +1,49 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Supplies the assistant with the few records relevant to each question, so answers
+ * about specific licenses, devices or vendors are grounded without a tool round trip
+ * and the prompt stays small however many records exist.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecordContentRetriever implements ContentRetriever {
+
+    private static final Set<DataDomain> ALL_DOMAINS = EnumSet.allOf(DataDomain.class);
+
+    private final RecordIndexer recordIndexer;
+
+    @Value("${ai.rag.top-k:8}")
+    private int topK;
+
+    @Override
+    public List<Content> retrieve(Query query) {
+        long start = System.nanoTime();
+        List<String> records = recordIndexer.search(query.text(), topK);
+        log.debug("Retrieved {} records for the assistant in {} us", records.size(), (System.nanoTime() - start) / 1000);
+
+        // Records embed each other's fields (a license its vendor, an assignment its license and
+        // device), so an answer grounded in any of them is tied to every domain
+        if (!records.isEmpty()) {
+            ToolUsageRecorder.record(ALL_DOMAINS);
+        }
+
+        return records.stream()
+                .map(Content::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.LicenseAssignment;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate post-insert, post-update and post-delete listener that keeps {@link RecordIndexer}
+ * current. It is appended to the session factory's listener registry at startup, so the
+ * entities themselves know nothing about the assistant.
+ *
+ * JPQL bulk updates bypass entity events; none of the indexed entities use them.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordIndexListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RecordIndexer recordIndexer;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onWrite(event.getEntity());
+    }
+
+    // Changes are queued after commit by the indexer, so rolled-back writes are never indexed
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onWrite(Object entity) {
+        if (entity instanceof License license) {
+            recordIndexer.markChanged(RecordIndexer.LICENSE, license.getId());
+        } else if (entity instanceof Device device) {
+            recordIndexer.markChanged(RecordIndexer.DEVICE, device.getId());
+        } else if (entity instanceof Vendor vendor) {
+            recordIndexer.markChanged(RecordIndexer.VENDOR, vendor.getId());
+        } else if (entity instanceof LicenseAssignment assignment) {
+            recordIndexer.markChanged(RecordIndexer.ASSIGNMENT, assignment.getId());
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.prodapt.license_tracker_backend.dto.AssignmentResponse;
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseAssignmentRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.repository.VendorRepository;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a compact, searchable copy of licenses, devices, vendors and active assignments
+ * for the assistant's retrieval step. Every record becomes one short line of text, so a
+ * record is also the retrieval chunk.
+ *
+ * The index is built in keyset batches once the application is ready and then kept current
+ * by {@link RecordIndexListener}, whose writes are queued for re-indexing after commit.
+ * Licenses embed their vendor's name and assignments their license and device, so
+ * re-indexing a vendor, license or device also re-indexes the active records embedding it.
+ * All index mutations run on a single background thread; searches never wait on the database.
+ */
+@Component
+@Slf4j
+public class RecordIndexer {
+
+    public static final String LICENSE = "license";
+    public static final String DEVICE = "device";
+    public static final String VENDOR = "vendor";
+    public static final String ASSIGNMENT = "assignment";
+
+    // Reciprocal rank fusion constant; dampens the weight of the very first ranks
+    private static final int RRF_K = 60;
+
+    private final LicenseRepository licenseRepository;
+    private final DeviceRepository deviceRepository;
+    private final VendorRepository vendorRepository;
+    private final LicenseAssignmentRepository assignmentRepository;
+    private final EmbeddingModel embeddingModel;
+
+    private final boolean enabled;
+    private final int batchSize;
+    // Embedding every record costs a few milliseconds each, so semantic search is opt-in
+    private final boolean vectorEnabled;
+    private final double vectorMinScore;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private volatile Bm25Index keywordIndex = new Bm25Index();
+    private volatile FlatVectorIndex<String> vectorIndex = new FlatVectorIndex<>();
+    private volatile boolean ready;
+    private volatile long lastBuildMillis;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService indexExecutor;
+
+    public RecordIndexer(LicenseRepository licenseRepository,
+                         DeviceRepository deviceRepository,
+                         VendorRepository vendorRepository,
+                         LicenseAssignmentRepository assignmentRepository,
+                         EmbeddingModel embeddingModel,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${ai.rag.enabled:true}") boolean enabled,
+                         @Value("${ai.rag.batch-size:1000}") int batchSize,
+                         @Value("${ai.rag.vector.enabled:false}") boolean vectorEnabled,
+                         @Value("${ai.rag.vector.min-score:0.6}") double vectorMinScore) {
+        this.licenseRepository = licenseRepository;
+        this.deviceRepository = deviceRepository;
+        this.vendorRepository = vendorRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.embeddingModel = embeddingModel;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.vectorEnabled = vectorEnabled;
+        this.vectorMinScore = vectorMinScore;
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "record-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Rebuilds the whole index into fresh structures and swaps them in, so questions
+     * asked meanwhile are answered from the previous index
+     */
+    public void requestRebuild() {
+        if (enabled) {
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Queues a record for re-indexing once the surrounding transaction commits.
+     * Records that no longer exist, or assignments that were revoked, are removed.
+     */
+    public void markChanged(String type, Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+
+        String key = type + ":" + id;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(key);
+                }
+            });
+        } else {
+            enqueue(key);
+        }
+    }
+
+    /**
+     * Texts of the records most relevant to the question, best first. Keyword and vector
+     * rankings are merged by reciprocal rank fusion when semantic search is enabled.
+     */
+    public List<String> search(String question, int k) {
+        if (!enabled) {
+            return List.of();
+        }
+
+        Bm25Index keywords = keywordIndex;
+        Map<String, Double> fused = new LinkedHashMap<>();
+        List<Bm25Index.Hit> keywordHits = keywords.search(question, k * 2);
+        for (int rank = 0; rank < keywordHits.size(); rank++) {
+            fused.merge(keywordHits.get(rank).getKey(), 1.0 / (RRF_K + rank + 1), Double::sum);
+        }
+
+        if (vectorEnabled && vectorIndex.size() > 0) {
+            float[] query = embeddingModel.embed(question).content().vector();
+            List<FlatVectorIndex.Match<String>> vectorHits = vectorIndex.search(query, k * 2, vectorMinScore);
+            for (int rank = 0; rank < vectorHits.size(); rank++) {
+                fused.merge(vectorHits.get(rank).getKey(), 1.0 / (RRF_K + rank + 1), Double::sum);
+            }
+        }
+
+        return fused.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .map(e -> keywords.getText(e.getKey()))
+                .filter(Objects::nonNull)
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("ready", ready);
+        statistics.put("records", keywordIndex.size());
+        statistics.put("vectors", vectorIndex.size());
+        statistics.put("pendingUpdates", pending.size());
+        statistics.put("lastBuildMillis", lastBuildMillis);
+        return statistics;
+    }
+
+    private void enqueue(String key) {
+        pending.add(key);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexExecutor.execute(this::drain);
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        Bm25Index keywords = new Bm25Index();
+        FlatVectorIndex<String> vectors = new FlatVectorIndex<>();
+
+        try {
+            Map<String, String> batch = new LinkedHashMap<>();
+            forEachBatch(afterId -> licenseRepository.findByIdGreaterThanOrderByIdAsc(afterId, nextBatch()),
+                    License::getId, license -> batch.put(LICENSE + ":" + license.getId(), describe(license)),
+                    () -> flush(batch, keywords, vectors));
+            forEachBatch(afterId -> deviceRepository.findByIdGreaterThanOrderByIdAsc(afterId, nextBatch()),
+                    Device::getId, device -> batch.put(DEVICE + ":" + device.getId(), describe(device)),
+                    () -> flush(batch, keywords, vectors));
+            forEachBatch(afterId -> assignmentRepository.findActiveResponsesAfter(afterId, nextBatch()),
+                    AssignmentResponse::getId, row -> batch.put(ASSIGNMENT + ":" + row.getId(), describe(row)),
+                    () -> flush(batch, keywords, vectors));
+            readOnlyTransaction.executeWithoutResult(tx -> vendorRepository.findAll()
+                    .forEach(vendor -> batch.put(VENDOR + ":" + vendor.getId(), describe(vendor))));
+            flush(batch, keywords, vectors);
+        } catch (Exception e) {
+            log.error("Failed to build the assistant record index; keeping the previous one", e);
+            return;
+        }
+
+        keywordIndex = keywords;
+        vectorIndex = vectors;
+        ready = true;
+        lastBuildMillis = System.currentTimeMillis() - start;
+        log.info("Indexed {} records for the assistant in {} ms ({} vectors)",
+                keywords.size(), lastBuildMillis, vectors.size());
+    }
+
+    private <T> void forEachBatch(Function<Long, List<T>> loader, Function<T, Long> idOf,
+                                  Consumer<T> consumer, Runnable afterBatch) {
+        long afterId = 0L;
+        while (true) {
+            final long from = afterId;
+            List<T> rows = readOnlyTransaction.execute(tx -> {
+                List<T> loaded = loader.apply(from);
+                loaded.forEach(consumer);
+                return loaded;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+            afterBatch.run();
+            afterId = idOf.apply(rows.get(rows.size() - 1));
+            if (rows.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private Pageable nextBatch() {
+        return PageRequest.of(0, batchSize);
+    }
+
+    private void flush(Map<String, String> batch, Bm25Index keywords, FlatVectorIndex<String> vectors) {
+        batch.forEach(keywords::put);
+        if (vectorEnabled && !batch.isEmpty()) {
+            embed(batch, vectors);
+        }
+        batch.clear();
+    }
+
+    private void embed(Map<String, String> documents, FlatVectorIndex<String> vectors) {
+        List<String> keys = new ArrayList<>(documents.keySet());
+        List<TextSegment> segments = keys.stream()
+                .map(key -> TextSegment.from(documents.get(key)))
+                .collect(Collectors.toList());
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+        for (int i = 0; i < keys.size(); i++) {
+            vectors.put(keys.get(i), embeddings.get(i).vector());
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+
+        Set<String> keys = new HashSet<>();
+        for (String key = pending.poll(); key != null; key = pending.poll()) {
+            keys.add(key);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Long>> idsByType = keys.stream().collect(Collectors.groupingBy(
+                key -> key.substring(0, key.indexOf(':')),
+                Collectors.mapping(key -> Long.valueOf(key.substring(key.indexOf(':') + 1)), Collectors.toList())));
+
+        try {
+            Map<String, String> documents = readOnlyTransaction.execute(tx -> load(idsByType));
+            Bm25Index keywords = keywordIndex;
+            FlatVectorIndex<String> vectors = vectorIndex;
+
+            for (String key : keys) {
+                String text = documents.get(key);
+                if (text == null) {
+                    keywords.remove(key);
+                    vectors.remove(key);
+                }
+            }
+            documents.forEach(keywords::put);
+            if (vectorEnabled && !documents.isEmpty()) {
+                embed(documents, vectors);
+            }
+            log.debug("Re-indexed {} changed records for the assistant", keys.size());
+        } catch (Exception e) {
+            log.warn("Failed to re-index {} changed records: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private Map<String, String> load(Map<String, List<Long>> idsByType) {
+        Map<String, String> documents = new HashMap<>();
+        idsByType.forEach((type, ids) -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + batchSize));
+                switch (type) {
+                    case LICENSE -> {
+                        licenseRepository.findByIdIn(chunk)
+                                .forEach(l -> documents.put(LICENSE + ":" + l.getId(), describe(l)));
+                        assignmentRepository.findActiveResponsesByLicenseIdIn(chunk)
+                                .forEach(a -> documents.put(ASSIGNMENT + ":" + a.getId(), describe(a)));
+                    }
+                    case DEVICE -> {
+                        deviceRepository.findAllById(chunk)
+                                .forEach(d -> documents.put(DEVICE + ":" + d.getId(), describe(d)));
+                        assignmentRepository.findActiveResponsesByDeviceIdIn(chunk)
+                                .forEach(a -> documents.put(ASSIGNMENT + ":" + a.getId(), describe(a)));
+                    }
+                    case VENDOR -> {
+                        vendorRepository.findAllById(chunk)
+                                .forEach(v -> documents.put(VENDOR + ":" + v.getId(), describe(v)));
+                        licenseRepository.findByVendorIdIn(chunk)
+                                .forEach(l -> documents.put(LICENSE + ":" + l.getId(), describe(l)));
+                    }
+                    case ASSIGNMENT -> assignmentRepository.findResponsesByIdIn(chunk).stream()
+                            .filter(a -> Boolean.TRUE.equals(a.getActive()))
+                            .forEach(a -> documents.put(ASSIGNMENT + ":" + a.getId(), describe(a)));
+                    default -> log.warn("Unknown record type in index queue: {}", type);
+                }
+            }
+        });
+        return documents;
+    }
+
+    static String describe(License license) {
+        StringBuilder text = new StringBuilder()
+                .append("License ").append(license.getLicenseKey())
+                .append(": ").append(license.getSoftwareName())
+                .append(" (").append(license.getLicenseType()).append(")");
+        if (license.getVendor() != null) {
+            text.append(", vendor ").append(license.getVendor().getVendorName());
+        }
+        text.append(", region ").append(license.getRegion())
+                .append(", valid ").append(license.getValidFrom()).append(" to ").append(license.getValidTo())
+                .append(", usage ").append(license.getCurrentUsage()).append("/").append(license.getMaxUsage())
+                .append(Boolean.TRUE.equals(license.getActive()) ? ", active" : ", inactive");
+        if (license.getCost() != null) {
+            text.append(", cost $").append(license.getCost());
+        }
+        if (license.getPoNumber() != null) {
+            text.append(", PO ").append(license.getPoNumber());
+        }
+        return text.toString();
+    }
+
+    static String describe(Device device) {
+        StringBuilder text = new StringBuilder()
+                .append("Device ").append(device.getDeviceId())
+                .append(": ").append(device.getDeviceType());
+        if (device.getModel() != null) {
+            text.append(" ").append(device.getModel());
+        }
+        text.append(", region ").append(device.getRegion())
+                .append(", lifecycle ").append(device.getLifecycle());
+        if (device.getLocation() != null) {
+            text.append(", location ").append(device.getLocation());
+        }
+        if (device.getIpAddress() != null) {
+            text.append(", IP ").append(device.getIpAddress());
+        }
+        if (device.getSoftwareName() != null) {
+            text.append(", runs ").append(device.getSoftwareName()).append(" ").append(device.getSoftwareVersion());
+        }
+        return text.toString();
+    }
+
+    static String describe(Vendor vendor) {
+        StringBuilder text = new StringBuilder("Vendor ").append(vendor.getVendorName());
+        if (vendor.getContactEmail() != null) {
+            text.append(": contact ").append(vendor.getContactEmail());
+        }
+        if (vendor.getContactPhone() != null) {
+            text.append(", phone ").append(vendor.getContactPhone());
+        }
+        if (vendor.getSupportEmail() != null) {
+            text.append(", support ").append(vendor.getSupportEmail());
+        }
+        return text.toString();
+    }
+
+    static String describe(AssignmentResponse assignment) {
+        return "Assignment: license " + assignment.getLicenseKey() + " (" + assignment.getSoftwareName() + ")"
+                + " assigned to device " + assignment.getDeviceIdName()
+                + (assignment.getDeviceLocation() != null ? " at " + assignment.getDeviceLocation() : "")
+                + " on " + (assignment.getAssignedOn() != null ? assignment.getAssignedOn().toLocalDate() : "unknown date")
+                + (assignment.getAssignedBy() != null ? " by " + assignment.getAssignedBy() : "");
+    }
+}
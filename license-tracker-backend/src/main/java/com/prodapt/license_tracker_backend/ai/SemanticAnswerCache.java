@@ -0,0 +1,291 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers questions that are paraphrases of recently answered ones without calling
+ * the model. Questions are embedded with the in-process embedding model and matched
+ * by cosine similarity. Answers are built from organisation-wide tool results, so they
+ * are shared by all callers; callers only look up questions that open a conversation,
+ * since later ones may depend on the caller's earlier turns.
+ *
+ * Embeddings barely separate "expiring in 30 days" from "expiring in 90 days", so the
+ * literal values of a question (numbers, dates and periods, license keys, quoted text and
+ * capitalised names such as vendors) form an exact-match key; only questions with the
+ * same literals are compared by similarity.
+ *
+ * Each answer remembers the version of every data domain it was built from, taken
+ * before the model was called; invalidating a domain bumps its version, so answers
+ * generated concurrently with a write are never served.
+ */
+@Component
+@Slf4j
+public class SemanticAnswerCache {
+
+    // Candidates checked per lookup, since the nearest match may be stale
+    private static final int CANDIDATES = 5;
+
+    private static final String PERIOD_UNIT = "(day|week|month|quarter|year)s?";
+    // Numbers with their unit ("30 days"), then any token containing a digit: amounts, dates, keys
+    private static final Pattern NUMBER_LITERAL = Pattern.compile(
+            "\\b(\\d+(?:[.,]\\d+)?)\\s*" + PERIOD_UNIT + "\\b"
+                    + "|(?:[\\p{L}\\d]+[-_./:])*[\\p{L}\\d]*\\d[\\p{L}\\d]*(?:[-_./:][\\p{L}\\d]+)*");
+    private static final Pattern PERIOD_LITERAL = Pattern.compile(
+            "\\b(?:this|next|last|previous|past|coming)\\s+" + PERIOD_UNIT + "\\b"
+                    + "|\\b(?:today|tomorrow|yesterday|tonight|weekend"
+                    + "|january|february|march|april|june|july|august|september|october|november|december"
+                    + "|jan|feb|mar|apr|jun|jul|aug|sep|sept|oct|nov|dec"
+                    + "|q[1-4]|h[12])\\b");
+    private static final Pattern QUOTED_LITERAL = Pattern.compile("\"([^\"]+)\"|(?<!\\w)'([^']+)'(?!\\w)");
+    // A capitalised word that does not start a sentence is taken as a name: a vendor, product or site
+    private static final Pattern NAME_LITERAL = Pattern.compile("(?<![.?!]\\s{0,5})(?<!^\\s{0,5})\\b\\p{Lu}[\\p{L}&+]+");
+
+    private final EmbeddingModel embeddingModel;
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final long ttlMinutes;
+    // Short follow-ups such as "yes" or "and devices?" depend on the conversation
+    private final int minQuestionLength;
+
+    // One index per literal key; questions with different literals are never compared
+    private final Map<String, FlatVectorIndex<Long>> indexes = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<DataDomain, AtomicLong> domainVersions = initialVersions();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SemanticAnswerCache(EmbeddingModel embeddingModel,
+                               @Value("${ai.semantic-cache.enabled:true}") boolean enabled,
+                               @Value("${ai.semantic-cache.similarity-threshold:0.92}") double similarityThreshold,
+                               @Value("${ai.semantic-cache.max-entries:2000}") int maxEntries,
+                               @Value("${ai.semantic-cache.ttl-minutes:60}") long ttlMinutes,
+                               @Value("${ai.semantic-cache.min-question-length:12}") int minQuestionLength) {
+        this.embeddingModel = embeddingModel;
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxEntries = maxEntries;
+        this.ttlMinutes = ttlMinutes;
+        this.minQuestionLength = minQuestionLength;
+    }
+
+    /**
+     * Embeds the question and looks for a reusable answer. The returned lookup is
+     * passed back to {@link #store} once a fresh answer has been generated.
+     */
+    public Lookup lookup(String question) {
+        String normalized = normalize(question);
+        if (!enabled || normalized.length() < minQuestionLength) {
+            return Lookup.SKIPPED;
+        }
+
+        Map<DataDomain, Long> versions = snapshotVersions();
+        String literals = literalKey(question);
+        float[] vector = embeddingModel.embed(normalized).content().vector();
+
+        FlatVectorIndex<Long> index = indexes.get(literals);
+        if (index != null) {
+            for (FlatVectorIndex.Match<Long> match : index.search(vector, CANDIDATES, similarityThreshold)) {
+                Entry entry = getValidEntry(match.getKey());
+                if (entry != null) {
+                    hits.incrementAndGet();
+                    log.debug("Semantic cache hit ({}) for question: {}", match.getScore(), normalized);
+                    return new Lookup(vector, literals, versions, entry.getAnswer());
+                }
+            }
+        }
+
+        misses.incrementAndGet();
+        return new Lookup(vector, literals, versions, null);
+    }
+
+    /**
+     * Caches a freshly generated answer. A null domain set means the answer's
+     * dependencies are unknown; it is then tied to every domain.
+     */
+    public void store(Lookup lookup, String answer, Set<DataDomain> domains) {
+        if (lookup.vector == null || answer == null || answer.isBlank()) {
+            return;
+        }
+
+        Map<DataDomain, Long> dependencies = new EnumMap<>(DataDomain.class);
+        for (DataDomain domain : domains != null ? domains : Set.of(DataDomain.values())) {
+            dependencies.put(domain, lookup.versions.get(domain));
+        }
+
+        long id = nextId.incrementAndGet();
+        synchronized (entries) {
+            entries.put(id, new Entry(answer, lookup.literals, dependencies, Instant.now()));
+            indexes.computeIfAbsent(lookup.literals, literals -> new FlatVectorIndex<>()).put(id, lookup.vector);
+            evictOverflow();
+        }
+    }
+
+    public void invalidate(DataDomain domain) {
+        domainVersions.get(domain).incrementAndGet();
+        synchronized (entries) {
+            entries.entrySet().removeIf(e -> {
+                boolean stale = e.getValue().getDependencies().containsKey(domain);
+                if (stale) {
+                    removeFromIndex(e.getKey(), e.getValue());
+                }
+                return stale;
+            });
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            indexes.clear();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        synchronized (entries) {
+            statistics.put("size", entries.size());
+        }
+        statistics.put("hits", hitCount);
+        statistics.put("misses", missCount);
+        statistics.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return statistics;
+    }
+
+    private Entry getValidEntry(Long id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+
+            boolean expired = entry.getCreatedAt().plus(Duration.ofMinutes(ttlMinutes)).isBefore(Instant.now());
+            boolean outdated = entry.getDependencies().entrySet().stream()
+                    .anyMatch(d -> d.getValue() != domainVersions.get(d.getKey()).get());
+            if (expired || outdated) {
+                entries.remove(id);
+                removeFromIndex(id, entry);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    // Entries are kept in access order, so the first one is the least recently used
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Long eldest = entries.keySet().iterator().next();
+            removeFromIndex(eldest, entries.remove(eldest));
+        }
+    }
+
+    // Called with the entries lock held; empty indexes are dropped so the map only holds live keys
+    private void removeFromIndex(Long id, Entry entry) {
+        FlatVectorIndex<Long> index = indexes.get(entry.getLiterals());
+        if (index != null) {
+            index.remove(id);
+            if (index.size() == 0) {
+                indexes.remove(entry.getLiterals());
+            }
+        }
+    }
+
+    private Map<DataDomain, Long> snapshotVersions() {
+        Map<DataDomain, Long> versions = new EnumMap<>(DataDomain.class);
+        domainVersions.forEach((domain, version) -> versions.put(domain, version.get()));
+        return versions;
+    }
+
+    private static Map<DataDomain, AtomicLong> initialVersions() {
+        Map<DataDomain, AtomicLong> versions = new EnumMap<>(DataDomain.class);
+        for (DataDomain domain : DataDomain.values()) {
+            versions.put(domain, new AtomicLong());
+        }
+        return versions;
+    }
+
+    /**
+     * Sorted, de-duplicated literal values of the question, joined into one key
+     */
+    static String literalKey(String question) {
+        if (question == null) {
+            return "";
+        }
+
+        Set<String> literals = new TreeSet<>();
+        Matcher names = NAME_LITERAL.matcher(question.trim());
+        while (names.find()) {
+            literals.add(names.group().toLowerCase(Locale.ROOT));
+        }
+
+        String normalized = normalize(question);
+        Matcher quoted = QUOTED_LITERAL.matcher(normalized);
+        while (quoted.find()) {
+            literals.add('"' + (quoted.group(1) != null ? quoted.group(1) : quoted.group(2)) + '"');
+        }
+        Matcher numbers = NUMBER_LITERAL.matcher(normalized);
+        while (numbers.find()) {
+            // "30 days" and "30 day" are the same period; the unit keeps "30 days" apart from "30 months"
+            literals.add(numbers.group(1) != null ? numbers.group(1) + " " + numbers.group(2) : numbers.group());
+        }
+        Matcher periods = PERIOD_LITERAL.matcher(normalized);
+        while (periods.find()) {
+            literals.add(periods.group().replaceAll("\\s+", " ").replaceAll("s$", ""));
+        }
+        return String.join("|", literals);
+    }
+
+    private static String normalize(String question) {
+        return question == null ? "" : question.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String answer;
+        private final String literals;
+        private final Map<DataDomain, Long> dependencies;
+        private final Instant createdAt;
+    }
+
+    /**
+     * Result of {@link #lookup}; carries the question embedding and the domain
+     * versions observed before the answer was generated
+     */
+    @RequiredArgsConstructor
+    public static class Lookup {
+
+        static final Lookup SKIPPED = new Lookup(null, null, null, null);
+
+        private final float[] vector;
+        private final String literals;
+        private final Map<DataDomain, Long> versions;
+        @Getter
+        private final String answer;
+
+        public boolean isHit() {
+            return answer != null;
+        }
+    }
+}
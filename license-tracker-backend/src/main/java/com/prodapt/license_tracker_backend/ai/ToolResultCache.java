@@ -0,0 +1,139 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import com.prodapt.license_tracker_backend.monitoring.RequestTracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches rendered {@link LicenseTrackerTools} results so repeated chat turns asking the
+ * same question do not query the database again. Entries expire after langchain.cache.ttl
+ * and are dropped by license, device and assignment writes through ReferenceCacheService.
+ * The tools report organisation-wide figures, so entries are shared by all callers.
+ */
+@Component
+@Slf4j
+public class ToolResultCache {
+
+    private final CacheManager cacheManager;
+    private final ApplicationMetrics applicationMetrics;
+    private final boolean enabled;
+    private final Clock clock;
+
+    @Autowired
+    public ToolResultCache(CacheManager cacheManager,
+                           ApplicationMetrics applicationMetrics,
+                           @Value("${langchain.cache.enabled:true}") boolean enabled) {
+        this(cacheManager, applicationMetrics, enabled, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock supplies the date that is part of every key
+     */
+    public ToolResultCache(CacheManager cacheManager, ApplicationMetrics applicationMetrics, boolean enabled, Clock clock) {
+        this.cacheManager = cacheManager;
+        this.applicationMetrics = applicationMetrics;
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached result for the tool call, computing it on a miss. Concurrent
+     * identical calls share one computation. Failures are logged and answered with the
+     * fallback message, and are never cached.
+     * The domains the tool reads are reported to {@link ToolUsageRecorder}.
+     */
+    public String get(String tool, Set<DataDomain> domains, List<?> args, Supplier<String> loader, String fallback) {
+        ToolUsageRecorder.record(domains);
+        long start = System.nanoTime();
+        String cacheResult = "disabled";
+        RequestTracer.Span span = RequestTracer.start("ai.tool", tool);
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.AI_TOOL_RESULTS);
+            if (!enabled || cache == null) {
+                String result = loader.get();
+                applicationMetrics.recordToolCall(tool, cacheResult, true, System.nanoTime() - start);
+                return result;
+            }
+            // Entries are futures. The caller whose future gets installed runs the query and
+            // everyone else joins it; the query itself runs outside the map's compute lock,
+            // which would otherwise pin the carrier thread when running on virtual threads.
+            String key = key(tool, args);
+            ConcurrentMap<Object, Object> entries = entries(cache);
+            CompletableFuture<String> loading = new CompletableFuture<>();
+            @SuppressWarnings("unchecked")
+            CompletableFuture<String> entry = (CompletableFuture<String>) entries.computeIfAbsent(key, k -> loading);
+            if (entry != loading) {
+                cacheResult = entry.isDone() ? "hit" : "joined";
+                String result = entry.join();
+                applicationMetrics.recordToolCall(tool, cacheResult, true, System.nanoTime() - start);
+                return result;
+            }
+
+            cacheResult = "miss";
+            try {
+                loading.complete(loader.get());
+            } catch (RuntimeException e) {
+                entries.remove(key, loading);
+                loading.completeExceptionally(e);
+                throw e;
+            }
+            applicationMetrics.recordToolCall(tool, cacheResult, true, System.nanoTime() - start);
+            return loading.join();
+        } catch (Exception e) {
+            log.error("AI Tool: Error executing {}", tool, e);
+            ToolUsageRecorder.recordFailure();
+            applicationMetrics.recordToolCall(tool, cacheResult, false, System.nanoTime() - start);
+            return fallback;
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Recomputes a tool result and stores it, so the next caller is served from the cache
+     */
+    public void refresh(String tool, List<?> args, Supplier<String> loader) {
+        Cache cache = cacheManager.getCache(CacheNames.AI_TOOL_RESULTS);
+        if (!enabled || cache == null) {
+            return;
+        }
+
+        String result;
+        try {
+            result = loader.get();
+        } catch (Exception e) {
+            log.warn("AI Tool: Failed to refresh {}: {}", tool, e.getMessage());
+            return;
+        }
+
+        entries(cache).put(key(tool, args), CompletableFuture.completedFuture(result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<Object, Object> entries(Cache cache) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).asMap();
+    }
+
+    // Results depend on today's date, so the date is part of the key
+    private String key(String tool, List<?> args) {
+        String arguments = args.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return tool + "(" + arguments + ")#" + LocalDate.now(clock);
+    }
+}
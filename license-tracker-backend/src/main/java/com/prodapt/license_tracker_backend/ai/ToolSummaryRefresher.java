@@ -0,0 +1,46 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the summaries chat users ask for most often precomputed in the tool result
+ * cache, so those questions are answered without touching the database.
+ * A write that lands during a refresh can be overwritten by the older snapshot;
+ * the next run corrects it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "langchain.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ToolSummaryRefresher {
+
+    private static final int DEFAULT_HORIZON_DAYS = 30;
+
+    private final LicenseTrackerTools licenseTrackerTools;
+    private final ToolResultCache toolResultCache;
+
+    @Scheduled(fixedDelayString = "${langchain.cache.refresh-interval-ms:300000}",
+            initialDelayString = "${langchain.cache.refresh-initial-delay-ms:30000}")
+    public void refreshSummaries() {
+        long start = System.currentTimeMillis();
+
+        toolResultCache.refresh(LicenseTrackerTools.LICENSE_SUMMARY, List.of(),
+                licenseTrackerTools::buildLicenseSummary);
+        toolResultCache.refresh(LicenseTrackerTools.DEVICE_SUMMARY, List.of(),
+                licenseTrackerTools::buildDeviceSummary);
+        toolResultCache.refresh(LicenseTrackerTools.LICENSE_UTILIZATION, List.of(),
+                licenseTrackerTools::buildLicenseUtilization);
+        toolResultCache.refresh(LicenseTrackerTools.EXPIRING_LICENSES, List.of(DEFAULT_HORIZON_DAYS),
+                () -> licenseTrackerTools.buildExpiringLicenses(DEFAULT_HORIZON_DAYS));
+        toolResultCache.refresh(LicenseTrackerTools.RENEWAL_FORECAST, List.of(DEFAULT_HORIZON_DAYS),
+                () -> licenseTrackerTools.buildRenewalForecast(DEFAULT_HORIZON_DAYS));
+
+        log.debug("Refreshed AI tool summaries in {} ms", System.currentTimeMillis() - start);
+    }
+}
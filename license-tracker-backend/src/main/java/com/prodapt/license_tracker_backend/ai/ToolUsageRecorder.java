@@ -0,0 +1,54 @@
+package com.prodapt.license_tracker_backend.ai;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Collects the data domains touched by tool calls and retrieved records on the current
+ * thread while the assistant answers one question. Only meaningful for blocking chat, where
+ * langchain4j runs tools on the calling thread.
+ */
+public final class ToolUsageRecorder {
+
+    private static final ThreadLocal<Usage> CURRENT = new ThreadLocal<>();
+
+    private ToolUsageRecorder() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public static void start() {
+        CURRENT.set(new Usage());
+    }
+
+    /**
+     * Ends recording and returns what was used; null means a tool failed and the
+     * answer should not be reused
+     */
+    public static Set<DataDomain> stop() {
+        Usage usage = CURRENT.get();
+        CURRENT.remove();
+        if (usage == null || usage.failed) {
+            return null;
+        }
+        return usage.domains;
+    }
+
+    static void record(Set<DataDomain> domains) {
+        Usage usage = CURRENT.get();
+        if (usage != null) {
+            usage.domains.addAll(domains);
+        }
+    }
+
+    static void recordFailure() {
+        Usage usage = CURRENT.get();
+        if (usage != null) {
+            usage.failed = true;
+        }
+    }
+
+    private static class Usage {
+        private final Set<DataDomain> domains = EnumSet.noneOf(DataDomain.class);
+        private boolean failed;
+    }
+}
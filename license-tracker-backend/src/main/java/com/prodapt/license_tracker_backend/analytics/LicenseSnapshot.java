@@ -0,0 +1,40 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.util.LicenseStatusEvaluator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * One license as recorded in a daily usage snapshot. Cost is kept in cents so every
+ * numeric column is integral.
+ */
+public record LicenseSnapshot(
+        long licenseId,
+        String licenseKey,
+        String softwareName,
+        String vendor,
+        String region,
+        String licenseType,
+        String status,
+        int currentUsage,
+        int maxUsage,
+        long costCents) {
+
+    public static LicenseSnapshot of(License license, LocalDate day) {
+        BigDecimal cost = license.getCost() != null ? license.getCost() : BigDecimal.ZERO;
+        return new LicenseSnapshot(
+                license.getId(),
+                license.getLicenseKey(),
+                license.getSoftwareName(),
+                license.getVendor() != null ? license.getVendor().getVendorName() : "N/A",
+                license.getRegion().name(),
+                license.getLicenseType().name(),
+                LicenseStatusEvaluator.determineStatus(license, day),
+                license.getCurrentUsage() != null ? license.getCurrentUsage() : 0,
+                license.getMaxUsage(),
+                cost.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+}
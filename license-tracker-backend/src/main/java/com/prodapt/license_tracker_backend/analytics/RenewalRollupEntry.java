@@ -0,0 +1,41 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.LicenseRenewalRollup;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * What one license contributes to the renewal rollup. Taken before and after a write, so
+ * the rollup can be moved from the old month, vendor, region and type to the new ones.
+ */
+public record RenewalRollupEntry(
+        LocalDate renewalMonth,
+        long vendorId,
+        Region region,
+        LicenseType licenseType,
+        BigDecimal cost) {
+
+    public static RenewalRollupEntry of(License license) {
+        return new RenewalRollupEntry(
+                license.getValidTo().withDayOfMonth(1),
+                license.getVendor() != null ? license.getVendor().getId() : LicenseRenewalRollup.NO_VENDOR,
+                license.getRegion(),
+                license.getLicenseType(),
+                license.getCost() != null ? license.getCost() : BigDecimal.ZERO);
+    }
+
+    public LicenseRenewalRollup.Key key() {
+        return new LicenseRenewalRollup.Key(renewalMonth, vendorId, region, licenseType);
+    }
+
+    /**
+     * Whether both entries put the same cost in the same month, so moving between them is a no-op
+     */
+    public boolean sameContribution(RenewalRollupEntry other) {
+        return other != null && key().equals(other.key()) && cost.compareTo(other.cost) == 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+
+import java.math.BigDecimal;
+
+/**
+ * What-if parameters applied on top of the baseline renewal cost. Consolidation drops that
+ * share of the licenses falling due, optionally only those of one vendor and/or license
+ * type; the uplift then applies to the price of every license still renewed.
+ *
+ * @param priceUpliftPercent       price change in percent, e.g. 7.5 or -10
+ * @param consolidationPercent     share of the in-scope licenses not renewed, 0 to 100
+ * @param consolidationVendorId    limits consolidation to this vendor; null for all
+ * @param consolidationLicenseType limits consolidation to this license type; null for all
+ */
+public record RenewalScenario(
+        BigDecimal priceUpliftPercent,
+        BigDecimal consolidationPercent,
+        Long consolidationVendorId,
+        LicenseType consolidationLicenseType) {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public RenewalScenario {
+        priceUpliftPercent = priceUpliftPercent != null ? priceUpliftPercent : BigDecimal.ZERO;
+        consolidationPercent = consolidationPercent != null ? consolidationPercent : BigDecimal.ZERO;
+    }
+
+    public static RenewalScenario baseline() {
+        return new RenewalScenario(null, null, null, null);
+    }
+
+    public boolean isBaseline() {
+        return priceUpliftPercent.signum() == 0 && consolidationPercent.signum() == 0;
+    }
+
+    /**
+     * Multiplier on the price of renewed licenses
+     */
+    public BigDecimal priceFactor() {
+        return BigDecimal.ONE.add(priceUpliftPercent.divide(HUNDRED));
+    }
+
+    /**
+     * Share of a month's licenses for this vendor and type that are still renewed
+     */
+    public BigDecimal retainedShare(long vendorId, LicenseType licenseType) {
+        boolean inScope = (consolidationVendorId == null || consolidationVendorId == vendorId)
+                && (consolidationLicenseType == null || consolidationLicenseType == licenseType);
+        return inScope ? BigDecimal.ONE.subtract(consolidationPercent.divide(HUNDRED)) : BigDecimal.ONE;
+    }
+}
@@ -0,0 +1,49 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import java.util.function.Function;
+
+/**
+ * Columns of a usage snapshot segment. Strings are dictionary encoded and are the
+ * columns trends can be grouped and filtered by; the numeric columns are aggregated.
+ */
+public enum SnapshotColumn {
+    LICENSE_ID(Type.LONG, LicenseSnapshot::licenseId),
+    LICENSE_KEY(Type.DICTIONARY, LicenseSnapshot::licenseKey),
+    SOFTWARE_NAME(Type.DICTIONARY, LicenseSnapshot::softwareName),
+    VENDOR(Type.DICTIONARY, LicenseSnapshot::vendor),
+    REGION(Type.DICTIONARY, LicenseSnapshot::region),
+    LICENSE_TYPE(Type.DICTIONARY, LicenseSnapshot::licenseType),
+    STATUS(Type.DICTIONARY, LicenseSnapshot::status),
+    CURRENT_USAGE(Type.INT, LicenseSnapshot::currentUsage),
+    MAX_USAGE(Type.INT, LicenseSnapshot::maxUsage),
+    COST_CENTS(Type.LONG, LicenseSnapshot::costCents);
+
+    enum Type {
+        // Delta-encoded varints; rows are written in license id order
+        LONG,
+        // Zigzag varints
+        INT,
+        // Sorted distinct values followed by one varint code per row
+        DICTIONARY
+    }
+
+    private final Type type;
+    private final Function<LicenseSnapshot, Object> accessor;
+
+    SnapshotColumn(Type type, Function<LicenseSnapshot, Object> accessor) {
+        this.type = type;
+        this.accessor = accessor;
+    }
+
+    Type type() {
+        return type;
+    }
+
+    Object valueOf(LicenseSnapshot snapshot) {
+        return accessor.apply(snapshot);
+    }
+
+    public boolean isDictionary() {
+        return type == Type.DICTIONARY;
+    }
+}
@@ -0,0 +1,381 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One day of license snapshots, stored column by column. The file holds a header (magic,
+ * version, day, row count), a directory with the offset and sizes of every column, and
+ * then each column as a separate deflate block, so a query inflates only the columns it
+ * reads. Strings are dictionary encoded with sorted dictionaries: equal values share one
+ * entry, codes are small varints, and a filter value is found by binary search.
+ */
+public final class SnapshotSegment {
+
+    private static final int MAGIC = 0x4C545343; // "LTSC"
+    private static final short VERSION = 1;
+
+    private final LocalDate day;
+    private final int rowCount;
+    private final Map<SnapshotColumn, Object> columns;
+
+    private SnapshotSegment(LocalDate day, int rowCount, Map<SnapshotColumn, Object> columns) {
+        this.day = day;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long[] longs(SnapshotColumn column) {
+        return (long[]) decoded(column);
+    }
+
+    public int[] ints(SnapshotColumn column) {
+        return (int[]) decoded(column);
+    }
+
+    public Dictionary dictionary(SnapshotColumn column) {
+        return (Dictionary) decoded(column);
+    }
+
+    private Object decoded(SnapshotColumn column) {
+        Object values = columns.get(column);
+        if (values == null) {
+            throw new IllegalStateException("Column " + column + " was not read from the segment for " + day);
+        }
+        return values;
+    }
+
+    /**
+     * Sorted distinct values of a string column and the index of each row's value. Values
+     * stay UTF-8 until asked for, so a filter on a unique column such as the license key
+     * decodes only the entries its binary search visits.
+     */
+    public static final class Dictionary {
+
+        private final byte[] bytes;
+        private final int[] starts;
+        private final int[] lengths;
+        private final String[] decoded;
+        private final int[] codes;
+
+        private Dictionary(byte[] bytes, int[] starts, int[] lengths, int[] codes) {
+            this.bytes = bytes;
+            this.starts = starts;
+            this.lengths = lengths;
+            this.decoded = new String[starts.length];
+            this.codes = codes;
+        }
+
+        public int size() {
+            return decoded.length;
+        }
+
+        public String value(int code) {
+            String value = decoded[code];
+            if (value == null) {
+                value = new String(bytes, starts[code], lengths[code], StandardCharsets.UTF_8);
+                decoded[code] = value;
+            }
+            return value;
+        }
+
+        public int[] codes() {
+            return codes;
+        }
+
+        /**
+         * Code of value, or a negative number when no row has it
+         */
+        public int codeOf(String value) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = value(middle).compareTo(value);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    // ===== Encoding =====
+
+    /**
+     * Encodes rows, which must be in license id order
+     */
+    public static byte[] encode(LocalDate day, List<LicenseSnapshot> rows) throws IOException {
+        SnapshotColumn[] all = SnapshotColumn.values();
+        List<byte[]> blocks = new ArrayList<>(all.length);
+        int[] rawLengths = new int[all.length];
+        for (SnapshotColumn column : all) {
+            byte[] raw = encodeColumn(column, rows);
+            rawLengths[column.ordinal()] = raw.length;
+            blocks.add(deflate(raw));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(day.toEpochDay());
+        out.writeInt(rows.size());
+        out.writeShort(all.length);
+        int offset = 0;
+        for (SnapshotColumn column : all) {
+            out.writeUTF(column.name());
+            out.writeInt(offset);
+            out.writeInt(blocks.get(column.ordinal()).length);
+            out.writeInt(rawLengths[column.ordinal()]);
+            offset += blocks.get(column.ordinal()).length;
+        }
+        for (byte[] block : blocks) {
+            out.write(block);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeColumn(SnapshotColumn column, List<LicenseSnapshot> rows) {
+        VarIntWriter out = new VarIntWriter(rows.size() * 2);
+        switch (column.type()) {
+            case LONG -> {
+                long previous = 0;
+                for (LicenseSnapshot row : rows) {
+                    long value = (Long) column.valueOf(row);
+                    out.writeSigned(value - previous);
+                    previous = value;
+                }
+            }
+            case INT -> {
+                for (LicenseSnapshot row : rows) {
+                    out.writeSigned((Integer) column.valueOf(row));
+                }
+            }
+            case DICTIONARY -> {
+                TreeSet<String> distinct = new TreeSet<>();
+                for (LicenseSnapshot row : rows) {
+                    distinct.add((String) column.valueOf(row));
+                }
+                Map<String, Integer> codes = new HashMap<>(distinct.size() * 2);
+                out.writeUnsigned(distinct.size());
+                for (String value : distinct) {
+                    codes.put(value, codes.size());
+                    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeUnsigned(utf8.length);
+                    out.write(utf8);
+                }
+                for (LicenseSnapshot row : rows) {
+                    out.writeUnsigned(codes.get((String) column.valueOf(row)));
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // ===== Decoding =====
+
+    /**
+     * Decodes the given columns of an encoded segment; the others are skipped without
+     * being inflated
+     */
+    public static SnapshotSegment decode(byte[] file, Set<SnapshotColumn> wanted) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(file));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a usage snapshot segment");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported usage snapshot segment version " + version);
+        }
+        LocalDate day = LocalDate.ofEpochDay(in.readLong());
+        int rowCount = in.readInt();
+        int columnCount = in.readShort();
+
+        record Entry(String name, int offset, int length, int rawLength) {
+        }
+        List<Entry> directory = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            directory.add(new Entry(in.readUTF(), in.readInt(), in.readInt(), in.readInt()));
+        }
+        int dataStart = file.length - in.available();
+
+        Map<SnapshotColumn, Object> columns = new EnumMap<>(SnapshotColumn.class);
+        for (Entry entry : directory) {
+            SnapshotColumn column = columnNamed(entry.name());
+            if (column == null || !wanted.contains(column)) {
+                continue;
+            }
+            byte[] raw = inflate(file, dataStart + entry.offset(), entry.length(), entry.rawLength());
+            columns.put(column, decodeColumn(column, new VarIntReader(raw), rowCount));
+        }
+        return new SnapshotSegment(day, rowCount, columns);
+    }
+
+    // Columns added by later versions are ignored by readers that do not know them
+    private static SnapshotColumn columnNamed(String name) {
+        for (SnapshotColumn column : SnapshotColumn.values()) {
+            if (column.name().equals(name)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    private static Object decodeColumn(SnapshotColumn column, VarIntReader in, int rowCount) {
+        switch (column.type()) {
+            case LONG -> {
+                long[] values = new long[rowCount];
+                long previous = 0;
+                for (int i = 0; i < rowCount; i++) {
+                    previous += in.readSigned();
+                    values[i] = previous;
+                }
+                return values;
+            }
+            case INT -> {
+                int[] values = new int[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    values[i] = (int) in.readSigned();
+                }
+                return values;
+            }
+            default -> {
+                int size = (int) in.readUnsigned();
+                int[] starts = new int[size];
+                int[] lengths = new int[size];
+                for (int i = 0; i < size; i++) {
+                    lengths[i] = (int) in.readUnsigned();
+                    starts[i] = in.skip(lengths[i]);
+                }
+                int[] codes = new int[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    codes[i] = (int) in.readUnsigned();
+                }
+                return new Dictionary(in.bytes, starts, lengths, codes);
+            }
+        }
+    }
+
+    private static byte[] inflate(byte[] file, int offset, int length, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(file, offset, length);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(raw, read, rawLength - read);
+            }
+            if (read != rawLength) {
+                throw new IOException("Truncated usage snapshot column");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt usage snapshot column", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class VarIntWriter extends ByteArrayOutputStream {
+
+        VarIntWriter(int size) {
+            super(size);
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static final class VarIntReader {
+
+        private final byte[] bytes;
+        private int position;
+
+        VarIntReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readSigned() {
+            long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        // Returns the position the skipped bytes start at
+        int skip(int length) {
+            int start = position;
+            position += length;
+            return start;
+        }
+    }
+}
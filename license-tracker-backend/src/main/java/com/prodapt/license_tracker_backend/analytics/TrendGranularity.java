@@ -0,0 +1,24 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Period a trend point covers; each period is represented by its last snapshot
+ */
+public enum TrendGranularity {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR;
+
+    public LocalDate periodStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case YEAR -> day.withDayOfYear(1);
+        };
+    }
+}
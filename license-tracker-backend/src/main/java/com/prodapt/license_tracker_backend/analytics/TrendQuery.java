@@ -0,0 +1,29 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Licenses grouped by one dictionary column, per period between from and to (inclusive),
+ * restricted to rows whose filter columns equal the given values
+ */
+public record TrendQuery(
+        LocalDate from,
+        LocalDate to,
+        TrendGranularity granularity,
+        SnapshotColumn groupBy,
+        Map<SnapshotColumn, String> filters) {
+
+    public TrendQuery {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from " + from + " is after to " + to);
+        }
+        if (!groupBy.isDictionary()) {
+            throw new IllegalArgumentException("Cannot group by numeric column " + groupBy);
+        }
+        if (filters.keySet().stream().anyMatch(column -> !column.isDictionary())) {
+            throw new IllegalArgumentException("Filters must be on dictionary columns: " + filters.keySet());
+        }
+        filters = Map.copyOf(filters);
+    }
+}
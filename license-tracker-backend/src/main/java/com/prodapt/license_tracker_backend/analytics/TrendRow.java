@@ -0,0 +1,20 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Totals of one group in one period, taken from the period's last snapshot
+ *
+ * @param licensesByStatus license count per report status, in status order
+ */
+public record TrendRow(
+        LocalDate periodStart,
+        LocalDate snapshotDate,
+        String group,
+        long licenses,
+        long currentUsage,
+        long maxUsage,
+        long costCents,
+        Map<String, Long> licensesByStatus) {
+}
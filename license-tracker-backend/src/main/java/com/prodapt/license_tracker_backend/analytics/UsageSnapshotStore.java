@@ -0,0 +1,200 @@
+package com.prodapt.license_tracker_backend.analytics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Daily license usage snapshots, one {@link SnapshotSegment} file per day
+ * (usage-2025-03-31.lsnap), and the trend queries over them. A query reads only the last
+ * snapshot of each period and only the columns it groups, filters and sums. Segments do
+ * not change once written, so each day's totals per query shape are cached, and
+ * multi-year trends are answered from memory after the first request.
+ */
+@Component
+@Slf4j
+public class UsageSnapshotStore {
+
+    private static final String FILE_PREFIX = "usage-";
+    private static final String FILE_SUFFIX = ".lsnap";
+    private static final EnumSet<SnapshotColumn> MEASURES = EnumSet.of(
+            SnapshotColumn.STATUS, SnapshotColumn.CURRENT_USAGE, SnapshotColumn.MAX_USAGE, SnapshotColumn.COST_CENTS);
+
+    private final Path directory;
+    private final NavigableSet<LocalDate> days = new ConcurrentSkipListSet<>();
+    private final Cache<DayQuery, List<TrendRow>> dayTotals;
+
+    public UsageSnapshotStore(@Value("${analytics.snapshots.directory:data/usage-snapshots}") Path directory,
+                              @Value("${analytics.snapshots.cache-entries:20000}") long cacheEntries) {
+        this.directory = directory;
+        this.dayTotals = Caffeine.newBuilder().maximumSize(cacheEntries).build();
+
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    days.add(LocalDate.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open usage snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * Days with a snapshot, oldest first
+     */
+    public List<LocalDate> getDays() {
+        return List.copyOf(days);
+    }
+
+    /**
+     * Writes the snapshot of day, replacing an earlier one for the same day
+     */
+    public void write(LocalDate day, List<LicenseSnapshot> snapshots) throws IOException {
+        List<LicenseSnapshot> rows = new ArrayList<>(snapshots);
+        rows.sort(Comparator.comparingLong(LicenseSnapshot::licenseId));
+        byte[] segment = SnapshotSegment.encode(day, rows);
+
+        Path temp = Files.createTempFile(directory, FILE_PREFIX + day + "-", ".tmp");
+        try {
+            Files.write(temp, segment);
+            Files.move(temp, fileFor(day), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        days.add(day);
+        dayTotals.asMap().keySet().removeIf(key -> key.day().equals(day));
+        log.info("Wrote usage snapshot for {}: {} license(s), {} bytes", day, rows.size(), segment.length);
+    }
+
+    /**
+     * One row per period and group, ordered by period and then group
+     */
+    public List<TrendRow> query(TrendQuery query) {
+        // Ascending, so each period ends up mapped to its last snapshot
+        Map<LocalDate, LocalDate> lastSnapshotOfPeriod = new TreeMap<>();
+        for (LocalDate day : days.subSet(query.from(), true, query.to(), true)) {
+            lastSnapshotOfPeriod.put(query.granularity().periodStart(day), day);
+        }
+
+        List<TrendRow> rows = new ArrayList<>();
+        lastSnapshotOfPeriod.forEach((periodStart, day) -> {
+            for (TrendRow total : totalsOf(new DayQuery(day, query.groupBy(), query.filters()))) {
+                rows.add(new TrendRow(periodStart, day, total.group(), total.licenses(), total.currentUsage(),
+                        total.maxUsage(), total.costCents(), total.licensesByStatus()));
+            }
+        });
+        return rows;
+    }
+
+    private List<TrendRow> totalsOf(DayQuery key) {
+        List<TrendRow> totals = dayTotals.getIfPresent(key);
+        if (totals == null) {
+            // Computed outside Caffeine's lock so file I/O never pins a virtual thread
+            totals = aggregate(key);
+            dayTotals.put(key, totals);
+        }
+        return totals;
+    }
+
+    private List<TrendRow> aggregate(DayQuery key) {
+        EnumSet<SnapshotColumn> columns = EnumSet.copyOf(MEASURES);
+        columns.add(key.groupBy());
+        columns.addAll(key.filters().keySet());
+
+        SnapshotSegment segment;
+        try {
+            segment = SnapshotSegment.decode(Files.readAllBytes(fileFor(key.day())), columns);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read usage snapshot for " + key.day(), e);
+        }
+
+        // Filters become code comparisons; a value missing from the day's dictionary matches nothing
+        int[][] filterCodes = new int[key.filters().size()][];
+        int[] filterValues = new int[key.filters().size()];
+        int f = 0;
+        for (Map.Entry<SnapshotColumn, String> filter : key.filters().entrySet()) {
+            SnapshotSegment.Dictionary dictionary = segment.dictionary(filter.getKey());
+            filterValues[f] = dictionary.codeOf(filter.getValue());
+            if (filterValues[f] < 0) {
+                return List.of();
+            }
+            filterCodes[f++] = dictionary.codes();
+        }
+
+        SnapshotSegment.Dictionary groups = segment.dictionary(key.groupBy());
+        SnapshotSegment.Dictionary statuses = segment.dictionary(SnapshotColumn.STATUS);
+        int[] currentUsage = segment.ints(SnapshotColumn.CURRENT_USAGE);
+        int[] maxUsage = segment.ints(SnapshotColumn.MAX_USAGE);
+        long[] costCents = segment.longs(SnapshotColumn.COST_CENTS);
+
+        // Accumulators indexed by dictionary code, so grouping needs no hashing
+        int groupCount = groups.size();
+        long[] licenses = new long[groupCount];
+        long[] usage = new long[groupCount];
+        long[] capacity = new long[groupCount];
+        long[] cost = new long[groupCount];
+        int statusCount = statuses.size();
+        long[] byStatus = new long[groupCount * statusCount];
+
+        rows:
+        for (int row = 0; row < segment.getRowCount(); row++) {
+            for (int i = 0; i < filterCodes.length; i++) {
+                if (filterCodes[i][row] != filterValues[i]) {
+                    continue rows;
+                }
+            }
+            int group = groups.codes()[row];
+            licenses[group]++;
+            usage[group] += currentUsage[row];
+            capacity[group] += maxUsage[row];
+            cost[group] += costCents[row];
+            byStatus[group * statusCount + statuses.codes()[row]]++;
+        }
+
+        List<TrendRow> totals = new ArrayList<>();
+        for (int group = 0; group < groupCount; group++) {
+            if (licenses[group] == 0) {
+                continue;
+            }
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            for (int status = 0; status < statusCount; status++) {
+                long count = byStatus[group * statusCount + status];
+                if (count > 0) {
+                    statusCounts.put(statuses.value(status), count);
+                }
+            }
+            totals.add(new TrendRow(key.day(), key.day(), groups.value(group), licenses[group], usage[group],
+                    capacity[group], cost[group], statusCounts));
+        }
+        return List.copyOf(totals);
+    }
+
+    private Path fileFor(LocalDate day) {
+        return directory.resolve(FILE_PREFIX + day + FILE_SUFFIX);
+    }
+
+    private record DayQuery(LocalDate day, SnapshotColumn groupBy, Map<SnapshotColumn, String> filters) {
+    }
+}
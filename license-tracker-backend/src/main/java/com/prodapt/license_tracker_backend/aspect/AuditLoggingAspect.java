@@ -1,6 +1,6 @@
 package com.prodapt.license_tracker_backend.aspect;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
 import com.prodapt.license_tracker_backend.dto.CreateAuditLogRequest;
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
 import com.prodapt.license_tracker_backend.entities.enums.EntityType;
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Aspect
@@ -26,8 +25,12 @@ import java.util.Map;
 @Slf4j
 public class AuditLoggingAspect {
 
+    // Column lengths of audit_logs; longer values would fail the insert and lose the entry
+    private static final int ENTITY_ID_MAX_LENGTH = 50;
+    private static final int USER_AGENT_MAX_LENGTH = 500;
+
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final AuditDetailsWriter auditDetailsWriter;
 
     @AfterReturning(
             pointcut = "@annotation(auditable)",
@@ -45,19 +48,18 @@ public class AuditLoggingAspect {
             HttpServletRequest request = ((ServletRequestAttributes)
                     RequestContextHolder.currentRequestAttributes()).getRequest();
 
-            Map<String, Object> details = new HashMap<>();
-            details.put("method", joinPoint.getSignature().getName());
-            details.put("arguments", joinPoint.getArgs());
-            details.put("result", result);
+            // Each argument and the result is capped; whole request and response bodies would bloat the row
+            String details = auditDetailsWriter.writeMethodCall(
+                    joinPoint.getSignature().getName(), joinPoint.getArgs(), result);
 
             CreateAuditLogRequest auditLog = CreateAuditLogRequest.builder()
                     .username(username)
                     .entityType(auditable.entityType())
                     .entityId(extractEntityId(result))
                     .action(auditable.action())
-                    .details(objectMapper.writeValueAsString(details))
+                    .details(details)
                     .ipAddress(getClientIpAddress(request))
-                    .userAgent(request.getHeader("User-Agent"))
+                    .userAgent(truncate(request.getHeader("User-Agent"), USER_AGENT_MAX_LENGTH))
                     .build();
 
             auditLogService.log(auditLog);
@@ -77,12 +79,16 @@ public class AuditLoggingAspect {
                 return String.valueOf(((Map<?, ?>) result).get("id"));
             }
             // Add more extraction logic as needed
-            return result.toString();
+            return truncate(result.toString(), ENTITY_ID_MAX_LENGTH);
         } catch (Exception e) {
             return null;
         }
     }
 
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String[] headers = {
                 "X-Forwarded-For",
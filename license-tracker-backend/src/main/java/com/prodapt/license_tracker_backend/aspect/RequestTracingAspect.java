@@ -0,0 +1,61 @@
+package com.prodapt.license_tracker_backend.aspect;
+
+import com.prodapt.license_tracker_backend.monitoring.RequestTracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a {@link RequestTracer} span around controller, service and repository calls.
+ * Calls made outside an HTTP request go straight through.
+ */
+@Aspect
+@Component
+public class RequestTracingAspect {
+
+    private static final String APPLICATION_PACKAGE = "com.prodapt.";
+
+    // Repository calls arrive on a JDK proxy; name them after the application's repository interface
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> type : proxyClass.getInterfaces()) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    @Around("within(com.prodapt.license_tracker_backend.controller..*) && execution(public * *(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RequestTracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "controller", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("within(com.prodapt.license_tracker_backend.service.implementation..*) && execution(public * *(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RequestTracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "service", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RequestTracer.isActive()) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "repository", REPOSITORY_NAMES.get(joinPoint.getThis().getClass()));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String kind, String owner) throws Throwable {
+        try (RequestTracer.Span span = RequestTracer.start(kind, owner + "." + joinPoint.getSignature().getName())) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import lombok.Builder;
+
+/**
+ * Audit details written by LicenseAssignmentServiceImpl. deviceId is the device's database
+ * id and deviceIdName its business id, matching what the audit screens read.
+ */
+public final class AssignmentAuditEvents {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILURE = "FAILURE";
+
+    private AssignmentAuditEvents() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    @Builder
+    public record Assigned(Long assignmentId,
+                           Long deviceId, String deviceIdName, DeviceType deviceType,
+                           String deviceLocation, Region deviceRegion,
+                           Long licenseId, String licenseKey, String softwareName, LicenseType licenseType,
+                           long usageBeforeAssignment, long usageAfterAssignment, Integer maxUsage,
+                           double utilizationPercentage,
+                           String assignedBy, String assignedOn, String ipAddress,
+                           String status) implements AuditDetails {
+    }
+
+    /**
+     * Device and license fields are only present when both were found before the failure
+     */
+    @Builder
+    public record AssignmentFailed(Long deviceId, String deviceIdName,
+                                   Long licenseId, String licenseKey, String softwareName,
+                                   String failureReason, String errorMessage,
+                                   String ipAddress, String attemptedBy,
+                                   String status) implements AuditDetails {
+    }
+
+    @Builder
+    public record Revoked(Long assignmentId,
+                          Long deviceId, String deviceIdName, DeviceType deviceType,
+                          Long licenseId, String licenseKey, String softwareName,
+                          long usageBeforeRevocation, long usageAfterRevocation, Integer maxUsage,
+                          double utilizationPercentage,
+                          String revokedBy, String revokedOn, String revocationReason,
+                          String originallyAssignedBy, String originallyAssignedOn, long assignmentDurationDays,
+                          String ipAddress, String status) implements AuditDetails {
+    }
+
+    @Builder
+    public record RevocationFailed(Long assignmentId, Long deviceId, Long licenseId,
+                                   String failureReason, String revokedOn, String revokedBy,
+                                   String status) implements AuditDetails {
+    }
+}
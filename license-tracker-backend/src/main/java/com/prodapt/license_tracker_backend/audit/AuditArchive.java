@@ -0,0 +1,455 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prodapt.license_tracker_backend.dto.AuditLogResponse;
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Audit log months moved out of audit_logs by the retention job, one gzip NDJSON file per
+ * month (audit_logs-2025-03.ndjson.gz), newest entry first so a page can be read without
+ * sorting. Files are written to a temp file and moved into place, so a month is either
+ * fully archived or not at all. Instances that should search the archive need to share
+ * the directory; each one re-lists it every audit.archive.refresh-interval-ms to pick up
+ * months archived elsewhere.
+ *
+ * Each month also gets a small summary (audit_logs-2025-03.counts.json) with its row counts
+ * per entity type, action and user. Searches on those fields take a wholly covered month's
+ * total from the summary and only read the months that hold the requested page. Totals for
+ * other filters are counted by reading the month once and then kept in memory until the
+ * month's file changes.
+ */
+@Component
+@Slf4j
+public class AuditArchive {
+
+    private static final String FILE_PREFIX = "audit_logs-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+    private static final String SUMMARY_SUFFIX = ".counts.json";
+    // Ids below this were issued by AUTO_INCREMENT before TimeOrderedId and carry no timestamp
+    private static final long FIRST_TIME_ORDERED_ID = 1L << 32;
+    private static final int MATCH_COUNT_CACHE_SIZE = 10_000;
+
+    private final Path directory;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final ObjectReader summaryReader;
+    private final ObjectWriter summaryWriter;
+    private final NavigableSet<YearMonth> months = new ConcurrentSkipListSet<>();
+    private final Map<YearMonth, MonthSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<YearMonth, FileVersion> versions = new HashMap<>();
+    private final Cache<MatchCountKey, Long> matchCounts = Caffeine.newBuilder()
+            .maximumSize(MATCH_COUNT_CACHE_SIZE)
+            .build();
+
+    public AuditArchive(ObjectMapper objectMapper,
+                        @Value("${audit.archive.directory:data/audit-archive}") Path directory) {
+        this.directory = directory;
+        this.reader = objectMapper.readerFor(AuditLogResponse.class);
+        this.writer = objectMapper.writerFor(AuditLogResponse.class);
+        this.summaryReader = objectMapper.readerFor(MonthSummary.class);
+        this.summaryWriter = objectMapper.writerFor(MonthSummary.class);
+
+        try {
+            Files.createDirectories(directory);
+            loadMonths();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open audit archive directory " + directory, e);
+        }
+    }
+
+    /**
+     * Picks up months archived, replaced or removed by other instances sharing the directory
+     */
+    @Scheduled(fixedDelayString = "${audit.archive.refresh-interval-ms:60000}",
+            initialDelayString = "${audit.archive.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            loadMonths();
+        } catch (IOException e) {
+            log.warn("Failed to re-list audit archive directory {}", directory, e);
+        }
+    }
+
+    /**
+     * Archived months, oldest first
+     */
+    public List<YearMonth> getMonths() {
+        return List.copyOf(months);
+    }
+
+    /**
+     * Whether a query between from and to (either may be null for an open end) can match
+     * archived entries
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return !months.isEmpty() && !monthsBetween(from, to).isEmpty();
+    }
+
+    /**
+     * Opens a writer for one month; the file replaces any earlier archive of the month
+     * once {@link MonthWriter#commit()} is called
+     */
+    public MonthWriter open(YearMonth month) throws IOException {
+        return new MonthWriter(month);
+    }
+
+    /**
+     * Archived entries between from and to (either may be null) that match filter, newest
+     * first, skipping the first skip matches. total counts every match.
+     */
+    public SearchResult search(LocalDateTime from, LocalDateTime to, Filter filter, long skip, int limit) {
+        Predicate<AuditLogResponse> matches = entry -> within(entry.getTimestamp(), from, to) && filter.test(entry);
+        List<AuditLogResponse> rows = new ArrayList<>();
+        long total = 0;
+        for (YearMonth month : monthsBetween(from, to).descendingSet()) {
+            boolean covered = covers(month, from, to);
+            Long known = covered ? knownCount(month, filter) : null;
+            if (known == null) {
+                long count = scan(month, matches, skip - total, limit, rows, true);
+                if (covered) {
+                    matchCounts.put(new MatchCountKey(month, filter.key()), count);
+                }
+                total += count;
+                continue;
+            }
+
+            // Months wholly before or after the requested page are counted without being read
+            if (known > skip - total && rows.size() < limit) {
+                scan(month, matches, skip - total, limit, rows, false);
+            }
+            total += known;
+        }
+        return new SearchResult(rows, total);
+    }
+
+    /**
+     * Looks in the month the id was issued in, then in the months either side of it, since
+     * the archive may have been written in another time zone; ids from before TimeOrderedId
+     * are looked up in every archived month
+     */
+    public Optional<AuditLogResponse> findById(long logId) {
+        Iterable<YearMonth> candidates = months;
+        if (logId >= FIRST_TIME_ORDERED_ID) {
+            YearMonth issued = YearMonth.from(Instant.ofEpochMilli(TimeOrderedIdGenerator.epochMillisOf(logId))
+                    .atZone(ZoneId.systemDefault()));
+            candidates = Stream.of(issued, issued.minusMonths(1), issued.plusMonths(1))
+                    .filter(months::contains)
+                    .toList();
+        }
+
+        List<AuditLogResponse> found = new ArrayList<>(1);
+        for (YearMonth month : candidates) {
+            if (scan(month, entry -> entry.getLogId() == logId, 0, 1, found, false) > 0) {
+                return Optional.of(found.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Adds matches past the first skip to rows until it holds limit entries. With countAll the whole
+    // month is read and every match counted; otherwise reading stops once rows is full.
+    private long scan(YearMonth month, Predicate<AuditLogResponse> matches, long skip, int limit,
+                      List<AuditLogResponse> rows, boolean countAll) {
+        long count = 0;
+        try (BufferedReader lines = openReader(month)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                AuditLogResponse entry = reader.readValue(line);
+                if (!matches.test(entry)) {
+                    continue;
+                }
+                if (count >= skip && rows.size() < limit) {
+                    rows.add(entry);
+                }
+                count++;
+                if (!countAll && rows.size() >= limit) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit archive for " + month, e);
+        }
+        return count;
+    }
+
+    // Matches in a wholly covered month, from its summary or an earlier read; null if unknown
+    private Long knownCount(YearMonth month, Filter filter) {
+        MonthSummary summary = filter.isCountable() ? summaries.get(month) : null;
+        if (summary != null) {
+            return summary.count(filter);
+        }
+        return matchCounts.getIfPresent(new MatchCountKey(month, filter.key()));
+    }
+
+    // Synchronized with MonthWriter.commit so a concurrent re-list cannot restore a replaced summary
+    private synchronized void loadMonths() throws IOException {
+        Map<YearMonth, FileVersion> found = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                YearMonth month = YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+                FileVersion version = versionOf(month);
+                if (version != null) {
+                    found.put(month, version);
+                }
+            }
+        }
+
+        for (YearMonth month : List.copyOf(versions.keySet())) {
+            if (!found.containsKey(month)) {
+                months.remove(month);
+                summaries.remove(month);
+                versions.remove(month);
+                forgetCounts(month);
+            }
+        }
+        found.forEach((month, version) -> {
+            if (!version.equals(versions.put(month, version))) {
+                loadSummary(month);
+                forgetCounts(month);
+                months.add(month);
+            }
+        });
+    }
+
+    private FileVersion versionOf(YearMonth month) throws IOException {
+        try {
+            FileTime data = Files.getLastModifiedTime(fileFor(month));
+            Path summary = summaryFileFor(month);
+            return new FileVersion(data, Files.exists(summary) ? Files.getLastModifiedTime(summary) : null);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void loadSummary(YearMonth month) {
+        Path file = summaryFileFor(month);
+        if (!Files.exists(file)) {
+            summaries.remove(month);
+            return;
+        }
+        try {
+            summaries.put(month, summaryReader.readValue(file.toFile()));
+        } catch (IOException e) {
+            summaries.remove(month);
+            log.warn("Ignoring unreadable audit archive summary for {}; the month will be read to count it", month, e);
+        }
+    }
+
+    private void forgetCounts(YearMonth month) {
+        matchCounts.asMap().keySet().removeIf(key -> key.month().equals(month));
+    }
+
+    private static boolean covers(YearMonth month, LocalDateTime from, LocalDateTime to) {
+        return (from == null || !month.atDay(1).atStartOfDay().isBefore(from))
+                && (to == null || !month.atEndOfMonth().atTime(LocalTime.MAX).isAfter(to));
+    }
+
+    private NavigableSet<YearMonth> monthsBetween(LocalDateTime from, LocalDateTime to) {
+        YearMonth first = from != null ? YearMonth.from(from) : null;
+        YearMonth last = to != null ? YearMonth.from(to) : null;
+        NavigableSet<YearMonth> selected = new TreeSet<>(months);
+        if (first != null) {
+            selected = selected.tailSet(first, true);
+        }
+        if (last != null) {
+            selected = selected.headSet(last, true);
+        }
+        return selected;
+    }
+
+    private static boolean within(LocalDateTime timestamp, LocalDateTime from, LocalDateTime to) {
+        return (from == null || !timestamp.isBefore(from)) && (to == null || !timestamp.isAfter(to));
+    }
+
+    private BufferedReader openReader(YearMonth month) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(fileFor(month)), 64 * 1024), StandardCharsets.UTF_8));
+    }
+
+    private Path fileFor(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+    }
+
+    private Path summaryFileFor(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + SUMMARY_SUFFIX);
+    }
+
+    public record SearchResult(List<AuditLogResponse> rows, long total) {
+    }
+
+    /**
+     * Which archived entries to return. Exact entity type, action and user conditions (null
+     * matches anything) can be counted from a month's summary; any further condition added
+     * with {@link #and} means the month has to be read the first time it is counted.
+     */
+    public record Filter(String entityType, String action, Long userId,
+                         String conditionKey, Predicate<AuditLogResponse> condition) {
+
+        public static Filter of(String entityType, String action, Long userId) {
+            return new Filter(entityType, action, userId, null, null);
+        }
+
+        /**
+         * Adds a condition; key must identify it, as month totals are cached by key
+         */
+        public Filter and(String key, Predicate<AuditLogResponse> extra) {
+            return condition == null
+                    ? new Filter(entityType, action, userId, key, extra)
+                    : new Filter(entityType, action, userId, conditionKey + "&" + key, condition.and(extra));
+        }
+
+        boolean isCountable() {
+            return condition == null;
+        }
+
+        String key() {
+            return entityType + "|" + action + "|" + userId + "|" + conditionKey;
+        }
+
+        boolean test(AuditLogResponse entry) {
+            return matches(entry.getEntityType(), entry.getAction(), entry.getUserId())
+                    && (condition == null || condition.test(entry));
+        }
+
+        boolean matches(String entryEntityType, String entryAction, Long entryUserId) {
+            return (entityType == null || entityType.equals(entryEntityType))
+                    && (action == null || action.equals(entryAction))
+                    && (userId == null || userId.equals(entryUserId));
+        }
+    }
+
+    /**
+     * Row counts of one archived month per entity type, action and user
+     */
+    record MonthSummary(long rows, List<Count> counts) {
+
+        long count(Filter filter) {
+            return counts.stream()
+                    .filter(count -> filter.matches(count.entityType(), count.action(), count.userId()))
+                    .mapToLong(Count::rows)
+                    .sum();
+        }
+
+        record Count(String entityType, String action, Long userId, long rows) {
+        }
+    }
+
+    private record CountKey(String entityType, String action, Long userId) {
+    }
+
+    private record MatchCountKey(YearMonth month, String filter) {
+    }
+
+    private record FileVersion(FileTime data, FileTime summary) {
+    }
+
+    /**
+     * Appends one month's entries, newest first, to a temp file that only becomes the
+     * month's archive on commit; closing without commit discards it
+     */
+    public final class MonthWriter implements AutoCloseable {
+
+        private final YearMonth month;
+        private final Path temp;
+        private final BufferedWriter out;
+        private final Map<CountKey, Long> counts = new HashMap<>();
+        private long count;
+        private boolean committed;
+
+        private MonthWriter(YearMonth month) throws IOException {
+            this.month = month;
+            this.temp = Files.createTempFile(directory, FILE_PREFIX + month + "-", ".tmp");
+            this.out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024), StandardCharsets.UTF_8));
+        }
+
+        public void append(AuditLogResponse entry) throws IOException {
+            out.write(writer.writeValueAsString(entry));
+            out.newLine();
+            counts.merge(new CountKey(entry.getEntityType(), entry.getAction(), entry.getUserId()), 1L, Long::sum);
+            count++;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void commit() throws IOException {
+            out.close();
+            MonthSummary summary = new MonthSummary(count, counts.entrySet().stream()
+                    .map(e -> new MonthSummary.Count(e.getKey().entityType(), e.getKey().action(),
+                            e.getKey().userId(), e.getValue()))
+                    .toList());
+            Path summaryTemp = Files.createTempFile(directory, FILE_PREFIX + month + "-", ".tmp");
+            try {
+                summaryWriter.writeValue(summaryTemp.toFile(), summary);
+
+                synchronized (AuditArchive.this) {
+                    // The old summary goes first: a crash before the new one is in place only means
+                    // the month is read to count it, never that stale counts are used
+                    summaries.remove(month);
+                    Files.deleteIfExists(summaryFileFor(month));
+                    Files.move(temp, fileFor(month), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    forgetCounts(month);
+                    Files.move(summaryTemp, summaryFileFor(month), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                    summaries.put(month, summary);
+                    versions.put(month, versionOf(month));
+                    months.add(month);
+                }
+            } finally {
+                Files.deleteIfExists(summaryTemp);
+            }
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
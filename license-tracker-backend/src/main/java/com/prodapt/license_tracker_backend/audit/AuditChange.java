@@ -0,0 +1,24 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Old and new value of one changed field, written as {"old":...,"new":...}. Unlike the
+ * other details, nulls are kept so a cleared or newly set field stays visible.
+ */
+@JsonInclude(JsonInclude.Include.ALWAYS)
+public record AuditChange(@JsonProperty("old") Object oldValue, @JsonProperty("new") Object newValue) {
+
+    /**
+     * Adds field to changes when the two values differ
+     */
+    public static void track(Map<String, AuditChange> changes, String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.put(field, new AuditChange(oldValue, newValue));
+        }
+    }
+}
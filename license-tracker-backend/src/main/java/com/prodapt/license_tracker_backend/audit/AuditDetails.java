@@ -0,0 +1,9 @@
+package com.prodapt.license_tracker_backend.audit;
+
+/**
+ * Details of one audit entry, stored as JSON in audit_logs.details by
+ * {@link AuditDetailsWriter}. Implementations are records whose component names are the
+ * JSON keys, so they must stay stable: the audit screens and the details search rely on them.
+ */
+public interface AuditDetails {
+}
@@ -0,0 +1,138 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Serializes audit details for audit_logs.details. Typed {@link AuditDetails} go through an
+ * ObjectWriter resolved once per record class, and null fields are left out. Method calls
+ * captured by AuditLoggingAspect are written value by value, each capped so one large
+ * argument or result cannot bloat the row: a value over max-value-chars, or over what is
+ * left of max-chars, is replaced by a short "Type truncated" marker and unserializable
+ * values by "Type not serializable".
+ */
+@Component
+public class AuditDetailsWriter {
+
+    private final ObjectMapper mapper;
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return mapper.writerFor(type);
+        }
+    };
+    private final int maxValueChars;
+    private final int maxChars;
+
+    public AuditDetailsWriter(ObjectMapper objectMapper,
+                              @Value("${audit.details.max-value-chars:1024}") int maxValueChars,
+                              @Value("${audit.details.max-chars:4096}") int maxChars) {
+        this.mapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.maxValueChars = Math.max(1, maxValueChars);
+        this.maxChars = Math.max(this.maxValueChars, maxChars);
+    }
+
+    public String write(AuditDetails details) throws JsonProcessingException {
+        return writers.get(details.getClass()).writeValueAsString(details);
+    }
+
+    /**
+     * {"method":...,"arguments":[...],"result":...} with every argument and the result capped
+     */
+    public String writeMethodCall(String method, Object[] arguments, Object result) throws IOException {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator json = mapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("method", method);
+            json.writeArrayFieldStart("arguments");
+            for (Object argument : arguments) {
+                writeCapped(json, argument, out);
+            }
+            json.writeEndArray();
+            json.writeFieldName("result");
+            writeCapped(json, result, out);
+            json.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    private void writeCapped(JsonGenerator json, Object value, StringWriter out) throws IOException {
+        if (value == null) {
+            json.writeNull();
+            return;
+        }
+        json.flush();
+        int limit = Math.min(maxValueChars, maxChars - out.getBuffer().length());
+        String type = value.getClass().getSimpleName();
+        if (limit <= 0) {
+            json.writeString(type + " truncated");
+            return;
+        }
+
+        CappedWriter capped = new CappedWriter(limit);
+        try {
+            writers.get(value.getClass()).writeValue(capped, value);
+        } catch (IOException | RuntimeException e) {
+            json.writeString(capped.overflowed ? type + " truncated" : type + " not serializable");
+            return;
+        }
+        json.writeRawValue(capped.toString());
+    }
+
+    /**
+     * Buffers up to limit chars and fails the write past that, so an oversized value is
+     * abandoned at the generator's next flush instead of being serialized in full
+     */
+    private static final class CappedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+        private boolean overflowed;
+
+        CappedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (buffer.length() + length > limit) {
+                overflowed = true;
+                throw new IOException("Audit value exceeds " + limit + " chars");
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            if (buffer.length() + length > limit) {
+                overflowed = true;
+                throw new IOException("Audit value exceeds " + limit + " chars");
+            }
+            buffer.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to flush, the value is kept in memory
+        }
+
+        @Override
+        public void close() {
+            // Closed by the ObjectWriter; the buffer is still read afterwards
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of audit_logs created by db/vendor/mysql/V3. Months are
+ * split off p_future ahead of time, named pYYYYMM, so the optimizer prunes date-filtered
+ * searches to the months they cover and retention drops a month as a metadata change.
+ * On other databases, or before V3 has run, the table is unpartitioned and months are
+ * removed with a range DELETE.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditPartitionManager {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogRepository auditLogRepository;
+
+    /**
+     * Splits p_future into monthly partitions up to and including through. Returns the
+     * number of partitions added.
+     */
+    public int ensurePartitionsThrough(YearMonth through) {
+        List<Partition> partitions = partitions();
+        if (partitions.size() < 2 || !FUTURE_PARTITION.equals(partitions.get(partitions.size() - 1).name())) {
+            return 0;
+        }
+
+        // p_future starts where the last bounded partition ends
+        YearMonth next = YearMonth.from(partitions.get(partitions.size() - 2).lessThan());
+        if (next.isAfter(through)) {
+            return 0;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(through); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + partitionName(month)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1).atStartOfDay().format(BOUND) + "')");
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE audit_logs REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("Added {} audit_logs partition(s) from {} through {}", definitions.size() - 1, next, through);
+        return definitions.size() - 1;
+    }
+
+    /**
+     * Removes every audit log of month, dropping its partition when it has one
+     */
+    public void removeMonth(YearMonth month) {
+        String name = partitionName(month);
+        if (partitions().stream().anyMatch(partition -> partition.name().equals(name))) {
+            jdbcTemplate.execute("ALTER TABLE audit_logs DROP PARTITION " + name);
+            log.info("Dropped audit_logs partition {}", name);
+            return;
+        }
+
+        int deleted = auditLogRepository.deleteByTimestampRange(
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        log.info("Deleted {} audit log(s) from {}", deleted, month);
+    }
+
+    private List<Partition> partitions() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_NAME.format(month);
+    }
+
+    // RANGE COLUMNS bounds are reported quoted, e.g. '2025-01-01 00:00:00', or as MAXVALUE
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", ""), BOUND);
+    }
+
+    private record Partition(String name, LocalDateTime lessThan) {
+    }
+}
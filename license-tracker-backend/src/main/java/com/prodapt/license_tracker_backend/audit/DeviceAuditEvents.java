@@ -0,0 +1,42 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+
+import java.util.Map;
+
+/**
+ * Audit details written by DeviceServiceImpl
+ */
+public final class DeviceAuditEvents {
+
+    private DeviceAuditEvents() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * source is BULK_UPLOAD for rows of an uploaded file, absent otherwise
+     */
+    public record Created(String deviceId, DeviceType deviceType, String model, Region region,
+                          String source) implements AuditDetails {
+    }
+
+    public record Updated(String deviceId, Map<String, AuditChange> changes) implements AuditDetails {
+    }
+
+    /**
+     * revokedLicensesCount is only present when the device still had active licenses
+     */
+    public record Deleted(String deviceId, boolean hadActiveLicenses,
+                          Integer revokedLicensesCount) implements AuditDetails {
+    }
+
+    public record LicenseAutoRevoked(String licenseKey, String deviceId, String reason,
+                                     DeviceLifecycle deviceLifecycle, String triggeredBy) implements AuditDetails {
+    }
+
+    public record BulkUploaded(String fileName, int totalRecords, int successCount,
+                               int failureCount) implements AuditDetails {
+    }
+}
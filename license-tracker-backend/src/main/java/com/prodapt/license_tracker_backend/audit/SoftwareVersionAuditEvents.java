@@ -0,0 +1,56 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audit details written by SoftwareVersionServiceImpl. deviceId is the device's database id
+ * and deviceIdName its business id.
+ */
+public final class SoftwareVersionAuditEvents {
+
+    public static final String CHECK_FOR_UPDATES = "CHECK_FOR_UPDATES";
+    public static final String BULK_CHECK_FOR_UPDATES = "BULK_CHECK_FOR_UPDATES";
+
+    private SoftwareVersionAuditEvents() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    @Builder
+    public record Created(Long softwareVersionId, Long deviceId, String deviceIdName, DeviceType deviceType,
+                          String softwareName, String currentVersion, String latestVersion,
+                          SoftwareVersionStatus status, boolean updateRecommended,
+                          String releaseDate, String updateUrl) implements AuditDetails {
+    }
+
+    public record Updated(Long softwareVersionId, Long deviceId, String deviceIdName,
+                          Map<String, AuditChange> changes, int changeCount,
+                          String lastChecked) implements AuditDetails {
+    }
+
+    @Builder
+    public record Deleted(Long softwareVersionId, Long deviceId, String deviceIdName,
+                          String softwareName, String currentVersion, String latestVersion,
+                          SoftwareVersionStatus status, String deletedAt) implements AuditDetails {
+    }
+
+    @Builder
+    public record Checked(String action, Long softwareVersionId, Long deviceId, String deviceIdName,
+                          String softwareName, String currentVersion, String latestVersion,
+                          SoftwareVersionStatus oldStatus, SoftwareVersionStatus newStatus, boolean statusChanged,
+                          String lastChecked, String previousCheck) implements AuditDetails {
+    }
+
+    /**
+     * One chunk of a bulk update check; transitions are keyed OLD->NEW
+     */
+    @Builder
+    public record BulkChecked(String action, int chunk, Long firstSoftwareVersionId, Long lastSoftwareVersionId,
+                              int rowCount, Map<String, Long> statusCounts, Map<String, Long> transitions,
+                              List<Long> changedIds, String lastChecked) implements AuditDetails {
+    }
+}
@@ -0,0 +1,31 @@
+package com.prodapt.license_tracker_backend.audit;
+
+import java.util.Map;
+
+/**
+ * Audit details written by VendorServiceImpl
+ */
+public final class VendorAuditEvents {
+
+    private VendorAuditEvents() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public record Created(Long vendorId, String vendorName,
+                          String contactEmail, String contactPhone, String supportEmail,
+                          boolean hasContactEmail, boolean hasContactPhone,
+                          boolean hasSupportEmail) implements AuditDetails {
+    }
+
+    public record Updated(Long vendorId, Map<String, AuditChange> changes, int changeCount) implements AuditDetails {
+    }
+
+    /**
+     * Vendors with licenses cannot be deleted, so the license fields are always false and 0
+     */
+    public record Deleted(Long vendorId, String vendorName,
+                          String contactEmail, String contactPhone, String supportEmail,
+                          boolean hadAssociatedLicenses, long associatedLicensesCount,
+                          String deletedAt) implements AuditDetails {
+    }
+}
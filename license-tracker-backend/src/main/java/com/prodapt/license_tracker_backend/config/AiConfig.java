@@ -1,19 +1,30 @@
 
 package com.prodapt.license_tracker_backend.config;
 
+import com.prodapt.license_tracker_backend.ai.BoundedChatMemoryStore;
 import com.prodapt.license_tracker_backend.ai.LicenseTrackerAssistant;
 import com.prodapt.license_tracker_backend.ai.LicenseTrackerTools;
+import com.prodapt.license_tracker_backend.ai.OfflineChatLanguageModel;
+import com.prodapt.license_tracker_backend.ai.OfflineStreamingChatLanguageModel;
+import com.prodapt.license_tracker_backend.ai.RecordContentRetriever;
+import com.prodapt.license_tracker_backend.ai.RecordIndexer;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2.AllMiniLmL6V2EmbeddingModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import dev.langchain4j.model.googleai.GoogleAiGeminiStreamingChatModel;
 import dev.langchain4j.service.AiServices;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
-import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 @Configuration
 @Slf4j
 public class AiConfig {
@@ -21,14 +32,86 @@ public class AiConfig {
     @Value("${gemini.api.key:}")
     private String geminiApiKey;
 
+    // "gemini" or "offline"; offline swaps in a canned-answer model for load tests
+    @Value("${ai.model.provider:gemini}")
+    private String modelProvider;
+
+    @Value("${ai.offline.latency-ms:800}")
+    private long offlineLatencyMs;
+
+    @Value("${ai.offline.first-token-latency-ms:300}")
+    private long offlineFirstTokenLatencyMs;
+
+    @Value("${ai.offline.token-delay-ms:20}")
+    private long offlineTokenDelayMs;
+
+    // Heap budget shared by all cached conversations
+    @Value("${ai.chat.memory.max-bytes:67108864}")
+    private long chatMemoryMaxBytes;
+
+    @Value("${ai.chat.memory.idle-expiry-minutes:120}")
+    private long chatMemoryIdleExpiryMinutes;
+
+    // Empty keeps conversations in memory only
+    @Value("${ai.chat.memory.directory:}")
+    private String chatMemoryDirectory;
+
+    @Value("${ai.chat.memory.retention-days:30}")
+    private long chatMemoryRetentionDays;
+
     @Bean
     public ChatMemoryStore chatMemoryStore() {
-        log.info("Initializing In-Memory Chat Memory Store");
-        return new InMemoryChatMemoryStore();
+        Path directory = chatMemoryDirectory == null || chatMemoryDirectory.isBlank()
+                ? null
+                : Path.of(chatMemoryDirectory);
+
+        log.info("Initializing bounded Chat Memory Store: {} bytes, {} min idle expiry, persisted to {}",
+                chatMemoryMaxBytes, chatMemoryIdleExpiryMinutes, directory != null ? directory.toAbsolutePath() : "memory only");
+        return new BoundedChatMemoryStore(
+                chatMemoryMaxBytes,
+                Duration.ofMinutes(chatMemoryIdleExpiryMinutes),
+                directory,
+                Duration.ofDays(chatMemoryRetentionDays));
     }
 
     @Bean
     public ChatLanguageModel chatLanguageModel() {
+        if (isOffline()) {
+            log.warn("Initializing offline stand-in Chat Model; the assistant will not call Gemini");
+            return new OfflineChatLanguageModel(Duration.ofMillis(offlineLatencyMs));
+        }
+
+        log.info("Initializing Google Gemini Chat Model");
+        return GoogleAiGeminiChatModel.builder()
+                .apiKey(resolveApiKey())
+                .modelName("gemini-2.0-flash-lite")
+                .temperature(0.7)
+                .maxOutputTokens(2048)
+                .build();
+    }
+
+    @Bean
+    public StreamingChatLanguageModel streamingChatLanguageModel() {
+        if (isOffline()) {
+            log.warn("Initializing offline stand-in Streaming Chat Model; the assistant will not call Gemini");
+            return new OfflineStreamingChatLanguageModel(
+                    Duration.ofMillis(offlineFirstTokenLatencyMs), Duration.ofMillis(offlineTokenDelayMs));
+        }
+
+        log.info("Initializing Google Gemini Streaming Chat Model");
+        return GoogleAiGeminiStreamingChatModel.builder()
+                .apiKey(resolveApiKey())
+                .modelName("gemini-2.0-flash-lite")
+                .temperature(0.7)
+                .maxOutputTokens(2048)
+                .build();
+    }
+
+    private boolean isOffline() {
+        return "offline".equalsIgnoreCase(modelProvider);
+    }
+
+    private String resolveApiKey() {
         // Try environment variable first, then application.properties
         String apiKey = geminiApiKey;
         if (apiKey == null || apiKey.trim().isEmpty()) {
@@ -42,32 +125,43 @@ public class AiConfig {
                             "as environment variable 'GEMINI_API_KEY'."
             );
         }
+        return apiKey;
+    }
 
-        log.info("Initializing Google Gemini Chat Model");
-        return GoogleAiGeminiChatModel.builder()
-                .apiKey(apiKey)
-                .modelName("gemini-2.0-flash-lite")
-                .temperature(0.7)
-                .maxOutputTokens(2048)
-                .build();
+    /**
+     * Runs in-process on ONNX Runtime; no text leaves the JVM for embedding
+     */
+    @Bean
+    public EmbeddingModel embeddingModel() {
+        log.info("Initializing in-process all-MiniLM-L6-v2 Embedding Model");
+        return new AllMiniLmL6V2EmbeddingModel();
     }
 
     @Bean
     public LicenseTrackerAssistant licenseTrackerAssistant(
             ChatLanguageModel chatLanguageModel,
+            StreamingChatLanguageModel streamingChatLanguageModel,
             ChatMemoryStore chatMemoryStore,
-            LicenseTrackerTools licenseTrackerTools) {
+            LicenseTrackerTools licenseTrackerTools,
+            RecordIndexer recordIndexer,
+            RecordContentRetriever recordContentRetriever) {
 
         log.info("Building LicenseTrackerAssistant with AI Services");
 
-        return AiServices.builder(LicenseTrackerAssistant.class)
+        AiServices<LicenseTrackerAssistant> builder = AiServices.builder(LicenseTrackerAssistant.class)
                 .chatLanguageModel(chatLanguageModel)
+                .streamingChatLanguageModel(streamingChatLanguageModel)
                 .chatMemoryProvider(chatId -> MessageWindowChatMemory.builder()
                         .chatMemoryStore(chatMemoryStore)
                         .maxMessages(20)
                         .id(chatId)
                         .build())
-                .tools(licenseTrackerTools)
-                .build();
+                .tools(licenseTrackerTools);
+
+        // Relevant records are added to each question; the tools remain for aggregates
+        if (recordIndexer.isEnabled()) {
+            builder.contentRetriever(recordContentRetriever);
+        }
+        return builder.build();
     }
 }
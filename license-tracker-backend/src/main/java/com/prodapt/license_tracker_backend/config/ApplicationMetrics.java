@@ -0,0 +1,144 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.prodapt.license_tracker_backend.dto.BulkUploadResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application-specific meters that Spring Boot does not record on its own. HTTP requests,
+ * repository invocations, @Scheduled run durations, caches and the JVM are instrumented
+ * by Boot; service methods are timed by ServiceMetricsAspect.
+ */
+@Component
+public class ApplicationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger pendingAuditWrites = new AtomicInteger();
+
+    public ApplicationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("audit.writes.pending", pendingAuditWrites, AtomicInteger::get)
+                .description("Audit log writes started but not yet committed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Items a scheduled job went through in one run, e.g. licenses checked or alerts raised
+     */
+    public void recordJobItems(String job, String item, long count) {
+        Counter.builder("scheduler.job.items")
+                .description("Items processed by scheduled jobs")
+                .tag("job", job)
+                .tag("item", item)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void recordBulkUpload(BulkUploadResult result, long elapsedNanos) {
+        Counter.builder("devices.bulk-upload.rows")
+                .description("Rows read from uploaded device CSV files")
+                .tag("outcome", "success")
+                .register(meterRegistry)
+                .increment(result.getSuccessCount());
+        Counter.builder("devices.bulk-upload.rows")
+                .description("Rows read from uploaded device CSV files")
+                .tag("outcome", "failure")
+                .register(meterRegistry)
+                .increment(result.getFailureCount());
+        Timer.builder("devices.bulk-upload.duration")
+                .description("Time to parse, validate and store one uploaded file")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        int rows = result.getSuccessCount() + result.getFailureCount();
+        if (rows > 0 && elapsedNanos > 0) {
+            DistributionSummary.builder("devices.bulk-upload.throughput")
+                    .description("Rows processed per second by one upload")
+                    .baseUnit("rows/s")
+                    .register(meterRegistry)
+                    .record(rows / (elapsedNanos / 1e9));
+        }
+    }
+
+    public void auditWriteStarted() {
+        pendingAuditWrites.incrementAndGet();
+    }
+
+    public void auditWriteFinished() {
+        pendingAuditWrites.decrementAndGet();
+    }
+
+    /**
+     * One AI tool call; cache is hit, miss, joined (waited for an identical call in flight)
+     * or disabled
+     */
+    public void recordToolCall(String tool, String cache, boolean success, long elapsedNanos) {
+        Timer.builder("ai.tool.calls")
+                .description("AI assistant tool calls, including answers served from the tool result cache")
+                .tag("tool", tool)
+                .tag("cache", cache)
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * One assistant answer from the model, including the tool calls it made; mode is
+     * blocking or streaming
+     */
+    public void recordModelResponse(String mode, boolean success, long elapsedNanos) {
+        Timer.builder("ai.model.response")
+                .description("Time for the language model to produce a complete answer")
+                .tag("mode", mode)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFirstToken(long elapsedNanos) {
+        Timer.builder("ai.model.first-token")
+                .description("Time until the first streamed token of an answer")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * SQL Hibernate ran for one HTTP request; uri is the matched route pattern
+     */
+    public void recordRequestStatements(String method, String uri, int statements, long executionNanos) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run while handling one request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("http.server.requests.sql.time")
+                .description("JDBC execution time spent while handling one request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(executionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Requests that ran the same statement shape often enough to look like an N+1 query
+     */
+    public void recordNPlusOneSuspect(String method, String uri) {
+        Counter.builder("http.server.requests.sql.n-plus-one")
+                .description("Requests that repeated one SQL statement shape past the N+1 threshold")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,55 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+
+    // Caffeine specs, e.g. "maximumSize=500,expireAfterWrite=10m"
+    @Value("${reference-cache.vendors:maximumSize=500,expireAfterWrite=10m}")
+    private String vendorsSpec;
+
+    @Value("${reference-cache.licenses-by-key:maximumSize=10000,expireAfterWrite=5m}")
+    private String licensesByKeySpec;
+
+    @Value("${reference-cache.devices-by-device-id:maximumSize=20000,expireAfterWrite=5m}")
+    private String devicesByDeviceIdSpec;
+
+    // Lifetime of cached AI tool results, in seconds
+    @Value("${langchain.cache.ttl:3600}")
+    private long toolResultTtlSeconds;
+
+    @Value("${langchain.cache.max-entries:1000}")
+    private long toolResultMaxEntries;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+
+        register(caffeineCacheManager, CacheNames.VENDORS, vendorsSpec);
+        register(caffeineCacheManager, CacheNames.LICENSES_BY_KEY, licensesByKeySpec);
+        register(caffeineCacheManager, CacheNames.DEVICES_BY_DEVICE_ID, devicesByDeviceIdSpec);
+        register(caffeineCacheManager, CacheNames.AI_TOOL_RESULTS,
+                "maximumSize=" + toolResultMaxEntries + ",expireAfterWrite=" + toolResultTtlSeconds + "s");
+
+        // Defer evictions made inside a transaction until it commits
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private void register(CaffeineCacheManager cacheManager, String name, String spec) {
+        log.info("Registering cache '{}' with spec [{}]", name, spec);
+        cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public DatabasePoolMetrics databasePoolMetrics() {
+        return new DatabasePoolMetrics();
+    }
+
+    /**
+     * Attaches the pool metrics to Hikari before the pool starts; static so it does not
+     * force early initialization of this configuration class. Hikari accepts one tracker,
+     * which keeps Spring Boot from adding its own, so the standard hikaricp.* meters are
+     * fed through ours.
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<DatabasePoolMetrics> databasePoolMetrics,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                    DatabasePoolMetrics metrics = databasePoolMetrics.getObject();
+                    meterRegistry.ifAvailable(registry -> metrics.forwardTo(new MicrometerMetricsTrackerFactory(registry)));
+                    hikari.setMetricsTrackerFactory(metrics);
+                }
+                return bean;
+            }
+        };
+    }
+}
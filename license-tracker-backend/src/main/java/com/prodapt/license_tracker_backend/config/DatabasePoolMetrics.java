@@ -0,0 +1,190 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool occupancy and connection acquisition timings, recorded by Hikari
+ * through its metrics tracker hook. Acquisition times go into a fixed set of latency
+ * buckets, so a saturated pool is visible as a shift towards the slow buckets well
+ * before requests start failing with connection timeouts. Events can also be forwarded
+ * to a second tracker, such as Hikari's Micrometer tracker, since a pool takes only one.
+ */
+@Slf4j
+public class DatabasePoolMetrics implements MetricsTrackerFactory {
+
+    // Upper bounds of the acquisition time buckets, in milliseconds
+    private static final long[] ACQUIRE_BUCKETS_MS = {1, 5, 10, 50, 100, 500, 1000, 5000};
+    private static final long TIMEOUT_LOG_INTERVAL_MS = 10_000;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder[] acquireBuckets = newAdders(ACQUIRE_BUCKETS_MS.length + 1);
+    private final LongAdder usages = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final AtomicLong maxUsageMillis = new AtomicLong();
+    private final LongAdder connectionsCreated = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicLong lastTimeoutLog = new AtomicLong();
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+    private volatile MetricsTrackerFactory forwardTo;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        MetricsTrackerFactory forward = forwardTo;
+        return new Tracker(forward != null ? forward.create(poolName, poolStats) : null);
+    }
+
+    /**
+     * Passes every pool event on to trackers from this factory too; call before the pool starts
+     */
+    public void forwardTo(MetricsTrackerFactory factory) {
+        this.forwardTo = factory;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        PoolStats stats = poolStats;
+        snapshot.put("pool", poolName);
+        if (stats != null) {
+            snapshot.put("active", stats.getActiveConnections());
+            snapshot.put("idle", stats.getIdleConnections());
+            snapshot.put("total", stats.getTotalConnections());
+            snapshot.put("pending", stats.getPendingThreads());
+            snapshot.put("max", stats.getMaxConnections());
+            snapshot.put("min", stats.getMinConnections());
+        }
+
+        long acquired = acquisitions.sum();
+        Map<String, Object> acquire = new LinkedHashMap<>();
+        acquire.put("count", acquired);
+        acquire.put("avgMs", acquired == 0 ? 0.0 : nanosToMillis(acquireNanos.sum()) / acquired);
+        acquire.put("maxMs", nanosToMillis(maxAcquireNanos.get()));
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < ACQUIRE_BUCKETS_MS.length; i++) {
+            buckets.put("le" + ACQUIRE_BUCKETS_MS[i] + "ms", acquireBuckets[i].sum());
+        }
+        buckets.put("gt" + ACQUIRE_BUCKETS_MS[ACQUIRE_BUCKETS_MS.length - 1] + "ms",
+                acquireBuckets[ACQUIRE_BUCKETS_MS.length].sum());
+        acquire.put("buckets", buckets);
+        snapshot.put("acquire", acquire);
+
+        long used = usages.sum();
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("count", used);
+        usage.put("avgMs", used == 0 ? 0.0 : (double) usageMillis.sum() / used);
+        usage.put("maxMs", maxUsageMillis.get());
+        snapshot.put("usage", usage);
+
+        snapshot.put("connectionsCreated", connectionsCreated.sum());
+        snapshot.put("timeouts", timeouts.sum());
+        return snapshot;
+    }
+
+    private void recordTimeout() {
+        timeouts.increment();
+
+        // Exhaustion arrives in bursts; one line per interval is enough to spot it
+        long now = System.currentTimeMillis();
+        long last = lastTimeoutLog.get();
+        if (now - last >= TIMEOUT_LOG_INTERVAL_MS && lastTimeoutLog.compareAndSet(last, now)) {
+            PoolStats stats = poolStats;
+            log.warn("Connection pool {} exhausted: {} timeouts so far, active={}, pending={}, max={}",
+                    poolName, timeouts.sum(),
+                    stats != null ? stats.getActiveConnections() : -1,
+                    stats != null ? stats.getPendingThreads() : -1,
+                    stats != null ? stats.getMaxConnections() : -1);
+        }
+    }
+
+    private static int bucketFor(long millis) {
+        for (int i = 0; i < ACQUIRE_BUCKETS_MS.length; i++) {
+            if (millis <= ACQUIRE_BUCKETS_MS[i]) {
+                return i;
+            }
+        }
+        return ACQUIRE_BUCKETS_MS.length;
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        private final IMetricsTracker forward;
+
+        private Tracker(IMetricsTracker forward) {
+            this.forward = forward;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            connectionsCreated.increment();
+            if (forward != null) {
+                forward.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitions.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            acquireBuckets[bucketFor(TimeUnit.NANOSECONDS.toMillis(elapsedAcquiredNanos))].increment();
+            if (forward != null) {
+                forward.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+            maxUsageMillis.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+            if (forward != null) {
+                forward.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            recordTimeout();
+            if (forward != null) {
+                forward.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (forward != null) {
+                forward.close();
+            }
+        }
+    }
+}
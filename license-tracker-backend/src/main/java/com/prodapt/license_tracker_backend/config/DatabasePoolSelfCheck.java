@@ -0,0 +1,137 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates the connection pool against the database server and the concurrency the
+ * application is expected to run at. Problems that make connections fail at runtime
+ * (more connections than the server allows, connections outliving the server's idle
+ * timeout) are errors and stop startup when datasource.self-check.fail-on-error is set;
+ * sizing mismatches are logged as warnings.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabasePoolSelfCheck implements ApplicationRunner {
+
+    // Leaves room for other clients, migrations and admin sessions on the server
+    private static final double MAX_SHARE_OF_SERVER_CONNECTIONS = 0.8;
+
+    private final DataSource dataSource;
+    private final Environment environment;
+
+    @Value("${datasource.self-check.enabled:true}")
+    private boolean enabled;
+
+    @Value("${datasource.self-check.fail-on-error:false}")
+    private boolean failOnError;
+
+    // Peak number of requests and jobs expected to use the database at the same time
+    @Value("${datasource.self-check.expected-concurrency:20}")
+    private int expectedConcurrency;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int tomcatMaxThreads;
+
+    @Value("${spring.datasource.url:}")
+    private String jdbcUrl;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                log.info("Connection pool self-check skipped: data source is not a Hikari pool");
+                return;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            log.warn("Connection pool self-check skipped: {}", e.getMessage());
+            return;
+        }
+
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        checkAgainstServer(hikari, errors, warnings);
+        checkSizing(hikari, warnings);
+        checkDriverSettings(hikari, warnings);
+
+        log.info("Connection pool {}: maximumPoolSize={}, minimumIdle={}, connectionTimeout={} ms, maxLifetime={} ms, " +
+                        "leakDetectionThreshold={} ms, expected concurrency={}",
+                hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                hikari.getConnectionTimeout(), hikari.getMaxLifetime(), hikari.getLeakDetectionThreshold(),
+                expectedConcurrency);
+        warnings.forEach(warning -> log.warn("Connection pool self-check: {}", warning));
+        errors.forEach(error -> log.error("Connection pool self-check: {}", error));
+
+        if (!errors.isEmpty() && failOnError) {
+            throw new IllegalStateException("Connection pool self-check failed: " + String.join("; ", errors));
+        }
+    }
+
+    private void checkAgainstServer(HikariDataSource hikari, List<String> errors, List<String> warnings) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            Integer maxConnections = jdbcTemplate.queryForObject("SELECT @@max_connections", Integer.class);
+            Integer waitTimeoutSeconds = jdbcTemplate.queryForObject("SELECT @@wait_timeout", Integer.class);
+
+            if (maxConnections != null && hikari.getMaximumPoolSize() > maxConnections * MAX_SHARE_OF_SERVER_CONNECTIONS) {
+                errors.add("maximumPoolSize " + hikari.getMaximumPoolSize() + " uses more than "
+                        + (int) (MAX_SHARE_OF_SERVER_CONNECTIONS * 100) + "% of the server's max_connections " + maxConnections);
+            }
+            if (waitTimeoutSeconds != null && hikari.getMaxLifetime() >= waitTimeoutSeconds * 1000L) {
+                errors.add("maxLifetime " + hikari.getMaxLifetime() + " ms is not below the server's wait_timeout of "
+                        + waitTimeoutSeconds + " s; the server will close connections the pool still considers valid");
+            }
+        } catch (Exception e) {
+            warnings.add("could not read server connection limits: " + e.getMessage());
+        }
+    }
+
+    private void checkSizing(HikariDataSource hikari, List<String> warnings) {
+        int poolSize = hikari.getMaximumPoolSize();
+        if (poolSize < expectedConcurrency) {
+            warnings.add("maximumPoolSize " + poolSize + " is below the expected concurrency of " + expectedConcurrency
+                    + "; requests beyond it wait up to " + hikari.getConnectionTimeout() + " ms for a connection");
+        }
+
+        // On platform threads no more than one connection per request thread can ever be in use
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        if (!virtualThreads && poolSize > tomcatMaxThreads) {
+            warnings.add("maximumPoolSize " + poolSize + " exceeds server.tomcat.threads.max " + tomcatMaxThreads
+                    + "; the extra connections stay idle");
+        }
+
+        Long asyncTimeout = environment.getProperty("spring.mvc.async.request-timeout", Long.class);
+        if (asyncTimeout != null && hikari.getConnectionTimeout() >= asyncTimeout) {
+            warnings.add("connectionTimeout " + hikari.getConnectionTimeout() + " ms is not shorter than the "
+                    + asyncTimeout + " ms request timeout, so pool exhaustion surfaces as request timeouts");
+        }
+    }
+
+    private void checkDriverSettings(HikariDataSource hikari, List<String> warnings) {
+        String rewriteBatched = hikari.getDataSourceProperties().getProperty("rewriteBatchedStatements");
+        boolean inUrl = jdbcUrl != null && jdbcUrl.contains("rewriteBatchedStatements=true");
+        if (!inUrl && !"true".equalsIgnoreCase(rewriteBatched)) {
+            warnings.add("rewriteBatchedStatements is not enabled; batched inserts are sent to MySQL one row at a time");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedIdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops startup when id.generator.require-node is set and no ID_GENERATOR_NODE was given.
+ * Instances left on the default node 0 can issue the same id in the same millisecond,
+ * which only shows up later as duplicate key errors.
+ */
+@Component
+@Slf4j
+public class IdGeneratorNodeCheck {
+
+    private final boolean requireNode;
+
+    public IdGeneratorNodeCheck(@Value("${id.generator.require-node:false}") boolean requireNode) {
+        this.requireNode = requireNode;
+    }
+
+    @PostConstruct
+    void check() {
+        if (TimeOrderedIdGenerator.isNodeConfigured()) {
+            return;
+        }
+        if (requireNode) {
+            throw new IllegalStateException("ID_GENERATOR_NODE (or -Did.generator.node) must be set to a value "
+                    + "between 0 and 15 that is unique per instance");
+        }
+        log.info("ID_GENERATOR_NODE not set; using node 0 for generated ids");
+    }
+}
@@ -0,0 +1,89 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.prodapt.license_tracker_backend.ai.ChatConcurrencyLimiter;
+import com.prodapt.license_tracker_backend.ai.RecordIndexer;
+import com.prodapt.license_tracker_backend.ai.SemanticAnswerCache;
+import com.prodapt.license_tracker_backend.monitoring.SlowRequestLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Publishes the statistics components already keep for their admin endpoints as
+ * meters, so they can be scraped and graphed alongside the request metrics
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder chatConcurrencyMetrics(ChatConcurrencyLimiter chatConcurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("ai.chat.active", chatConcurrencyLimiter, ChatConcurrencyLimiter::getActiveCalls)
+                    .description("Model calls holding a concurrency slot")
+                    .register(registry);
+            Gauge.builder("ai.chat.waiting", chatConcurrencyLimiter, ChatConcurrencyLimiter::getWaiting)
+                    .description("Chat requests waiting for a concurrency slot")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder semanticAnswerCacheMetrics(SemanticAnswerCache semanticAnswerCache) {
+        return registry -> {
+            Gauge.builder("ai.semantic-cache.size", semanticAnswerCache, cache -> statistic(cache.getStatistics(), "size"))
+                    .description("Answers held in the semantic answer cache")
+                    .register(registry);
+            FunctionCounter.builder("ai.semantic-cache.requests", semanticAnswerCache,
+                            cache -> statistic(cache.getStatistics(), "hits"))
+                    .description("Questions looked up in the semantic answer cache")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("ai.semantic-cache.requests", semanticAnswerCache,
+                            cache -> statistic(cache.getStatistics(), "misses"))
+                    .description("Questions looked up in the semantic answer cache")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder recordIndexMetrics(RecordIndexer recordIndexer) {
+        return registry -> {
+            Gauge.builder("ai.record-index.records", recordIndexer, indexer -> statistic(indexer.getStatistics(), "records"))
+                    .description("Records in the assistant's keyword index")
+                    .register(registry);
+            Gauge.builder("ai.record-index.pending", recordIndexer, indexer -> statistic(indexer.getStatistics(), "pendingUpdates"))
+                    .description("Changed records waiting to be re-indexed")
+                    .register(registry);
+            Gauge.builder("ai.record-index.last-build", recordIndexer, indexer -> statistic(indexer.getStatistics(), "lastBuildMillis"))
+                    .description("Duration of the last full index build")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder virtualThreadMetrics(VirtualThreadDiagnostics virtualThreadDiagnostics) {
+        return registry -> FunctionCounter.builder("jvm.threads.virtual.pinned", virtualThreadDiagnostics,
+                        VirtualThreadDiagnostics::getPinnedCount)
+                .description("Virtual threads pinned to their carrier longer than the diagnostics threshold")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder slowRequestMetrics(SlowRequestLog slowRequestLog) {
+        return registry -> FunctionCounter.builder("http.server.requests.slow", slowRequestLog,
+                        SlowRequestLog::getRecordedCount)
+                .description("Requests slower than the tracing threshold, sampled into the slow request log")
+                .register(registry);
+    }
+
+    private static double statistic(Map<String, Object> statistics, String key) {
+        Object value = statistics.get(key);
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.core.instrument.search.Search;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hit, miss, put and eviction counts of the Hibernate second-level cache regions, read from
+ * the statistics Ehcache keeps per JCache cache (enable-statistics in ehcache.xml) rather
+ * than from Hibernate statistics, which stay off outside the tests that need them. Regions
+ * are published as the standard cache.* meters tagged cache.manager=hibernate.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_MANAGER_TAG = "hibernate";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            log.info("Second-level cache regions are not JCache caches; not publishing region metrics");
+            return;
+        }
+
+        CacheManager cacheManager = jcache.getCacheManager();
+        for (String region : CacheNames.HIBERNATE_REGIONS) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache != null) {
+                new JCacheMetrics<>(cache, Tags.of("cache.manager", CACHE_MANAGER_TAG)).bindTo(registry);
+            }
+        }
+        meterRegistry = registry;
+    }
+
+    /**
+     * Current counts per region, prefixed with "hibernate:"
+     */
+    public Map<String, Map<String, Object>> getRegionStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return statistics;
+        }
+
+        for (String region : CacheNames.HIBERNATE_REGIONS) {
+            if (find(registry, "cache.puts", region).meter() == null) {
+                continue;
+            }
+
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hits", count(find(registry, "cache.gets", region).tag("result", "hit").meter()));
+            regionStats.put("misses", count(find(registry, "cache.gets", region).tag("result", "miss").meter()));
+            regionStats.put("puts", count(find(registry, "cache.puts", region).meter()));
+            regionStats.put("evictions", count(find(registry, "cache.evictions", region).meter()));
+            statistics.put("hibernate:" + region, regionStats);
+        }
+        return statistics;
+    }
+
+    private static Search find(MeterRegistry registry, String name, String region) {
+        return registry.find(name).tag("cache.manager", CACHE_MANAGER_TAG).tag("cache", region);
+    }
+
+    private static long count(Meter meter) {
+        if (meter == null) {
+            return 0;
+        }
+        double value = meter.measure().iterator().next().getValue();
+        return Double.isNaN(value) ? 0 : (long) value;
+    }
+}
@@ -1,10 +1,16 @@
 package com.prodapt.license_tracker_backend.config;
 
 import com.prodapt.license_tracker_backend.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,6 +35,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -37,6 +49,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async result dispatches (streamed chat) belong to an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers(
                                 "/api/auth/**",
@@ -45,6 +60,14 @@ public class SecurityConfig {
                                 "/swagger-ui.html"
                         ).permitAll()
 
+                        // Health checks are public; metrics can only be scraped without a token on a separate
+                        // management port (the prod profile), so they never leak through the API port
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/prometheus").access(AuthorizationManagers.anyOf(
+                                (authentication, context) -> new AuthorizationDecision(onManagementPort(context.getRequest())),
+                                AuthorityAuthorizationManager.hasRole("ADMIN")))
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // User Management - Admin only
                         .requestMatchers("/api/users/**").hasAnyRole("ADMIN","SECURITY_HEAD")
 
@@ -59,6 +82,8 @@ public class SecurityConfig {
                         // Dashboard/Reports - All authenticated users
                         .requestMatchers("/api/dashboard/**").authenticated()
                         .requestMatchers("/api/reports/**").authenticated()
+                        .requestMatchers("/api/trends/**").authenticated()
+                        .requestMatchers("/api/forecasts/**").hasAnyRole("ADMIN", "PROCUREMENT_OFFICER", "PROCUREMENT_LEAD")
                         .requestMatchers("/api/alerts/**").hasAnyRole(
                                 "ADMIN", "NETWORK_ADMIN", "PROCUREMENT_OFFICER",
                                 "COMPLIANCE_OFFICER", "OPERATIONS_MANAGER"
@@ -71,6 +96,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/audit-logs/**").hasAnyRole("ADMIN", "SECURITY_HEAD", "IT_AUDITOR")
                         .requestMatchers("/api/ai/chat/**").hasAnyRole("ADMIN","COMPLIANCE_OFFICER","IT_AUDITOR","COMPLIANCE_LEAD","PROCUREMENT_LEAD","PRODUCT_OWNER")
                         .requestMatchers("/api/software-versions/**").hasAnyRole("ADMIN","OPERATIONS_MANAGER","NETWORK_ENGINEER")
+                        .requestMatchers("/api/software-catalog/**").hasAnyRole("ADMIN","OPERATIONS_MANAGER","NETWORK_ENGINEER")
+                        .requestMatchers("/api/cache/**").hasRole("ADMIN")
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
@@ -123,6 +150,10 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    private boolean onManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -0,0 +1,133 @@
+package com.prodapt.license_tracker_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reports the threading mode at startup and, when virtual threads are active, watches for
+ * pinning: a virtual thread blocking inside a synchronized block or native frame holds its
+ * carrier thread, which under load starves every other request. Pinned episodes longer
+ * than the threshold are logged with the application frame that caused them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadDiagnostics {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.prodapt.";
+    private static final long SLOW_CONNECTION_TIMEOUT_MS = 10_000;
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    @Value("${diagnostics.virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream pinnedEvents;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode() {
+        if (!virtualThreadsRequested) {
+            log.info("Threading mode: platform threads");
+            return;
+        }
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            log.warn("spring.threads.virtual.enabled is set, but Java {} has no virtual threads; " +
+                    "running on platform threads (Java 21+ required)", Runtime.version().feature());
+            return;
+        }
+
+        log.info("Threading mode: virtual threads for Tomcat requests, @Scheduled tasks and chat execution");
+        reportPoolSizing();
+        startPinningMonitor();
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (pinnedEvents != null) {
+            pinnedEvents.close();
+        }
+    }
+
+    // With no request thread limit, the connection pool becomes the concurrency bound for database work
+    private void reportPoolSizing() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            log.info("Database concurrency is bounded by the connection pool: maximumPoolSize={}, connectionTimeout={} ms",
+                    hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            if (hikari.getConnectionTimeout() > SLOW_CONNECTION_TIMEOUT_MS) {
+                log.warn("Requests queue on the connection pool for up to {} ms under virtual threads; " +
+                        "consider a shorter spring.datasource.hikari.connection-timeout", hikari.getConnectionTimeout());
+            }
+        } catch (SQLException e) {
+            log.debug("Could not inspect the connection pool: {}", e.getMessage());
+        }
+    }
+
+    private void startPinningMonitor() {
+        pinnedEvents = new RecordingStream();
+        pinnedEvents.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                .withStackTrace();
+        pinnedEvents.onEvent(PINNED_EVENT, this::onPinned);
+        pinnedEvents.startAsync();
+        log.info("Watching for virtual threads pinned longer than {} ms", pinnedThresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), describeSource(event));
+    }
+
+    // The innermost application frame, followed by the frames that actually blocked
+    private static String describeSource(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown location";
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String blocking = frames.stream()
+                .limit(3)
+                .map(VirtualThreadDiagnostics::describeFrame)
+                .collect(Collectors.joining(" <- "));
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> describeFrame(frame) + " (blocked in " + blocking + ")")
+                .orElse(blocking);
+    }
+
+    private static String describeFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,32 @@
+package com.prodapt.license_tracker_backend.constants;
+
+/**
+ * Names of the in-process reference data caches
+ */
+public final class CacheNames {
+
+    private CacheNames() {
+        throw new AssertionError("Cannot instantiate constants class");
+    }
+
+    public static final String VENDORS = "vendors";
+    public static final String LICENSES_BY_KEY = "licensesByKey";
+    public static final String DEVICES_BY_DEVICE_ID = "devicesByDeviceId";
+
+    // Rendered AI assistant tool results, keyed by tool, arguments and date
+    public static final String AI_TOOL_RESULTS = "aiToolResults";
+
+    // Key under which the full vendor list is stored in the vendors cache
+    public static final String ALL_VENDORS_KEY = "'all'";
+
+    // Hibernate second-level cache regions, sized and expired in ehcache.xml
+    public static final String VENDOR_REGION = "entity.vendor";
+    public static final String USER_REGION = "entity.user";
+    public static final String LICENSE_REGION = "entity.license";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    public static final String[] HIBERNATE_REGIONS = {
+            VENDOR_REGION, USER_REGION, LICENSE_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION
+    };
+}
@@ -73,9 +73,11 @@ public final class DeviceConstants {
         public static final String GET_USER_INFO_ERROR = "Error getting current user info";
         public static final String FETCH_USER_ID_ERROR = "Could not fetch user ID for username: {}";
         public static final String AUDIT_LOG_FAILED_DEVICE = "Failed to create audit log for device: {}";
+        public static final String AUDIT_LOG_FAILED_NOT_LISTED = "Audit log failed for {} further device(s) in the upload, not logged individually";
 
         // Success Messages
         public static final String LICENSE_AUTO_REVOKED = "License {} auto-revoked from device {}";
+        public static final String AUTO_REVOKED_NOT_LISTED = "{} further license(s) auto-revoked from device {}, not logged individually";
         public static final String ALL_LICENSES_REVOKED = "Successfully auto-revoked all licenses for device: {}";
 
         // Error Messages
@@ -1,5 +1,11 @@
 package com.prodapt.license_tracker_backend.controller;
 
+import com.prodapt.license_tracker_backend.config.DatabasePoolMetrics;
+import com.prodapt.license_tracker_backend.dto.SlowRequestResponse;
+import com.prodapt.license_tracker_backend.monitoring.SlowRequestLog;
+import com.prodapt.license_tracker_backend.scheduler.AuditRetentionScheduler;
+import com.prodapt.license_tracker_backend.scheduler.RenewalRollupScheduler;
+import com.prodapt.license_tracker_backend.scheduler.UsageSnapshotScheduler;
 import com.prodapt.license_tracker_backend.scheduler.LicenseExpiryScheduler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -7,11 +13,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,6 +31,11 @@ import java.util.Map;
 public class AdminController {
 
     private final LicenseExpiryScheduler licenseExpiryScheduler;
+    private final DatabasePoolMetrics databasePoolMetrics;
+    private final SlowRequestLog slowRequestLog;
+    private final AuditRetentionScheduler auditRetentionScheduler;
+    private final UsageSnapshotScheduler usageSnapshotScheduler;
+    private final RenewalRollupScheduler renewalRollupScheduler;
 
     @Operation(summary = "Manually trigger license expiry check",
             description = "Check and deactivate expired licenses immediately (Admin only)")
@@ -36,4 +50,71 @@ public class AdminController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Manually trigger audit log retention",
+            description = "Archive and remove audit log months older than audit.retention.months immediately (Admin only)")
+    @PostMapping("/audit-retention")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> applyAuditRetention() {
+        auditRetentionScheduler.applyRetentionManually();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Audit log retention completed successfully");
+        response.put("timestamp", java.time.LocalDateTime.now().toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Manually take the usage snapshot",
+            description = "Record today's license usage for the trend endpoints, replacing an earlier snapshot of today (Admin only)")
+    @PostMapping("/usage-snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> takeUsageSnapshot() {
+        int licenses = usageSnapshotScheduler.takeSnapshotManually();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Usage snapshot of " + licenses + " license(s) completed successfully");
+        response.put("timestamp", java.time.LocalDateTime.now().toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Manually rebuild the renewal rollup",
+            description = "Recompute the monthly renewal cost rollup behind the forecasts from the licenses (Admin only)")
+    @PostMapping("/renewal-rollup")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> rebuildRenewalRollup() {
+        int rows = renewalRollupScheduler.rebuildManually();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Renewal rollup rebuilt successfully with " + rows + " row(s)");
+        response.put("timestamp", java.time.LocalDateTime.now().toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get database connection pool metrics",
+            description = "Active, idle and pending connections, acquisition times and timeouts (Admin only)")
+    @GetMapping("/db-pool")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDatabasePoolMetrics() {
+        return ResponseEntity.ok(databasePoolMetrics.snapshot());
+    }
+
+    @Operation(summary = "Get recent slow requests",
+            description = "Requests slower than diagnostics.tracing.slow-threshold-ms, newest first, " +
+                    "with their controller, service, repository and AI spans (Admin only)")
+    @GetMapping("/slow-requests")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SlowRequestResponse>> getSlowRequests() {
+        return ResponseEntity.ok(slowRequestLog.recent());
+    }
+
+    @Operation(summary = "Clear recorded slow requests", description = "Empty the slow request buffer (Admin only)")
+    @DeleteMapping("/slow-requests")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> clearSlowRequests() {
+        slowRequestLog.clear();
+        return ResponseEntity.noContent().build();
+    }
 }
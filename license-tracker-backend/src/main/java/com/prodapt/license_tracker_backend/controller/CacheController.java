@@ -0,0 +1,35 @@
+package com.prodapt.license_tracker_backend.controller;
+
+
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Reference data cache APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheController {
+
+    private final ReferenceCacheService referenceCacheService;
+
+    @Operation(summary = "Get cache statistics", description = "Size, hit and miss counts for each reference cache")
+    @GetMapping("/statistics")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStatistics() {
+        return ResponseEntity.ok(referenceCacheService.getStatistics());
+    }
+
+    @Operation(summary = "Clear caches", description = "Drop every entry from the reference caches")
+    @DeleteMapping
+    public ResponseEntity<Void> clearAll() {
+        referenceCacheService.clearAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,16 +1,21 @@
 package com.prodapt.license_tracker_backend.controller;
 
-import com.prodapt.license_tracker_backend.ai.LicenseTrackerAssistant;
+import com.prodapt.license_tracker_backend.ai.AssistantChatService;
 import com.prodapt.license_tracker_backend.dto.ChatRequestDto;
 import com.prodapt.license_tracker_backend.dto.ChatResponseDto;
-import com.prodapt.license_tracker_backend.entities.User;
+import com.prodapt.license_tracker_backend.exception.ChatCapacityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/ai/chat")
@@ -19,44 +24,91 @@ import org.springframework.web.bind.annotation.*;
 @PreAuthorize("hasAnyRole('ADMIN', 'COMPLIANCE_OFFICER', 'PROCUREMENT_OFFICER', 'IT_AUDITOR', 'COMPLIANCE_LEAD', 'PROCUREMENT_LEAD', 'PRODUCT_OWNER')")
 public class ChatController {
 
-    private final LicenseTrackerAssistant licenseTrackerAssistant;
+    private final AssistantChatService assistantChatService;
 
     @PostMapping("/message")
-    public ResponseEntity<ChatResponseDto> sendMessage(@RequestBody ChatRequestDto request) {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    public CompletableFuture<ResponseEntity<ChatResponseDto>> sendMessage(@RequestBody ChatRequestDto request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body(
+                    new ChatResponseDto("Please log in to use the AI assistant.", null)
+            ));
+        }
+
+        String username = authentication.getName();
+        String chatId = assistantChatService.chatIdFor(username);
 
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return ResponseEntity.status(401).body(
-                        new ChatResponseDto("Please log in to use the AI assistant.", null)
-                );
-            }
+        log.info("Processing chat message for user: {}, chatId: {}", username, chatId);
 
-            String username = authentication.getName();
-            String chatId = "user-" + username;
+        // The servlet thread is released while the model call runs on the chat pool
+        return assistantChatService.chat(username, request.getMessage())
+                .thenApply(response -> {
+                    log.info("AI response generated for chatId: {}", chatId);
+                    return ResponseEntity.ok(new ChatResponseDto(response, chatId));
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof ChatCapacityException) {
+                        log.warn("Chat request rejected for chatId {}: {}", chatId, cause.getMessage());
+                        return ResponseEntity.status(429).body(new ChatResponseDto(cause.getMessage(), null));
+                    }
+                    log.error("Error processing chat message", cause);
+                    return ResponseEntity.status(500).body(
+                            new ChatResponseDto("Sorry, I encountered an error. Please try again.", null)
+                    );
+                });
+    }
+
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessage(@RequestBody ChatRequestDto request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            log.info("Processing chat message for user: {}, chatId: {}", username, chatId);
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
 
-            // Call AI Assistant
-            String response = licenseTrackerAssistant.chat(chatId, request.getMessage());
+        String username = authentication.getName();
+        log.info("Streaming chat message for user: {}", username);
+
+        return ResponseEntity.ok(assistantChatService.stream(username, request.getMessage()));
+    }
 
-            log.info("AI response generated for chatId: {}", chatId);
+    @DeleteMapping("/history")
+    public ResponseEntity<Void> clearOwnChatHistory() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            return ResponseEntity.ok(new ChatResponseDto(response, chatId));
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
 
+        try {
+            assistantChatService.clearHistory(assistantChatService.chatIdFor(authentication.getName()));
+            return ResponseEntity.ok().build();
         } catch (Exception e) {
-            log.error("Error processing chat message", e);
-            return ResponseEntity.status(500).body(
-                    new ChatResponseDto("Sorry, I encountered an error. Please try again.", null)
-            );
+            log.error("Error clearing chat history", e);
+            return ResponseEntity.status(500).build();
         }
     }
 
     @DeleteMapping("/clear/{chatId}")
     public ResponseEntity<Void> clearChatHistory(@PathVariable String chatId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(401).build();
+        }
+
+        // Users may only clear their own conversation; admins may clear any
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!isAdmin && !chatId.equals(assistantChatService.chatIdFor(authentication.getName()))) {
+            log.warn("User {} attempted to clear chat history of {}", authentication.getName(), chatId);
+            return ResponseEntity.status(403).build();
+        }
+
         try {
-            log.info("Chat history clear requested for chatId: {}", chatId);
-            // Note: InMemoryChatMemoryStore automatically manages memory
+            assistantChatService.clearHistory(chatId);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.error("Error clearing chat history", e);
@@ -0,0 +1,47 @@
+package com.prodapt.license_tracker_backend.controller;
+
+import com.prodapt.license_tracker_backend.analytics.RenewalScenario;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastResponse;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.service.RenewalForecastService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/forecasts")
+@RequiredArgsConstructor
+@Tag(name = "Forecasts", description = "Procurement forecasting APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class ForecastController {
+
+    private final RenewalForecastService renewalForecastService;
+
+    @Operation(summary = "Get renewal cost forecast",
+            description = "Licenses due for renewal and their cost by month, vendor, region and license type, " +
+                    "optionally with a price uplift and consolidation applied; defaults to the next 12 months")
+    @GetMapping("/renewals")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROCUREMENT_OFFICER', 'PROCUREMENT_LEAD')")
+    public ResponseEntity<RenewalForecastResponse> getRenewalForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BigDecimal priceUpliftPercent,
+            @RequestParam(required = false) BigDecimal consolidationPercent,
+            @RequestParam(required = false) Long consolidationVendorId,
+            @RequestParam(required = false) LicenseType consolidationLicenseType) {
+
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusMonths(12).minusDays(1);
+        RenewalScenario scenario = new RenewalScenario(priceUpliftPercent, consolidationPercent,
+                consolidationVendorId, consolidationLicenseType);
+        return ResponseEntity.ok(renewalForecastService.getForecast(start, end, scenario));
+    }
+}
@@ -9,6 +9,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -82,6 +86,19 @@ public class LicenseAssignmentController {
         return ResponseEntity.ok(assignments);
     }
 
+    @Operation(summary = "Get active assignments (paginated)",
+            description = "Page through active license assignments without loading the full set")
+    @GetMapping("/active")
+    public ResponseEntity<Page<AssignmentResponse>> getActiveAssignments(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sortBy) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
+        Page<AssignmentResponse> assignments = assignmentService.getActiveAssignments(pageable);
+        return ResponseEntity.ok(assignments);
+    }
+
     @Operation(summary = "Get assignment by ID",
             description = "Get specific assignment details by ID")
     @GetMapping("/{id}")
@@ -0,0 +1,44 @@
+package com.prodapt.license_tracker_backend.controller;
+
+
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogRequest;
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogResponse;
+import com.prodapt.license_tracker_backend.service.SoftwareCatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/software-catalog")
+@RequiredArgsConstructor
+@Tag(name = "Software Catalog", description = "Vendor release catalog APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class SoftwareCatalogController {
+
+    private final SoftwareCatalogService softwareCatalogService;
+
+    @Operation(summary = "Get catalog entries", description = "Retrieve the latest known release of every tracked product")
+    @GetMapping
+    public ResponseEntity<List<SoftwareCatalogResponse>> getAllCatalogEntries() {
+        return ResponseEntity.ok(softwareCatalogService.getAllCatalogEntries());
+    }
+
+    @Operation(summary = "Get catalog entry", description = "Retrieve the latest known release of a product")
+    @GetMapping("/{softwareName}")
+    public ResponseEntity<SoftwareCatalogResponse> getCatalogEntry(@PathVariable String softwareName) {
+        return ResponseEntity.ok(softwareCatalogService.getCatalogEntry(softwareName));
+    }
+
+    @Operation(summary = "Publish release",
+            description = "Record a new release and recompute the status of every tracked installation of the product")
+    @PostMapping("/releases")
+    public ResponseEntity<SoftwareCatalogResponse> publishRelease(@Valid @RequestBody SoftwareCatalogRequest request) {
+        return ResponseEntity.ok(softwareCatalogService.publishRelease(request));
+    }
+}
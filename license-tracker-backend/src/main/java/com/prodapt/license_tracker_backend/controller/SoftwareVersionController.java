@@ -1,6 +1,8 @@
 package com.prodapt.license_tracker_backend.controller;
 
 
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesRequest;
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesResponse;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionRequest;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionResponse;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionStatsResponse;
@@ -91,6 +93,14 @@ public class SoftwareVersionController {
         return ResponseEntity.ok(version);
     }
 
+    @Operation(summary = "Bulk check for updates",
+            description = "Re-evaluate status for a list of ids or for all rows matching status, lastCheckedBefore and region")
+    @PostMapping("/check-updates")
+    public ResponseEntity<BulkCheckUpdatesResponse> checkForUpdatesBulk(@RequestBody BulkCheckUpdatesRequest request) {
+        BulkCheckUpdatesResponse summary = softwareVersionService.checkForUpdatesBulk(request);
+        return ResponseEntity.ok(summary);
+    }
+
     @Operation(summary = "Delete software version", description = "Remove software version tracking")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSoftwareVersion(@PathVariable Long id) {
@@ -0,0 +1,72 @@
+package com.prodapt.license_tracker_backend.controller;
+
+import com.prodapt.license_tracker_backend.analytics.TrendGranularity;
+import com.prodapt.license_tracker_backend.dto.UtilizationTrendPoint;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.service.UtilizationTrendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/trends")
+@RequiredArgsConstructor
+@Tag(name = "Trends", description = "License utilization trend APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class TrendController {
+
+    private final UtilizationTrendService utilizationTrendService;
+
+    @Operation(summary = "Get utilization trend of a license",
+            description = "Usage, capacity and cost per period from the daily snapshots; defaults to the last year by month")
+    @GetMapping("/licenses/{licenseKey}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UtilizationTrendPoint>> getLicenseTrend(
+            @PathVariable String licenseKey,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") TrendGranularity granularity) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(utilizationTrendService.getLicenseTrend(licenseKey, start, end, granularity));
+    }
+
+    @Operation(summary = "Get utilization trend by vendor",
+            description = "One series per vendor, or only the given vendor's; defaults to the last year by month")
+    @GetMapping("/vendors")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UtilizationTrendPoint>> getVendorTrend(
+            @RequestParam(required = false) String vendor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") TrendGranularity granularity) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(utilizationTrendService.getVendorTrend(vendor, start, end, granularity));
+    }
+
+    @Operation(summary = "Get utilization trend by region",
+            description = "One series per region, or only the given region's; defaults to the last year by month")
+    @GetMapping("/regions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UtilizationTrendPoint>> getRegionTrend(
+            @RequestParam(required = false) Region region,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") TrendGranularity granularity) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(utilizationTrendService.getRegionTrend(region, start, end, granularity));
+    }
+}
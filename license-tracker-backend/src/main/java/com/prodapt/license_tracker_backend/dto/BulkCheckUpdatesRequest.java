@@ -0,0 +1,21 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCheckUpdatesRequest {
+    // When ids are supplied they take precedence over the filter fields
+    private List<Long> ids;
+
+    private String status;
+    private LocalDate lastCheckedBefore;
+    private String region;
+}
@@ -0,0 +1,23 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCheckUpdatesResponse {
+    private long processed;
+    private long statusChanged;
+    private int chunks;
+    private LocalDate checkedOn;
+
+    // Resulting status counts, and "OLD->NEW" transition counts for rows whose status moved
+    private Map<String, Long> statusCounts;
+    private Map<String, Long> transitions;
+}
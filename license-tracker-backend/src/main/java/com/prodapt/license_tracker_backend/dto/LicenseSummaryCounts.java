@@ -0,0 +1,12 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+/**
+ * Single-row aggregate of license counts used by the AI assistant summary
+ */
+public interface LicenseSummaryCounts {
+    Long getTotal();
+    Long getActive();
+    Long getExpiringSoon();
+    Long getExpired();
+}
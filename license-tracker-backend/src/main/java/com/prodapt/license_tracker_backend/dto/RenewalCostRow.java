@@ -0,0 +1,19 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+
+import java.math.BigDecimal;
+
+/**
+ * Renewal cost aggregated per month of valid_to, vendor, region and license type
+ */
+public interface RenewalCostRow {
+    Integer getRenewalYear();
+    Integer getRenewalMonth();
+    Long getVendorId(); // null when the licenses have no vendor
+    Region getRegion();
+    LicenseType getLicenseType();
+    Long getLicenseCount();
+    BigDecimal getTotalCost();
+}
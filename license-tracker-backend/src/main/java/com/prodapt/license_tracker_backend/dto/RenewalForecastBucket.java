@@ -0,0 +1,18 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RenewalForecastBucket {
+    private String key; // month (2026-03), vendor name, region or license type
+    private Long licenseCount;
+    private BigDecimal baselineCost;
+    private Long projectedLicenseCount; // after consolidation
+    private BigDecimal projectedCost; // after consolidation and price uplift
+}
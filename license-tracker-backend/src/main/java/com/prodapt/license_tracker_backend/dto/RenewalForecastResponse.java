@@ -0,0 +1,29 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RenewalForecastResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal priceUpliftPercent;
+    private BigDecimal consolidationPercent;
+    private Long consolidationVendorId;
+    private String consolidationLicenseType;
+    private Long licenseCount;
+    private BigDecimal baselineCost;
+    private Long projectedLicenseCount;
+    private BigDecimal projectedCost;
+    private List<RenewalForecastBucket> byMonth; // every month of the horizon, oldest first
+    private List<RenewalForecastBucket> byVendor; // highest baseline cost first, as are the others
+    private List<RenewalForecastBucket> byRegion;
+    private List<RenewalForecastBucket> byLicenseType;
+}
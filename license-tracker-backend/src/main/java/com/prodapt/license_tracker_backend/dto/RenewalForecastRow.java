@@ -0,0 +1,15 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Renewal cost aggregated per software product
+ */
+public interface RenewalForecastRow {
+    String getSoftwareName();
+    Long getLicenseCount();
+    BigDecimal getTotalCost();
+    LocalDate getEarliestExpiry();
+}
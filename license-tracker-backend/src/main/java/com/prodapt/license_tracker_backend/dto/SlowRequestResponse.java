@@ -0,0 +1,23 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlowRequestResponse {
+    private String method;
+    private String uri;
+    private String path;
+    private int status;
+    private LocalDateTime startedAt;
+    private double durationMs;
+    private Integer sqlStatements;
+    private int droppedSpans;
+    private List<TraceSpanResponse> spans;
+}
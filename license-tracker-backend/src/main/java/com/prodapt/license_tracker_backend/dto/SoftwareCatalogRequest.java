@@ -0,0 +1,24 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SoftwareCatalogRequest {
+
+    @NotBlank(message = "Software name is required")
+    private String softwareName;
+
+    @NotBlank(message = "Latest version is required")
+    private String latestVersion;
+
+    private LocalDate releaseDate;
+    private String updateUrl;
+}
@@ -0,0 +1,26 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SoftwareCatalogResponse {
+    private Long id;
+    private String softwareName;
+    private String latestVersion;
+    private LocalDate releaseDate;
+    private String updateUrl;
+    private LocalDateTime updatedAt;
+
+    // Populated only when a release is published
+    private Long affectedVersions;
+    private Map<String, Long> statusBreakdown;
+}
@@ -0,0 +1,14 @@
+package com.prodapt.license_tracker_backend.dto;
+
+
+import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+
+/**
+ * Minimal projection of a software version row used by bulk update checks
+ */
+public interface SoftwareVersionCheckRow {
+    Long getId();
+    String getCurrentVersion();
+    String getLatestVersion();
+    SoftwareVersionStatus getStatus();
+}
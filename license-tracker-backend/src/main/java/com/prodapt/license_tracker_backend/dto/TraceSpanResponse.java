@@ -0,0 +1,18 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TraceSpanResponse {
+    private String kind;
+    private String name;
+    private int depth;
+    // Milliseconds from the start of the request
+    private double offsetMs;
+    private double durationMs;
+    private Integer sqlStatements;
+}
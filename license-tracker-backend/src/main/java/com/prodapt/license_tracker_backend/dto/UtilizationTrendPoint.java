@@ -0,0 +1,24 @@
+package com.prodapt.license_tracker_backend.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UtilizationTrendPoint {
+    private LocalDate periodStart;
+    private LocalDate snapshotDate; // last snapshot in the period, which the values are taken from
+    private String group; // license key, vendor name or region
+    private Long licenseCount;
+    private Long currentUsage;
+    private Long maxUsage;
+    private Double utilizationPercentage;
+    private BigDecimal totalCost;
+    private Map<String, Long> licensesByStatus; // ACTIVE, EXPIRING_SOON, EXPIRED, NEAR_CAPACITY
+}
@@ -3,12 +3,18 @@ package com.prodapt.license_tracker_backend.entities;
 import com.prodapt.license_tracker_backend.entities.enums.AlertType;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.entities.enums.Severity;
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alerts")
+@Table(name = "alerts", indexes = {
+        @Index(name = "idx_alert_ack_generated", columnList = "acknowledged, generated_at"),
+        @Index(name = "idx_alert_ack_severity_generated", columnList = "acknowledged, severity, generated_at"),
+        @Index(name = "idx_alert_type_ack_generated", columnList = "alert_type, acknowledged, generated_at"),
+        @Index(name = "idx_alert_region_ack_generated", columnList = "region, acknowledged, generated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +23,7 @@ import java.time.LocalDateTime;
 public class Alert {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -2,13 +2,18 @@ package com.prodapt.license_tracker_backend.entities;
 
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
 import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_audit_user_timestamp", columnList = "user_id, timestamp"),
+        @Index(name = "idx_audit_entity_timestamp", columnList = "entity_type, entity_id, timestamp")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +22,7 @@ import java.time.LocalDateTime;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "log_id")
     private Long logId;
 
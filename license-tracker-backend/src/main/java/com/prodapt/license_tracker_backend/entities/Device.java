@@ -4,12 +4,16 @@ package com.prodapt.license_tracker_backend.entities;
 import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
 import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "devices")
+@Table(name = "devices", indexes = {
+        @Index(name = "idx_device_region_lifecycle", columnList = "region, lifecycle"),
+        @Index(name = "idx_device_lifecycle", columnList = "lifecycle")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +22,7 @@ import java.time.LocalDate;
 public class Device {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(unique = true, nullable = false)
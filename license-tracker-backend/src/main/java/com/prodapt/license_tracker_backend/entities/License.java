@@ -1,15 +1,26 @@
 package com.prodapt.license_tracker_backend.entities;
 
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "licenses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.LICENSE_REGION)
+@Table(name = "licenses", indexes = {
+        @Index(name = "idx_license_active_valid_to", columnList = "active, valid_to"),
+        @Index(name = "idx_license_region_active_valid_to", columnList = "region, active, valid_to"),
+        @Index(name = "idx_license_valid_to_cost", columnList = "valid_to, software_name, cost"),
+        @Index(name = "idx_license_renewal_forecast", columnList = "valid_to, vendor_id, region, license_type, cost"),
+        @Index(name = "idx_license_active_usage_ratio", columnList = "active, usage_ratio")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,4 +73,17 @@ public class License {
 
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
+
+    // current_usage / max_usage, null without capacity; derived on every write
+    @Setter(AccessLevel.NONE)
+    @Column(name = "usage_ratio")
+    private Double usageRatio;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        usageRatio = maxUsage != null && maxUsage > 0
+                ? (currentUsage != null ? currentUsage : 0) / (double) maxUsage
+                : null;
+    }
 }
@@ -1,12 +1,17 @@
 package com.prodapt.license_tracker_backend.entities;
 
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "license_assignments")
+@Table(name = "license_assignments", indexes = {
+        @Index(name = "idx_assignment_license_active", columnList = "license_id, active"),
+        @Index(name = "idx_assignment_device_active", columnList = "device_id, active, license_id"),
+        @Index(name = "idx_assignment_active", columnList = "active")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,14 +20,14 @@ import java.time.LocalDateTime;
 public class LicenseAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "license_id", nullable = false)
     private License license;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "device_id", nullable = false)
     private Device device;
 
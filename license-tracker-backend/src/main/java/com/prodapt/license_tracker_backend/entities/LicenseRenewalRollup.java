@@ -0,0 +1,60 @@
+package com.prodapt.license_tracker_backend.entities;
+
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Licenses and their cost falling due for renewal in one month, per vendor, region and
+ * license type. Written through LicenseRenewalRollupRepository, never loaded for update.
+ */
+@Entity
+@Table(name = "license_renewal_rollup")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LicenseRenewalRollup {
+
+    // Stands in for "no vendor" so vendor_id can be part of the key
+    public static final long NO_VENDOR = 0L;
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "license_count", nullable = false)
+    private Long licenseCount;
+
+    @Column(name = "total_cost", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalCost;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        // First day of the month valid_to falls in
+        @Column(name = "renewal_month", nullable = false)
+        private LocalDate renewalMonth;
+
+        @Column(name = "vendor_id", nullable = false)
+        private Long vendorId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "region", nullable = false)
+        private Region region;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "license_type", nullable = false)
+        private LicenseType licenseType;
+    }
+}
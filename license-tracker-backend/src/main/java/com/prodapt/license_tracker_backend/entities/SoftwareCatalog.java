@@ -0,0 +1,43 @@
+package com.prodapt.license_tracker_backend.entities;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "software_catalog")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SoftwareCatalog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "software_name", unique = true, nullable = false, length = 100)
+    private String softwareName;
+
+    @Column(name = "latest_version", nullable = false, length = 20)
+    private String latestVersion;
+
+    @Column(name = "release_date")
+    private LocalDate releaseDate;
+
+    @Column(name = "update_url")
+    private String updateUrl;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -8,7 +8,12 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "software_versions")
+@Table(name = "software_versions", indexes = {
+        @Index(name = "idx_software_version_device_name", columnList = "device_id, software_name"),
+        @Index(name = "idx_software_version_status_checked", columnList = "status, last_checked"),
+        @Index(name = "idx_software_version_last_checked", columnList = "last_checked"),
+        @Index(name = "idx_software_version_name_version", columnList = "software_name, current_version")
+})
 @Getter
 @Setter
 @NoArgsConstructor
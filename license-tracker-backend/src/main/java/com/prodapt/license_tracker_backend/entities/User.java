@@ -1,13 +1,20 @@
 package com.prodapt.license_tracker_backend.entities;
 
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.entities.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.USER_REGION)
+@Table(name = "users", indexes = {
+        @Index(name = "idx_user_reset_token", columnList = "reset_token")
+})
 @Getter
 @Setter
 @NoArgsConstructor
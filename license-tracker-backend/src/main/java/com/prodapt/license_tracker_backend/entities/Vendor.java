@@ -1,10 +1,14 @@
 package com.prodapt.license_tracker_backend.entities;
 
-
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.VENDOR_REGION)
 @Table(name = "vendors")
 @Getter
 @Setter
@@ -8,6 +8,7 @@ public enum EntityType {
     ASSIGNMENT,
     SOFTWARE_VERSION,
     VENDOR,
-    ALERT
+    ALERT,
+    SOFTWARE_CATALOG
 }
 
@@ -0,0 +1,76 @@
+package com.prodapt.license_tracker_backend.entities.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application-generated, time-ordered 53-bit ids:
+ * 41 bits of milliseconds since 2025-01-01, 4 bits of node id and an 8-bit sequence.
+ *
+ * Ids stay within JavaScript's safe integer range, so the frontend can keep treating
+ * them as numbers, and sort by creation time like the IDENTITY values they replace.
+ * New ids are far above any existing AUTO_INCREMENT value, so no migration of existing
+ * rows is needed. Each instance writing to the same database needs its own node id
+ * (ID_GENERATOR_NODE, 0-15); unset means node 0, which IdGeneratorNodeCheck refuses
+ * where id.generator.require-node is set.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+
+    private static final String CONFIGURED_NODE =
+            System.getProperty("id.generator.node", System.getenv("ID_GENERATOR_NODE"));
+    private static final long NODE = resolveNode();
+
+    // Packs (milliseconds << SEQUENCE_BITS | sequence). Sharing it across entity types keeps
+    // ids unique and monotonic JVM-wide; a sequence overflow carries into the next millisecond
+    // and a clock moving backwards keeps counting from the last value issued.
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    public static long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long state = LAST_STATE.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+
+        long millis = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (NODE << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Epoch milliseconds at which id was issued
+     */
+    public static long epochMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * Whether a node id was set rather than defaulted to 0
+     */
+    public static boolean isNodeConfigured() {
+        return CONFIGURED_NODE != null && !CONFIGURED_NODE.isBlank();
+    }
+
+    private static long resolveNode() {
+        if (!isNodeConfigured()) {
+            return 0;
+        }
+
+        long node = Long.parseLong(CONFIGURED_NODE.trim());
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalStateException("ID generator node must be between 0 and " + MAX_NODE + ", got " + node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,7 @@
+package com.prodapt.license_tracker_backend.exception;
+
+public class ChatCapacityException extends RuntimeException {
+    public ChatCapacityException(String message) {
+        super(message);
+    }
+}
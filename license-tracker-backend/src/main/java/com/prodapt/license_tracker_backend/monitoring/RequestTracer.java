@@ -0,0 +1,239 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight in-process tracer. {@link RequestTracingFilter} opens a {@link Trace} per HTTP
+ * request and spans are opened beneath the current one for controller, service, repository
+ * and AI calls. A span costs a clock read and a list append; traces are only turned into
+ * something readable when the request turns out to be slow.
+ *
+ * Outside a request (scheduled jobs, startup) there is no trace and spans are no-ops.
+ * Work handed to another thread joins the trace through {@link #propagate(Supplier)}.
+ */
+public final class RequestTracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = new Span(null, null, null, null);
+
+    private RequestTracer() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Opens the root span of a trace on the current thread
+     */
+    public static Span startTrace(Trace trace, String kind, String name) {
+        Span root = new Span(trace, null, kind, name);
+        CURRENT.set(root);
+        return root;
+    }
+
+    /**
+     * Opens a span beneath the current one; close it in a finally block or try-with-resources
+     */
+    public static Span start(String kind, String name) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return NOOP;
+        }
+        Span span = new Span(parent.trace, parent, kind, name);
+        CURRENT.set(span);
+        return span;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Detaches the current thread from its trace without closing any span, for requests
+     * that continue asynchronously
+     */
+    public static void detach() {
+        CURRENT.remove();
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        Span captured = CURRENT.get();
+        if (captured == null) {
+            return work;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                return work.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static Runnable propagate(Runnable work) {
+        Span captured = CURRENT.get();
+        if (captured == null) {
+            return work;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                work.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Spans of one request. Spans may close on other threads, e.g. a streamed model call.
+     */
+    public static final class Trace {
+
+        private final String request;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final int maxSpans;
+        private final boolean jfrEvents;
+        private final List<Span> spans = new ArrayList<>();
+        private int droppedSpans;
+
+        public Trace(String request, int maxSpans, boolean jfrEvents) {
+            this.request = request;
+            this.maxSpans = maxSpans;
+            this.jfrEvents = jfrEvents;
+        }
+
+        public String getRequest() {
+            return request;
+        }
+
+        public LocalDateTime getStartedAt() {
+            return startedAt;
+        }
+
+        public synchronized int getDroppedSpans() {
+            return droppedSpans;
+        }
+
+        /**
+         * Closed spans in start order, so each span follows its parent
+         */
+        public synchronized List<Span> getSpans() {
+            List<Span> ordered = new ArrayList<>(spans);
+            ordered.sort(Comparator.comparingLong(Span::getStartNanos));
+            return ordered;
+        }
+
+        private synchronized void add(Span span) {
+            // The root closes last and is always kept
+            if (spans.size() < maxSpans || span.parent == null) {
+                spans.add(span);
+            } else {
+                droppedSpans++;
+            }
+        }
+    }
+
+    public static final class Span implements AutoCloseable {
+
+        private final Trace trace;
+        private final Span parent;
+        private final String kind;
+        private final String name;
+        private final int depth;
+        private final long startNanos;
+        private final SqlStatementTracker.Stats sqlStats;
+        private final int sqlStart;
+        private final TraceSpanEvent event;
+        private boolean closed;
+        private long endNanos;
+        private int sqlStatements = -1;
+
+        private Span(Trace trace, Span parent, String kind, String name) {
+            this.trace = trace;
+            this.parent = parent;
+            this.kind = kind;
+            this.name = name;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.startNanos = System.nanoTime();
+            this.sqlStats = trace == null ? null : SqlStatementTracker.current();
+            this.sqlStart = sqlStats == null ? 0 : sqlStats.getStatementCount();
+            if (trace != null && trace.jfrEvents) {
+                event = new TraceSpanEvent();
+                event.begin();
+            } else {
+                event = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (trace == null || closed) {
+                return;
+            }
+            closed = true;
+            endNanos = System.nanoTime();
+            // Statements are only attributable when the span closes on the thread that opened it
+            if (sqlStats != null && sqlStats == SqlStatementTracker.current()) {
+                sqlStatements = sqlStats.getStatementCount() - sqlStart;
+            }
+            if (CURRENT.get() == this) {
+                restore(parent);
+            }
+            trace.add(this);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.request = trace.request;
+                    event.kind = kind;
+                    event.name = name;
+                    event.sqlStatements = sqlStatements;
+                    event.commit();
+                }
+            }
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Time from start to close, or to now while the span is still open
+         */
+        public long getDurationNanos() {
+            return (closed ? endNanos : System.nanoTime()) - startNanos;
+        }
+
+        /**
+         * SQL statements run inside the span, or -1 when not known
+         */
+        public int getSqlStatements() {
+            return sqlStatements;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import com.prodapt.license_tracker_backend.dto.SlowRequestResponse;
+import com.prodapt.license_tracker_backend.dto.TraceSpanResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traces every HTTP request and keeps the ones slower than slow-threshold-ms in
+ * {@link SlowRequestLog}. Runs inside {@link SqlStatementFilter}, so spans can report the
+ * SQL they ran. Asynchronous requests (chat answers) are finished when the response
+ * completes rather than when the servlet thread lets go of them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+
+    @Value("${diagnostics.tracing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${diagnostics.tracing.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    @Value("${diagnostics.tracing.max-spans:200}")
+    private int maxSpans;
+
+    @Value("${diagnostics.tracing.jfr-events:false}")
+    private boolean jfrEvents;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String name = request.getMethod() + " " + request.getRequestURI();
+        RequestTracer.Trace trace = new RequestTracer.Trace(name, maxSpans, jfrEvents);
+        RequestTracer.Span root = RequestTracer.startTrace(trace, "http", name);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                RequestTracer.detach();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        finish(request, response, trace, root);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                finish(request, response, trace, root);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response,
+                        RequestTracer.Trace trace, RequestTracer.Span root) {
+        root.close();
+        long durationNanos = root.getDurationNanos();
+        if (durationNanos < TimeUnit.MILLISECONDS.toNanos(slowThresholdMs)) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        List<TraceSpanResponse> spans = trace.getSpans().stream()
+                .map(span -> TraceSpanResponse.builder()
+                        .kind(span.getKind())
+                        .name(span.getName())
+                        .depth(span.getDepth())
+                        .offsetMs(millis(span.getStartNanos() - root.getStartNanos()))
+                        .durationMs(millis(span.getDurationNanos()))
+                        .sqlStatements(sqlStatements(span))
+                        .build())
+                .toList();
+        slowRequestLog.record(SlowRequestResponse.builder()
+                .method(request.getMethod())
+                .uri(pattern != null ? pattern.toString() : null)
+                .path(request.getRequestURI())
+                .status(response.getStatus())
+                .startedAt(trace.getStartedAt())
+                .durationMs(millis(durationNanos))
+                .sqlStatements(sqlStatements(root))
+                .droppedSpans(trace.getDroppedSpans())
+                .spans(spans)
+                .build());
+        log.warn("Slow request {} took {} ms ({} spans); see /api/admin/slow-requests",
+                trace.getRequest(), TimeUnit.NANOSECONDS.toMillis(durationNanos), spans.size());
+    }
+
+    private static Integer sqlStatements(RequestTracer.Span span) {
+        return span.getSqlStatements() < 0 ? null : span.getSqlStatements();
+    }
+
+    // Two decimals, i.e. 10µs resolution
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
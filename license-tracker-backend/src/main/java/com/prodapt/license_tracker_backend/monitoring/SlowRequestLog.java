@@ -0,0 +1,58 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import com.prodapt.license_tracker_backend.dto.SlowRequestResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The most recent slow requests with their spans, in a fixed-size ring buffer: once full,
+ * each new entry replaces the oldest
+ */
+@Component
+public class SlowRequestLog {
+
+    private final SlowRequestResponse[] entries;
+    private int next;
+    private long recorded;
+
+    public SlowRequestLog(@Value("${diagnostics.tracing.buffer-size:100}") int capacity) {
+        this.entries = new SlowRequestResponse[Math.max(1, capacity)];
+    }
+
+    public synchronized void record(SlowRequestResponse slowRequest) {
+        entries[next] = slowRequest;
+        next = (next + 1) % entries.length;
+        recorded++;
+    }
+
+    /**
+     * Newest first
+     */
+    public synchronized List<SlowRequestResponse> recent() {
+        List<SlowRequestResponse> recent = new ArrayList<>(entries.length);
+        for (int i = 1; i <= entries.length; i++) {
+            SlowRequestResponse entry = entries[Math.floorMod(next - i, entries.length)];
+            if (entry == null) {
+                break;
+            }
+            recent.add(entry);
+        }
+        return recent;
+    }
+
+    /**
+     * Slow requests seen since startup, including those no longer in the buffer
+     */
+    public synchronized long getRecordedCount() {
+        return recorded;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+    }
+}
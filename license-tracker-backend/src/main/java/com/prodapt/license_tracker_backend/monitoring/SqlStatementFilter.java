@@ -0,0 +1,81 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the SQL each HTTP request runs, including the security filters' user lookup,
+ * and records it per route. A statement shape repeated at least n-plus-one-threshold
+ * times is counted as an N+1 suspect and logged once per route and shape.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SUSPECTS = 1000;
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final ApplicationMetrics applicationMetrics;
+
+    @Value("${diagnostics.sql.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    private final Set<String> loggedSuspects = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.stop(stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementTracker.Stats stats) {
+        if (stats.getStatementCount() == 0) {
+            return;
+        }
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        applicationMetrics.recordRequestStatements(method, uri, stats.getStatementCount(), stats.getExecutionNanos());
+
+        Map<String, Integer> suspects = stats.repeatedShapes(nPlusOneThreshold);
+        if (suspects.isEmpty()) {
+            return;
+        }
+        applicationMetrics.recordNPlusOneSuspect(method, uri);
+        suspects.forEach((shape, count) -> {
+            if (loggedSuspects.size() < MAX_LOGGED_SUSPECTS && loggedSuspects.add(method + " " + uri + " " + shape)) {
+                log.warn("Possible N+1 query in {} {}: statement run {} times ({} statements in request): {}",
+                        method, uri, count, stats.getStatementCount(), abbreviate(shape));
+            }
+        });
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
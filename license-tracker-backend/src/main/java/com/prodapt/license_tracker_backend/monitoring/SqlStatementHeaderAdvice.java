@@ -0,0 +1,55 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the SQL counted so far by {@link SqlStatementFilter} to each response body's headers.
+ * Written just before the body, since headers cannot change once the response is committed;
+ * statements run while serializing the body, such as lazy loads, are not included.
+ */
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+    static final String N_PLUS_ONE_HEADER = "X-SQL-N-Plus-One";
+
+    @Value("${diagnostics.sql.response-headers:true}")
+    private boolean enabled;
+
+    @Value("${diagnostics.sql.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getExecutionNanos())));
+            int suspects = stats.repeatedShapes(nPlusOneThreshold).size();
+            if (suspects > 0) {
+                response.getHeaders().set(N_PLUS_ONE_HEADER, String.valueOf(suspects));
+            }
+        }
+        return body;
+    }
+}
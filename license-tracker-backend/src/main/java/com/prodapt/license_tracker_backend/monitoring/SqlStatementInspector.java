@@ -0,0 +1,16 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every SQL statement Hibernate prepares and reports it to {@link SqlStatementTracker};
+ * the statement itself is passed through unchanged
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementTracker.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,33 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures JDBC execution time for {@link SqlStatementTracker}. Hibernate creates one
+ * instance per session, and a session is used by one thread at a time.
+ */
+public class SqlStatementTimer implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementTracker.recordExecution(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementTracker.recordExecution(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,110 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate runs on the current thread between {@link #start()}
+ * and {@link #stop(Stats)}, with their execution time and how often each statement shape
+ * repeats. A shape run many times within one unit of work is the signature of an N+1 query.
+ * Trackers nest: statements count towards every tracker active on the thread.
+ *
+ * Fed by {@link SqlStatementInspector} and {@link SqlStatementTimer}, which Hibernate
+ * creates from the hibernate.session_factory.statement_inspector and
+ * hibernate.session.events.auto properties.
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    // Padded or variable-length IN lists are still the same statement
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlStatementTracker() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public static Stats start() {
+        Stats stats = new Stats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void stop(Stats stats) {
+        CURRENT.set(stats.parent);
+    }
+
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (Stats s = stats; s != null; s = s.parent) {
+            s.statements++;
+            s.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static void recordExecution(long nanos) {
+        for (Stats s = CURRENT.get(); s != null; s = s.parent) {
+            s.executionNanos += nanos;
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    /**
+     * Statements seen by one tracker. Only touched by the thread that started it.
+     */
+    public static final class Stats {
+
+        private final Stats parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private long executionNanos;
+
+        private Stats(Stats parent) {
+            this.parent = parent;
+        }
+
+        public int getStatementCount() {
+            return statements;
+        }
+
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        public Map<String, Integer> getShapeCounts() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        /**
+         * Shapes run at least threshold times, most frequent first
+         */
+        public Map<String, Integer> repeatedShapes(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(e -> e.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.prodapt.license_tracker_backend.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@link RequestTracer.Span}, emitted when
+ * diagnostics.tracing.jfr-events is on, so slow spans line up with GC pauses and lock
+ * contention in the same recording. Costs nothing while no recording is running.
+ */
+@Name("com.prodapt.licensetracker.Span")
+@Label("Request Span")
+@Category({"License Tracker", "Tracing"})
+@Description("A controller, service, repository or AI call within an HTTP request")
+@StackTrace(false)
+class TraceSpanEvent extends Event {
+
+    @Label("Request")
+    String request;
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Name")
+    String name;
+
+    @Label("SQL Statements")
+    int sqlStatements;
+}
@@ -4,10 +4,13 @@ import com.prodapt.license_tracker_backend.entities.Alert;
 import com.prodapt.license_tracker_backend.entities.enums.AlertType;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.entities.enums.Severity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -33,7 +36,10 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
     @Query("SELECT a FROM Alert a WHERE a.acknowledged = false AND a.generatedAt >= :since ORDER BY a.generatedAt DESC")
     List<Alert> findRecentUnacknowledged(LocalDateTime since);
 
+    // Called once per license by the alert generators; flushing the alerts queued so far before
+    // every call would send them one INSERT at a time instead of in JDBC batches
     @Query("SELECT a FROM Alert a WHERE a.alertType = :alertType AND a.message LIKE %:keyword%")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
     List<Alert> findByAlertTypeAndMessageContaining(AlertType alertType, String keyword);
 
     long countByRegionAndAcknowledgedFalse(Region region);
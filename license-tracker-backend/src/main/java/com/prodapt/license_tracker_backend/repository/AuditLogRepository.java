@@ -6,11 +6,14 @@ import com.prodapt.license_tracker_backend.entities.enums.EntityType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
@@ -87,4 +90,30 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
+
+    @Query("SELECT MIN(a.timestamp) FROM AuditLog a")
+    LocalDateTime findOldestTimestamp();
+
+    /**
+     * One chunk of [start, end), newest first, continuing below (beforeTimestamp, beforeId).
+     * Keyset paging keeps each chunk an index range scan however far into the range it is.
+     */
+    @Query("SELECT a FROM AuditLog a WHERE " +
+            "a.timestamp >= :start AND a.timestamp < :end AND " +
+            "(a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.logId < :beforeId)) " +
+            "ORDER BY a.timestamp DESC, a.logId DESC")
+    List<AuditLog> findChunkBefore(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    /**
+     * Removes [start, end) in one statement; used where the range is not its own partition
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AuditLog a WHERE a.timestamp >= :start AND a.timestamp < :end")
+    int deleteByTimestampRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 }
@@ -8,18 +8,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DeviceRepository extends JpaRepository<Device, Long> {
     Optional<Device> findByDeviceId(String deviceId);
+    Optional<Device> findFirstByDeviceIdContainingIgnoreCaseOrderByDeviceIdAsc(String deviceIdFragment);
     List<Device> findByRegion(Region region);
     Page<Device> findByLifecycle(DeviceLifecycle lifecycle, Pageable pageable);
     List<Device> findByRegionAndLifecycle(Region region, DeviceLifecycle lifecycle);
     boolean existsByDeviceId(String deviceId);
+
+    @Query("SELECT d.deviceId FROM Device d WHERE d.deviceId IN :deviceIds")
+    List<String> findExistingDeviceIds(@Param("deviceIds") Collection<String> deviceIds);
     long countByLifecycle(DeviceLifecycle lifecycle);
     long countByRegion(Region region);
     long countByRegionAndLifecycle(Region region, DeviceLifecycle lifecycle);
@@ -27,4 +33,6 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
     @Query("SELECT COUNT(DISTINCT d) FROM Device d JOIN LicenseAssignment la ON d.id = la.device.id WHERE la.active = true")
     long countDevicesWithActiveLicenses();
 
+    List<Device> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
 }
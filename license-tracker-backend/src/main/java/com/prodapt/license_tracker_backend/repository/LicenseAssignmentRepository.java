@@ -1,20 +1,32 @@
 package com.prodapt.license_tracker_backend.repository;
 
+import com.prodapt.license_tracker_backend.dto.AssignmentReportResponse;
+import com.prodapt.license_tracker_backend.dto.AssignmentResponse;
 import com.prodapt.license_tracker_backend.entities.Device;
 import com.prodapt.license_tracker_backend.entities.License;
 import com.prodapt.license_tracker_backend.entities.LicenseAssignment;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LicenseAssignmentRepository extends JpaRepository<LicenseAssignment, Long> {
 
+    // Single-statement DTO projection for assignment listings (no entity or association loading)
+    String RESPONSE_PROJECTION = "SELECT new com.prodapt.license_tracker_backend.dto.AssignmentResponse(" +
+            "a.id, d.id, d.deviceId, CAST(d.deviceType AS String), d.location, " +
+            "l.id, l.licenseKey, l.softwareName, " +
+            "a.assignedOn, a.assignedBy, a.revokedOn, a.revokedBy, a.revocationReason, a.active) " +
+            "FROM LicenseAssignment a JOIN a.device d JOIN a.license l ";
+
     // Find active assignments by device
     List<LicenseAssignment> findByDeviceIdAndActiveTrue(Long deviceId);
 
@@ -73,4 +85,47 @@ public interface LicenseAssignmentRepository extends JpaRepository<LicenseAssign
     long countActiveAssignmentsByRegion(@Param("region") Region region);
     
     List<LicenseAssignment> findByDeviceAndActiveTrue(Device device);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.id = :id")
+    Optional<AssignmentResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.active = true ORDER BY a.id")
+    List<AssignmentResponse> findAllActiveResponses();
+
+    @Query(value = RESPONSE_PROJECTION + "WHERE a.active = true",
+            countQuery = "SELECT COUNT(a) FROM LicenseAssignment a WHERE a.active = true")
+    Page<AssignmentResponse> findActiveResponses(Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.active = true AND a.id > :afterId ORDER BY a.id ASC")
+    List<AssignmentResponse> findActiveResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.id IN :ids")
+    List<AssignmentResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_PROJECTION + "WHERE l.id IN :licenseIds AND a.active = true")
+    List<AssignmentResponse> findActiveResponsesByLicenseIdIn(@Param("licenseIds") Collection<Long> licenseIds);
+
+    @Query(RESPONSE_PROJECTION + "WHERE d.id IN :deviceIds AND a.active = true")
+    List<AssignmentResponse> findActiveResponsesByDeviceIdIn(@Param("deviceIds") Collection<Long> deviceIds);
+
+    @Query(RESPONSE_PROJECTION + "WHERE d.id = :deviceId AND a.active = true ORDER BY a.id")
+    List<AssignmentResponse> findActiveResponsesByDeviceId(@Param("deviceId") Long deviceId);
+
+    @Query(RESPONSE_PROJECTION + "WHERE l.id = :licenseId AND a.active = true ORDER BY a.id")
+    List<AssignmentResponse> findActiveResponsesByLicenseId(@Param("licenseId") Long licenseId);
+
+    @Query(RESPONSE_PROJECTION + "WHERE d.id = :deviceId ORDER BY a.id")
+    List<AssignmentResponse> findResponsesByDeviceId(@Param("deviceId") Long deviceId);
+
+    @Query(RESPONSE_PROJECTION + "WHERE l.id = :licenseId ORDER BY a.id")
+    List<AssignmentResponse> findResponsesByLicenseId(@Param("licenseId") Long licenseId);
+
+    // Assignment report rows with region/active filters applied in the database; null filters are ignored
+    @Query("SELECT new com.prodapt.license_tracker_backend.dto.AssignmentReportResponse(" +
+            "a.id, l.licenseKey, l.softwareName, d.deviceId, CAST(d.deviceType AS String), d.location, " +
+            "CAST(d.region AS String), a.assignedOn, a.assignedBy, a.active, a.revokedOn, a.revokedBy) " +
+            "FROM LicenseAssignment a JOIN a.device d JOIN a.license l " +
+            "WHERE (:region IS NULL OR d.region = :region) AND (:active IS NULL OR a.active = :active) " +
+            "ORDER BY a.id")
+    List<AssignmentReportResponse> findReportRows(@Param("region") Region region, @Param("active") Boolean active);
 }
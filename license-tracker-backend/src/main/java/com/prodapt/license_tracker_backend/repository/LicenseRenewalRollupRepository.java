@@ -0,0 +1,39 @@
+package com.prodapt.license_tracker_backend.repository;
+
+import com.prodapt.license_tracker_backend.entities.LicenseRenewalRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface LicenseRenewalRollupRepository extends JpaRepository<LicenseRenewalRollup, LicenseRenewalRollup.Key> {
+
+    List<LicenseRenewalRollup> findByIdRenewalMonthBetween(LocalDate firstMonth, LocalDate lastMonth);
+
+    /**
+     * Adds count and cost to a month, creating it if needed. A single upsert, so concurrent
+     * license writes to the same month serialize on its row instead of overwriting each other.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO license_renewal_rollup " +
+            "(renewal_month, vendor_id, region, license_type, license_count, total_cost) " +
+            "VALUES (:renewalMonth, :vendorId, :region, :licenseType, :licenseCount, :totalCost) " +
+            "ON DUPLICATE KEY UPDATE license_count = license_count + VALUES(license_count), " +
+            "total_cost = total_cost + VALUES(total_cost)", nativeQuery = true)
+    void addToMonth(@Param("renewalMonth") LocalDate renewalMonth,
+                    @Param("vendorId") long vendorId,
+                    @Param("region") String region,
+                    @Param("licenseType") String licenseType,
+                    @Param("licenseCount") long licenseCount,
+                    @Param("totalCost") BigDecimal totalCost);
+
+    @Modifying
+    @Query("DELETE FROM LicenseRenewalRollup r WHERE r.id = :id AND r.licenseCount <= 0")
+    int deleteIfEmpty(@Param("id") LicenseRenewalRollup.Key id);
+}
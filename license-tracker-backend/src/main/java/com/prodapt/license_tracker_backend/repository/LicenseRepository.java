@@ -1,14 +1,25 @@
 package com.prodapt.license_tracker_backend.repository;
 
 
+import com.prodapt.license_tracker_backend.dto.LicenseSummaryCounts;
+import com.prodapt.license_tracker_backend.dto.RenewalCostRow;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastRow;
 import com.prodapt.license_tracker_backend.entities.License;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +28,7 @@ import java.util.Optional;
 @Repository
 public interface LicenseRepository extends JpaRepository<License, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<License> findByLicenseKey(String licenseKey);
 
     boolean existsByLicenseKey(String licenseKey);
@@ -41,5 +53,56 @@ public interface LicenseRepository extends JpaRepository<License, Long> {
 
     @Query("SELECT COUNT(l) FROM License l WHERE l.vendor.id = :vendorId")
     long countByVendorId(@Param("vendorId") Long vendorId);
-}
 
+    // ===== Aggregates and capped queries backing the AI assistant tools =====
+
+    @Query("SELECT COUNT(l) AS total, " +
+            "SUM(CASE WHEN l.active = true AND l.validTo > :today THEN 1 ELSE 0 END) AS active, " +
+            "SUM(CASE WHEN l.validTo > :today AND l.validTo <= :expiringBy THEN 1 ELSE 0 END) AS expiringSoon, " +
+            "SUM(CASE WHEN l.validTo < :today THEN 1 ELSE 0 END) AS expired " +
+            "FROM License l")
+    LicenseSummaryCounts summarize(@Param("today") LocalDate today, @Param("expiringBy") LocalDate expiringBy);
+
+    Page<License> findByValidToAfterAndValidToBeforeOrderByValidToAsc(LocalDate after, LocalDate before, Pageable pageable);
+
+    @Query("SELECT l.softwareName AS softwareName, COUNT(l) AS licenseCount, " +
+            "SUM(l.cost) AS totalCost, MIN(l.validTo) AS earliestExpiry " +
+            "FROM License l WHERE l.validTo > :after AND l.validTo < :before " +
+            "GROUP BY l.softwareName ORDER BY SUM(l.cost) DESC")
+    List<RenewalForecastRow> findRenewalForecastBySoftware(@Param("after") LocalDate after,
+                                                           @Param("before") LocalDate before,
+                                                           Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(l.cost), 0) FROM License l WHERE l.validTo > :after AND l.validTo < :before")
+    BigDecimal sumCostByValidToBetween(@Param("after") LocalDate after, @Param("before") LocalDate before);
+
+    @Query("SELECT COUNT(l) FROM License l WHERE l.validTo > :after AND l.validTo < :before")
+    long countByValidToBetweenExclusive(@Param("after") LocalDate after, @Param("before") LocalDate before);
+
+    // ===== Renewal forecast: partial months of a horizon and the monthly rollup rebuild =====
+
+    String RENEWAL_COST_BY_MONTH = "SELECT YEAR(l.validTo) AS renewalYear, MONTH(l.validTo) AS renewalMonth, " +
+            "l.vendor.id AS vendorId, l.region AS region, l.licenseType AS licenseType, " +
+            "COUNT(l) AS licenseCount, SUM(l.cost) AS totalCost FROM License l ";
+    String RENEWAL_COST_GROUPING = " GROUP BY YEAR(l.validTo), MONTH(l.validTo), l.vendor.id, l.region, l.licenseType";
+
+    @Query(RENEWAL_COST_BY_MONTH + "WHERE l.validTo >= :from AND l.validTo <= :to" + RENEWAL_COST_GROUPING)
+    List<RenewalCostRow> sumRenewalCostByMonth(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(RENEWAL_COST_BY_MONTH + RENEWAL_COST_GROUPING)
+    List<RenewalCostRow> sumRenewalCostByMonth();
+
+    // Walks idx_license_active_usage_ratio backwards, so only the requested page is read
+    @Query("SELECT l FROM License l WHERE l.active = true AND l.maxUsage > 0 ORDER BY l.usageRatio DESC")
+    List<License> findMostUtilizedActive(Pageable pageable);
+
+    // Keyset batches for the assistant's record index, vendor fetched in the same statement
+    @EntityGraph(attributePaths = "vendor")
+    List<License> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "vendor")
+    List<License> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "vendor")
+    List<License> findByVendorIdIn(Collection<Long> vendorIds);
+}
@@ -0,0 +1,16 @@
+package com.prodapt.license_tracker_backend.repository;
+
+import com.prodapt.license_tracker_backend.entities.SoftwareCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SoftwareCatalogRepository extends JpaRepository<SoftwareCatalog, Long> {
+
+    Optional<SoftwareCatalog> findBySoftwareName(String softwareName);
+
+    List<SoftwareCatalog> findAllByOrderBySoftwareNameAsc();
+}
@@ -1,9 +1,14 @@
 package com.prodapt.license_tracker_backend.repository;
 
+import com.prodapt.license_tracker_backend.dto.SoftwareVersionCheckRow;
 import com.prodapt.license_tracker_backend.entities.SoftwareVersion;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -32,5 +37,51 @@ public interface SoftwareVersionRepository extends JpaRepository<SoftwareVersion
 
     @Query("SELECT COUNT(sv) FROM SoftwareVersion sv WHERE sv.status = 'UP_TO_DATE'")
     long countUpToDateVersions();
-}
 
+    // Distinct installed versions of a product, used to fan out catalog releases
+    @Query("SELECT DISTINCT sv.currentVersion FROM SoftwareVersion sv WHERE sv.softwareName = :softwareName")
+    List<String> findDistinctCurrentVersionsBySoftwareName(@Param("softwareName") String softwareName);
+
+    // Set-based propagation of a catalog release to every row on the given installed versions
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SoftwareVersion sv SET " +
+            "sv.latestVersion = :latestVersion, " +
+            "sv.status = :status, " +
+            "sv.lastChecked = :checkedOn, " +
+            "sv.updateUrl = COALESCE(:updateUrl, sv.updateUrl), " +
+            "sv.releaseDate = COALESCE(:releaseDate, sv.releaseDate) " +
+            "WHERE sv.softwareName = :softwareName AND sv.currentVersion IN :currentVersions")
+    int applyCatalogRelease(@Param("softwareName") String softwareName,
+                            @Param("currentVersions") List<String> currentVersions,
+                            @Param("latestVersion") String latestVersion,
+                            @Param("status") SoftwareVersionStatus status,
+                            @Param("checkedOn") LocalDate checkedOn,
+                            @Param("updateUrl") String updateUrl,
+                            @Param("releaseDate") LocalDate releaseDate);
+
+    // Keyset-paged scan of rows matching the bulk check filter; null filters are ignored
+    @Query("SELECT sv.id AS id, sv.currentVersion AS currentVersion, " +
+            "sv.latestVersion AS latestVersion, sv.status AS status " +
+            "FROM SoftwareVersion sv JOIN sv.device d " +
+            "WHERE sv.id > :afterId " +
+            "AND (:status IS NULL OR sv.status = :status) " +
+            "AND (:lastCheckedBefore IS NULL OR sv.lastChecked IS NULL OR sv.lastChecked < :lastCheckedBefore) " +
+            "AND (:region IS NULL OR d.region = :region) " +
+            "ORDER BY sv.id ASC")
+    List<SoftwareVersionCheckRow> findCheckCandidates(@Param("afterId") Long afterId,
+                                                      @Param("status") SoftwareVersionStatus status,
+                                                      @Param("lastCheckedBefore") LocalDate lastCheckedBefore,
+                                                      @Param("region") Region region,
+                                                      Pageable pageable);
+
+    @Query("SELECT sv.id AS id, sv.currentVersion AS currentVersion, " +
+            "sv.latestVersion AS latestVersion, sv.status AS status " +
+            "FROM SoftwareVersion sv WHERE sv.id IN :ids ORDER BY sv.id ASC")
+    List<SoftwareVersionCheckRow> findCheckCandidatesByIds(@Param("ids") List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SoftwareVersion sv SET sv.status = :status, sv.lastChecked = :checkedOn WHERE sv.id IN :ids")
+    int markChecked(@Param("ids") List<Long> ids,
+                    @Param("status") SoftwareVersionStatus status,
+                    @Param("checkedOn") LocalDate checkedOn);
+}
@@ -1,13 +1,18 @@
 package com.prodapt.license_tracker_backend.repository;
 
 import com.prodapt.license_tracker_backend.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Resolved on every authenticated request, so served from the query cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     public Optional<User> findByUsername(String username);
     public Optional<User> findByEmail(String email);
     public Boolean existsByUsername(String username);
@@ -2,7 +2,10 @@ package com.prodapt.license_tracker_backend.repository;
 
 
 import com.prodapt.license_tracker_backend.entities.Vendor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 
 import org.springframework.stereotype.Repository;
@@ -11,6 +14,7 @@ import java.util.Optional;
 
 @Repository
 public interface VendorRepository extends JpaRepository<Vendor, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Vendor> findByVendorName(String vendorName);
     boolean existsByVendorName(String vendorName);
 
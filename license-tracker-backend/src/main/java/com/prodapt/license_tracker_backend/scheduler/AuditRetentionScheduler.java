@@ -0,0 +1,95 @@
+package com.prodapt.license_tracker_backend.scheduler;
+
+import com.prodapt.license_tracker_backend.audit.AuditPartitionManager;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import com.prodapt.license_tracker_backend.service.AuditLogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Keeps audit_logs to the last audit.retention.months full months plus the current one.
+ * Older months are written to the audit archive and then removed, a month at a time, so a
+ * failed run leaves every month either still in the table or fully archived.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditRetentionScheduler {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogService auditLogService;
+    private final AuditPartitionManager auditPartitionManager;
+    private final ApplicationMetrics applicationMetrics;
+
+    @Value("${audit.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.retention.months:12}")
+    private int retentionMonths;
+
+    @Value("${audit.partitioning.months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    @Scheduled(cron = "${audit.retention.cron:0 30 2 * * ?}")
+    public void applyRetention() {
+        // Partitions are added ahead even with retention disabled, so searches keep being pruned
+        addPartitions();
+        if (!enabled) {
+            return;
+        }
+        log.info("=== Starting scheduled audit log retention ===");
+        removeExpiredMonths();
+    }
+
+    /**
+     * Manual trigger method for testing or admin use; runs even when scheduled retention is disabled
+     */
+    public void applyRetentionManually() {
+        log.info("Manual audit log retention triggered");
+        addPartitions();
+        removeExpiredMonths();
+    }
+
+    private void addPartitions() {
+        try {
+            auditPartitionManager.ensurePartitionsThrough(YearMonth.now().plusMonths(partitionMonthsAhead));
+        } catch (Exception e) {
+            // New rows still land in p_future; retention can go ahead
+            log.error("Failed to add audit_logs partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    private void removeExpiredMonths() {
+        LocalDateTime oldest = auditLogRepository.findOldestTimestamp();
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        if (oldest == null || !YearMonth.from(oldest).isBefore(cutoff)) {
+            log.info("No audit logs older than {}", cutoff);
+            return;
+        }
+
+        int monthsRemoved = 0;
+        long logsArchived = 0;
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            try {
+                logsArchived += auditLogService.archiveMonth(month);
+                auditPartitionManager.removeMonth(month);
+                monthsRemoved++;
+            } catch (Exception e) {
+                // Later months stay too, so the table never has a gap
+                log.error("Audit log retention stopped at {}: {}", month, e.getMessage(), e);
+                break;
+            }
+        }
+
+        log.info("=== Audit log retention completed: {} month(s), {} log(s) archived ===", monthsRemoved, logsArchived);
+        applicationMetrics.recordJobItems("audit-retention", "months-removed", monthsRemoved);
+        applicationMetrics.recordJobItems("audit-retention", "logs-archived", logsArchived);
+    }
+}
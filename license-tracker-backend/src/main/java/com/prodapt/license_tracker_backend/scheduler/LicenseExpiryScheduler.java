@@ -1,10 +1,13 @@
 package com.prodapt.license_tracker_backend.scheduler;
 
 
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
 import com.prodapt.license_tracker_backend.entities.License;
 import com.prodapt.license_tracker_backend.entities.LicenseAssignment;
 import com.prodapt.license_tracker_backend.repository.LicenseAssignmentRepository;
 import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import com.prodapt.license_tracker_backend.util.LogSampler;
 import jakarta.annotation.Resource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +26,8 @@ public class LicenseExpiryScheduler {
 
     private final LicenseRepository licenseRepository;
     private final LicenseAssignmentRepository assignmentRepository;
+    private final ReferenceCacheService referenceCacheService;
+    private final ApplicationMetrics applicationMetrics;
 
 
     /**
@@ -48,6 +53,8 @@ public class LicenseExpiryScheduler {
 
         int deactivatedCount = 0;
         int assignmentsRevokedCount = 0;
+        LogSampler deactivationLog = new LogSampler();
+        LogSampler revocationLog = new LogSampler();
 
         for (License license : expiredLicenses) {
             try {
@@ -56,8 +63,10 @@ public class LicenseExpiryScheduler {
                 licenseRepository.save(license);
                 deactivatedCount++;
 
-                log.info("License {} expired and deactivated. Valid until: {}",
-                        license.getLicenseKey(), license.getValidTo());
+                if (deactivationLog.sample()) {
+                    log.info("License {} expired and deactivated. Valid until: {}",
+                            license.getLicenseKey(), license.getValidTo());
+                }
 
                 // Auto-revoke all active assignments
                 List<LicenseAssignment> activeAssignments =
@@ -73,15 +82,19 @@ public class LicenseExpiryScheduler {
                     assignmentRepository.save(assignment);
                     assignmentsRevokedCount++;
 
-                    log.info("Auto-revoked assignment {} (Device: {}, License: {})",
-                            assignment.getId(),
-                            assignment.getDevice().getDeviceId(),
-                            license.getLicenseKey());
+                    // Guarded so unlogged assignments do not load their device
+                    if (revocationLog.sample()) {
+                        log.info("Auto-revoked assignment {} (Device: {}, License: {})",
+                                assignment.getId(),
+                                assignment.getDevice().getDeviceId(),
+                                license.getLicenseKey());
+                    }
                 }
 
                 // Update license current usage
                 license.setCurrentUsage(0);
                 licenseRepository.save(license);
+                referenceCacheService.evictLicense(license.getLicenseKey());
 
             } catch (Exception e) {
                 log.error("Error processing expired license {}: {}",
@@ -89,9 +102,14 @@ public class LicenseExpiryScheduler {
             }
         }
 
-        log.info("=== License expiry check completed ===");
-        log.info("Licenses deactivated: {}", deactivatedCount);
-        log.info("Assignments revoked: {}", assignmentsRevokedCount);
+        if (deactivationLog.getSuppressed() > 0 || revocationLog.getSuppressed() > 0) {
+            log.info("{} further deactivation(s) and {} further revocation(s) not logged individually",
+                    deactivationLog.getSuppressed(), revocationLog.getSuppressed());
+        }
+        log.info("=== License expiry check completed: {} license(s) deactivated, {} assignment(s) revoked ===",
+                deactivatedCount, assignmentsRevokedCount);
+        applicationMetrics.recordJobItems("license-expiry", "licenses-deactivated", deactivatedCount);
+        applicationMetrics.recordJobItems("license-expiry", "assignments-revoked", assignmentsRevokedCount);
     }
 
     /**
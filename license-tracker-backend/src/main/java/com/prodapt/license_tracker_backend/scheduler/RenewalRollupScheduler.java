@@ -0,0 +1,63 @@
+package com.prodapt.license_tracker_backend.scheduler;
+
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.repository.LicenseRenewalRollupRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.service.RenewalForecastService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the renewal rollup on first start and rebuilds it nightly, which reconciles any
+ * drift from licenses changed outside LicenseServiceImpl, such as imports done in SQL
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RenewalRollupScheduler {
+
+    private final RenewalForecastService renewalForecastService;
+    private final LicenseRenewalRollupRepository rollupRepository;
+    private final LicenseRepository licenseRepository;
+    private final ApplicationMetrics applicationMetrics;
+
+    @Value("${forecast.rollup.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillOnStartup() {
+        if (rollupRepository.count() == 0 && licenseRepository.count() > 0) {
+            log.info("Renewal rollup is empty, building it from licenses");
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${forecast.rollup.cron:0 15 3 * * ?}")
+    public void reconcileRollup() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        log.info("=== Starting scheduled renewal rollup rebuild ===");
+        rebuild();
+    }
+
+    /**
+     * Manual trigger method for testing or admin use
+     */
+    public int rebuildManually() {
+        log.info("Manual renewal rollup rebuild triggered");
+        return rebuild();
+    }
+
+    private int rebuild() {
+        int rows = renewalForecastService.rebuildRollup();
+        log.info("=== Renewal rollup rebuild completed: {} row(s) ===", rows);
+        applicationMetrics.recordJobItems("renewal-rollup", "rows", rows);
+        return rows;
+    }
+}
@@ -0,0 +1,83 @@
+package com.prodapt.license_tracker_backend.scheduler;
+
+import com.prodapt.license_tracker_backend.analytics.LicenseSnapshot;
+import com.prodapt.license_tracker_backend.analytics.UsageSnapshotStore;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every license's usage, capacity, cost and status once a day into the usage
+ * snapshot store that backs the trend endpoints
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UsageSnapshotScheduler {
+
+    private final LicenseRepository licenseRepository;
+    private final UsageSnapshotStore usageSnapshotStore;
+    private final ApplicationMetrics applicationMetrics;
+
+    @Value("${analytics.snapshots.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.snapshots.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${analytics.snapshots.cron:0 45 23 * * ?}")
+    public void takeSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        log.info("=== Starting scheduled usage snapshot ===");
+        writeSnapshot(LocalDate.now());
+    }
+
+    /**
+     * Manual trigger method for testing or admin use; replaces today's snapshot
+     */
+    public int takeSnapshotManually() {
+        log.info("Manual usage snapshot triggered");
+        return writeSnapshot(LocalDate.now());
+    }
+
+    private int writeSnapshot(LocalDate day) {
+        List<LicenseSnapshot> snapshots = new ArrayList<>();
+
+        // Keyset batches with the vendor fetched alongside, each in its own short transaction
+        long afterId = 0;
+        List<License> batch;
+        do {
+            batch = licenseRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, batchSize));
+            for (License license : batch) {
+                snapshots.add(LicenseSnapshot.of(license, day));
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+
+        try {
+            usageSnapshotStore.write(day, snapshots);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write usage snapshot for " + day, e);
+        }
+
+        log.info("=== Usage snapshot completed: {} license(s) for {} ===", snapshots.size(), day);
+        applicationMetrics.recordJobItems("usage-snapshot", "licenses", snapshots.size());
+        return snapshots.size();
+    }
+}
@@ -1,6 +1,7 @@
 // src/main/java/com/prodapt/license_tracker_backend/service/AuditLogService.java
 package com.prodapt.license_tracker_backend.service;
 
+import com.prodapt.license_tracker_backend.audit.AuditDetails;
 import com.prodapt.license_tracker_backend.dto.AuditLogResponse;
 import com.prodapt.license_tracker_backend.dto.CreateAuditLogRequest;
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 public interface AuditLogService {
 
@@ -17,12 +19,21 @@ public interface AuditLogService {
     void log(Long userId, String username, EntityType entityType,
              String entityId, AuditAction action, String details);
 
+    /**
+     * Same as the String variant, with details serialized by AuditDetailsWriter
+     */
+    void log(Long userId, String username, EntityType entityType,
+             String entityId, AuditAction action, AuditDetails details);
+
     Page<AuditLogResponse> getAllAuditLogs(Pageable pageable);
 
     Page<AuditLogResponse> getAuditLogsByUser(Long userId, Pageable pageable);
 
     Page<AuditLogResponse> getAuditLogsByEntity(EntityType entityType, String entityId, Pageable pageable);
 
+    /**
+     * Searches dated from startDate continue into the audit archive once audit_logs is exhausted
+     */
     Page<AuditLogResponse> getAuditLogsByFilters(
             EntityType entityType,
             AuditAction action,
@@ -33,6 +44,9 @@ public interface AuditLogService {
 
     Page<AuditLogResponse> searchAuditLogs(String searchTerm, Pageable pageable);
 
+    /**
+     * Falls back to the audit archive for logs removed by retention
+     */
     AuditLogResponse getAuditLogById(Long logId);
 
     /**
@@ -46,7 +60,8 @@ public interface AuditLogService {
     Page<AuditLogResponse> searchByDeviceId(String deviceId, Pageable pageable);
 
     /**
-     * NEW: Advanced search with all filters
+     * NEW: Advanced search with all filters; like getAuditLogsByFilters, includes archived
+     * logs when startDate is given
      */
     Page<AuditLogResponse> advancedSearch(
             String entityType,
@@ -57,4 +72,10 @@ public interface AuditLogService {
             LocalDateTime startDate,
             LocalDateTime endDate,
             Pageable pageable);
+
+    /**
+     * Copies every audit log of month into the audit archive, newest first. Returns the
+     * number of logs archived; a month without logs leaves no archive file.
+     */
+    long archiveMonth(YearMonth month);
 }
@@ -6,6 +6,8 @@ package com.prodapt.license_tracker_backend.service;
 import com.prodapt.license_tracker_backend.dto.AssignmentRequest;
 import com.prodapt.license_tracker_backend.dto.AssignmentResponse;
 import com.prodapt.license_tracker_backend.dto.RevokeAssignmentRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -15,6 +17,7 @@ public interface LicenseAssignmentService {
     List<AssignmentResponse> getActiveAssignmentsByDevice(Long deviceId);
     List<AssignmentResponse> getActiveAssignmentsByLicense(Long licenseId);
     List<AssignmentResponse> getAllActiveAssignments();
+    Page<AssignmentResponse> getActiveAssignments(Pageable pageable);
     List<AssignmentResponse> getAllAssignmentsByDevice(Long deviceId);
     List<AssignmentResponse> getAllAssignmentsByLicense(Long licenseId);
     AssignmentResponse getAssignmentById(Long id);
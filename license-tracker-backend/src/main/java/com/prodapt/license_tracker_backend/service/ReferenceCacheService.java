@@ -0,0 +1,14 @@
+package com.prodapt.license_tracker_backend.service;
+
+
+import java.util.Map;
+
+public interface ReferenceCacheService {
+    void evictLicense(String licenseKey);
+    void evictAllLicenses();
+    void evictDevice(String deviceId);
+    void evictVendors();
+    void evictToolResults();
+    void clearAll();
+    Map<String, Map<String, Object>> getStatistics();
+}
@@ -0,0 +1,30 @@
+package com.prodapt.license_tracker_backend.service;
+
+import com.prodapt.license_tracker_backend.analytics.RenewalRollupEntry;
+import com.prodapt.license_tracker_backend.analytics.RenewalScenario;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Renewal cost of licenses whose valid_to falls in a horizon, by month, vendor, region and
+ * license type, from the monthly renewal rollup
+ */
+public interface RenewalForecastService {
+
+    /**
+     * Licenses due between from and to (inclusive), with the scenario applied
+     */
+    RenewalForecastResponse getForecast(LocalDate from, LocalDate to, RenewalScenario scenario);
+
+    /**
+     * Moves a license's contribution in the rollup; before is null for a new license and
+     * after is null for a deleted one. Joins the caller's transaction.
+     */
+    void recordLicenseChange(RenewalRollupEntry before, RenewalRollupEntry after);
+
+    /**
+     * Recomputes the whole rollup from the licenses table; returns the number of rollup rows
+     */
+    int rebuildRollup();
+}
@@ -0,0 +1,13 @@
+package com.prodapt.license_tracker_backend.service;
+
+
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogRequest;
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogResponse;
+
+import java.util.List;
+
+public interface SoftwareCatalogService {
+    SoftwareCatalogResponse publishRelease(SoftwareCatalogRequest request);
+    List<SoftwareCatalogResponse> getAllCatalogEntries();
+    SoftwareCatalogResponse getCatalogEntry(String softwareName);
+}
@@ -1,6 +1,8 @@
 package com.prodapt.license_tracker_backend.service;
 
 
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesRequest;
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesResponse;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionRequest;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionResponse;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionStatsResponse;
@@ -19,4 +21,5 @@ public interface SoftwareVersionService {
     List<SoftwareVersionResponse> getSoftwareVersionsByStatus(String status);
     SoftwareVersionStatsResponse getStatistics();
     SoftwareVersionResponse checkForUpdates(Long id);
+    BulkCheckUpdatesResponse checkForUpdatesBulk(BulkCheckUpdatesRequest request);
 }
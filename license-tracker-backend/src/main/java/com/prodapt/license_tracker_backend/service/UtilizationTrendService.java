@@ -0,0 +1,30 @@
+package com.prodapt.license_tracker_backend.service;
+
+import com.prodapt.license_tracker_backend.analytics.TrendGranularity;
+import com.prodapt.license_tracker_backend.dto.UtilizationTrendPoint;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Usage, capacity and cost over time from the daily usage snapshots; never reads the
+ * license tables
+ */
+public interface UtilizationTrendService {
+
+    List<UtilizationTrendPoint> getLicenseTrend(String licenseKey, LocalDate from, LocalDate to,
+                                                TrendGranularity granularity);
+
+    /**
+     * One series per vendor, or only vendorName's when given
+     */
+    List<UtilizationTrendPoint> getVendorTrend(String vendorName, LocalDate from, LocalDate to,
+                                               TrendGranularity granularity);
+
+    /**
+     * One series per region, or only region's when given
+     */
+    List<UtilizationTrendPoint> getRegionTrend(Region region, LocalDate from, LocalDate to,
+                                               TrendGranularity granularity);
+}
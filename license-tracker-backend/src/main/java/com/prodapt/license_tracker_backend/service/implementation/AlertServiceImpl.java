@@ -1,6 +1,7 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
 import com.prodapt.license_tracker_backend.dto.AlertResponse;
 import com.prodapt.license_tracker_backend.dto.AlertStatsResponse;
 import com.prodapt.license_tracker_backend.entities.Alert;
@@ -45,6 +46,7 @@ public class AlertServiceImpl implements AlertService {
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
     private final ObjectMapper objectMapper;
+    private final ApplicationMetrics applicationMetrics;
 
     // Helper method to get current user info
     private Map<String, Object> getCurrentUserInfo() {
@@ -309,6 +311,8 @@ public class AlertServiceImpl implements AlertService {
             log.error("Failed to create audit log for scheduled license expiry check", e);
         }
 
+        applicationMetrics.recordJobItems("license-expiry-alerts", "licenses-checked", licenses.size());
+        applicationMetrics.recordJobItems("license-expiry-alerts", "alerts-generated", alertsGenerated);
         log.info("✅ License expiry check completed. Generated {} new alerts", alertsGenerated);
     }
 
@@ -380,6 +384,9 @@ public class AlertServiceImpl implements AlertService {
             log.error("Failed to create audit log for scheduled software version check", e);
         }
 
+        applicationMetrics.recordJobItems("software-version-alerts", "versions-checked",
+                outdatedVersions.size() + criticalVersions.size());
+        applicationMetrics.recordJobItems("software-version-alerts", "alerts-generated", alertsGenerated);
         log.info("✅ Software version check completed. Generated {} new alerts", alertsGenerated);
     }
 
@@ -473,6 +480,8 @@ public class AlertServiceImpl implements AlertService {
         }
 
         logAuditDetails(licenses.size(), generatedAlertIds);
+        applicationMetrics.recordJobItems("license-capacity-alerts", "licenses-checked", licenses.size());
+        applicationMetrics.recordJobItems("license-capacity-alerts", "alerts-generated", generatedAlertIds.size());
         log.info("✅ License capacity check completed. Generated {} new alerts", generatedAlertIds.size());
     }
 
@@ -1,36 +1,57 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
+import com.prodapt.license_tracker_backend.audit.AuditArchive;
+import com.prodapt.license_tracker_backend.audit.AuditDetails;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
 import com.prodapt.license_tracker_backend.dto.AuditLogResponse;
 import com.prodapt.license_tracker_backend.dto.CreateAuditLogRequest;
 import com.prodapt.license_tracker_backend.entities.AuditLog;
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
 import com.prodapt.license_tracker_backend.entities.enums.EntityType;
 import com.prodapt.license_tracker_backend.exception.ResourceNotFoundException;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
 import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditLogServiceImpl implements AuditLogService {
 
+    private static final int ARCHIVE_CHUNK_SIZE = 5000;
+
     private final AuditLogRepository auditLogRepository;
+    private final ApplicationMetrics applicationMetrics;
+    private final AuditDetailsWriter auditDetailsWriter;
+    private final AuditArchive auditArchive;
 
 
     @Override
     @Async
     @Transactional
     public void log(CreateAuditLogRequest request) {
+        applicationMetrics.auditWriteStarted();
         try {
             AuditLog auditLog = AuditLog.builder()
                     .userId(request.getUserId())
@@ -45,10 +66,13 @@ public class AuditLogServiceImpl implements AuditLogService {
                     .build();
 
             auditLogRepository.save(auditLog);
-            log.info("Audit log created: {} {} by user {}",
+            // One per audited change, so once per row in bulk operations
+            log.debug("Audit log created: {} {} by user {}",
                     request.getAction(), request.getEntityType(), request.getUsername());
         } catch (Exception e) {
             log.error("Failed to create audit log", e);
+        } finally {
+            applicationMetrics.auditWriteFinished();
         }
     }
 
@@ -69,26 +93,47 @@ public class AuditLogServiceImpl implements AuditLogService {
         log(request);
     }
 
+    @Override
+    @Async
+    @Transactional
+    public void log(Long userId, String username, EntityType entityType,
+                    String entityId, AuditAction action, AuditDetails details) {
+        String json;
+        try {
+            json = details != null ? auditDetailsWriter.write(details) : null;
+        } catch (Exception e) {
+            log.error("Failed to serialize audit details for {} {}", action, entityType, e);
+            return;
+        }
+
+        log(userId, username, entityType, entityId, action, json);
+    }
+
     @Override
     public Page<AuditLogResponse> getAllAuditLogs(Pageable pageable) {
         log.info("Fetching all audit logs");
-        return auditLogRepository.findByOrderByTimestampDesc(pageable)
+        Page<AuditLogResponse> live = auditLogRepository.findByOrderByTimestampDesc(pageable)
                 .map(this::mapToResponse);
+        return withArchived(live, pageable, null, null, AuditArchive.Filter.of(null, null, null));
     }
 
     @Override
     public Page<AuditLogResponse> getAuditLogsByUser(Long userId, Pageable pageable) {
         log.info("Fetching audit logs for user: {}", userId);
-        return auditLogRepository.findByUserIdOrderByTimestampDesc(userId, pageable)
+        Page<AuditLogResponse> live = auditLogRepository.findByUserIdOrderByTimestampDesc(userId, pageable)
                 .map(this::mapToResponse);
+        return withArchived(live, pageable, null, null, AuditArchive.Filter.of(null, null, userId));
     }
 
     @Override
     public Page<AuditLogResponse> getAuditLogsByEntity(EntityType entityType, String entityId, Pageable pageable) {
         log.info("Fetching audit logs for entity: {} - {}", entityType, entityId);
-        return auditLogRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc(
+        Page<AuditLogResponse> live = auditLogRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc(
                         entityType, entityId, pageable)
                 .map(this::mapToResponse);
+        AuditArchive.Filter filter = AuditArchive.Filter.of(entityType != null ? entityType.name() : null, null, null)
+                .and("entityId=" + entityId, entry -> entityId != null && entityId.equals(entry.getEntityId()));
+        return withArchived(live, pageable, null, null, filter);
     }
 
     @Override
@@ -101,30 +146,41 @@ public class AuditLogServiceImpl implements AuditLogService {
             Pageable pageable) {
 
         log.info("Fetching audit logs with filters");
-        return auditLogRepository.findByFilters(
+        Page<AuditLogResponse> live = auditLogRepository.findByFilters(
                         entityType, action, userId, startDate, endDate, pageable)
                 .map(this::mapToResponse);
+        return withArchived(live, pageable, startDate, endDate, AuditArchive.Filter.of(
+                entityType != null ? entityType.name() : null, action != null ? action.name() : null, userId));
     }
 
     @Override
     public Page<AuditLogResponse> searchAuditLogs(String searchTerm, Pageable pageable) {
         log.info("Searching audit logs with term: {}", searchTerm);
-        return auditLogRepository.searchAuditLogs(searchTerm, pageable)
+        Page<AuditLogResponse> live = auditLogRepository.searchAuditLogs(searchTerm, pageable)
                 .map(this::mapToResponse);
+        AuditArchive.Filter filter = AuditArchive.Filter.of(null, null, null)
+                .and("any~" + lowerCase(searchTerm), entry -> containsIgnoreCase(entry.getDetails(), searchTerm)
+                        || containsIgnoreCase(entry.getUsername(), searchTerm)
+                        || containsIgnoreCase(entry.getEntityId(), searchTerm));
+        return withArchived(live, pageable, null, null, filter);
     }
 
     @Override
     public Page<AuditLogResponse> searchByLicenseKey(String licenseKey, Pageable pageable) {
         log.info("Searching audit logs by license key: {}", licenseKey);
-        return auditLogRepository.findByLicenseKey(licenseKey, pageable)
+        Page<AuditLogResponse> live = auditLogRepository.findByLicenseKey(licenseKey, pageable)
                 .map(this::mapToResponse);
+        return withArchived(live, pageable, null, null,
+                whereContains(AuditArchive.Filter.of(null, null, null), "details", AuditLogResponse::getDetails, licenseKey));
     }
 
     @Override
     public Page<AuditLogResponse> searchByDeviceId(String deviceId, Pageable pageable) {
         log.info("Searching audit logs by device ID: {}", deviceId);
-        return auditLogRepository.findByDeviceId(deviceId, pageable)
+        Page<AuditLogResponse> live = auditLogRepository.findByDeviceId(deviceId, pageable)
                 .map(this::mapToResponse);
+        return withArchived(live, pageable, null, null,
+                whereContains(AuditArchive.Filter.of(null, null, null), "details", AuditLogResponse::getDetails, deviceId));
     }
 
     @Override
@@ -144,17 +200,102 @@ public class AuditLogServiceImpl implements AuditLogService {
         EntityType entityTypeEnum = entityType != null ? EntityType.valueOf(entityType.toUpperCase()) : null;
         AuditAction actionEnum = action != null ? AuditAction.valueOf(action.toUpperCase()) : null;
 
-        return auditLogRepository.searchByAdvancedFilters(
+        Page<AuditLogResponse> live = auditLogRepository.searchByAdvancedFilters(
                         entityTypeEnum, actionEnum, username, licenseKey, deviceId, startDate, endDate, pageable)
                 .map(this::mapToResponse);
+        AuditArchive.Filter filter = AuditArchive.Filter.of(
+                entityTypeEnum != null ? entityTypeEnum.name() : null, actionEnum != null ? actionEnum.name() : null, null);
+        filter = whereContains(filter, "username", AuditLogResponse::getUsername, username);
+        filter = whereContains(filter, "details", AuditLogResponse::getDetails, licenseKey);
+        filter = whereContains(filter, "details", AuditLogResponse::getDetails, deviceId);
+        return withArchived(live, pageable, startDate, endDate, filter);
     }
 
     @Override
     public AuditLogResponse getAuditLogById(Long logId) {
         log.info("Fetching audit log with ID: {}", logId);
-        AuditLog auditLog = auditLogRepository.findById(logId)
+        return auditLogRepository.findById(logId)
+                .map(this::mapToResponse)
+                .or(() -> auditArchive.findById(logId))
                 .orElseThrow(() -> new ResourceNotFoundException("Audit log not found with id: " + logId));
-        return mapToResponse(auditLog);
+    }
+
+    @Override
+    public long archiveMonth(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        Pageable chunk = PageRequest.of(0, ARCHIVE_CHUNK_SIZE);
+
+        try (AuditArchive.MonthWriter writer = auditArchive.open(month)) {
+            LocalDateTime beforeTimestamp = end;
+            long beforeId = Long.MAX_VALUE;
+            List<AuditLog> logs;
+            do {
+                logs = auditLogRepository.findChunkBefore(start, end, beforeTimestamp, beforeId, chunk);
+                for (AuditLog auditLog : logs) {
+                    writer.append(mapToResponse(auditLog));
+                }
+                if (!logs.isEmpty()) {
+                    AuditLog last = logs.get(logs.size() - 1);
+                    beforeTimestamp = last.getTimestamp();
+                    beforeId = last.getLogId();
+                }
+            } while (logs.size() == ARCHIVE_CHUNK_SIZE);
+
+            if (writer.getCount() > 0) {
+                writer.commit();
+            }
+            log.info("Archived {} audit log(s) from {}", writer.getCount(), month);
+            return writer.getCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive audit logs for " + month, e);
+        }
+    }
+
+    /**
+     * Appends archived matches to a page of audit_logs. Archived logs are all older than the
+     * ones still in the table, so in newest-first order they follow the last live match; any
+     * other order would have to sort the whole archive, so it is rejected once archived
+     * months are in range.
+     */
+    private Page<AuditLogResponse> withArchived(Page<AuditLogResponse> live, Pageable pageable,
+                                                LocalDateTime startDate, LocalDateTime endDate,
+                                                AuditArchive.Filter filter) {
+        if (pageable.isUnpaged() || !auditArchive.overlaps(startDate, endDate)) {
+            return live;
+        }
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        if (first != null && !(first.getProperty().equals("timestamp") && first.isDescending())) {
+            throw new ValidationException("Archived audit logs can only be listed newest first; sort by timestamp descending");
+        }
+
+        long skip = Math.max(0, pageable.getOffset() - live.getTotalElements());
+        int limit = pageable.getPageSize() - live.getNumberOfElements();
+        AuditArchive.SearchResult archived = auditArchive.search(startDate, endDate, filter, skip, limit);
+
+        List<AuditLogResponse> content = new ArrayList<>(live.getContent());
+        content.addAll(archived.rows());
+        return new PageImpl<>(content, pageable, live.getTotalElements() + archived.total());
+    }
+
+    private static AuditArchive.Filter whereContains(AuditArchive.Filter filter, String field,
+                                                     Function<AuditLogResponse, String> value, String term) {
+        if (term == null) {
+            return filter;
+        }
+        return filter.and(field + "~" + lowerCase(term), entry -> containsIgnoreCase(value.apply(entry), term));
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    // Same match as the repository's LOWER(...) LIKE LOWER('%term%')
+    private static boolean containsIgnoreCase(String value, String term) {
+        if (term == null) {
+            return true;
+        }
+        return value != null && value.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT));
     }
 
     private AuditLogResponse mapToResponse(AuditLog auditLog) {
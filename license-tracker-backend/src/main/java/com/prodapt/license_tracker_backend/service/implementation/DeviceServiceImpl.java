@@ -1,6 +1,9 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditChange;
+import com.prodapt.license_tracker_backend.audit.DeviceAuditEvents;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import com.prodapt.license_tracker_backend.dto.*;
 import com.prodapt.license_tracker_backend.entities.Device;
 import com.prodapt.license_tracker_backend.entities.LicenseAssignment;
@@ -11,12 +14,15 @@ import com.prodapt.license_tracker_backend.exception.ValidationException;
 import com.prodapt.license_tracker_backend.repository.*;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
 import com.prodapt.license_tracker_backend.service.DeviceService;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import com.prodapt.license_tracker_backend.util.LogSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -39,13 +45,17 @@ import static com.prodapt.license_tracker_backend.constants.DeviceConstants.CsvH
 @Slf4j
 public class DeviceServiceImpl implements DeviceService {
 
+    // Keeps the IN list of the duplicate check well below MySQL's packet limits
+    private static final int EXISTING_ID_LOOKUP_CHUNK = 1000;
+
     private final DeviceRepository deviceRepository;
     private final VendorRepository vendorRepository;
     private final LicenseAssignmentRepository assignmentRepository;
     private final LicenseRepository licenseRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final ReferenceCacheService referenceCacheService;
+    private final ApplicationMetrics applicationMetrics;
 
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Formats.DATE_FORMAT);
 
@@ -107,6 +117,7 @@ public class DeviceServiceImpl implements DeviceService {
                 .build();
 
         Device savedDevice = deviceRepository.save(device);
+        referenceCacheService.evictDevice(savedDevice.getDeviceId());
 
         // Manual audit log creation
         try {
@@ -114,11 +125,9 @@ public class DeviceServiceImpl implements DeviceService {
             String username = (String) userInfo.get(MapKeys.USERNAME);
             Long userId = (Long) userInfo.get(MapKeys.USER_ID);
 
-            Map<String, Object> createDetails = new HashMap<>();
-            createDetails.put(AuditDetailsKeys.DEVICE_ID, savedDevice.getDeviceId());
-            createDetails.put(AuditDetailsKeys.DEVICE_TYPE, savedDevice.getDeviceType());
-            createDetails.put(AuditDetailsKeys.MODEL, savedDevice.getModel());
-            createDetails.put(AuditDetailsKeys.REGION, savedDevice.getRegion());
+            DeviceAuditEvents.Created createDetails = new DeviceAuditEvents.Created(
+                    savedDevice.getDeviceId(), savedDevice.getDeviceType(), savedDevice.getModel(),
+                    savedDevice.getRegion(), null);
 
             auditLogService.log(
                     userId,
@@ -126,7 +135,7 @@ public class DeviceServiceImpl implements DeviceService {
                     EntityType.DEVICE,
                     savedDevice.getId().toString(),
                     AuditAction.CREATE,
-                    objectMapper.writeValueAsString(createDetails)
+                    createDetails
             );
         } catch (Exception e) {
             log.error(LogMessages.AUDIT_LOG_CREATE_FAILED, e);
@@ -151,6 +160,7 @@ public class DeviceServiceImpl implements DeviceService {
         // Update device fields
         updateDeviceFields(device, request);
         Device updatedDevice = deviceRepository.save(device);
+        referenceCacheService.evictDevice(updatedDevice.getDeviceId());
 
         // Get current user info
         Map<String, Object> userInfo = getCurrentUserInfo();
@@ -200,11 +210,8 @@ public class DeviceServiceImpl implements DeviceService {
     // Extracted method: Create device update audit log
     private void createDeviceUpdateAuditLog(DeviceChangeContext context, DeviceOldValues oldValues, DeviceRequest request) {
         try {
-            Map<String, Object> updateDetails = new HashMap<>();
-            updateDetails.put(AuditDetailsKeys.DEVICE_ID, context.getUpdatedDevice().getDeviceId());
-
-            Map<String, Object> changes = trackDeviceChanges(oldValues, request);
-            updateDetails.put(AuditDetailsKeys.CHANGES, changes);
+            DeviceAuditEvents.Updated updateDetails = new DeviceAuditEvents.Updated(
+                    context.getUpdatedDevice().getDeviceId(), trackDeviceChanges(oldValues, request));
 
             auditLogService.log(
                     context.getUserId(),
@@ -212,7 +219,7 @@ public class DeviceServiceImpl implements DeviceService {
                     EntityType.DEVICE,
                     context.getUpdatedDevice().getId().toString(),
                     AuditAction.UPDATE,
-                    objectMapper.writeValueAsString(updateDetails)
+                    updateDetails
             );
         } catch (Exception e) {
             log.error(LogMessages.AUDIT_LOG_UPDATE_FAILED, e);
@@ -220,33 +227,15 @@ public class DeviceServiceImpl implements DeviceService {
     }
 
     // Extracted method: Track device changes
-    private Map<String, Object> trackDeviceChanges(DeviceOldValues oldValues, DeviceRequest request) {
-        Map<String, Object> changes = new HashMap<>();
+    private Map<String, AuditChange> trackDeviceChanges(DeviceOldValues oldValues, DeviceRequest request) {
+        Map<String, AuditChange> changes = new LinkedHashMap<>();
 
-        if (!oldValues.getModel().equals(request.getModel())) {
-            changes.put(AuditDetailsKeys.MODEL,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getModel(), AuditDetailsKeys.NEW, request.getModel()));
-        }
-        if (!oldValues.getIpAddress().equals(request.getIpAddress())) {
-            changes.put(MapKeys.IP_ADDRESS,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getIpAddress(), AuditDetailsKeys.NEW, request.getIpAddress()));
-        }
-        if (!Objects.equals(oldValues.getLocation(), request.getLocation())) {
-            changes.put(MapKeys.LOCATION,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getLocation(), AuditDetailsKeys.NEW, request.getLocation()));
-        }
-        if (oldValues.getLifecycle() != request.getLifecycle()) {
-            changes.put(MapKeys.LIFECYCLE,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getLifecycle(), AuditDetailsKeys.NEW, request.getLifecycle()));
-        }
-        if (!Objects.equals(oldValues.getSoftwareName(), request.getSoftwareName())) {
-            changes.put(MapKeys.SOFTWARE_NAME,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getSoftwareName(), AuditDetailsKeys.NEW, request.getSoftwareName()));
-        }
-        if (!Objects.equals(oldValues.getSoftwareVersion(), request.getSoftwareVersion())) {
-            changes.put(MapKeys.SOFTWARE_VERSION,
-                    Map.of(AuditDetailsKeys.OLD, oldValues.getSoftwareVersion(), AuditDetailsKeys.NEW, request.getSoftwareVersion()));
-        }
+        AuditChange.track(changes, AuditDetailsKeys.MODEL, oldValues.getModel(), request.getModel());
+        AuditChange.track(changes, MapKeys.IP_ADDRESS, oldValues.getIpAddress(), request.getIpAddress());
+        AuditChange.track(changes, MapKeys.LOCATION, oldValues.getLocation(), request.getLocation());
+        AuditChange.track(changes, MapKeys.LIFECYCLE, oldValues.getLifecycle(), request.getLifecycle());
+        AuditChange.track(changes, MapKeys.SOFTWARE_NAME, oldValues.getSoftwareName(), request.getSoftwareName());
+        AuditChange.track(changes, MapKeys.SOFTWARE_VERSION, oldValues.getSoftwareVersion(), request.getSoftwareVersion());
 
         return changes;
     }
@@ -274,18 +263,13 @@ public class DeviceServiceImpl implements DeviceService {
 
             // Audit log for deletion with active licenses
             try {
-                Map<String, Object> deletionDetails = new HashMap<>();
-                deletionDetails.put(AuditDetailsKeys.DEVICE_ID, deviceId);
-                deletionDetails.put(AuditDetailsKeys.HAD_ACTIVE_LICENSES, true);
-                deletionDetails.put(AuditDetailsKeys.REVOKED_LICENSES_COUNT, activeAssignments.size());
-
                 auditLogService.log(
                         userId,
                         username,
                         EntityType.DEVICE,
                         id.toString(),
                         AuditAction.DELETE,
-                        objectMapper.writeValueAsString(deletionDetails)
+                        new DeviceAuditEvents.Deleted(deviceId, true, activeAssignments.size())
                 );
             } catch (Exception e) {
                 log.error(LogMessages.AUDIT_LOG_DELETE_FAILED, e);
@@ -293,17 +277,13 @@ public class DeviceServiceImpl implements DeviceService {
         } else {
             // Audit log for normal deletion
             try {
-                Map<String, Object> deletionDetails = new HashMap<>();
-                deletionDetails.put(AuditDetailsKeys.DEVICE_ID, deviceId);
-                deletionDetails.put(AuditDetailsKeys.HAD_ACTIVE_LICENSES, false);
-
                 auditLogService.log(
                         userId,
                         username,
                         EntityType.DEVICE,
                         id.toString(),
                         AuditAction.DELETE,
-                        objectMapper.writeValueAsString(deletionDetails)
+                        new DeviceAuditEvents.Deleted(deviceId, false, null)
                 );
             } catch (Exception e) {
                 log.error(LogMessages.AUDIT_LOG_DELETE_FAILED, e);
@@ -311,6 +291,7 @@ public class DeviceServiceImpl implements DeviceService {
         }
 
         deviceRepository.delete(device);
+        referenceCacheService.evictDevice(deviceId);
         log.info(LogMessages.DEVICE_DELETED, deviceId);
     }
 
@@ -332,6 +313,7 @@ public class DeviceServiceImpl implements DeviceService {
         log.warn(LogMessages.AUTO_REVOKING_LICENSES,
                 activeAssignments.size(), device.getDeviceId(), device.getLifecycle());
 
+        LogSampler revocationLog = new LogSampler();
         for (LicenseAssignment assignment : activeAssignments) {
             assignment.setActive(false);
             assignment.setRevokedOn(LocalDateTime.now());
@@ -347,15 +329,13 @@ public class DeviceServiceImpl implements DeviceService {
             long currentUsage = assignmentRepository.countByLicenseAndActiveTrue(license);
             license.setCurrentUsage((int) currentUsage);
             licenseRepository.save(license);
+            referenceCacheService.evictLicense(license.getLicenseKey());
 
             // Audit log for each auto-revoked assignment
             try {
-                Map<String, Object> revokeDetails = new HashMap<>();
-                revokeDetails.put(AuditDetailsKeys.LICENSE_KEY, license.getLicenseKey());
-                revokeDetails.put(AuditDetailsKeys.DEVICE_ID, device.getDeviceId());
-                revokeDetails.put(AuditDetailsKeys.REASON, DefaultValues.AUTO_REVOKE_REASON);
-                revokeDetails.put(AuditDetailsKeys.DEVICE_LIFECYCLE, device.getLifecycle());
-                revokeDetails.put(AuditDetailsKeys.TRIGGERED_BY, username);
+                DeviceAuditEvents.LicenseAutoRevoked revokeDetails = new DeviceAuditEvents.LicenseAutoRevoked(
+                        license.getLicenseKey(), device.getDeviceId(), DefaultValues.AUTO_REVOKE_REASON,
+                        device.getLifecycle(), username);
 
                 auditLogService.log(
                         userId,
@@ -363,15 +343,20 @@ public class DeviceServiceImpl implements DeviceService {
                         EntityType.ASSIGNMENT,
                         assignment.getId().toString(),
                         AuditAction.UNASSIGN,
-                        objectMapper.writeValueAsString(revokeDetails)
+                        revokeDetails
                 );
             } catch (Exception e) {
                 log.error(LogMessages.AUDIT_LOG_AUTO_REVOKE_FAILED, e);
             }
 
-            log.info(LogMessages.LICENSE_AUTO_REVOKED, license.getLicenseKey(), device.getDeviceId());
+            if (revocationLog.sample()) {
+                log.info(LogMessages.LICENSE_AUTO_REVOKED, license.getLicenseKey(), device.getDeviceId());
+            }
         }
 
+        if (revocationLog.getSuppressed() > 0) {
+            log.info(LogMessages.AUTO_REVOKED_NOT_LISTED, revocationLog.getSuppressed(), device.getDeviceId());
+        }
         log.info(LogMessages.ALL_LICENSES_REVOKED, device.getDeviceId());
     }
 
@@ -393,6 +378,7 @@ public class DeviceServiceImpl implements DeviceService {
             return result;
         }
 
+        long start = System.nanoTime();
         try (Reader reader = new InputStreamReader(file.getInputStream())) {
             CSVFormat csvFormat = CSVFormat.DEFAULT
                     .builder()
@@ -408,6 +394,7 @@ public class DeviceServiceImpl implements DeviceService {
 
             // Process all devices
             processAllDevices(deviceRequests, result);
+            referenceCacheService.evictToolResults();
 
             // Create audit log
             Map<String, Object> userInfo = getCurrentUserInfo();
@@ -421,6 +408,7 @@ public class DeviceServiceImpl implements DeviceService {
             result.addError(ErrorMessages.FAILED_TO_PROCESS_FILE + e.getMessage());
         }
 
+        applicationMetrics.recordBulkUpload(result, System.nanoTime() - start);
         return result;
     }
 
@@ -448,24 +436,31 @@ public class DeviceServiceImpl implements DeviceService {
         String username = (String) userInfo.get(MapKeys.USERNAME);
         Long userId = (Long) userInfo.get(MapKeys.USER_ID);
 
+        // One lookup for the whole file; a query per row would also flush the devices queued
+        // so far and defeat JDBC insert batching
+        Set<String> takenDeviceIds = findExistingDeviceIds(deviceRequests);
+        LogSampler auditFailureLog = new LogSampler();
+
         for (DeviceBulkUploadRequest request : deviceRequests) {
             try {
-                processDeviceUpload(request, result, username, userId);
+                processDeviceUpload(request, result, username, userId, takenDeviceIds, auditFailureLog);
             } catch (Exception e) {
                 result.addError(String.format(Formats.CSV_ROW_DEVICE_ERROR_FORMAT,
                         request.getRowNumber(), request.getDeviceId(), e.getMessage()));
             }
         }
+
+        if (auditFailureLog.getSuppressed() > 0) {
+            log.warn(LogMessages.AUDIT_LOG_FAILED_NOT_LISTED, auditFailureLog.getSuppressed());
+        }
     }
 
     // Extracted method: Create bulk upload audit log
     private void createBulkUploadAuditLog(MultipartFile file, BulkUploadResult result, Map<String, Object> userInfo) {
         try {
-            Map<String, Object> bulkUploadDetails = new HashMap<>();
-            bulkUploadDetails.put(AuditDetailsKeys.FILE_NAME, file.getOriginalFilename());
-            bulkUploadDetails.put(AuditDetailsKeys.TOTAL_RECORDS, result.getTotalRecords());
-            bulkUploadDetails.put(AuditDetailsKeys.SUCCESS_COUNT, result.getSuccessCount());
-            bulkUploadDetails.put(AuditDetailsKeys.FAILURE_COUNT, result.getFailureCount());
+            DeviceAuditEvents.BulkUploaded bulkUploadDetails = new DeviceAuditEvents.BulkUploaded(
+                    file.getOriginalFilename(), result.getTotalRecords(),
+                    result.getSuccessCount(), result.getFailureCount());
 
             String username = (String) userInfo.get(MapKeys.USERNAME);
             Long userId = (Long) userInfo.get(MapKeys.USER_ID);
@@ -476,16 +471,32 @@ public class DeviceServiceImpl implements DeviceService {
                     EntityType.DEVICE,
                     DefaultValues.BULK_UPLOAD_ENTITY_ID,
                     AuditAction.CREATE,
-                    objectMapper.writeValueAsString(bulkUploadDetails)
+                    bulkUploadDetails
             );
         } catch (Exception e) {
             log.error(LogMessages.AUDIT_LOG_BULK_UPLOAD_FAILED, e);
         }
     }
 
+    private Set<String> findExistingDeviceIds(List<DeviceBulkUploadRequest> deviceRequests) {
+        List<String> deviceIds = deviceRequests.stream()
+                .map(DeviceBulkUploadRequest::getDeviceId)
+                .distinct()
+                .toList();
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < deviceIds.size(); from += EXISTING_ID_LOOKUP_CHUNK) {
+            List<String> chunk = deviceIds.subList(from, Math.min(deviceIds.size(), from + EXISTING_ID_LOOKUP_CHUNK));
+            existing.addAll(deviceRepository.findExistingDeviceIds(chunk));
+        }
+        return existing;
+    }
+
+    // takenDeviceIds also collects ids created earlier in the same file, so duplicate rows are rejected
     private void processDeviceUpload(DeviceBulkUploadRequest request, BulkUploadResult result,
-                                     String username, Long userId) {
-        if (deviceRepository.existsByDeviceId(request.getDeviceId())) {
+                                     String username, Long userId, Set<String> takenDeviceIds,
+                                     LogSampler auditFailureLog) {
+        if (!takenDeviceIds.add(request.getDeviceId())) {
             throw new ValidationException(ErrorMessages.DEVICE_ID_ALREADY_EXISTS + request.getDeviceId());
         }
 
@@ -507,12 +518,9 @@ public class DeviceServiceImpl implements DeviceService {
 
         // Audit log for individual device creation in bulk upload
         try {
-            Map<String, Object> details = new HashMap<>();
-            details.put(AuditDetailsKeys.DEVICE_ID, savedDevice.getDeviceId());
-            details.put(AuditDetailsKeys.DEVICE_TYPE, savedDevice.getDeviceType());
-            details.put(AuditDetailsKeys.MODEL, savedDevice.getModel());
-            details.put(AuditDetailsKeys.REGION, savedDevice.getRegion());
-            details.put(AuditDetailsKeys.SOURCE, DefaultValues.BULK_UPLOAD_SOURCE);
+            DeviceAuditEvents.Created details = new DeviceAuditEvents.Created(
+                    savedDevice.getDeviceId(), savedDevice.getDeviceType(), savedDevice.getModel(),
+                    savedDevice.getRegion(), DefaultValues.BULK_UPLOAD_SOURCE);
 
             auditLogService.log(
                     userId,
@@ -520,10 +528,13 @@ public class DeviceServiceImpl implements DeviceService {
                     EntityType.DEVICE,
                     savedDevice.getId().toString(),
                     AuditAction.CREATE,
-                    objectMapper.writeValueAsString(details)
+                    details
             );
         } catch (Exception e) {
-            log.warn(LogMessages.AUDIT_LOG_FAILED_DEVICE, savedDevice.getDeviceId(), e);
+            // A failing audit store fails every row; the first few are enough to diagnose it
+            if (auditFailureLog.sample()) {
+                log.warn(LogMessages.AUDIT_LOG_FAILED_DEVICE, savedDevice.getDeviceId(), e);
+            }
         }
     }
 
@@ -641,8 +652,9 @@ public class DeviceServiceImpl implements DeviceService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.DEVICES_BY_DEVICE_ID, key = "#deviceId")
     public DeviceResponse getDeviceByDeviceId(String deviceId) {
-        Device device = deviceRepository.findById(Long.parseLong(deviceId))
+        Device device = deviceRepository.findByDeviceId(deviceId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.DEVICE_NOT_FOUND_DEVICE_ID + deviceId));
         return mapToResponse(device);
     }
@@ -1,6 +1,6 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AssignmentAuditEvents;
 import com.prodapt.license_tracker_backend.dto.AssignmentRequest;
 import com.prodapt.license_tracker_backend.dto.AssignmentResponse;
 import com.prodapt.license_tracker_backend.dto.RevokeAssignmentRequest;
@@ -18,9 +18,12 @@ import com.prodapt.license_tracker_backend.repository.LicenseRepository;
 import com.prodapt.license_tracker_backend.repository.UserRepository;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
 import com.prodapt.license_tracker_backend.service.LicenseAssignmentService;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -40,16 +43,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
     
     private static final String USERID="userId";
     private static final String USERNAME="username";
-    private static final String LICENSE_KEY="licenseKey";
-    private static final String SOFTWARE_NAME="softwareName";
-    private static final String FAILURE_REASON="failureReason";
-    private static final String STATUS="status";
-    private static final String DEVICE_ID="deviceId";
-    private static final String DEVICE_ID_NAME="deviceIdName";
     private static final String IP_ADDRESS="ipAddress";
-    private static final String ASSIGNMENT_ID="assignmentId";
-    private static final String LICENSE_ID="licenseId";
-    private static final String FAILURE="FAILURE";
     
     
     private final LicenseAssignmentRepository assignmentRepository;
@@ -57,7 +51,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
     private final LicenseRepository licenseRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final ReferenceCacheService referenceCacheService;
 
     /**
      * Helper method to get current user information including IP address
@@ -217,40 +211,38 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
     private void updateLicenseUsage(License license, long currentUsage) {
         license.setCurrentUsage((int) (currentUsage + 1));
         licenseRepository.save(license);
+        referenceCacheService.evictLicense(license.getLicenseKey());
     }
 
     // Extracted: Log successful assignment (no nested try-catch)
     private void logSuccessfulAssignment(LicenseAssignment savedAssignment, Device device, License license,
                                          long currentUsage, Long userId, String username, String ipAddress) {
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put(ASSIGNMENT_ID, savedAssignment.getId());
-
-            // Device details
-            auditDetails.put(DEVICE_ID, device.getId());
-            auditDetails.put(DEVICE_ID_NAME, device.getDeviceId());
-            auditDetails.put("deviceType", device.getDeviceType() != null ? device.getDeviceType().name() : null);
-            auditDetails.put("deviceLocation", device.getLocation());
-            auditDetails.put("deviceRegion", device.getRegion() != null ? device.getRegion().name() : null);
-
-            // License details
-            auditDetails.put(LICENSE_ID, license.getId());
-            auditDetails.put(LICENSE_KEY, license.getLicenseKey());
-            auditDetails.put(SOFTWARE_NAME, license.getSoftwareName());
-            auditDetails.put("licenseType", license.getLicenseType() != null ? license.getLicenseType().name() : null);
-
-            // Usage tracking
             long newUsage = currentUsage + 1;
-            auditDetails.put("usageBeforeAssignment", currentUsage);
-            auditDetails.put("usageAfterAssignment", newUsage);
-            auditDetails.put("maxUsage", license.getMaxUsage());
-            auditDetails.put("utilizationPercentage", (newUsage * 100.0) / license.getMaxUsage());
-
-            // Assignment details
-            auditDetails.put("assignedBy", savedAssignment.getAssignedBy());
-            auditDetails.put("assignedOn", savedAssignment.getAssignedOn().toString());
-            auditDetails.put(IP_ADDRESS, ipAddress);
-            auditDetails.put(STATUS, "SUCCESS");
+            AssignmentAuditEvents.Assigned auditDetails = AssignmentAuditEvents.Assigned.builder()
+                    .assignmentId(savedAssignment.getId())
+                    // Device details
+                    .deviceId(device.getId())
+                    .deviceIdName(device.getDeviceId())
+                    .deviceType(device.getDeviceType())
+                    .deviceLocation(device.getLocation())
+                    .deviceRegion(device.getRegion())
+                    // License details
+                    .licenseId(license.getId())
+                    .licenseKey(license.getLicenseKey())
+                    .softwareName(license.getSoftwareName())
+                    .licenseType(license.getLicenseType())
+                    // Usage tracking
+                    .usageBeforeAssignment(currentUsage)
+                    .usageAfterAssignment(newUsage)
+                    .maxUsage(license.getMaxUsage())
+                    .utilizationPercentage((newUsage * 100.0) / license.getMaxUsage())
+                    // Assignment details
+                    .assignedBy(savedAssignment.getAssignedBy())
+                    .assignedOn(savedAssignment.getAssignedOn().toString())
+                    .ipAddress(ipAddress)
+                    .status(AssignmentAuditEvents.SUCCESS)
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -258,7 +250,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                     EntityType.ASSIGNMENT,
                     savedAssignment.getId().toString(),
                     AuditAction.ASSIGN,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for successful assignment", e);
@@ -269,12 +261,13 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
     // Extracted: Log unexpected error (no nested try-catch)
     private void logUnexpectedError(AssignmentRequest request, Long userId, String username, Exception e) {
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put(DEVICE_ID, request.getDeviceId());
-            auditDetails.put(LICENSE_ID, request.getLicenseId());
-            auditDetails.put(FAILURE_REASON, "UNEXPECTED_ERROR");
-            auditDetails.put("errorMessage", e.getMessage());
-            auditDetails.put(STATUS, FAILURE);
+            AssignmentAuditEvents.AssignmentFailed auditDetails = AssignmentAuditEvents.AssignmentFailed.builder()
+                    .deviceId(request.getDeviceId())
+                    .licenseId(request.getLicenseId())
+                    .failureReason("UNEXPECTED_ERROR")
+                    .errorMessage(e.getMessage())
+                    .status(AssignmentAuditEvents.FAILURE)
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -282,7 +275,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                     EntityType.ASSIGNMENT,
                     "FAILED_ASSIGNMENT",
                     AuditAction.ASSIGN,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception auditError) {
             log.error("Failed to create audit log for unexpected error", auditError);
@@ -297,17 +290,18 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                                      Device device, License license,
                                      String failureReason, String errorMessage) {
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put(DEVICE_ID, device.getId());
-            auditDetails.put(DEVICE_ID_NAME, device.getDeviceId());
-            auditDetails.put(LICENSE_ID, license.getId());
-            auditDetails.put(LICENSE_KEY, license.getLicenseKey());
-            auditDetails.put(SOFTWARE_NAME, license.getSoftwareName());
-            auditDetails.put(FAILURE_REASON, failureReason);
-            auditDetails.put("errorMessage", errorMessage);
-            auditDetails.put(IP_ADDRESS, ipAddress);
-            auditDetails.put(STATUS, FAILURE);
-            auditDetails.put("attemptedBy", username);
+            AssignmentAuditEvents.AssignmentFailed auditDetails = AssignmentAuditEvents.AssignmentFailed.builder()
+                    .deviceId(device.getId())
+                    .deviceIdName(device.getDeviceId())
+                    .licenseId(license.getId())
+                    .licenseKey(license.getLicenseKey())
+                    .softwareName(license.getSoftwareName())
+                    .failureReason(failureReason)
+                    .errorMessage(errorMessage)
+                    .ipAddress(ipAddress)
+                    .attemptedBy(username)
+                    .status(AssignmentAuditEvents.FAILURE)
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -315,7 +309,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                     EntityType.ASSIGNMENT,
                     "FAILED_ASSIGNMENT",
                     AuditAction.ASSIGN,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for failed assignment", e);
@@ -341,14 +335,15 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
         if (Boolean.FALSE.equals(assignment.getActive())) {
             // Log failed revocation attempt
             try {
-                Map<String, Object> auditDetails = new HashMap<>();
-                auditDetails.put(ASSIGNMENT_ID, assignmentId);
-                auditDetails.put(DEVICE_ID, assignment.getDevice().getId());
-                auditDetails.put(LICENSE_ID, assignment.getLicense().getId());
-                auditDetails.put(FAILURE_REASON, "ALREADY_REVOKED");
-                auditDetails.put("revokedOn", assignment.getRevokedOn() != null ? assignment.getRevokedOn().toString() : null);
-                auditDetails.put("revokedBy", assignment.getRevokedBy());
-                auditDetails.put(STATUS, FAILURE);
+                AssignmentAuditEvents.RevocationFailed auditDetails = AssignmentAuditEvents.RevocationFailed.builder()
+                        .assignmentId(assignmentId)
+                        .deviceId(assignment.getDevice().getId())
+                        .licenseId(assignment.getLicense().getId())
+                        .failureReason("ALREADY_REVOKED")
+                        .revokedOn(assignment.getRevokedOn() != null ? assignment.getRevokedOn().toString() : null)
+                        .revokedBy(assignment.getRevokedBy())
+                        .status(AssignmentAuditEvents.FAILURE)
+                        .build();
 
                 auditLogService.log(
                         userId,
@@ -356,7 +351,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                         EntityType.ASSIGNMENT,
                         assignmentId.toString(),
                         AuditAction.UNASSIGN,
-                        objectMapper.writeValueAsString(auditDetails)
+                        auditDetails
                 );
             } catch (Exception e) {
                 log.error("Failed to create audit log for failed revocation", e);
@@ -386,6 +381,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
         long usageAfterRevocation = assignmentRepository.countActiveAssignmentsByLicenseId(license.getId());
         license.setCurrentUsage((int) usageAfterRevocation);
         licenseRepository.save(license);
+        referenceCacheService.evictLicense(license.getLicenseKey());
 
         // 5. Create audit log for successful revocation
         try {
@@ -394,37 +390,32 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                     savedAssignment.getRevokedOn().toLocalDate()
             );
 
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put(ASSIGNMENT_ID, savedAssignment.getId());
-
-            // Device details
-            auditDetails.put(DEVICE_ID, device.getId());
-            auditDetails.put(DEVICE_ID_NAME, device.getDeviceId());
-            auditDetails.put("deviceType", device.getDeviceType() != null ? device.getDeviceType().name() : null);
-
-            // License details
-            auditDetails.put(LICENSE_ID, license.getId());
-            auditDetails.put(LICENSE_KEY, license.getLicenseKey());
-            auditDetails.put(SOFTWARE_NAME, license.getSoftwareName());
-
-            // Usage tracking
-            auditDetails.put("usageBeforeRevocation", usageBeforeRevocation);
-            auditDetails.put("usageAfterRevocation", usageAfterRevocation);
-            auditDetails.put("maxUsage", license.getMaxUsage());
-            auditDetails.put("utilizationPercentage", (usageAfterRevocation * 100.0) / license.getMaxUsage());
-
-            // Revocation details
-            auditDetails.put("revokedBy", savedAssignment.getRevokedBy());
-            auditDetails.put("revokedOn", savedAssignment.getRevokedOn().toString());
-            auditDetails.put("revocationReason", savedAssignment.getRevocationReason());
-
-            // Assignment history
-            auditDetails.put("originallyAssignedBy", assignedBy);
-            auditDetails.put("originallyAssignedOn", assignedOn.toString());
-            auditDetails.put("assignmentDurationDays", assignmentDurationDays);
-
-            auditDetails.put(IP_ADDRESS, ipAddress);
-            auditDetails.put(STATUS, "SUCCESS");
+            AssignmentAuditEvents.Revoked auditDetails = AssignmentAuditEvents.Revoked.builder()
+                    .assignmentId(savedAssignment.getId())
+                    // Device details
+                    .deviceId(device.getId())
+                    .deviceIdName(device.getDeviceId())
+                    .deviceType(device.getDeviceType())
+                    // License details
+                    .licenseId(license.getId())
+                    .licenseKey(license.getLicenseKey())
+                    .softwareName(license.getSoftwareName())
+                    // Usage tracking
+                    .usageBeforeRevocation(usageBeforeRevocation)
+                    .usageAfterRevocation(usageAfterRevocation)
+                    .maxUsage(license.getMaxUsage())
+                    .utilizationPercentage((usageAfterRevocation * 100.0) / license.getMaxUsage())
+                    // Revocation details
+                    .revokedBy(savedAssignment.getRevokedBy())
+                    .revokedOn(savedAssignment.getRevokedOn().toString())
+                    .revocationReason(savedAssignment.getRevocationReason())
+                    // Assignment history
+                    .originallyAssignedBy(assignedBy)
+                    .originallyAssignedOn(assignedOn.toString())
+                    .assignmentDurationDays(assignmentDurationDays)
+                    .ipAddress(ipAddress)
+                    .status(AssignmentAuditEvents.SUCCESS)
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -432,7 +423,7 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
                     EntityType.ASSIGNMENT,
                     savedAssignment.getId().toString(),
                     AuditAction.UNASSIGN,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for successful revocation", e);
@@ -444,57 +435,49 @@ public class LicenseAssignmentServiceImpl implements LicenseAssignmentService {
         return mapToResponse(savedAssignment);
     }
 
+    // Read paths use DTO projections so each listing is a single statement
+
     @Override
     public List<AssignmentResponse> getActiveAssignmentsByDevice(Long deviceId) {
         log.info("Fetching active assignments for device: {}", deviceId);
-        List<LicenseAssignment> assignments = assignmentRepository.findByDeviceIdAndActiveTrue(deviceId);
-        return assignments.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return assignmentRepository.findActiveResponsesByDeviceId(deviceId);
     }
 
     @Override
     public List<AssignmentResponse> getActiveAssignmentsByLicense(Long licenseId) {
         log.info("Fetching active assignments for license: {}", licenseId);
-        List<LicenseAssignment> assignments = assignmentRepository.findByLicenseIdAndActiveTrue(licenseId);
-        return assignments.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return assignmentRepository.findActiveResponsesByLicenseId(licenseId);
     }
 
     @Override
     public List<AssignmentResponse> getAllActiveAssignments() {
         log.info("Fetching all active assignments");
-        List<LicenseAssignment> assignments = assignmentRepository.findByActiveTrue();
-        return assignments.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return assignmentRepository.findAllActiveResponses();
+    }
+
+    @Override
+    public Page<AssignmentResponse> getActiveAssignments(Pageable pageable) {
+        log.info("Fetching active assignments page {} (size {})", pageable.getPageNumber(), pageable.getPageSize());
+        return assignmentRepository.findActiveResponses(pageable);
     }
 
     @Override
     public List<AssignmentResponse> getAllAssignmentsByDevice(Long deviceId) {
         log.info("Fetching all assignments (including revoked) for device: {}", deviceId);
-        List<LicenseAssignment> assignments = assignmentRepository.findByDeviceId(deviceId);
-        return assignments.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return assignmentRepository.findResponsesByDeviceId(deviceId);
     }
 
     @Override
     public List<AssignmentResponse> getAllAssignmentsByLicense(Long licenseId) {
         log.info("Fetching all assignments (including revoked) for license: {}", licenseId);
-        List<LicenseAssignment> assignments = assignmentRepository.findByLicenseId(licenseId);
-        return assignments.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return assignmentRepository.findResponsesByLicenseId(licenseId);
     }
 
     @Override
     public AssignmentResponse getAssignmentById(Long id) {
         log.info("Fetching assignment: {}", id);
-        LicenseAssignment assignment = assignmentRepository.findById(id)
+        return assignmentRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Assignment not found with id: " + id));
-        return mapToResponse(assignment);
     }
 
     /**
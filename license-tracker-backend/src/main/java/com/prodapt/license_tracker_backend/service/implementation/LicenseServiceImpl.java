@@ -1,6 +1,8 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.analytics.RenewalRollupEntry;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import com.prodapt.license_tracker_backend.dto.LicenseRequest;
 import com.prodapt.license_tracker_backend.dto.LicenseResponse;
 import com.prodapt.license_tracker_backend.entities.License;
@@ -14,9 +16,12 @@ import com.prodapt.license_tracker_backend.repository.UserRepository;
 import com.prodapt.license_tracker_backend.repository.VendorRepository;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
 import com.prodapt.license_tracker_backend.service.LicenseService;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import com.prodapt.license_tracker_backend.service.RenewalForecastService;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -39,6 +44,8 @@ public class LicenseServiceImpl implements LicenseService {
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
     private final ObjectMapper objectMapper;
+    private final ReferenceCacheService referenceCacheService;
+    private final RenewalForecastService renewalForecastService;
 
     // Helper method to get current user info
     private Map<String, Object> getCurrentUserInfo() {
@@ -107,6 +114,8 @@ public class LicenseServiceImpl implements LicenseService {
         }
 
         License savedLicense = licenseRepository.save(license);
+        referenceCacheService.evictLicense(savedLicense.getLicenseKey());
+        renewalForecastService.recordLicenseChange(null, RenewalRollupEntry.of(savedLicense));
 
         // Create audit log
         try {
@@ -161,10 +170,15 @@ public class LicenseServiceImpl implements LicenseService {
 
         // Capture old values before update
         Map<String, Object> oldValues = captureOldValues(license);
+        String oldLicenseKey = license.getLicenseKey();
+        RenewalRollupEntry oldRenewal = RenewalRollupEntry.of(license);
 
         // Update license
         updateLicenseFields(license, request);
         License updatedLicense = licenseRepository.save(license);
+        referenceCacheService.evictLicense(oldLicenseKey);
+        referenceCacheService.evictLicense(updatedLicense.getLicenseKey());
+        renewalForecastService.recordLicenseChange(oldRenewal, RenewalRollupEntry.of(updatedLicense));
 
         // Get user info and create audit log
         Map<String, Object> userInfo = getCurrentUserInfo();
@@ -319,6 +333,7 @@ public class LicenseServiceImpl implements LicenseService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.LICENSES_BY_KEY, key = "#licenseKey")
     public LicenseResponse getLicenseByKey(String licenseKey) {
         License license = licenseRepository.findByLicenseKey(licenseKey)
                 .orElseThrow(() -> new ResourceNotFoundException("License not found with key: " + licenseKey));
@@ -348,7 +363,10 @@ public class LicenseServiceImpl implements LicenseService {
         Long userId = (Long) userInfo.get("userId");
 
         // Delete the license
+        RenewalRollupEntry renewal = RenewalRollupEntry.of(license);
         licenseRepository.delete(license);
+        referenceCacheService.evictLicense(licenseKey);
+        renewalForecastService.recordLicenseChange(renewal, null);
 
         // Create audit log
         try {
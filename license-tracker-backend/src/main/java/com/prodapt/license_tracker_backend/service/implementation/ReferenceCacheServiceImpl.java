@@ -0,0 +1,135 @@
+package com.prodapt.license_tracker_backend.service.implementation;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.prodapt.license_tracker_backend.ai.DataDomain;
+import com.prodapt.license_tracker_backend.ai.SemanticAnswerCache;
+import com.prodapt.license_tracker_backend.config.SecondLevelCacheMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceCacheServiceImpl implements ReferenceCacheService {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SemanticAnswerCache semanticAnswerCache;
+    private final SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    @Override
+    public void evictLicense(String licenseKey) {
+        evict(CacheNames.LICENSES_BY_KEY, licenseKey);
+        evictAssistantAnswers(DataDomain.LICENSES);
+    }
+
+    @Override
+    public void evictAllLicenses() {
+        clear(CacheNames.LICENSES_BY_KEY);
+        evictAssistantAnswers(DataDomain.LICENSES);
+    }
+
+    @Override
+    public void evictDevice(String deviceId) {
+        evict(CacheNames.DEVICES_BY_DEVICE_ID, deviceId);
+        evictAssistantAnswers(DataDomain.DEVICES);
+    }
+
+    @Override
+    public void evictVendors() {
+        clear(CacheNames.VENDORS);
+        evictAssistantAnswers(DataDomain.VENDORS);
+    }
+
+    @Override
+    public void evictToolResults() {
+        evictAssistantAnswers(DataDomain.values());
+    }
+
+    /**
+     * AI tool results are aggregates, so any write drops the whole tool cache rather
+     * than individual keys. Semantically cached answers are only dropped for the
+     * domains written, once the transaction commits.
+     */
+    private void evictAssistantAnswers(DataDomain... domains) {
+        clear(CacheNames.AI_TOOL_RESULTS);
+
+        Runnable invalidation = () -> {
+            for (DataDomain domain : domains) {
+                semanticAnswerCache.invalidate(domain);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        log.info("Clearing all reference caches");
+        cacheManager.getCacheNames().forEach(this::clear);
+        semanticAnswerCache.clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                continue;
+            }
+
+            CacheStats stats = nativeCache.stats();
+            Map<String, Object> cacheStats = new LinkedHashMap<>();
+            cacheStats.put("size", nativeCache.estimatedSize());
+            cacheStats.put("hits", stats.hitCount());
+            cacheStats.put("misses", stats.missCount());
+            cacheStats.put("hitRate", stats.hitRate());
+            cacheStats.put("evictions", stats.evictionCount());
+            statistics.put(name, cacheStats);
+        }
+
+        statistics.put("semanticAnswers", semanticAnswerCache.getStatistics());
+        // Hibernate second-level and query cache regions, the same counts Prometheus scrapes
+        statistics.putAll(secondLevelCacheMetrics.getRegionStatistics());
+        return statistics;
+    }
+
+    private void evict(String cacheName, String key) {
+        if (key == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.prodapt.license_tracker_backend.service.implementation;
+
+import com.prodapt.license_tracker_backend.analytics.RenewalRollupEntry;
+import com.prodapt.license_tracker_backend.analytics.RenewalScenario;
+import com.prodapt.license_tracker_backend.dto.RenewalCostRow;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastBucket;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastResponse;
+import com.prodapt.license_tracker_backend.dto.VendorResponse;
+import com.prodapt.license_tracker_backend.entities.LicenseRenewalRollup;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
+import com.prodapt.license_tracker_backend.repository.LicenseRenewalRollupRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.service.RenewalForecastService;
+import com.prodapt.license_tracker_backend.service.VendorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Whole months of a horizon come from the renewal rollup, a few hundred rows at most per
+ * month; only the partial months at either end are aggregated from licenses, through
+ * idx_license_renewal_forecast. Nothing is loaded per license.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RenewalForecastServiceImpl implements RenewalForecastService {
+
+    private static final int MAX_HORIZON_YEARS = 10;
+    private static final String NO_VENDOR_NAME = "N/A";
+
+    private final LicenseRenewalRollupRepository rollupRepository;
+    private final LicenseRepository licenseRepository;
+    private final VendorService vendorService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public RenewalForecastResponse getForecast(LocalDate from, LocalDate to, RenewalScenario scenario) {
+        log.info("Forecasting renewals from {} to {} with uplift {}% and consolidation {}%",
+                from, to, scenario.priceUpliftPercent(), scenario.consolidationPercent());
+        validate(from, to, scenario);
+
+        List<RenewalCost> costs = new ArrayList<>();
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        YearMonth firstWhole = from.getDayOfMonth() == 1 ? firstMonth : firstMonth.plusMonths(1);
+        YearMonth lastWhole = to.equals(lastMonth.atEndOfMonth()) ? lastMonth : lastMonth.minusMonths(1);
+
+        if (firstWhole.isAfter(lastWhole)) {
+            // No whole month in the horizon: at most two partial months, read in one range
+            addLicenseCosts(costs, from, to);
+        } else {
+            rollupRepository.findByIdRenewalMonthBetween(firstWhole.atDay(1), lastWhole.atDay(1))
+                    .forEach(rollup -> costs.add(RenewalCost.of(rollup)));
+            if (!firstWhole.equals(firstMonth)) {
+                addLicenseCosts(costs, from, firstMonth.atEndOfMonth());
+            }
+            if (!lastWhole.equals(lastMonth)) {
+                addLicenseCosts(costs, lastMonth.atDay(1), to);
+            }
+        }
+
+        return buildResponse(from, to, scenario, costs);
+    }
+
+    private void validate(LocalDate from, LocalDate to, RenewalScenario scenario) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("Start date " + from + " is after end date " + to);
+        }
+        if (from.plusYears(MAX_HORIZON_YEARS).isBefore(to)) {
+            throw new ValidationException("Forecast horizon cannot exceed " + MAX_HORIZON_YEARS + " years");
+        }
+        if (scenario.priceUpliftPercent().compareTo(BigDecimal.valueOf(-100)) < 0) {
+            throw new ValidationException("Price uplift cannot be below -100%");
+        }
+        if (scenario.consolidationPercent().signum() < 0
+                || scenario.consolidationPercent().compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new ValidationException("Consolidation must be between 0 and 100%");
+        }
+    }
+
+    private void addLicenseCosts(List<RenewalCost> costs, LocalDate from, LocalDate to) {
+        licenseRepository.sumRenewalCostByMonth(from, to).forEach(row -> costs.add(RenewalCost.of(row)));
+    }
+
+    private RenewalForecastResponse buildResponse(LocalDate from, LocalDate to, RenewalScenario scenario,
+                                                  List<RenewalCost> costs) {
+        Map<Long, String> vendorNames = new HashMap<>();
+        for (VendorResponse vendor : vendorService.getAllVendorsList()) {
+            vendorNames.put(vendor.getId(), vendor.getVendorName());
+        }
+
+        Totals total = new Totals();
+        // Every month of the horizon is listed, including those with nothing due
+        Map<YearMonth, Totals> byMonth = new LinkedHashMap<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            byMonth.put(month, new Totals());
+        }
+        Map<String, Totals> byVendor = new HashMap<>();
+        Map<Region, Totals> byRegion = new HashMap<>();
+        Map<LicenseType, Totals> byLicenseType = new HashMap<>();
+
+        BigDecimal priceFactor = scenario.priceFactor();
+        for (RenewalCost cost : costs) {
+            BigDecimal retained = scenario.retainedShare(cost.vendorId(), cost.licenseType());
+            BigDecimal projectedCount = retained.multiply(BigDecimal.valueOf(cost.licenseCount()));
+            BigDecimal projectedCost = cost.totalCost().multiply(retained).multiply(priceFactor);
+            String vendorName = cost.vendorId() == LicenseRenewalRollup.NO_VENDOR
+                    ? NO_VENDOR_NAME
+                    : vendorNames.getOrDefault(cost.vendorId(), "Vendor " + cost.vendorId());
+
+            for (Totals totals : List.of(total,
+                    byMonth.get(cost.month()),
+                    byVendor.computeIfAbsent(vendorName, name -> new Totals()),
+                    byRegion.computeIfAbsent(cost.region(), region -> new Totals()),
+                    byLicenseType.computeIfAbsent(cost.licenseType(), type -> new Totals()))) {
+                totals.add(cost, projectedCount, projectedCost);
+            }
+        }
+
+        return RenewalForecastResponse.builder()
+                .from(from)
+                .to(to)
+                .priceUpliftPercent(scenario.priceUpliftPercent())
+                .consolidationPercent(scenario.consolidationPercent())
+                .consolidationVendorId(scenario.consolidationVendorId())
+                .consolidationLicenseType(scenario.consolidationLicenseType() != null
+                        ? scenario.consolidationLicenseType().name() : null)
+                .licenseCount(total.licenseCount)
+                .baselineCost(total.baselineCost.setScale(2, RoundingMode.HALF_UP))
+                .projectedLicenseCount(total.projectedCount())
+                .projectedCost(total.projectedCost())
+                .byMonth(byMonth.entrySet().stream()
+                        .map(entry -> entry.getValue().toBucket(entry.getKey().toString()))
+                        .toList())
+                .byVendor(toBuckets(byVendor, Function.identity()))
+                .byRegion(toBuckets(byRegion, Region::name))
+                .byLicenseType(toBuckets(byLicenseType, LicenseType::name))
+                .build();
+    }
+
+    private static <K> List<RenewalForecastBucket> toBuckets(Map<K, Totals> totals, Function<K, String> keyName) {
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().toBucket(keyName.apply(entry.getKey())))
+                .sorted(Comparator.comparing(RenewalForecastBucket::getBaselineCost).reversed()
+                        .thenComparing(RenewalForecastBucket::getKey))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void recordLicenseChange(RenewalRollupEntry before, RenewalRollupEntry after) {
+        if (before != null && before.sameContribution(after)) {
+            return;
+        }
+        if (after != null) {
+            addToRollup(after, 1, after.cost());
+        }
+        if (before != null) {
+            addToRollup(before, -1, before.cost().negate());
+            rollupRepository.deleteIfEmpty(before.key());
+        }
+    }
+
+    private void addToRollup(RenewalRollupEntry entry, long licenseCount, BigDecimal cost) {
+        rollupRepository.addToMonth(entry.renewalMonth(), entry.vendorId(), entry.region().name(),
+                entry.licenseType().name(), licenseCount, cost);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildRollup() {
+        List<RenewalCostRow> rows = licenseRepository.sumRenewalCostByMonth();
+        rollupRepository.deleteAllInBatch();
+        for (RenewalCostRow row : rows) {
+            RenewalCost cost = RenewalCost.of(row);
+            rollupRepository.addToMonth(cost.month().atDay(1), cost.vendorId(), cost.region().name(),
+                    cost.licenseType().name(), cost.licenseCount(), cost.totalCost());
+        }
+        log.info("Rebuilt renewal rollup: {} month/vendor/region/type row(s)", rows.size());
+        return rows.size();
+    }
+
+    private record RenewalCost(YearMonth month, long vendorId, Region region, LicenseType licenseType,
+                               long licenseCount, BigDecimal totalCost) {
+
+        static RenewalCost of(LicenseRenewalRollup rollup) {
+            LicenseRenewalRollup.Key key = rollup.getId();
+            return new RenewalCost(YearMonth.from(key.getRenewalMonth()), key.getVendorId(), key.getRegion(),
+                    key.getLicenseType(), rollup.getLicenseCount(), rollup.getTotalCost());
+        }
+
+        static RenewalCost of(RenewalCostRow row) {
+            return new RenewalCost(
+                    YearMonth.of(row.getRenewalYear(), row.getRenewalMonth()),
+                    row.getVendorId() != null ? row.getVendorId() : LicenseRenewalRollup.NO_VENDOR,
+                    row.getRegion(),
+                    row.getLicenseType(),
+                    row.getLicenseCount(),
+                    row.getTotalCost() != null ? row.getTotalCost() : BigDecimal.ZERO);
+        }
+    }
+
+    // Projected values stay unrounded until the bucket is built, so rounding does not add up
+    private static final class Totals {
+        private long licenseCount;
+        private BigDecimal baselineCost = BigDecimal.ZERO;
+        private BigDecimal projectedCount = BigDecimal.ZERO;
+        private BigDecimal projectedCost = BigDecimal.ZERO;
+
+        void add(RenewalCost cost, BigDecimal projectedLicenses, BigDecimal projectedAmount) {
+            licenseCount += cost.licenseCount();
+            baselineCost = baselineCost.add(cost.totalCost());
+            projectedCount = projectedCount.add(projectedLicenses);
+            projectedCost = projectedCost.add(projectedAmount);
+        }
+
+        long projectedCount() {
+            return projectedCount.setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        BigDecimal projectedCost() {
+            return projectedCost.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        RenewalForecastBucket toBucket(String key) {
+            return RenewalForecastBucket.builder()
+                    .key(key)
+                    .licenseCount(licenseCount)
+                    .baselineCost(baselineCost.setScale(2, RoundingMode.HALF_UP))
+                    .projectedLicenseCount(projectedCount())
+                    .projectedCost(projectedCost())
+                    .build();
+        }
+    }
+}
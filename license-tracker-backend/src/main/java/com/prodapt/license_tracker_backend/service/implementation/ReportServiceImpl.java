@@ -5,6 +5,7 @@ import com.prodapt.license_tracker_backend.entities.*;
 import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.repository.*;
 import com.prodapt.license_tracker_backend.service.ReportService;
+import com.prodapt.license_tracker_backend.util.LicenseStatusEvaluator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -63,14 +64,17 @@ public class ReportServiceImpl implements ReportService {
     public List<AssignmentReportResponse> getAssignmentReport(String region, Boolean active) {
         log.info("Generating assignment report with filters - region: {}, active: {}", region, active);
 
-        List<LicenseAssignment> assignments = assignmentRepository.findAll();
+        Region regionFilter = null;
+        if (region != null && !region.isEmpty()) {
+            try {
+                regionFilter = Region.valueOf(region.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Unknown region matches nothing, as before
+                return List.of();
+            }
+        }
 
-        return assignments.stream()
-                .filter(a -> region == null || region.isEmpty() ||
-                        a.getDevice().getRegion().name().equalsIgnoreCase(region))
-                .filter(a -> active == null || a.getActive().equals(active))
-                .map(this::mapToAssignmentReport)
-                .toList();
+        return assignmentRepository.findReportRows(regionFilter, active);
     }
 
     @Override
@@ -126,20 +130,9 @@ public class ReportServiceImpl implements ReportService {
         LocalDate today = LocalDate.now();
         long daysUntilExpiry = ChronoUnit.DAYS.between(today, license.getValidTo());
 
-        String status;
-        if (daysUntilExpiry < 0) {
-            status = "EXPIRED";
-        } else if (daysUntilExpiry <= 30) {
-            status = "EXPIRING_SOON";
-        } else if (license.getMaxUsage() > 0 &&
-                (license.getCurrentUsage() * 100.0 / license.getMaxUsage()) >= 90) {
-            status = "NEAR_CAPACITY";
-        } else {
-            status = "ACTIVE";
-        }
+        String status = LicenseStatusEvaluator.determineStatus(license, today);
 
-        double usagePercentage = license.getMaxUsage() > 0 ?
-                (license.getCurrentUsage() * 100.0) / license.getMaxUsage() : 0.0;
+        double usagePercentage = LicenseStatusEvaluator.usagePercent(license);
 
         return LicenseReportResponse.builder()
                 .licenseId(license.getId())
@@ -178,21 +171,4 @@ public class ReportServiceImpl implements ReportService {
                 .purchasedDate(device.getPurchasedDate() != null ? device.getPurchasedDate().toString() : "N/A")
                 .build();
     }
-
-    private AssignmentReportResponse mapToAssignmentReport(LicenseAssignment assignment) {
-        return AssignmentReportResponse.builder()
-                .assignmentId(assignment.getId())
-                .licenseKey(assignment.getLicense().getLicenseKey())
-                .softwareName(assignment.getLicense().getSoftwareName())
-                .deviceId(assignment.getDevice().getDeviceId())
-                .deviceType(assignment.getDevice().getDeviceType().name())
-                .location(assignment.getDevice().getLocation())
-                .region(assignment.getDevice().getRegion().name())
-                .assignedOn(assignment.getAssignedOn())
-                .assignedBy(assignment.getAssignedBy())
-                .active(assignment.getActive())
-                .revokedOn(assignment.getRevokedOn())
-                .revokedBy(assignment.getRevokedBy())
-                .build();
-    }
 }
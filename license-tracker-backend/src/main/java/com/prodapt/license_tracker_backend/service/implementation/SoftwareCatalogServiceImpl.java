@@ -0,0 +1,213 @@
+package com.prodapt.license_tracker_backend.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogRequest;
+import com.prodapt.license_tracker_backend.dto.SoftwareCatalogResponse;
+import com.prodapt.license_tracker_backend.entities.SoftwareCatalog;
+import com.prodapt.license_tracker_backend.entities.User;
+import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+import com.prodapt.license_tracker_backend.exception.ResourceNotFoundException;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
+import com.prodapt.license_tracker_backend.repository.SoftwareCatalogRepository;
+import com.prodapt.license_tracker_backend.repository.SoftwareVersionRepository;
+import com.prodapt.license_tracker_backend.repository.UserRepository;
+import com.prodapt.license_tracker_backend.service.AuditLogService;
+import com.prodapt.license_tracker_backend.service.SoftwareCatalogService;
+import com.prodapt.license_tracker_backend.util.VersionStatusEvaluator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SoftwareCatalogServiceImpl implements SoftwareCatalogService {
+
+    private static final int MAX_VERSION_LENGTH = 20;
+
+    private final SoftwareCatalogRepository softwareCatalogRepository;
+    private final SoftwareVersionRepository softwareVersionRepository;
+    private final UserRepository userRepository;
+    private final AuditLogService auditLogService;
+    private final ObjectMapper objectMapper;
+
+    // Number of distinct installed versions bound into a single UPDATE ... IN (...) statement
+    @Value("${software-catalog.propagation.batch-size:500}")
+    private int propagationBatchSize;
+
+    // Helper method to get current user info
+    private Map<String, Object> getCurrentUserInfo() {
+        Map<String, Object> userInfo = new HashMap<>();
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()) {
+                String username = authentication.getName();
+                userInfo.put("username", username);
+
+                Long userId = fetchUserIdSafely(username);
+                userInfo.put("userId", userId);
+            }
+        } catch (Exception e) {
+            log.warn("Error getting current user info", e);
+        }
+
+        userInfo.putIfAbsent("username", "SYSTEM");
+        userInfo.putIfAbsent("userId", null);
+
+        return userInfo;
+    }
+
+    private Long fetchUserIdSafely(String username) {
+        try {
+            User user = userRepository.findByUsername(username).orElse(null);
+            if (user != null) {
+                return user.getId();
+            }
+        } catch (Exception e) {
+            log.debug("Could not fetch user ID for username: {}", username);
+        }
+        return null;
+    }
+
+    @Override
+    @Transactional
+    public SoftwareCatalogResponse publishRelease(SoftwareCatalogRequest request) {
+        log.info("Publishing catalog release {} {}", request.getSoftwareName(), request.getLatestVersion());
+
+        if (request.getLatestVersion().length() > MAX_VERSION_LENGTH) {
+            throw new ValidationException("Latest version must not exceed " + MAX_VERSION_LENGTH + " characters");
+        }
+
+        SoftwareCatalog entry = softwareCatalogRepository.findBySoftwareName(request.getSoftwareName())
+                .orElse(null);
+        boolean isNew = entry == null;
+        String previousVersion = isNew ? null : entry.getLatestVersion();
+
+        if (isNew) {
+            entry = SoftwareCatalog.builder()
+                    .softwareName(request.getSoftwareName())
+                    .build();
+        }
+        entry.setLatestVersion(request.getLatestVersion());
+        entry.setReleaseDate(request.getReleaseDate());
+        entry.setUpdateUrl(request.getUpdateUrl());
+
+        SoftwareCatalog saved = softwareCatalogRepository.save(entry);
+
+        Map<String, Long> statusBreakdown = propagateRelease(saved);
+        long affectedVersions = statusBreakdown.values().stream().mapToLong(Long::longValue).sum();
+
+        // One aggregate audit event for the whole propagation
+        try {
+            Map<String, Object> userInfo = getCurrentUserInfo();
+            Long userId = (Long) userInfo.get("userId");
+            String username = (String) userInfo.get("username");
+
+            Map<String, Object> auditDetails = new HashMap<>();
+            auditDetails.put("softwareName", saved.getSoftwareName());
+            auditDetails.put("previousLatestVersion", previousVersion);
+            auditDetails.put("latestVersion", saved.getLatestVersion());
+            auditDetails.put("releaseDate", saved.getReleaseDate() != null ? saved.getReleaseDate().toString() : null);
+            auditDetails.put("updateUrl", saved.getUpdateUrl());
+            auditDetails.put("affectedVersions", affectedVersions);
+            auditDetails.put("statusBreakdown", statusBreakdown);
+
+            auditLogService.log(
+                    userId,
+                    username,
+                    EntityType.SOFTWARE_CATALOG,
+                    saved.getId().toString(),
+                    isNew ? AuditAction.CREATE : AuditAction.UPDATE,
+                    objectMapper.writeValueAsString(auditDetails)
+            );
+        } catch (Exception e) {
+            log.error("Failed to create audit log for catalog release", e);
+        }
+
+        log.info("Catalog release {} {} applied to {} software version record(s)",
+                saved.getSoftwareName(), saved.getLatestVersion(), affectedVersions);
+
+        SoftwareCatalogResponse response = mapToResponse(saved);
+        response.setAffectedVersions(affectedVersions);
+        response.setStatusBreakdown(statusBreakdown);
+        return response;
+    }
+
+    /**
+     * Status only depends on (currentVersion, latestVersion), so it is computed once per
+     * distinct installed version and then written with one UPDATE per status bucket and batch
+     */
+    private Map<String, Long> propagateRelease(SoftwareCatalog entry) {
+        List<String> installedVersions =
+                softwareVersionRepository.findDistinctCurrentVersionsBySoftwareName(entry.getSoftwareName());
+
+        Map<SoftwareVersionStatus, List<String>> versionsByStatus = new EnumMap<>(SoftwareVersionStatus.class);
+        for (String currentVersion : installedVersions) {
+            SoftwareVersionStatus status =
+                    VersionStatusEvaluator.determineStatus(currentVersion, entry.getLatestVersion());
+            versionsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(currentVersion);
+        }
+
+        LocalDate today = LocalDate.now();
+        int batchSize = Math.max(1, propagationBatchSize);
+        Map<String, Long> statusBreakdown = new LinkedHashMap<>();
+
+        versionsByStatus.forEach((status, versions) -> {
+            long updated = 0;
+            for (int from = 0; from < versions.size(); from += batchSize) {
+                List<String> batch = versions.subList(from, Math.min(from + batchSize, versions.size()));
+                updated += softwareVersionRepository.applyCatalogRelease(
+                        entry.getSoftwareName(),
+                        batch,
+                        entry.getLatestVersion(),
+                        status,
+                        today,
+                        entry.getUpdateUrl(),
+                        entry.getReleaseDate()
+                );
+            }
+            statusBreakdown.put(status.name(), updated);
+        });
+
+        return statusBreakdown;
+    }
+
+    @Override
+    public List<SoftwareCatalogResponse> getAllCatalogEntries() {
+        return softwareCatalogRepository.findAllByOrderBySoftwareNameAsc().stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Override
+    public SoftwareCatalogResponse getCatalogEntry(String softwareName) {
+        SoftwareCatalog entry = softwareCatalogRepository.findBySoftwareName(softwareName)
+                .orElseThrow(() -> new ResourceNotFoundException("Catalog entry not found for software: " + softwareName));
+        return mapToResponse(entry);
+    }
+
+    private SoftwareCatalogResponse mapToResponse(SoftwareCatalog entry) {
+        return SoftwareCatalogResponse.builder()
+                .id(entry.getId())
+                .softwareName(entry.getSoftwareName())
+                .latestVersion(entry.getLatestVersion())
+                .releaseDate(entry.getReleaseDate())
+                .updateUrl(entry.getUpdateUrl())
+                .updatedAt(entry.getUpdatedAt())
+                .build();
+    }
+}
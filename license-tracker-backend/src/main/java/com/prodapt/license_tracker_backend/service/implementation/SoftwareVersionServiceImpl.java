@@ -1,6 +1,10 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditChange;
+import com.prodapt.license_tracker_backend.audit.SoftwareVersionAuditEvents;
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesRequest;
+import com.prodapt.license_tracker_backend.dto.BulkCheckUpdatesResponse;
+import com.prodapt.license_tracker_backend.dto.SoftwareVersionCheckRow;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionRequest;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionResponse;
 import com.prodapt.license_tracker_backend.dto.SoftwareVersionStatsResponse;
@@ -9,27 +13,37 @@ import com.prodapt.license_tracker_backend.entities.SoftwareVersion;
 import com.prodapt.license_tracker_backend.entities.User;
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
 import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
 import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
 import com.prodapt.license_tracker_backend.exception.ResourceNotFoundException;
 import com.prodapt.license_tracker_backend.exception.ValidationException;
 import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.repository.SoftwareCatalogRepository;
 import com.prodapt.license_tracker_backend.repository.SoftwareVersionRepository;
 import com.prodapt.license_tracker_backend.repository.UserRepository;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
 import com.prodapt.license_tracker_backend.service.SoftwareVersionService;
+import com.prodapt.license_tracker_backend.util.VersionStatusEvaluator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,10 +52,15 @@ import java.util.stream.Collectors;
 public class SoftwareVersionServiceImpl implements SoftwareVersionService {
 
     private final SoftwareVersionRepository softwareVersionRepository;
+    private final SoftwareCatalogRepository softwareCatalogRepository;
     private final DeviceRepository deviceRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Rows re-evaluated, updated and audited per transaction by the bulk update check
+    @Value("${software-versions.bulk-check.chunk-size:1000}")
+    private int bulkCheckChunkSize;
 
     // Helper method to get current user info
     private Map<String, Object> getCurrentUserInfo() {
@@ -94,7 +113,21 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
                     throw new ValidationException("Software version already exists for this device and software");
                 });
 
-        SoftwareVersionStatus status = determineStatus(request.getCurrentVersion(), request.getLatestVersion());
+        // Fall back to the software catalog when no latest version is supplied
+        if (request.getLatestVersion() == null || request.getLatestVersion().isEmpty()) {
+            softwareCatalogRepository.findBySoftwareName(request.getSoftwareName())
+                    .ifPresent(entry -> {
+                        request.setLatestVersion(entry.getLatestVersion());
+                        if (request.getUpdateUrl() == null) {
+                            request.setUpdateUrl(entry.getUpdateUrl());
+                        }
+                        if (request.getReleaseDate() == null) {
+                            request.setReleaseDate(entry.getReleaseDate());
+                        }
+                    });
+        }
+
+        SoftwareVersionStatus status = VersionStatusEvaluator.determineStatus(request.getCurrentVersion(), request.getLatestVersion());
 
         SoftwareVersion softwareVersion = SoftwareVersion.builder()
                 .device(device)
@@ -116,18 +149,19 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
             Long userId = (Long) userInfo.get("userId");
             String username = (String) userInfo.get("username");
 
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("softwareVersionId", saved.getId());
-            auditDetails.put("deviceId", device.getId());
-            auditDetails.put("deviceIdName", device.getDeviceId());
-            auditDetails.put("deviceType", device.getDeviceType() != null ? device.getDeviceType().name() : null);
-            auditDetails.put("softwareName", saved.getSoftwareName());
-            auditDetails.put("currentVersion", saved.getCurrentVersion());
-            auditDetails.put("latestVersion", saved.getLatestVersion());
-            auditDetails.put("status", saved.getStatus().name());
-            auditDetails.put("updateRecommended", status == SoftwareVersionStatus.OUTDATED || status == SoftwareVersionStatus.CRITICAL);
-            auditDetails.put("releaseDate", saved.getReleaseDate() != null ? saved.getReleaseDate().toString() : null);
-            auditDetails.put("updateUrl", saved.getUpdateUrl());
+            SoftwareVersionAuditEvents.Created auditDetails = SoftwareVersionAuditEvents.Created.builder()
+                    .softwareVersionId(saved.getId())
+                    .deviceId(device.getId())
+                    .deviceIdName(device.getDeviceId())
+                    .deviceType(device.getDeviceType())
+                    .softwareName(saved.getSoftwareName())
+                    .currentVersion(saved.getCurrentVersion())
+                    .latestVersion(saved.getLatestVersion())
+                    .status(saved.getStatus())
+                    .updateRecommended(status == SoftwareVersionStatus.OUTDATED || status == SoftwareVersionStatus.CRITICAL)
+                    .releaseDate(saved.getReleaseDate() != null ? saved.getReleaseDate().toString() : null)
+                    .updateUrl(saved.getUpdateUrl())
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -135,7 +169,7 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
                     EntityType.SOFTWARE_VERSION,
                     saved.getId().toString(),
                     AuditAction.CREATE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for software version creation", e);
@@ -168,7 +202,7 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
         softwareVersion.setCurrentVersion(request.getCurrentVersion());
         softwareVersion.setLatestVersion(request.getLatestVersion());
 
-        SoftwareVersionStatus newStatus = determineStatus(request.getCurrentVersion(), request.getLatestVersion());
+        SoftwareVersionStatus newStatus = VersionStatusEvaluator.determineStatus(request.getCurrentVersion(), request.getLatestVersion());
         softwareVersion.setStatus(newStatus);
         softwareVersion.setLastChecked(LocalDate.now());
         softwareVersion.setNotes(request.getNotes());
@@ -184,55 +218,17 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
 
         // Create audit log with changes
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("softwareVersionId", updated.getId());
-            auditDetails.put("deviceId", updated.getDevice().getId());
-            auditDetails.put("deviceIdName", updated.getDevice().getDeviceId());
-
             // Track changes
-            Map<String, Map<String, Object>> changes = new HashMap<>();
-
-            if (!oldSoftwareName.equals(request.getSoftwareName())) {
-                changes.put("softwareName", Map.of("old", oldSoftwareName, "new", request.getSoftwareName()));
-            }
-            if (!oldCurrentVersion.equals(request.getCurrentVersion())) {
-                changes.put("currentVersion", Map.of("old", oldCurrentVersion, "new", request.getCurrentVersion()));
-            }
-            if ((oldLatestVersion == null && request.getLatestVersion() != null) ||
-                    (oldLatestVersion != null && !oldLatestVersion.equals(request.getLatestVersion()))) {
-                changes.put("latestVersion", Map.of(
-                        "old", oldLatestVersion != null ? oldLatestVersion : "null",
-                        "new", request.getLatestVersion() != null ? request.getLatestVersion() : "null"
-                ));
-            }
-            if (oldStatus != newStatus) {
-                changes.put("status", Map.of("old", oldStatus.name(), "new", newStatus.name()));
-            }
-            if ((oldNotes == null && request.getNotes() != null) ||
-                    (oldNotes != null && !oldNotes.equals(request.getNotes()))) {
-                changes.put("notes", Map.of(
-                        "old", oldNotes != null ? oldNotes : "null",
-                        "new", request.getNotes() != null ? request.getNotes() : "null"
-                ));
-            }
-            if ((oldUpdateUrl == null && request.getUpdateUrl() != null) ||
-                    (oldUpdateUrl != null && !oldUpdateUrl.equals(request.getUpdateUrl()))) {
-                changes.put("updateUrl", Map.of(
-                        "old", oldUpdateUrl != null ? oldUpdateUrl : "null",
-                        "new", request.getUpdateUrl() != null ? request.getUpdateUrl() : "null"
-                ));
-            }
-            if ((oldReleaseDate == null && request.getReleaseDate() != null) ||
-                    (oldReleaseDate != null && !oldReleaseDate.equals(request.getReleaseDate()))) {
-                changes.put("releaseDate", Map.of(
-                        "old", oldReleaseDate != null ? oldReleaseDate.toString() : "null",
-                        "new", request.getReleaseDate() != null ? request.getReleaseDate().toString() : "null"
-                ));
-            }
-
-            auditDetails.put("changes", changes);
-            auditDetails.put("changeCount", changes.size());
-            auditDetails.put("lastChecked", LocalDate.now().toString());
+            Map<String, AuditChange> changes = new LinkedHashMap<>();
+            AuditChange.track(changes, "softwareName", oldSoftwareName, request.getSoftwareName());
+            AuditChange.track(changes, "currentVersion", oldCurrentVersion, request.getCurrentVersion());
+            AuditChange.track(changes, "latestVersion", oldLatestVersion, request.getLatestVersion());
+            AuditChange.track(changes, "status", oldStatus, newStatus);
+            AuditChange.track(changes, "notes", oldNotes, request.getNotes());
+            AuditChange.track(changes, "updateUrl", oldUpdateUrl, request.getUpdateUrl());
+            AuditChange.track(changes, "releaseDate",
+                    oldReleaseDate != null ? oldReleaseDate.toString() : null,
+                    request.getReleaseDate() != null ? request.getReleaseDate().toString() : null);
 
             auditLogService.log(
                     userId,
@@ -240,7 +236,8 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
                     EntityType.SOFTWARE_VERSION,
                     updated.getId().toString(),
                     AuditAction.UPDATE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    new SoftwareVersionAuditEvents.Updated(updated.getId(), updated.getDevice().getId(),
+                            updated.getDevice().getDeviceId(), changes, changes.size(), LocalDate.now().toString())
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for software version update", e);
@@ -278,15 +275,16 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
 
         // Create audit log
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("softwareVersionId", softwareVersionId);
-            auditDetails.put("deviceId", deviceId);
-            auditDetails.put("deviceIdName", deviceIdName);
-            auditDetails.put("softwareName", softwareName);
-            auditDetails.put("currentVersion", currentVersion);
-            auditDetails.put("latestVersion", latestVersion);
-            auditDetails.put("status", status.name());
-            auditDetails.put("deletedAt", java.time.LocalDateTime.now().toString());
+            SoftwareVersionAuditEvents.Deleted auditDetails = SoftwareVersionAuditEvents.Deleted.builder()
+                    .softwareVersionId(softwareVersionId)
+                    .deviceId(deviceId)
+                    .deviceIdName(deviceIdName)
+                    .softwareName(softwareName)
+                    .currentVersion(currentVersion)
+                    .latestVersion(latestVersion)
+                    .status(status)
+                    .deletedAt(java.time.LocalDateTime.now().toString())
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -294,7 +292,7 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
                     EntityType.SOFTWARE_VERSION,
                     softwareVersionId.toString(),
                     AuditAction.DELETE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for software version deletion", e);
@@ -368,7 +366,7 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
         // Re-evaluate status
         SoftwareVersionStatus newStatus = oldStatus;
         if (softwareVersion.getLatestVersion() != null) {
-            newStatus = determineStatus(
+            newStatus = VersionStatusEvaluator.determineStatus(
                     softwareVersion.getCurrentVersion(),
                     softwareVersion.getLatestVersion()
             );
@@ -384,19 +382,20 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
 
         // Create audit log for update check
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("action", "CHECK_FOR_UPDATES");
-            auditDetails.put("softwareVersionId", updated.getId());
-            auditDetails.put("deviceId", updated.getDevice().getId());
-            auditDetails.put("deviceIdName", updated.getDevice().getDeviceId());
-            auditDetails.put("softwareName", updated.getSoftwareName());
-            auditDetails.put("currentVersion", updated.getCurrentVersion());
-            auditDetails.put("latestVersion", updated.getLatestVersion());
-            auditDetails.put("oldStatus", oldStatus.name());
-            auditDetails.put("newStatus", newStatus.name());
-            auditDetails.put("statusChanged", oldStatus != newStatus);
-            auditDetails.put("lastChecked", updated.getLastChecked().toString());
-            auditDetails.put("previousCheck", oldLastChecked != null ? oldLastChecked.toString() : null);
+            SoftwareVersionAuditEvents.Checked auditDetails = SoftwareVersionAuditEvents.Checked.builder()
+                    .action(SoftwareVersionAuditEvents.CHECK_FOR_UPDATES)
+                    .softwareVersionId(updated.getId())
+                    .deviceId(updated.getDevice().getId())
+                    .deviceIdName(updated.getDevice().getDeviceId())
+                    .softwareName(updated.getSoftwareName())
+                    .currentVersion(updated.getCurrentVersion())
+                    .latestVersion(updated.getLatestVersion())
+                    .oldStatus(oldStatus)
+                    .newStatus(newStatus)
+                    .statusChanged(oldStatus != newStatus)
+                    .lastChecked(updated.getLastChecked().toString())
+                    .previousCheck(oldLastChecked != null ? oldLastChecked.toString() : null)
+                    .build();
 
             auditLogService.log(
                     userId,
@@ -404,7 +403,7 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
                     EntityType.SOFTWARE_VERSION,
                     updated.getId().toString(),
                     AuditAction.UPDATE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for update check", e);
@@ -415,49 +414,138 @@ public class SoftwareVersionServiceImpl implements SoftwareVersionService {
         return mapToResponse(updated);
     }
 
+    @Override
+    public BulkCheckUpdatesResponse checkForUpdatesBulk(BulkCheckUpdatesRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        SoftwareVersionStatus statusFilter = parseFilter(SoftwareVersionStatus.class, request.getStatus(), "status");
+        Region regionFilter = parseFilter(Region.class, request.getRegion(), "region");
+        LocalDate lastCheckedBefore = request.getLastCheckedBefore();
+
+        if (!byIds && statusFilter == null && regionFilter == null && lastCheckedBefore == null) {
+            throw new ValidationException("Provide ids or at least one of status, lastCheckedBefore, region");
+        }
+
+        int chunkSize = Math.max(1, bulkCheckChunkSize);
+        LocalDate today = LocalDate.now();
+        Map<String, Object> userInfo = getCurrentUserInfo();
+
+        BulkCheckUpdatesResponse summary = BulkCheckUpdatesResponse.builder()
+                .checkedOn(today)
+                .statusCounts(new TreeMap<>())
+                .transitions(new TreeMap<>())
+                .build();
+
+        log.info("Bulk update check started (byIds={}, status={}, lastCheckedBefore={}, region={})",
+                byIds, statusFilter, lastCheckedBefore, regionFilter);
+
+        if (byIds) {
+            List<Long> ids = request.getIds().stream().distinct().sorted().toList();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunkIds = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                transactionTemplate.executeWithoutResult(tx -> applyCheckChunk(
+                        softwareVersionRepository.findCheckCandidatesByIds(chunkIds), today, userInfo, summary));
+            }
+        } else {
+            // Keyset paging on id so rows updated by earlier chunks are never revisited
+            Long afterId = 0L;
+            while (afterId != null) {
+                Long cursor = afterId;
+                afterId = transactionTemplate.execute(tx -> {
+                    List<SoftwareVersionCheckRow> rows = softwareVersionRepository.findCheckCandidates(
+                            cursor, statusFilter, lastCheckedBefore, regionFilter, PageRequest.of(0, chunkSize));
+                    applyCheckChunk(rows, today, userInfo, summary);
+                    return rows.size() < chunkSize ? null : rows.get(rows.size() - 1).getId();
+                });
+            }
+        }
+
+        log.info("Bulk update check completed: {} row(s) in {} chunk(s), {} status change(s)",
+                summary.getProcessed(), summary.getChunks(), summary.getStatusChanged());
+
+        return summary;
+    }
+
     /**
-     * Determine version status based on current and latest versions
+     * Re-evaluate one chunk, write it back with one UPDATE per resulting status
+     * and record a single audit entry covering the whole chunk
      */
-    private SoftwareVersionStatus determineStatus(String currentVersion, String latestVersion) {
-        if (latestVersion == null || latestVersion.isEmpty()) {
-            return SoftwareVersionStatus.UNKNOWN;
+    private void applyCheckChunk(List<SoftwareVersionCheckRow> rows, LocalDate today,
+                                 Map<String, Object> userInfo, BulkCheckUpdatesResponse summary) {
+        if (rows.isEmpty()) {
+            return;
         }
 
-        if (currentVersion.equals(latestVersion)) {
-            return SoftwareVersionStatus.UP_TO_DATE;
+        Map<SoftwareVersionStatus, List<Long>> idsByStatus = new EnumMap<>(SoftwareVersionStatus.class);
+        Map<String, Long> chunkTransitions = new TreeMap<>();
+        List<Long> changedIds = new ArrayList<>();
+
+        for (SoftwareVersionCheckRow row : rows) {
+            SoftwareVersionStatus oldStatus = row.getStatus() != null ? row.getStatus() : SoftwareVersionStatus.UNKNOWN;
+
+            // Same rule as the single-row check: without a latest version the status is kept
+            SoftwareVersionStatus newStatus = oldStatus;
+            if (row.getLatestVersion() != null) {
+                newStatus = VersionStatusEvaluator.determineStatus(row.getCurrentVersion(), row.getLatestVersion());
+            }
+
+            idsByStatus.computeIfAbsent(newStatus, s -> new ArrayList<>()).add(row.getId());
+            if (oldStatus != newStatus) {
+                chunkTransitions.merge(oldStatus.name() + "->" + newStatus.name(), 1L, Long::sum);
+                changedIds.add(row.getId());
+            }
         }
 
-        // Simple version comparison - in production, use a proper version comparison library
+        Map<String, Long> chunkStatusCounts = new TreeMap<>();
+        idsByStatus.forEach((status, ids) -> {
+            softwareVersionRepository.markChecked(ids, status, today);
+            chunkStatusCounts.put(status.name(), (long) ids.size());
+        });
+
+        int chunkNumber = summary.getChunks() + 1;
+        Long firstId = rows.get(0).getId();
+        Long lastId = rows.get(rows.size() - 1).getId();
+
         try {
-            double current = parseVersion(currentVersion);
-            double latest = parseVersion(latestVersion);
-            double difference = latest - current;
-
-            if (difference >= 2.0) {
-                return SoftwareVersionStatus.CRITICAL;
-            } else if (difference > 0) {
-                return SoftwareVersionStatus.OUTDATED;
-            } else {
-                return SoftwareVersionStatus.UP_TO_DATE;
-            }
+            SoftwareVersionAuditEvents.BulkChecked auditDetails = SoftwareVersionAuditEvents.BulkChecked.builder()
+                    .action(SoftwareVersionAuditEvents.BULK_CHECK_FOR_UPDATES)
+                    .chunk(chunkNumber)
+                    .firstSoftwareVersionId(firstId)
+                    .lastSoftwareVersionId(lastId)
+                    .rowCount(rows.size())
+                    .statusCounts(chunkStatusCounts)
+                    .transitions(chunkTransitions)
+                    .changedIds(changedIds)
+                    .lastChecked(today.toString())
+                    .build();
+
+            auditLogService.log(
+                    (Long) userInfo.get("userId"),
+                    (String) userInfo.get("username"),
+                    EntityType.SOFTWARE_VERSION,
+                    firstId + "-" + lastId,
+                    AuditAction.UPDATE,
+                    auditDetails
+            );
         } catch (Exception e) {
-            log.warn("Unable to compare versions: {} vs {}", currentVersion, latestVersion);
-            return SoftwareVersionStatus.UNKNOWN;
+            log.error("Failed to create audit log for bulk update check", e);
         }
+
+        summary.setChunks(chunkNumber);
+        summary.setProcessed(summary.getProcessed() + rows.size());
+        summary.setStatusChanged(summary.getStatusChanged() + changedIds.size());
+        chunkStatusCounts.forEach((k, v) -> summary.getStatusCounts().merge(k, v, Long::sum));
+        chunkTransitions.forEach((k, v) -> summary.getTransitions().merge(k, v, Long::sum));
     }
 
-    /**
-     * Simple version parser - parses major.minor format
-     * In production, use a proper version comparison library like maven-artifact
-     */
-    private double parseVersion(String version) {
-        String[] parts = version.split("\\.");
-        if (parts.length >= 2) {
-            return Double.parseDouble(parts[0] + "." + parts[1]);
-        } else if (parts.length == 1) {
-            return Double.parseDouble(parts[0]);
+    private <E extends Enum<E>> E parseFilter(Class<E> type, String value, String field) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid " + field + ": " + value);
         }
-        throw new IllegalArgumentException("Invalid version format: " + version);
     }
 
     /**
@@ -0,0 +1,76 @@
+package com.prodapt.license_tracker_backend.service.implementation;
+
+import com.prodapt.license_tracker_backend.analytics.SnapshotColumn;
+import com.prodapt.license_tracker_backend.analytics.TrendGranularity;
+import com.prodapt.license_tracker_backend.analytics.TrendQuery;
+import com.prodapt.license_tracker_backend.analytics.TrendRow;
+import com.prodapt.license_tracker_backend.analytics.UsageSnapshotStore;
+import com.prodapt.license_tracker_backend.dto.UtilizationTrendPoint;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
+import com.prodapt.license_tracker_backend.service.UtilizationTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UtilizationTrendServiceImpl implements UtilizationTrendService {
+
+    private final UsageSnapshotStore usageSnapshotStore;
+
+    @Override
+    public List<UtilizationTrendPoint> getLicenseTrend(String licenseKey, LocalDate from, LocalDate to,
+                                                       TrendGranularity granularity) {
+        log.info("Fetching utilization trend for license {} from {} to {} by {}", licenseKey, from, to, granularity);
+        return query(from, to, granularity, SnapshotColumn.LICENSE_KEY, Map.of(SnapshotColumn.LICENSE_KEY, licenseKey));
+    }
+
+    @Override
+    public List<UtilizationTrendPoint> getVendorTrend(String vendorName, LocalDate from, LocalDate to,
+                                                      TrendGranularity granularity) {
+        log.info("Fetching utilization trend by vendor ({}) from {} to {} by {}", vendorName, from, to, granularity);
+        return query(from, to, granularity, SnapshotColumn.VENDOR,
+                vendorName != null ? Map.of(SnapshotColumn.VENDOR, vendorName) : Map.of());
+    }
+
+    @Override
+    public List<UtilizationTrendPoint> getRegionTrend(Region region, LocalDate from, LocalDate to,
+                                                      TrendGranularity granularity) {
+        log.info("Fetching utilization trend by region ({}) from {} to {} by {}", region, from, to, granularity);
+        return query(from, to, granularity, SnapshotColumn.REGION,
+                region != null ? Map.of(SnapshotColumn.REGION, region.name()) : Map.of());
+    }
+
+    private List<UtilizationTrendPoint> query(LocalDate from, LocalDate to, TrendGranularity granularity,
+                                              SnapshotColumn groupBy, Map<SnapshotColumn, String> filters) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("Start date " + from + " is after end date " + to);
+        }
+        return usageSnapshotStore.query(new TrendQuery(from, to, granularity, groupBy, filters)).stream()
+                .map(this::mapToPoint)
+                .toList();
+    }
+
+    private UtilizationTrendPoint mapToPoint(TrendRow row) {
+        double utilization = row.maxUsage() > 0 ? (row.currentUsage() * 100.0) / row.maxUsage() : 0.0;
+
+        return UtilizationTrendPoint.builder()
+                .periodStart(row.periodStart())
+                .snapshotDate(row.snapshotDate())
+                .group(row.group())
+                .licenseCount(row.licenses())
+                .currentUsage(row.currentUsage())
+                .maxUsage(row.maxUsage())
+                .utilizationPercentage(Math.round(utilization * 100.0) / 100.0)
+                .totalCost(BigDecimal.valueOf(row.costCents(), 2))
+                .licensesByStatus(row.licensesByStatus())
+                .build();
+    }
+}
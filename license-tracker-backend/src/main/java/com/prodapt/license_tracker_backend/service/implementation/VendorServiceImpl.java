@@ -1,6 +1,8 @@
 package com.prodapt.license_tracker_backend.service.implementation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditChange;
+import com.prodapt.license_tracker_backend.audit.VendorAuditEvents;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
 import com.prodapt.license_tracker_backend.dto.CreateVendorRequest;
 import com.prodapt.license_tracker_backend.dto.UpdateVendorRequest;
 import com.prodapt.license_tracker_backend.dto.VendorResponse;
@@ -14,9 +16,11 @@ import com.prodapt.license_tracker_backend.repository.LicenseRepository;
 import com.prodapt.license_tracker_backend.repository.UserRepository;
 import com.prodapt.license_tracker_backend.repository.VendorRepository;
 import com.prodapt.license_tracker_backend.service.AuditLogService;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
 import com.prodapt.license_tracker_backend.service.VendorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -25,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -38,7 +43,7 @@ public class VendorServiceImpl implements VendorService {
     private final LicenseRepository licenseRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
-    private final ObjectMapper objectMapper;
+    private final ReferenceCacheService referenceCacheService;
 
 
     private Map<String, Object> getCurrentUserInfo() {
@@ -93,21 +98,23 @@ public class VendorServiceImpl implements VendorService {
                 .build();
 
         Vendor savedVendor = vendorRepository.save(vendor);
+        referenceCacheService.evictVendors();
 
         try {
             Map<String, Object> userInfo = getCurrentUserInfo();
             Long userId = (Long) userInfo.get("userId");
             String username = (String) userInfo.get("username");
 
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("vendorId", savedVendor.getId());
-            auditDetails.put("vendorName", savedVendor.getVendorName());
-            auditDetails.put("contactEmail", savedVendor.getContactEmail());
-            auditDetails.put("contactPhone", savedVendor.getContactPhone());
-            auditDetails.put("supportEmail", savedVendor.getSupportEmail());
-            auditDetails.put("hasContactEmail", savedVendor.getContactEmail() != null);
-            auditDetails.put("hasContactPhone", savedVendor.getContactPhone() != null);
-            auditDetails.put("hasSupportEmail", savedVendor.getSupportEmail() != null);
+            VendorAuditEvents.Created auditDetails = new VendorAuditEvents.Created(
+                    savedVendor.getId(),
+                    savedVendor.getVendorName(),
+                    savedVendor.getContactEmail(),
+                    savedVendor.getContactPhone(),
+                    savedVendor.getSupportEmail(),
+                    savedVendor.getContactEmail() != null,
+                    savedVendor.getContactPhone() != null,
+                    savedVendor.getSupportEmail() != null
+            );
 
             auditLogService.log(
                     userId,
@@ -115,7 +122,7 @@ public class VendorServiceImpl implements VendorService {
                     EntityType.VENDOR,
                     savedVendor.getId().toString(),
                     AuditAction.CREATE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for vendor creation", e);
@@ -171,51 +178,24 @@ public class VendorServiceImpl implements VendorService {
         }
 
         Vendor updatedVendor = vendorRepository.save(vendor);
+        referenceCacheService.evictVendors();
+
+        // Cached licenses embed the vendor name
+        if (!updatedVendor.getVendorName().equals(oldVendorName)) {
+            referenceCacheService.evictAllLicenses();
+        }
 
         Map<String, Object> userInfo = getCurrentUserInfo();
         String username = (String) userInfo.get("username");
         Long userId = (Long) userInfo.get("userId");
 
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("vendorId", updatedVendor.getId());
-
             // Track specific changes
-            Map<String, Map<String, String>> changes = new HashMap<>();
-
-            if (!oldVendorName.equals(updatedVendor.getVendorName())) {
-                changes.put("vendorName", Map.of(
-                        "old", oldVendorName,
-                        "new", updatedVendor.getVendorName()
-                ));
-            }
-
-            if ((oldContactEmail == null && updatedVendor.getContactEmail() != null) ||
-                    (oldContactEmail != null && !oldContactEmail.equals(updatedVendor.getContactEmail()))) {
-                changes.put("contactEmail", Map.of(
-                        "old", oldContactEmail != null ? oldContactEmail : "null",
-                        "new", updatedVendor.getContactEmail() != null ? updatedVendor.getContactEmail() : "null"
-                ));
-            }
-
-            if ((oldContactPhone == null && updatedVendor.getContactPhone() != null) ||
-                    (oldContactPhone != null && !oldContactPhone.equals(updatedVendor.getContactPhone()))) {
-                changes.put("contactPhone", Map.of(
-                        "old", oldContactPhone != null ? oldContactPhone : "null",
-                        "new", updatedVendor.getContactPhone() != null ? updatedVendor.getContactPhone() : "null"
-                ));
-            }
-
-            if ((oldSupportEmail == null && updatedVendor.getSupportEmail() != null) ||
-                    (oldSupportEmail != null && !oldSupportEmail.equals(updatedVendor.getSupportEmail()))) {
-                changes.put("supportEmail", Map.of(
-                        "old", oldSupportEmail != null ? oldSupportEmail : "null",
-                        "new", updatedVendor.getSupportEmail() != null ? updatedVendor.getSupportEmail() : "null"
-                ));
-            }
-
-            auditDetails.put("changes", changes);
-            auditDetails.put("changeCount", changes.size());
+            Map<String, AuditChange> changes = new LinkedHashMap<>();
+            AuditChange.track(changes, "vendorName", oldVendorName, updatedVendor.getVendorName());
+            AuditChange.track(changes, "contactEmail", oldContactEmail, updatedVendor.getContactEmail());
+            AuditChange.track(changes, "contactPhone", oldContactPhone, updatedVendor.getContactPhone());
+            AuditChange.track(changes, "supportEmail", oldSupportEmail, updatedVendor.getSupportEmail());
 
             auditLogService.log(
                     userId,
@@ -223,7 +203,7 @@ public class VendorServiceImpl implements VendorService {
                     EntityType.VENDOR,
                     updatedVendor.getId().toString(),
                     AuditAction.UPDATE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    new VendorAuditEvents.Updated(updatedVendor.getId(), changes, changes.size())
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for vendor update", e);
@@ -235,6 +215,7 @@ public class VendorServiceImpl implements VendorService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.VENDORS, key = "#id")
     public VendorResponse getVendorById(Long id) {
         log.info("Fetching vendor with ID: {}", id);
 
@@ -253,6 +234,7 @@ public class VendorServiceImpl implements VendorService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.VENDORS, key = CacheNames.ALL_VENDORS_KEY)
     public List<VendorResponse> getAllVendorsList() {
         log.info("Fetching all vendors as list");
 
@@ -288,17 +270,19 @@ public class VendorServiceImpl implements VendorService {
         Long userId = (Long) userInfo.get("userId");
 
         vendorRepository.delete(vendor);
+        referenceCacheService.evictVendors();
 
         try {
-            Map<String, Object> auditDetails = new HashMap<>();
-            auditDetails.put("vendorId", id);
-            auditDetails.put("vendorName", vendorName);
-            auditDetails.put("contactEmail", contactEmail);
-            auditDetails.put("contactPhone", contactPhone);
-            auditDetails.put("supportEmail", supportEmail);
-            auditDetails.put("hadAssociatedLicenses", false);
-            auditDetails.put("associatedLicensesCount", 0);
-            auditDetails.put("deletedAt", java.time.LocalDateTime.now().toString());
+            VendorAuditEvents.Deleted auditDetails = new VendorAuditEvents.Deleted(
+                    id,
+                    vendorName,
+                    contactEmail,
+                    contactPhone,
+                    supportEmail,
+                    false,
+                    0,
+                    java.time.LocalDateTime.now().toString()
+            );
 
             auditLogService.log(
                     userId,
@@ -306,7 +290,7 @@ public class VendorServiceImpl implements VendorService {
                     EntityType.VENDOR,
                     id.toString(),
                     AuditAction.DELETE,
-                    objectMapper.writeValueAsString(auditDetails)
+                    auditDetails
             );
         } catch (Exception e) {
             log.error("Failed to create audit log for vendor deletion", e);
@@ -0,0 +1,50 @@
+package com.prodapt.license_tracker_backend.util;
+
+import com.prodapt.license_tracker_backend.entities.License;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Report status of a license on a given day, shared by the license report and the
+ * daily usage snapshots
+ */
+public final class LicenseStatusEvaluator {
+
+    private static final int EXPIRING_SOON_DAYS = 30;
+    private static final double NEAR_CAPACITY_PERCENT = 90;
+
+    private LicenseStatusEvaluator() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * EXPIRED, EXPIRING_SOON, NEAR_CAPACITY or ACTIVE
+     */
+    public static String determineStatus(License license, LocalDate today) {
+        long daysUntilExpiry = ChronoUnit.DAYS.between(today, license.getValidTo());
+
+        if (daysUntilExpiry < 0) {
+            return "EXPIRED";
+        } else if (daysUntilExpiry <= EXPIRING_SOON_DAYS) {
+            return "EXPIRING_SOON";
+        } else if (usagePercent(license) >= NEAR_CAPACITY_PERCENT) {
+            return "NEAR_CAPACITY";
+        } else {
+            return "ACTIVE";
+        }
+    }
+
+    /**
+     * Current usage as a percentage of max usage; a missing usage counts as 0 and a
+     * license without a positive max usage is never near capacity
+     */
+    public static double usagePercent(License license) {
+        Integer maxUsage = license.getMaxUsage();
+        if (maxUsage == null || maxUsage <= 0) {
+            return 0.0;
+        }
+        Integer currentUsage = license.getCurrentUsage();
+        return (currentUsage != null ? currentUsage : 0) * 100.0 / maxUsage;
+    }
+}
@@ -0,0 +1,41 @@
+package com.prodapt.license_tracker_backend.util;
+
+/**
+ * Caps per-item log lines in bulk loops: the first few items are logged individually and
+ * the rest are only counted, to be reported in one summary line after the loop. Guarding
+ * the log call with {@link #sample()} also skips building its arguments, which matters
+ * when they touch lazy associations. Not thread-safe; use one per loop.
+ */
+public final class LogSampler {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    private final int limit;
+    private int seen;
+
+    public LogSampler() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public LogSampler(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Counts an item; true while it is among the first limit items
+     */
+    public boolean sample() {
+        return ++seen <= limit;
+    }
+
+    public int getSeen() {
+        return seen;
+    }
+
+    /**
+     * Items counted but not sampled
+     */
+    public int getSuppressed() {
+        return Math.max(0, seen - limit);
+    }
+}
@@ -0,0 +1,61 @@
+package com.prodapt.license_tracker_backend.util;
+
+import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared version comparison rules used by software version tracking
+ * and the software catalog release propagation
+ */
+@Slf4j
+public final class VersionStatusEvaluator {
+
+    private VersionStatusEvaluator() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Determine version status based on current and latest versions
+     */
+    public static SoftwareVersionStatus determineStatus(String currentVersion, String latestVersion) {
+        if (latestVersion == null || latestVersion.isEmpty()) {
+            return SoftwareVersionStatus.UNKNOWN;
+        }
+
+        if (currentVersion.equals(latestVersion)) {
+            return SoftwareVersionStatus.UP_TO_DATE;
+        }
+
+        // Simple version comparison - in production, use a proper version comparison library
+        try {
+            double current = parseVersion(currentVersion);
+            double latest = parseVersion(latestVersion);
+            double difference = latest - current;
+
+            if (difference >= 2.0) {
+                return SoftwareVersionStatus.CRITICAL;
+            } else if (difference > 0) {
+                return SoftwareVersionStatus.OUTDATED;
+            } else {
+                return SoftwareVersionStatus.UP_TO_DATE;
+            }
+        } catch (Exception e) {
+            log.warn("Unable to compare versions: {} vs {}", currentVersion, latestVersion);
+            return SoftwareVersionStatus.UNKNOWN;
+        }
+    }
+
+    /**
+     * Simple version parser - parses major.minor format
+     * In production, use a proper version comparison library like maven-artifact
+     */
+    private static double parseVersion(String version) {
+        String[] parts = version.split("\\.");
+        if (parts.length >= 2) {
+            return Double.parseDouble(parts[0] + "." + parts[1]);
+        } else if (parts.length == 1) {
+            return Double.parseDouble(parts[0]);
+        }
+        throw new IllegalArgumentException("Invalid version format: " + version);
+    }
+}
@@ -0,0 +1,148 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update). Existing databases are
+-- baselined at this version and skip it; see spring.flyway.baseline-on-migrate.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                       BIGINT       NOT NULL AUTO_INCREMENT,
+    username                 VARCHAR(255) NOT NULL,
+    email                    VARCHAR(255) NOT NULL,
+    password                 VARCHAR(255) NOT NULL,
+    full_name                VARCHAR(255),
+    role                     VARCHAR(255) NOT NULL,
+    region                   VARCHAR(255) NOT NULL,
+    active                   BOOLEAN      NOT NULL,
+    password_change_required BOOLEAN,
+    last_password_change     DATETIME(6),
+    reset_token              VARCHAR(255),
+    reset_token_expiry       DATETIME(6),
+    created_at               DATETIME(6)  NOT NULL,
+    updated_at               DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS vendors (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    vendor_name   VARCHAR(255) NOT NULL,
+    contact_email VARCHAR(255),
+    contact_phone VARCHAR(255),
+    support_email VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_vendors_vendor_name UNIQUE (vendor_name)
+);
+
+CREATE TABLE IF NOT EXISTS licenses (
+    id            BIGINT         NOT NULL AUTO_INCREMENT,
+    license_key   VARCHAR(100)   NOT NULL,
+    software_name VARCHAR(255)   NOT NULL,
+    license_type  VARCHAR(255)   NOT NULL,
+    max_usage     INT            NOT NULL,
+    current_usage INT,
+    valid_from    DATE           NOT NULL,
+    valid_to      DATE           NOT NULL,
+    region        VARCHAR(255)   NOT NULL,
+    vendor_id     BIGINT,
+    po_number     VARCHAR(255),
+    cost          DECIMAL(10, 2),
+    active        BOOLEAN,
+    description   TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_licenses_license_key UNIQUE (license_key),
+    CONSTRAINT fk_licenses_vendor FOREIGN KEY (vendor_id) REFERENCES vendors (id)
+);
+
+CREATE TABLE IF NOT EXISTS devices (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    device_id        VARCHAR(255) NOT NULL,
+    device_type      VARCHAR(255),
+    model            VARCHAR(255),
+    ip_address       VARCHAR(255),
+    location         VARCHAR(255),
+    region           VARCHAR(255) NOT NULL,
+    lifecycle        VARCHAR(255),
+    software_name    VARCHAR(255),
+    software_version VARCHAR(255),
+    purchased_date   DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_devices_device_id UNIQUE (device_id)
+);
+
+CREATE TABLE IF NOT EXISTS license_assignments (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    license_id        BIGINT       NOT NULL,
+    device_id         BIGINT       NOT NULL,
+    assigned_on       DATETIME(6),
+    assigned_by       VARCHAR(255),
+    revoked_on        DATETIME(6),
+    revoked_by        VARCHAR(255),
+    revocation_reason VARCHAR(255),
+    active            BOOLEAN,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_license_assignments_license FOREIGN KEY (license_id) REFERENCES licenses (id),
+    CONSTRAINT fk_license_assignments_device FOREIGN KEY (device_id) REFERENCES devices (id)
+);
+
+CREATE TABLE IF NOT EXISTS software_catalog (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    software_name  VARCHAR(100) NOT NULL,
+    latest_version VARCHAR(20)  NOT NULL,
+    release_date   DATE,
+    update_url     VARCHAR(255),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_software_catalog_software_name UNIQUE (software_name)
+);
+
+CREATE TABLE IF NOT EXISTS software_versions (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    device_id       BIGINT       NOT NULL,
+    software_name   VARCHAR(100) NOT NULL,
+    current_version VARCHAR(20)  NOT NULL,
+    latest_version  VARCHAR(20),
+    status          VARCHAR(255),
+    last_checked    DATE,
+    notes           TEXT,
+    update_url      VARCHAR(255),
+    release_date    DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_software_versions_device FOREIGN KEY (device_id) REFERENCES devices (id)
+);
+
+CREATE TABLE IF NOT EXISTS compliance_violations (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    device_id      BIGINT,
+    violation_type VARCHAR(255),
+    severity       VARCHAR(255),
+    detected_at    DATETIME(6),
+    resolved       BOOLEAN,
+    resolved_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_compliance_violations_device FOREIGN KEY (device_id) REFERENCES devices (id)
+);
+
+CREATE TABLE IF NOT EXISTS alerts (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    alert_type      VARCHAR(255),
+    severity        VARCHAR(255),
+    message         VARCHAR(1000),
+    region          VARCHAR(255),
+    generated_at    DATETIME(6),
+    acknowledged    BOOLEAN,
+    acknowledged_at DATETIME(6),
+    acknowledged_by VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    log_id      BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT,
+    username    VARCHAR(255),
+    entity_type VARCHAR(50),
+    entity_id   VARCHAR(50),
+    action      VARCHAR(20),
+    timestamp   DATETIME(6) NOT NULL,
+    details     TEXT,
+    ip_address  VARCHAR(45),
+    user_agent  VARCHAR(500),
+    PRIMARY KEY (log_id)
+);
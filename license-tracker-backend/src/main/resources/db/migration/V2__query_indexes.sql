@@ -0,0 +1,42 @@
+-- Indexes for the repository queries, named as in the entities' @Table(indexes). InnoDB
+-- appends the primary key to every secondary index, so queries that order or page by id
+-- after an equality match are served without a sort.
+
+-- LicenseAssignmentRepository: active counts and lookups per license or device. The
+-- device index also answers existsByDeviceIdAndLicenseIdAndActiveTrue without a row read.
+CREATE INDEX idx_assignment_license_active ON license_assignments (license_id, active);
+CREATE INDEX idx_assignment_device_active ON license_assignments (device_id, active, license_id);
+CREATE INDEX idx_assignment_active ON license_assignments (active);
+
+-- LicenseRepository: expiry scans, per-region counts, and the renewal forecast, which
+-- reads software_name and cost from the index alone
+CREATE INDEX idx_license_active_valid_to ON licenses (active, valid_to);
+CREATE INDEX idx_license_region_active_valid_to ON licenses (region, active, valid_to);
+CREATE INDEX idx_license_valid_to_cost ON licenses (valid_to, software_name, cost);
+
+-- DeviceRepository: region and lifecycle filters and counts
+CREATE INDEX idx_device_region_lifecycle ON devices (region, lifecycle);
+CREATE INDEX idx_device_lifecycle ON devices (lifecycle);
+
+-- AlertRepository: unacknowledged alerts newest first, optionally by severity, type or
+-- region. The type index leads with alert_type so the keyword search can use it too.
+CREATE INDEX idx_alert_ack_generated ON alerts (acknowledged, generated_at);
+CREATE INDEX idx_alert_ack_severity_generated ON alerts (acknowledged, severity, generated_at);
+CREATE INDEX idx_alert_type_ack_generated ON alerts (alert_type, acknowledged, generated_at);
+CREATE INDEX idx_alert_region_ack_generated ON alerts (region, acknowledged, generated_at);
+
+-- AuditLogRepository: newest-first listing, per user and per entity. The LIKE searches
+-- over details cannot use an index and stay bounded by the timestamp order and page size.
+CREATE INDEX idx_audit_timestamp ON audit_logs (timestamp);
+CREATE INDEX idx_audit_user_timestamp ON audit_logs (user_id, timestamp);
+CREATE INDEX idx_audit_entity_timestamp ON audit_logs (entity_type, entity_id, timestamp);
+
+-- SoftwareVersionRepository: per-device lookups, status scans ordered by last check, and
+-- catalog updates that match on software name and installed version
+CREATE INDEX idx_software_version_device_name ON software_versions (device_id, software_name);
+CREATE INDEX idx_software_version_status_checked ON software_versions (status, last_checked);
+CREATE INDEX idx_software_version_last_checked ON software_versions (last_checked);
+CREATE INDEX idx_software_version_name_version ON software_versions (software_name, current_version);
+
+-- UserRepository.findByResetToken
+CREATE INDEX idx_user_reset_token ON users (reset_token);
@@ -0,0 +1,17 @@
+-- Renewal cost per month of valid_to, vendor, region and license type, maintained by
+-- LicenseServiceImpl on every license write and reconciled nightly by
+-- RenewalRollupScheduler, which also fills it on first start. vendor_id is 0 for
+-- licenses without a vendor so it can be part of the primary key.
+CREATE TABLE IF NOT EXISTS license_renewal_rollup (
+    renewal_month DATE           NOT NULL,
+    vendor_id     BIGINT         NOT NULL,
+    region        VARCHAR(255)   NOT NULL,
+    license_type  VARCHAR(255)   NOT NULL,
+    license_count BIGINT         NOT NULL,
+    total_cost    DECIMAL(15, 2) NOT NULL,
+    PRIMARY KEY (renewal_month, vendor_id, region, license_type)
+);
+
+-- Partial months at the edges of a forecast horizon are read from licenses; this index
+-- answers that range aggregate and the rollup rebuild without touching the table rows
+CREATE INDEX idx_license_renewal_forecast ON licenses (valid_to, vendor_id, region, license_type, cost);
@@ -0,0 +1,9 @@
+-- current_usage / max_usage, kept by License on every write, so the most utilized active
+-- licenses are read off an index in order instead of sorting all of them per request
+ALTER TABLE licenses ADD COLUMN usage_ratio DOUBLE;
+
+UPDATE licenses
+SET usage_ratio = COALESCE(current_usage, 0) * 1.0 / max_usage
+WHERE max_usage > 0;
+
+CREATE INDEX idx_license_active_usage_ratio ON licenses (active, usage_ratio);
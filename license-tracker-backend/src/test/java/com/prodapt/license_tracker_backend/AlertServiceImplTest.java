@@ -2,6 +2,7 @@ package com.prodapt.license_tracker_backend;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
 import com.prodapt.license_tracker_backend.dto.AlertResponse;
 import com.prodapt.license_tracker_backend.dto.AlertStatsResponse;
 import com.prodapt.license_tracker_backend.entities.*;
@@ -54,6 +55,8 @@ class AlertServiceImplTest {
     private AuditLogService auditLogService;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private ApplicationMetrics applicationMetrics;
 
     // The class we are testing
     @InjectMocks
@@ -0,0 +1,120 @@
+package com.prodapt.license_tracker_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.aspect.ServiceMetricsAspect;
+import com.prodapt.license_tracker_backend.audit.AuditArchive;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.dto.BulkUploadResult;
+import com.prodapt.license_tracker_backend.dto.CreateAuditLogRequest;
+import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.exception.ResourceNotFoundException;
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import com.prodapt.license_tracker_backend.service.AuditLogService;
+import com.prodapt.license_tracker_backend.service.implementation.AuditLogServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ApplicationMetrics applicationMetrics;
+    private AuditLogRepository auditLogRepository;
+    private AuditLogService auditLogService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        applicationMetrics = new ApplicationMetrics(registry);
+        auditLogRepository = mock(AuditLogRepository.class);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new AuditLogServiceImpl(auditLogRepository, applicationMetrics,
+                new AuditDetailsWriter(new ObjectMapper(), 1024, 4096), mock(AuditArchive.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(registry));
+        auditLogService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("service calls should be timed per class and method")
+    void serviceCall_Success_TimedWithoutException() {
+        when(auditLogRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        auditLogService.log(auditRequest());
+        auditLogService.log(auditRequest());
+
+        assertEquals(2, registry.get("service.method")
+                .tag("class", "AuditLogServiceImpl")
+                .tag("method", "log")
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("failed service calls should be tagged with the exception")
+    void serviceCall_Throws_TaggedWithException() {
+        when(auditLogRepository.findById(42L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> auditLogService.getAuditLogById(42L));
+
+        assertEquals(1, registry.get("service.method")
+                .tag("method", "getAuditLogById")
+                .tag("exception", "ResourceNotFoundException")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("pending audit writes should be counted while the write runs")
+    void auditWrite_InProgress_CountedAsPending() {
+        double[] pendingDuringWrite = new double[1];
+        when(auditLogRepository.save(any())).thenAnswer(invocation -> {
+            pendingDuringWrite[0] = registry.get("audit.writes.pending").gauge().value();
+            return invocation.getArgument(0);
+        });
+
+        auditLogService.log(auditRequest());
+
+        assertEquals(1.0, pendingDuringWrite[0]);
+        assertEquals(0.0, registry.get("audit.writes.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("bulk uploads should record rows by outcome and rows per second")
+    void recordBulkUpload_MixedResult_RecordsRowsAndThroughput() {
+        BulkUploadResult result = new BulkUploadResult();
+        result.addSuccess("row 2");
+        result.addSuccess("row 3");
+        result.addSuccess("row 4");
+        result.addError("row 5");
+
+        applicationMetrics.recordBulkUpload(result, TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(3.0, registry.get("devices.bulk-upload.rows").tag("outcome", "success").counter().count());
+        assertEquals(1.0, registry.get("devices.bulk-upload.rows").tag("outcome", "failure").counter().count());
+        DistributionSummary throughput = registry.get("devices.bulk-upload.throughput").summary();
+        assertEquals(1, throughput.count());
+        assertEquals(2.0, throughput.totalAmount(), 0.001);
+    }
+
+    private CreateAuditLogRequest auditRequest() {
+        return CreateAuditLogRequest.builder()
+                .username("metrics-user")
+                .entityType(EntityType.DEVICE)
+                .entityId("DEV-1")
+                .action(AuditAction.UPDATE)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.prodapt.license_tracker_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditArchive;
+import com.prodapt.license_tracker_backend.dto.AuditLogResponse;
+import com.prodapt.license_tracker_backend.entities.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditArchiveTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("search should page through matching archived logs newest first across months")
+    void search_TwoMonths_NewestFirstWithTotal() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        archiveMonth(archive, YearMonth.of(2025, 2), 3);
+        archiveMonth(archive, YearMonth.of(2025, 3), 3);
+
+        AuditArchive.SearchResult result = archive.search(LocalDateTime.of(2025, 2, 1, 0, 0), null,
+                AuditArchive.Filter.of(null, null, null).and("not user-2", entry -> !"user-2".equals(entry.getUsername())), 1, 2);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 2, 3, 10, 0)),
+                result.rows().stream().map(AuditLogResponse::getTimestamp).toList());
+    }
+
+    @Test
+    @DisplayName("archived months should be found again after a restart and looked up by id")
+    void findById_AfterReopen_FoundInIssuedMonth() throws Exception {
+        long logId = archiveMonth(new AuditArchive(objectMapper, directory), YearMonth.of(2025, 2), 2);
+
+        AuditArchive reopened = new AuditArchive(objectMapper, directory);
+
+        assertEquals(List.of(YearMonth.of(2025, 2)), reopened.getMonths());
+        assertTrue(reopened.overlaps(LocalDateTime.of(2025, 1, 15, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)));
+        assertTrue(reopened.overlaps(null, LocalDateTime.of(2025, 3, 1, 0, 0)));
+        assertTrue(reopened.overlaps(null, null));
+        assertFalse(reopened.overlaps(LocalDateTime.of(2025, 3, 1, 0, 0), null));
+        assertEquals(logId, reopened.findById(logId).orElseThrow().getLogId());
+        assertTrue(reopened.findById(logId + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("totals on entity type, action and user should come from month summaries without reading other months")
+    void search_CountableFilter_ReadsOnlyMonthsHoldingThePage() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        archiveMonth(archive, YearMonth.of(2025, 1), 4);
+        archiveMonth(archive, YearMonth.of(2025, 2), 4);
+        archiveMonth(archive, YearMonth.of(2025, 3), 4);
+        // An unreadable January proves it is never opened for a page held by later months
+        Files.write(directory.resolve("audit_logs-2025-01.ndjson.gz"), new byte[]{1, 2, 3});
+
+        AuditArchive reopened = new AuditArchive(objectMapper, directory);
+        AuditArchive.SearchResult result = reopened.search(LocalDateTime.of(2025, 1, 1, 0, 0), null,
+                AuditArchive.Filter.of("LICENSE", "UPDATE", null), 1, 2);
+
+        // Even days are LICENSE UPDATEs: two per month
+        assertEquals(6, result.total());
+        assertEquals(List.of(LocalDateTime.of(2025, 3, 2, 10, 0), LocalDateTime.of(2025, 2, 4, 10, 0)),
+                result.rows().stream().map(AuditLogResponse::getTimestamp).toList());
+        assertThrows(UncheckedIOException.class, () -> reopened.search(LocalDateTime.of(2025, 1, 1, 0, 0), null,
+                AuditArchive.Filter.of("LICENSE", "UPDATE", null), 4, 2));
+    }
+
+    @Test
+    @DisplayName("totals for other filters should be counted once and then taken from memory")
+    void search_KeyedFilter_CountsEachMonthOnce() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        archiveMonth(archive, YearMonth.of(2025, 1), 4);
+        archiveMonth(archive, YearMonth.of(2025, 2), 4);
+        AuditArchive.Filter filter = AuditArchive.Filter.of(null, null, null)
+                .and("username~user-1", entry -> entry.getUsername().contains("user-1"));
+
+        assertEquals(2, archive.search(null, null, filter, 0, 1).total());
+        Files.write(directory.resolve("audit_logs-2025-01.ndjson.gz"), new byte[]{1, 2, 3});
+
+        AuditArchive.SearchResult result = archive.search(null, null, filter, 0, 1);
+        assertEquals(2, result.total());
+        assertEquals(LocalDateTime.of(2025, 2, 1, 10, 0), result.rows().get(0).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("months archived by another instance should be found after a refresh")
+    void refresh_MonthArchivedElsewhere_Searchable() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        AuditArchive other = new AuditArchive(objectMapper, directory);
+        archiveMonth(other, YearMonth.of(2025, 2), 4);
+
+        assertFalse(archive.overlaps(null, null));
+        archive.refresh();
+
+        assertEquals(List.of(YearMonth.of(2025, 2)), archive.getMonths());
+        assertEquals(2, archive.search(null, null, AuditArchive.Filter.of(null, null, 1L), 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("a month only partly inside the requested range should be read to count it")
+    void search_PartlyCoveredMonth_CountsByReading() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        archiveMonth(archive, YearMonth.of(2025, 2), 4);
+
+        AuditArchive.SearchResult result = archive.search(LocalDateTime.of(2025, 2, 2, 0, 0),
+                LocalDateTime.of(2025, 2, 3, 23, 59), AuditArchive.Filter.of(null, null, 2L), 0, 10);
+
+        assertEquals(1, result.total());
+        assertEquals(LocalDateTime.of(2025, 2, 2, 10, 0), result.rows().get(0).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("an id issued near a month boundary should be found in the neighbouring month")
+    void findById_ArchivedInAdjacentMonth_Found() throws Exception {
+        AuditArchive archive = new AuditArchive(objectMapper, directory);
+        // Issued on 1 March here, but archived with February by an instance in a zone further west
+        long logId = idAt(LocalDateTime.of(2025, 3, 1, 0, 30));
+        try (AuditArchive.MonthWriter writer = archive.open(YearMonth.of(2025, 2))) {
+            writer.append(AuditLogResponse.builder()
+                    .logId(logId)
+                    .timestamp(LocalDateTime.of(2025, 2, 28, 23, 30))
+                    .build());
+            writer.commit();
+        }
+
+        assertEquals(logId, archive.findById(logId).orElseThrow().getLogId());
+    }
+
+    // Writes days 1..count of month at 10:00, newest first; even days are LICENSE UPDATEs by user 2,
+    // odd days DEVICE CREATEs by user 1. Returns the id of the first day
+    private static long archiveMonth(AuditArchive archive, YearMonth month, int count) throws Exception {
+        long firstId = 0;
+        try (AuditArchive.MonthWriter writer = archive.open(month)) {
+            for (int day = count; day >= 1; day--) {
+                LocalDateTime timestamp = month.atDay(day).atTime(10, 0);
+                long id = idAt(timestamp);
+                boolean even = day % 2 == 0;
+                writer.append(AuditLogResponse.builder()
+                        .logId(id)
+                        .userId(even ? 2L : 1L)
+                        .username("user-" + day)
+                        .entityType(even ? "LICENSE" : "DEVICE")
+                        .action(even ? "UPDATE" : "CREATE")
+                        .timestamp(timestamp)
+                        .build());
+                firstId = id;
+            }
+            writer.commit();
+        }
+        return firstId;
+    }
+
+    private static long idAt(LocalDateTime timestamp) {
+        long epochMillis = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long id = (epochMillis - Instant.parse("2025-01-01T00:00:00Z").toEpochMilli()) << 12;
+        assertEquals(epochMillis, TimeOrderedIdGenerator.epochMillisOf(id));
+        return id;
+    }
+}
@@ -0,0 +1,66 @@
+package com.prodapt.license_tracker_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.audit.AuditChange;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.audit.DeviceAuditEvents;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditDetailsWriterTest {
+
+    private final AuditDetailsWriter writer = new AuditDetailsWriter(new ObjectMapper(), 64, 160);
+
+    @Test
+    @DisplayName("typed details should keep their keys and leave out null fields")
+    void write_TypedDetails_CompactJson() throws Exception {
+        String json = writer.write(new DeviceAuditEvents.Created(
+                "RTR-001", DeviceType.values()[0], "ISR 4451", Region.values()[0], null));
+
+        assertEquals("{\"deviceId\":\"RTR-001\",\"deviceType\":\"" + DeviceType.values()[0].name()
+                + "\",\"model\":\"ISR 4451\",\"region\":\"" + Region.values()[0].name() + "\"}", json);
+    }
+
+    @Test
+    @DisplayName("changes should keep null old and new values and skip unchanged fields")
+    void write_Changes_NullsKept() throws Exception {
+        Map<String, AuditChange> changes = new LinkedHashMap<>();
+        AuditChange.track(changes, "location", null, "Bangalore");
+        AuditChange.track(changes, "model", "ISR 4451", "ISR 4451");
+
+        String json = writer.write(new DeviceAuditEvents.Updated("RTR-001", changes));
+
+        assertEquals("{\"deviceId\":\"RTR-001\",\"changes\":{\"location\":{\"old\":null,\"new\":\"Bangalore\"}}}", json);
+    }
+
+    @Test
+    @DisplayName("oversized and unserializable method call values should be replaced by markers")
+    void writeMethodCall_LargeValues_Truncated() throws Exception {
+        String json = writer.writeMethodCall("createLicense",
+                new Object[]{"LIC-1", "x".repeat(10_000), new Object()}, List.of(1, 2, 3));
+
+        assertEquals("{\"method\":\"createLicense\",\"arguments\":[\"LIC-1\",\"String truncated\","
+                + "\"Object not serializable\"],\"result\":[1,2,3]}", json);
+    }
+
+    @Test
+    @DisplayName("values past the overall cap should be truncated even when each is small")
+    void writeMethodCall_OverallCapReached_RemainingTruncated() throws Exception {
+        Object[] arguments = {"a".repeat(50), "b".repeat(50), "c".repeat(50)};
+
+        String json = writer.writeMethodCall("bulk", arguments, null);
+
+        assertTrue(json.contains("a".repeat(50)));
+        assertTrue(json.contains("b".repeat(50)));
+        assertFalse(json.contains("c".repeat(50)));
+        assertTrue(json.endsWith("\"String truncated\"],\"result\":null}"));
+    }
+}
@@ -1,12 +1,16 @@
 package com.prodapt.license_tracker_backend;
 
 
+import com.prodapt.license_tracker_backend.audit.AuditArchive;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
 import com.prodapt.license_tracker_backend.dto.AuditLogResponse;
 import com.prodapt.license_tracker_backend.dto.CreateAuditLogRequest;
 import com.prodapt.license_tracker_backend.entities.AuditLog;
 import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
 import com.prodapt.license_tracker_backend.entities.enums.EntityType;
 import com.prodapt.license_tracker_backend.exception.ResourceNotFoundException;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
 import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
 import com.prodapt.license_tracker_backend.service.implementation.AuditLogServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +21,9 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +31,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +41,15 @@ class AuditLogServiceImplTest {
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Mock
+    private ApplicationMetrics applicationMetrics;
+
+    @Mock
+    private AuditDetailsWriter auditDetailsWriter;
+
+    @Mock
+    private AuditArchive auditArchive;
+
     @InjectMocks
     private AuditLogServiceImpl auditLogService;
 
@@ -188,6 +205,39 @@ class AuditLogServiceImplTest {
         verify(auditLogRepository).findByUserIdOrderByTimestampDesc(100L, pageable);
     }
 
+    @Test
+    @DisplayName("getAuditLogsByUser should continue a page with the user's archived logs")
+    void getAuditLogsByUser_ArchivedMonths_AppendedAfterLiveLogs() {
+        // Arrange
+        Pageable firstPage = PageRequest.of(0, 3, Sort.by("timestamp").descending());
+        AuditLogResponse archived = AuditLogResponse.builder().logId(7L).userId(100L).build();
+        when(auditLogRepository.findByUserIdOrderByTimestampDesc(100L, firstPage))
+                .thenReturn(new PageImpl<>(List.of(mockAuditLog), firstPage, 1));
+        when(auditArchive.overlaps(null, null)).thenReturn(true);
+        when(auditArchive.search(isNull(), isNull(), eq(AuditArchive.Filter.of(null, null, 100L)), eq(0L), eq(2)))
+                .thenReturn(new AuditArchive.SearchResult(List.of(archived), 5));
+
+        // Act
+        Page<AuditLogResponse> result = auditLogService.getAuditLogsByUser(100L, firstPage);
+
+        // Assert
+        assertEquals(6, result.getTotalElements());
+        assertEquals(List.of(1L, 7L), result.getContent().stream().map(AuditLogResponse::getLogId).toList());
+    }
+
+    @Test
+    @DisplayName("an order other than newest first should be rejected once archived logs are in range")
+    void getAllAuditLogs_ArchivedMonthsWithOtherSort_Rejected() {
+        // Arrange
+        Pageable byUsername = PageRequest.of(0, 20, Sort.by("username").descending());
+        when(auditLogRepository.findByOrderByTimestampDesc(byUsername)).thenReturn(new PageImpl<>(List.of(mockAuditLog)));
+        when(auditArchive.overlaps(null, null)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> auditLogService.getAllAuditLogs(byUsername));
+        verify(auditArchive, never()).search(any(), any(), any(), anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("getAuditLogsByEntity should call repository and map results")
     void getAuditLogsByEntity_Success() {
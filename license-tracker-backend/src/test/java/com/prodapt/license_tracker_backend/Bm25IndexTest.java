@@ -0,0 +1,78 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.Bm25Index;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Bm25IndexTest {
+
+    private final Bm25Index index = new Bm25Index();
+
+    @BeforeEach
+    void setUp() {
+        index.put("license:1", "License LIC-2024-001: Adobe Photoshop (PER_USER), vendor Adobe, region CHENNAI");
+        index.put("license:2", "License LIC-2024-002: Microsoft Office (ENTERPRISE), vendor Microsoft, region DELHI");
+        index.put("license:3", "License LIC-2024-003: Adobe Acrobat (PER_USER), vendor Adobe, region DELHI");
+    }
+
+    @Test
+    @DisplayName("documents matching more and rarer query terms should rank first")
+    void search_SeveralMatches_RanksByRelevance() {
+        assertEquals(List.of("license:1", "license:3"), keys(index.search("adobe photoshop", 10)));
+        assertEquals(List.of("license:3", "license:2"), keys(index.search("Acrobat in Delhi", 10)));
+    }
+
+    @Test
+    @DisplayName("a compound identifier should match its own record first")
+    void search_LicenseKey_FindsExactRecordFirst() {
+        List<Bm25Index.Hit> hits = index.search("status of lic-2024-002", 10);
+
+        assertEquals("license:2", hits.get(0).getKey());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("replacing a document should drop its old terms")
+    void put_ExistingKey_ReplacesText() {
+        index.put("license:1", "License LIC-2024-001: Adobe Illustrator (PER_USER), vendor Adobe, region CHENNAI");
+
+        assertTrue(index.search("photoshop", 10).isEmpty());
+        assertEquals(List.of("license:1"), keys(index.search("illustrator", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("a removed document should no longer be found")
+    void remove_ExistingKey_NoLongerSearchable() {
+        index.remove("license:3");
+
+        assertEquals(List.of("license:1"), keys(index.search("adobe", 10)));
+        assertNull(index.getText("license:3"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("compaction after many removals should keep only live documents searchable")
+    void remove_ManyDocuments_CompactsAndKeepsLiveOnes() {
+        for (int i = 0; i < 2_000; i++) {
+            index.put("device:" + i, "Device DEV-" + i + ": ROUTER, region MUMBAI");
+        }
+        for (int i = 0; i < 1_990; i++) {
+            index.remove("device:" + i);
+        }
+
+        assertEquals(13, index.size());
+        assertEquals(10, index.search("router", 50).size());
+        assertEquals("license:2", index.search("microsoft", 1).get(0).getKey());
+        assertEquals("Device DEV-1995: ROUTER, region MUMBAI", index.getText("device:1995"));
+    }
+
+    private static List<String> keys(List<Bm25Index.Hit> hits) {
+        return hits.stream().map(Bm25Index.Hit::getKey).toList();
+    }
+}
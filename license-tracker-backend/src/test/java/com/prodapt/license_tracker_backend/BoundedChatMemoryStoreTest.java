@@ -0,0 +1,101 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.BoundedChatMemoryStore;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.UserMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedChatMemoryStoreTest {
+
+    private static final Duration IDLE_EXPIRY = Duration.ofHours(1);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("conversations beyond the byte budget should be evicted from memory")
+    void updateMessages_OverByteBudget_EvictsConversations() {
+        List<ChatMessage> conversation = conversation("x".repeat(1_000));
+        long conversationBytes = ChatMessageSerializer.messagesToJson(conversation).length() + "chat-0".length();
+        long budget = conversationBytes * 3;
+
+        try (BoundedChatMemoryStore store = new BoundedChatMemoryStore(budget, IDLE_EXPIRY, null, RETENTION)) {
+            IntStream.range(0, 10).forEach(i -> store.updateMessages("chat-" + i, conversation));
+
+            long retained = IntStream.range(0, 10)
+                    .filter(i -> !store.getMessages("chat-" + i).isEmpty())
+                    .count();
+            assertTrue(retained >= 1 && retained <= 3, "retained " + retained + " conversation(s)");
+        }
+    }
+
+    @Test
+    @DisplayName("an evicted conversation should be reloaded from disk")
+    void getMessages_EvictedFromMemory_ReloadsFromDisk() {
+        List<ChatMessage> first = conversation("how many licenses expire this month?");
+
+        try (BoundedChatMemoryStore store = new BoundedChatMemoryStore(1, IDLE_EXPIRY, directory, RETENTION)) {
+            // A one-byte budget keeps nothing in memory, so every read goes to the write-behind copy or the file
+            store.updateMessages("chat-1", first);
+            store.updateMessages("chat-2", conversation("which vendors do we use?"));
+
+            assertEquals(first, store.getMessages("chat-1"));
+        }
+    }
+
+    @Test
+    @DisplayName("conversations should survive a restart once queued writes are flushed")
+    void close_QueuedWrites_PersistedForNextStore() {
+        List<ChatMessage> latest = conversation("and next month?");
+
+        BoundedChatMemoryStore store = new BoundedChatMemoryStore(1_000_000, IDLE_EXPIRY, directory, RETENTION);
+        store.updateMessages("chat-1", conversation("how many licenses expire this month?"));
+        store.updateMessages("chat-1", latest);
+        store.updateMessages("chat-2", conversation("which vendors do we use?"));
+        store.deleteMessages("chat-2");
+        store.close();
+
+        try (BoundedChatMemoryStore restarted = new BoundedChatMemoryStore(1_000_000, IDLE_EXPIRY, directory, RETENTION)) {
+            assertEquals(latest, restarted.getMessages("chat-1"));
+            assertTrue(restarted.getMessages("chat-2").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("a deleted conversation should not be reloaded before its file is removed")
+    void getMessages_DeletePendingOnDisk_ReturnsEmpty() {
+        try (BoundedChatMemoryStore store = new BoundedChatMemoryStore(1_000_000, IDLE_EXPIRY, directory, RETENTION)) {
+            store.updateMessages("chat-1", conversation("how many licenses expire this month?"));
+        }
+
+        try (BoundedChatMemoryStore store = new BoundedChatMemoryStore(1, IDLE_EXPIRY, directory, RETENTION)) {
+            // Keeps the writer busy so the delete is still queued when chat-1 is read back
+            List<ChatMessage> large = conversation("x".repeat(100_000));
+            IntStream.range(0, 50).forEach(i -> store.updateMessages("busy-" + i, large));
+
+            store.deleteMessages("chat-1");
+
+            assertTrue(store.getMessages("chat-1").isEmpty());
+        }
+
+        try (BoundedChatMemoryStore restarted = new BoundedChatMemoryStore(1_000_000, IDLE_EXPIRY, directory, RETENTION)) {
+            assertTrue(restarted.getMessages("chat-1").isEmpty());
+        }
+    }
+
+    private static List<ChatMessage> conversation(String question) {
+        return List.of(UserMessage.from(question), AiMessage.from("answer to " + question));
+    }
+}
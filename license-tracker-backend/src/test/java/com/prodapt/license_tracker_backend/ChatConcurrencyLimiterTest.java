@@ -0,0 +1,118 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.ChatConcurrencyLimiter;
+import com.prodapt.license_tracker_backend.exception.ChatCapacityException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatConcurrencyLimiterTest {
+
+    private static final long QUEUE_TIMEOUT_MS = 100;
+
+    // Two calls overall, one per user, one caller waiting
+    private final ChatConcurrencyLimiter limiter = new ChatConcurrencyLimiter(2, 1, 1, QUEUE_TIMEOUT_MS);
+
+    @Test
+    @DisplayName("a call over the global cap should wait and be rejected after the queue timeout")
+    void acquire_GlobalCapReached_RejectsAfterQueueTimeout() throws Exception {
+        ChatConcurrencyLimiter.Permit first = limiter.acquire("alice");
+        ChatConcurrencyLimiter.Permit second = limiter.acquire("bob");
+
+        long started = System.nanoTime();
+        ChatCapacityException rejected = assertThrows(ChatCapacityException.class, () -> limiter.acquire("carol"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= QUEUE_TIMEOUT_MS);
+        assertTrue(rejected.getMessage().contains("busy"));
+        assertEquals(2, limiter.getActiveCalls());
+        assertEquals(0, limiter.getWaiting());
+        assertEquals(2, limiter.getTrackedUsers());
+
+        first.close();
+        limiter.acquire("carol").close();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("a user at the per-user cap should be rejected while other users still get a slot")
+    void acquire_PerUserCapReached_RejectsOnlyThatUser() throws Exception {
+        ChatConcurrencyLimiter.Permit first = limiter.acquire("alice");
+
+        ChatCapacityException rejected = assertThrows(ChatCapacityException.class, () -> limiter.acquire("alice"));
+        assertTrue(rejected.getMessage().contains("in progress"));
+
+        try (ChatConcurrencyLimiter.Permit other = limiter.acquire("bob")) {
+            assertEquals(2, limiter.getActiveCalls());
+        }
+        first.close();
+    }
+
+    @Test
+    @DisplayName("a waiting call should get the slot as soon as it is released")
+    void acquire_SlotReleasedWhileWaiting_Succeeds() throws Exception {
+        ChatConcurrencyLimiter slowLimiter = new ChatConcurrencyLimiter(1, 1, 1, 5_000);
+        ChatConcurrencyLimiter.Permit first = slowLimiter.acquire("alice");
+
+        CompletableFuture<ChatConcurrencyLimiter.Permit> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return slowLimiter.acquire("bob");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (slowLimiter.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+
+        waiter.get(5, TimeUnit.SECONDS).close();
+        assertEquals(0, slowLimiter.getActiveCalls());
+    }
+
+    @Test
+    @DisplayName("a caller beyond the queue bound should be rejected without waiting")
+    void acquire_QueueFull_RejectsImmediately() throws Exception {
+        ChatConcurrencyLimiter noQueue = new ChatConcurrencyLimiter(1, 1, 0, 5_000);
+
+        long started = System.nanoTime();
+        assertThrows(ChatCapacityException.class, () -> noQueue.acquire("alice"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1_000);
+        assertEquals(0, noQueue.getWaiting());
+        assertEquals(0, noQueue.getTrackedUsers());
+    }
+
+    @Test
+    @DisplayName("closing a permit twice should release its slots once and forget the idle user")
+    void close_CalledTwice_ReleasesOnceAndDropsIdleUser() throws Exception {
+        ChatConcurrencyLimiter.Permit permit = limiter.acquire("alice");
+        ChatConcurrencyLimiter.Permit other = limiter.acquire("bob");
+
+        permit.close();
+        permit.close();
+
+        assertEquals(1, limiter.getActiveCalls());
+        assertEquals(1, limiter.getTrackedUsers());
+        other.close();
+        assertEquals(0, limiter.getActiveCalls());
+        assertEquals(0, limiter.getTrackedUsers());
+    }
+
+    @Test
+    @DisplayName("a rejected call should not leave its user tracked")
+    void acquire_Rejected_DropsIdleUser() throws Exception {
+        ChatConcurrencyLimiter.Permit first = limiter.acquire("alice");
+        ChatConcurrencyLimiter.Permit second = limiter.acquire("bob");
+
+        assertThrows(ChatCapacityException.class, () -> limiter.acquire("carol"));
+        assertEquals(2, limiter.getTrackedUsers());
+
+        first.close();
+        second.close();
+        assertEquals(0, limiter.getTrackedUsers());
+    }
+}
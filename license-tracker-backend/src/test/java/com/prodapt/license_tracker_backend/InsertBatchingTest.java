@@ -0,0 +1,202 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.entities.AuditLog;
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Inserts the same number of rows with time-ordered ids and with IDENTITY ids, the
+ * strategy the high-volume tables used before, and logs inserts per second for both.
+ * Throughput is only logged, since it depends on the machine; the assertions check the
+ * statement counts that cause the difference.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InsertBatchingTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertBatchingTest.class);
+    private static final int ROWS = 2000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            deviceRepository.deleteAllInBatch();
+            auditLogRepository.deleteAllInBatch();
+            entityManager.createQuery("DELETE FROM IdentityRow").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("devices with time-ordered ids should be inserted in JDBC batches")
+    void saveAll_Devices_InsertedInBatches() {
+        long nanos = timed(() -> tx.executeWithoutResult(status -> deviceRepository.saveAll(devices())));
+        log.info("Time-ordered ids, batched: {} device inserts/s", perSecond(nanos));
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= ROWS / BATCH_SIZE + 1,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("audit logs written in one transaction should be inserted in JDBC batches")
+    void saveAll_AuditLogs_InsertedInBatches() {
+        long nanos = timed(() -> tx.executeWithoutResult(status -> auditLogRepository.saveAll(auditLogs())));
+        log.info("Time-ordered ids, batched: {} audit log inserts/s", perSecond(nanos));
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= ROWS / BATCH_SIZE + 1,
+                "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("IDENTITY ids should force one INSERT per row (baseline)")
+    void persist_IdentityIds_InsertedRowByRow() {
+        long nanos = timed(() -> tx.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                IdentityRow row = new IdentityRow();
+                row.setName("row-" + i);
+                entityManager.persist(row);
+            }
+        }));
+        log.info("IDENTITY ids, unbatched: {} inserts/s", perSecond(nanos));
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() >= ROWS);
+    }
+
+    @Test
+    @DisplayName("time-ordered ids should be unique, increasing and safe for JavaScript clients")
+    void saveAll_Devices_IdsIncreasingAndJavaScriptSafe() {
+        List<Long> ids = tx.execute(status -> deviceRepository.saveAll(devices()).stream()
+                .map(Device::getId)
+                .collect(Collectors.toList()));
+
+        Set<Long> unique = Set.copyOf(ids);
+        assertEquals(ROWS, unique.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+        assertTrue(ids.stream().allMatch(id -> id <= (1L << 53) - 1));
+    }
+
+    private List<Device> devices() {
+        List<Device> devices = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            devices.add(Device.builder()
+                    .deviceId("BATCH-" + i)
+                    .deviceType(DeviceType.values()[i % DeviceType.values().length])
+                    .model("Model " + i)
+                    .region(Region.values()[i % Region.values().length])
+                    .lifecycle(DeviceLifecycle.values()[i % DeviceLifecycle.values().length])
+                    .build());
+        }
+        return devices;
+    }
+
+    private List<AuditLog> auditLogs() {
+        List<AuditLog> logs = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            logs.add(AuditLog.builder()
+                    .username("bulk-user")
+                    .entityType(EntityType.DEVICE)
+                    .entityId(String.valueOf(i))
+                    .action(AuditAction.CREATE)
+                    .details("{\"row\":" + i + "}")
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+        return logs;
+    }
+
+    private static long timed(Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long perSecond(long nanos) {
+        return Math.round(ROWS / (nanos / 1_000_000_000.0));
+    }
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "identity_rows")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String name;
+
+        void setName(String name) {
+            this.name = name;
+        }
+    }
+}
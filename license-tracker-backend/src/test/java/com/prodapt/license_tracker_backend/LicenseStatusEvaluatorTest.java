@@ -0,0 +1,53 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.util.LicenseStatusEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicenseStatusEvaluatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Test
+    @DisplayName("a license with no recorded usage should be treated as unused instead of failing")
+    void determineStatus_NullCurrentUsage_TreatedAsZero() {
+        License license = license(null, 10, TODAY.plusYears(1));
+
+        assertEquals("ACTIVE", LicenseStatusEvaluator.determineStatus(license, TODAY));
+        assertEquals(0.0, LicenseStatusEvaluator.usagePercent(license));
+    }
+
+    @Test
+    @DisplayName("usage at 90% or more of capacity should be near capacity")
+    void determineStatus_NinetyPercentUsed_NearCapacity() {
+        assertEquals("NEAR_CAPACITY", LicenseStatusEvaluator.determineStatus(license(9, 10, TODAY.plusYears(1)), TODAY));
+        assertEquals("ACTIVE", LicenseStatusEvaluator.determineStatus(license(8, 10, TODAY.plusYears(1)), TODAY));
+    }
+
+    @Test
+    @DisplayName("expiry should take precedence over capacity")
+    void determineStatus_ExpiredOrExpiringSoon_IgnoresUsage() {
+        assertEquals("EXPIRED", LicenseStatusEvaluator.determineStatus(license(10, 10, TODAY.minusDays(1)), TODAY));
+        assertEquals("EXPIRING_SOON", LicenseStatusEvaluator.determineStatus(license(null, 10, TODAY.plusDays(30)), TODAY));
+    }
+
+    @Test
+    @DisplayName("a license without a positive max usage should never be near capacity")
+    void usagePercent_NoMaxUsage_Zero() {
+        assertEquals(0.0, LicenseStatusEvaluator.usagePercent(license(5, 0, TODAY.plusYears(1))));
+        assertEquals(0.0, LicenseStatusEvaluator.usagePercent(license(5, null, TODAY.plusYears(1))));
+    }
+
+    private static License license(Integer currentUsage, Integer maxUsage, LocalDate validTo) {
+        return License.builder()
+                .currentUsage(currentUsage)
+                .maxUsage(maxUsage)
+                .validTo(validTo)
+                .build();
+    }
+}
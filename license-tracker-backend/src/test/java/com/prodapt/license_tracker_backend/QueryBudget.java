@@ -0,0 +1,92 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.monitoring.SqlStatementTracker;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Assertions on the SQL Hibernate runs for a piece of work, so a change that adds queries
+ * to a hot path fails the build instead of showing up in production. Failures list every
+ * statement shape with how often it ran.
+ *
+ * <pre>
+ * List&lt;DeviceReportResponse&gt; report = QueryBudget.atMost(3, () -&gt; reportService.getDeviceReport(null, null, null));
+ * QueryBudget.noRepeatedStatements(5, () -&gt; alertService.generateLicenseCapacityAlerts());
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public static <T> T atMost(int maxStatements, Supplier<T> work) {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            SqlStatementTracker.stop(stats);
+        }
+        if (stats.getStatementCount() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements, ran "
+                    + stats.getStatementCount() + describe(stats.getShapeCounts()));
+        }
+        return result;
+    }
+
+    public static void atMost(int maxStatements, Runnable work) {
+        atMost(maxStatements, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Fails when any statement shape runs threshold times or more, the pattern of an N+1 query
+     */
+    public static <T> T noRepeatedStatements(int threshold, Supplier<T> work) {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            SqlStatementTracker.stop(stats);
+        }
+        Map<String, Integer> repeated = stats.repeatedShapes(threshold);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("Expected no statement to run " + threshold + " times or more, found "
+                    + repeated.size() + describe(repeated));
+        }
+        return result;
+    }
+
+    public static void noRepeatedStatements(int threshold, Runnable work) {
+        noRepeatedStatements(threshold, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the work and returns what it ran, for assertions the other methods do not cover
+     */
+    public static SqlStatementTracker.Stats track(Runnable work) {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        try {
+            work.run();
+        } finally {
+            SqlStatementTracker.stop(stats);
+        }
+        return stats;
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        StringBuilder sb = new StringBuilder(":");
+        shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> sb.append("\n  ").append(e.getValue()).append("x ").append(e.getKey()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.entities.Alert;
+import com.prodapt.license_tracker_backend.entities.AuditLog;
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.LicenseAssignment;
+import com.prodapt.license_tracker_backend.entities.SoftwareVersion;
+import com.prodapt.license_tracker_backend.entities.User;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies the migrations to H2 in MySQL mode and checks with EXPLAIN that the SQL behind
+ * the hot repository queries is answered from an index rather than a table scan. Each
+ * statement mirrors what Hibernate generates for the named repository method.
+ */
+class QueryIndexUsageTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:query_indexes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(
+            LicenseAssignment.class, License.class, Device.class, Alert.class,
+            AuditLog.class, SoftwareVersion.class, User.class);
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("LicenseAssignmentRepository.countActiveAssignmentsByLicenseId",
+                        "SELECT COUNT(*) FROM license_assignments WHERE license_id = 1 AND active = TRUE",
+                        "idx_assignment_license_active"),
+                Arguments.of("LicenseAssignmentRepository.findByDeviceIdAndActiveTrue",
+                        "SELECT * FROM license_assignments WHERE device_id = 1 AND active = TRUE",
+                        "idx_assignment_device_active"),
+                Arguments.of("LicenseAssignmentRepository.existsByDeviceIdAndLicenseIdAndActiveTrue",
+                        "SELECT id FROM license_assignments WHERE device_id = 1 AND license_id = 2 AND active = TRUE",
+                        "idx_assignment_device_active"),
+                Arguments.of("LicenseAssignmentRepository.countByActiveTrue",
+                        "SELECT COUNT(*) FROM license_assignments WHERE active = TRUE",
+                        "idx_assignment_active"),
+                Arguments.of("LicenseRepository.findByActiveTrueAndValidToBetween",
+                        "SELECT * FROM licenses WHERE active = TRUE AND valid_to BETWEEN DATE '2026-01-01' AND DATE '2026-03-31'",
+                        "idx_license_active_valid_to"),
+                Arguments.of("LicenseRepository.findByRegion",
+                        "SELECT * FROM licenses WHERE region = 'APAC'",
+                        "idx_license_region_active_valid_to"),
+                Arguments.of("LicenseRepository.findByRegionAndActiveTrueAndValidToBetween",
+                        "SELECT * FROM licenses WHERE region = 'APAC' AND active = TRUE " +
+                                "AND valid_to BETWEEN DATE '2026-01-01' AND DATE '2026-03-31'",
+                        "idx_license_region_active_valid_to"),
+                Arguments.of("LicenseRepository.sumCostByValidToBetween",
+                        "SELECT COALESCE(SUM(cost), 0) FROM licenses WHERE valid_to > DATE '2026-01-01' AND valid_to < DATE '2026-12-31'",
+                        "idx_license_valid_to_cost"),
+                Arguments.of("DeviceRepository.countByRegionAndLifecycle",
+                        "SELECT COUNT(*) FROM devices WHERE region = 'APAC' AND lifecycle = 'ACTIVE'",
+                        "idx_device_region_lifecycle"),
+                Arguments.of("DeviceRepository.findByLifecycle",
+                        "SELECT * FROM devices WHERE lifecycle = 'ACTIVE'",
+                        "idx_device_lifecycle"),
+                Arguments.of("AlertRepository.findRecentUnacknowledged",
+                        "SELECT * FROM alerts WHERE acknowledged = FALSE AND generated_at >= TIMESTAMP '2026-01-01 00:00:00' " +
+                                "ORDER BY generated_at DESC",
+                        "idx_alert_ack_generated"),
+                Arguments.of("AlertRepository.findByAcknowledgedAndSeverityOrderByGeneratedAtDesc",
+                        "SELECT * FROM alerts WHERE acknowledged = FALSE AND severity = 'HIGH' ORDER BY generated_at DESC",
+                        "idx_alert_ack_severity_generated"),
+                Arguments.of("AlertRepository.findByAcknowledgedAndAlertTypeOrderByGeneratedAtDesc",
+                        "SELECT * FROM alerts WHERE acknowledged = FALSE AND alert_type = 'LICENSE_EXPIRY' ORDER BY generated_at DESC",
+                        "idx_alert_type_ack_generated"),
+                Arguments.of("AlertRepository.countByRegionAndAcknowledgedFalse",
+                        "SELECT COUNT(*) FROM alerts WHERE region = 'APAC' AND acknowledged = FALSE",
+                        "idx_alert_region_ack_generated"),
+                Arguments.of("AuditLogRepository.findByFilters (date range)",
+                        "SELECT * FROM audit_logs WHERE timestamp >= TIMESTAMP '2026-01-01 00:00:00' ORDER BY timestamp DESC",
+                        "idx_audit_timestamp"),
+                Arguments.of("AuditLogRepository.findByUserIdOrderByTimestampDesc",
+                        "SELECT * FROM audit_logs WHERE user_id = 1 ORDER BY timestamp DESC",
+                        "idx_audit_user_timestamp"),
+                Arguments.of("AuditLogRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc",
+                        "SELECT * FROM audit_logs WHERE entity_type = 'LICENSE' AND entity_id = '1' ORDER BY timestamp DESC",
+                        "idx_audit_entity_timestamp"),
+                Arguments.of("SoftwareVersionRepository.findByDeviceIdAndSoftwareName",
+                        "SELECT * FROM software_versions WHERE device_id = 1 AND software_name = 'Office'",
+                        "idx_software_version_device_name"),
+                Arguments.of("SoftwareVersionRepository.findByStatusOrderByLastCheckedAsc",
+                        "SELECT * FROM software_versions WHERE status = 'OUTDATED' ORDER BY last_checked",
+                        "idx_software_version_status_checked"),
+                Arguments.of("SoftwareVersionRepository.applyCatalogRelease",
+                        "SELECT id FROM software_versions WHERE software_name = 'Office' AND current_version IN ('1.0', '1.1')",
+                        "idx_software_version_name_version"),
+                Arguments.of("UserRepository.findByResetToken",
+                        "SELECT * FROM users WHERE reset_token = 'token'",
+                        "idx_user_reset_token"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("hot repository queries should be served by their index")
+    void explain_HotQuery_UsesIndex(String query, String sql, String expectedIndex) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase(Locale.ROOT);
+
+        assertTrue(plan.contains(expectedIndex), () -> query + " should use " + expectedIndex + ", plan: " + plan);
+        assertFalse(plan.contains("tablescan"), () -> query + " scans the table, plan: " + plan);
+    }
+
+    @Test
+    @DisplayName("every index declared on an entity should exist with the same columns after migration")
+    void migrate_EntityIndexes_MatchMigrations() {
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            Table table = entity.getAnnotation(Table.class);
+            for (Index index : table.indexes()) {
+                List<String> expected = Arrays.stream(index.columnList().split(","))
+                        .map(String::trim)
+                        .collect(Collectors.toList());
+                List<String> actual = jdbcTemplate.queryForList(
+                        "SELECT column_name FROM information_schema.index_columns " +
+                                "WHERE table_name = ? AND index_name = ? ORDER BY ordinal_position",
+                        String.class, table.name(), index.name());
+
+                assertEquals(expected, actual, () -> "index " + index.name() + " on " + table.name());
+            }
+        }
+    }
+}
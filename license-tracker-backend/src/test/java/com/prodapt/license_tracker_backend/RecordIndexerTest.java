@@ -0,0 +1,161 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.RecordIndexer;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseAssignmentRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.repository.VendorRepository;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordIndexerTest {
+
+    @Mock
+    private LicenseRepository licenseRepository;
+    @Mock
+    private DeviceRepository deviceRepository;
+    @Mock
+    private VendorRepository vendorRepository;
+    @Mock
+    private LicenseAssignmentRepository assignmentRepository;
+    @Mock
+    private EmbeddingModel embeddingModel;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecordIndexer recordIndexer;
+    private License photoshop;
+    private License office;
+
+    @BeforeEach
+    void setUp() {
+        recordIndexer = new RecordIndexer(licenseRepository, deviceRepository, vendorRepository, assignmentRepository,
+                embeddingModel, transactionManager, true, 100, false, 0.6);
+        photoshop = license(1L, "LIC-2024-001", "Adobe Photoshop");
+        office = license(2L, "LIC-2024-002", "Microsoft Office");
+        when(licenseRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(photoshop, office));
+
+        recordIndexer.requestRebuild();
+        awaitUntil(() -> Boolean.TRUE.equals(recordIndexer.getStatistics().get("ready")));
+    }
+
+    @Test
+    @DisplayName("search should return the best matching record first")
+    void search_AfterRebuild_RanksBestMatchFirst() {
+        List<String> results = recordIndexer.search("microsoft office licenses", 5);
+
+        assertEquals(2, recordIndexer.getStatistics().get("records"));
+        assertTrue(results.get(0).startsWith("License LIC-2024-002: Microsoft Office"));
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    @DisplayName("a changed record should be re-indexed with its new text")
+    void markChanged_UpdatedRecord_Reindexes() {
+        photoshop.setSoftwareName("Adobe Illustrator");
+        when(licenseRepository.findByIdIn(List.of(1L))).thenReturn(List.of(photoshop));
+
+        recordIndexer.markChanged(RecordIndexer.LICENSE, 1L);
+
+        awaitUntil(() -> !recordIndexer.search("illustrator", 5).isEmpty());
+        assertTrue(recordIndexer.search("photoshop", 5).isEmpty());
+        assertEquals(2, recordIndexer.getStatistics().get("records"));
+    }
+
+    @Test
+    @DisplayName("renaming a vendor should re-index the licenses that embed its name")
+    void markChanged_RenamedVendor_ReindexesItsLicenses() {
+        Vendor vendor = Vendor.builder().id(5L).vendorName("Adobe Systems").build();
+        photoshop.setVendor(vendor);
+        when(vendorRepository.findAllById(List.of(5L))).thenReturn(List.of(vendor));
+        when(licenseRepository.findByVendorIdIn(List.of(5L))).thenReturn(List.of(photoshop));
+
+        recordIndexer.markChanged(RecordIndexer.VENDOR, 5L);
+
+        awaitUntil(() -> recordIndexer.search("adobe systems", 5).size() == 2);
+        assertTrue(recordIndexer.search("adobe systems", 5).stream()
+                .anyMatch(text -> text.startsWith("License LIC-2024-001: Adobe Photoshop") && text.contains("vendor Adobe Systems")));
+    }
+
+    @Test
+    @DisplayName("a record that no longer exists should be removed from the index")
+    void markChanged_DeletedRecord_RemovesFromIndex() {
+        when(licenseRepository.findByIdIn(List.of(2L))).thenReturn(List.of());
+
+        recordIndexer.markChanged(RecordIndexer.LICENSE, 2L);
+
+        awaitUntil(() -> recordIndexer.search("office", 5).isEmpty());
+        assertEquals(1, recordIndexer.getStatistics().get("records"));
+    }
+
+    @Test
+    @DisplayName("a change made inside a transaction should only be queued once it commits")
+    void markChanged_InsideTransaction_QueuedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recordIndexer.markChanged(RecordIndexer.LICENSE, 2L);
+            verify(licenseRepository, never()).findByIdIn(any());
+            assertEquals(0, recordIndexer.getStatistics().get("pendingUpdates"));
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        awaitUntil(() -> recordIndexer.search("office", 5).isEmpty());
+        verify(licenseRepository).findByIdIn(List.of(2L));
+    }
+
+    private static License license(Long id, String key, String softwareName) {
+        return License.builder()
+                .id(id)
+                .licenseKey(key)
+                .softwareName(softwareName)
+                .licenseType(LicenseType.PER_USER)
+                .maxUsage(10)
+                .currentUsage(4)
+                .validFrom(LocalDate.of(2025, 1, 1))
+                .validTo(LocalDate.of(2026, 12, 31))
+                .region(Region.CHENNAI)
+                .active(true)
+                .build();
+    }
+
+    // Index updates run on the indexer's own thread
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Index did not reach the expected state within 5 seconds");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
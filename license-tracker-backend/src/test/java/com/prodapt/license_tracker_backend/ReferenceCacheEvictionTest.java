@@ -0,0 +1,99 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.DataDomain;
+import com.prodapt.license_tracker_backend.ai.SemanticAnswerCache;
+import com.prodapt.license_tracker_backend.config.CacheConfig;
+import com.prodapt.license_tracker_backend.config.SecondLevelCacheMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import com.prodapt.license_tracker_backend.service.implementation.ReferenceCacheServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Evictions made inside a transaction are deferred by the transaction-aware cache manager
+ * until it commits, so a concurrent reader cannot re-cache the old row in between.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceCacheEvictionTest {
+
+    private static final String LICENSE_KEY = "LIC-2025-0001";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private SemanticAnswerCache semanticAnswerCache;
+    private ReferenceCacheService referenceCacheService;
+    private Cache licenses;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        semanticAnswerCache = mock(SemanticAnswerCache.class);
+        referenceCacheService = new ReferenceCacheServiceImpl(cacheManager, entityManagerFactory,
+                semanticAnswerCache, new SecondLevelCacheMetrics(entityManagerFactory));
+        licenses = cacheManager.getCache(CacheNames.LICENSES_BY_KEY);
+        licenses.clear();
+        licenses.put(LICENSE_KEY, "cached license");
+    }
+
+    @Test
+    @DisplayName("an eviction inside a transaction should take effect only once it commits")
+    void evictLicense_InsideTransaction_DeferredUntilCommit() {
+        tx.executeWithoutResult(status -> {
+            referenceCacheService.evictLicense(LICENSE_KEY);
+
+            assertNotNull(licenses.get(LICENSE_KEY));
+            verify(semanticAnswerCache, never()).invalidate(DataDomain.LICENSES);
+        });
+
+        assertNull(licenses.get(LICENSE_KEY));
+        verify(semanticAnswerCache).invalidate(DataDomain.LICENSES);
+    }
+
+    @Test
+    @DisplayName("an eviction inside a rolled back transaction should be discarded")
+    void evictLicense_TransactionRolledBack_EntryKept() {
+        tx.executeWithoutResult(status -> {
+            referenceCacheService.evictLicense(LICENSE_KEY);
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(licenses.get(LICENSE_KEY));
+        verify(semanticAnswerCache, never()).invalidate(DataDomain.LICENSES);
+    }
+
+    @Test
+    @DisplayName("an eviction outside a transaction should take effect immediately")
+    void evictLicense_NoTransaction_EvictsImmediately() {
+        referenceCacheService.evictLicense(LICENSE_KEY);
+
+        assertNull(licenses.get(LICENSE_KEY));
+        verify(semanticAnswerCache).invalidate(DataDomain.LICENSES);
+    }
+}
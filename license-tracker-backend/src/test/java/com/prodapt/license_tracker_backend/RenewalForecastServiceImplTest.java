@@ -0,0 +1,144 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.analytics.RenewalRollupEntry;
+import com.prodapt.license_tracker_backend.analytics.RenewalScenario;
+import com.prodapt.license_tracker_backend.dto.RenewalCostRow;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastBucket;
+import com.prodapt.license_tracker_backend.dto.RenewalForecastResponse;
+import com.prodapt.license_tracker_backend.dto.VendorResponse;
+import com.prodapt.license_tracker_backend.entities.LicenseRenewalRollup;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.exception.ValidationException;
+import com.prodapt.license_tracker_backend.repository.LicenseRenewalRollupRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.service.VendorService;
+import com.prodapt.license_tracker_backend.service.implementation.RenewalForecastServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RenewalForecastServiceImplTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2026, 2, 1);
+    private static final LocalDate MARCH = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private LicenseRenewalRollupRepository rollupRepository;
+    @Mock
+    private LicenseRepository licenseRepository;
+    @Mock
+    private VendorService vendorService;
+
+    @InjectMocks
+    private RenewalForecastServiceImpl renewalForecastService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(vendorService.getAllVendorsList()).thenReturn(List.of(
+                VendorResponse.builder().id(1L).vendorName("Cisco").build(),
+                VendorResponse.builder().id(2L).vendorName("Juniper").build()));
+    }
+
+    @Test
+    @DisplayName("whole months should come from the rollup and only the partial edge months from licenses")
+    void getForecast_PartialEdgeMonths_CombinesRollupAndRangeQueries() {
+        LocalDate from = LocalDate.of(2026, 1, 15);
+        LocalDate to = LocalDate.of(2026, 3, 10);
+        when(rollupRepository.findByIdRenewalMonthBetween(FEBRUARY, FEBRUARY)).thenReturn(List.of(
+                rollup(FEBRUARY, 1L, Region.CHENNAI, LicenseType.PER_DEVICE, 4, "400.00"),
+                rollup(FEBRUARY, LicenseRenewalRollup.NO_VENDOR, Region.DELHI, LicenseType.PER_USER, 1, "50.00")));
+        when(licenseRepository.sumRenewalCostByMonth(from, LocalDate.of(2026, 1, 31))).thenReturn(List.of(
+                row(2026, 1, 2L, Region.CHENNAI, LicenseType.ENTERPRISE, 2, "1000.00")));
+        when(licenseRepository.sumRenewalCostByMonth(MARCH, to)).thenReturn(List.of(
+                row(2026, 3, null, Region.DELHI, LicenseType.PER_USER, 3, null)));
+
+        RenewalForecastResponse forecast = renewalForecastService.getForecast(from, to, RenewalScenario.baseline());
+
+        assertEquals(10L, forecast.getLicenseCount());
+        assertEquals(new BigDecimal("1450.00"), forecast.getBaselineCost());
+        assertEquals(forecast.getBaselineCost(), forecast.getProjectedCost());
+        assertEquals(List.of("2026-01", "2026-02", "2026-03"), keys(forecast.getByMonth()));
+        assertEquals(List.of(2L, 5L, 3L), forecast.getByMonth().stream().map(RenewalForecastBucket::getLicenseCount).toList());
+        assertEquals(List.of("Juniper", "Cisco", "N/A"), keys(forecast.getByVendor()));
+        assertEquals(List.of("CHENNAI", "DELHI"), keys(forecast.getByRegion()));
+        verify(licenseRepository, times(2)).sumRenewalCostByMonth(any(), any());
+    }
+
+    @Test
+    @DisplayName("consolidation should apply to its vendor only and the uplift to every renewed license")
+    void getForecast_UpliftAndVendorConsolidation_ProjectsCost() {
+        when(rollupRepository.findByIdRenewalMonthBetween(JANUARY, JANUARY)).thenReturn(List.of(
+                rollup(JANUARY, 1L, Region.MUMBAI, LicenseType.PER_DEVICE, 10, "1000.00"),
+                rollup(JANUARY, 2L, Region.MUMBAI, LicenseType.PER_DEVICE, 5, "500.00")));
+        RenewalScenario scenario = new RenewalScenario(new BigDecimal("10"), new BigDecimal("40"), 1L, null);
+
+        RenewalForecastResponse forecast = renewalForecastService.getForecast(JANUARY, LocalDate.of(2026, 1, 31), scenario);
+
+        assertEquals(15L, forecast.getLicenseCount());
+        assertEquals(11L, forecast.getProjectedLicenseCount());
+        // Cisco: 1000 * 0.6 * 1.1 = 660, Juniper: 500 * 1.1 = 550
+        assertEquals(new BigDecimal("1210.00"), forecast.getProjectedCost());
+        assertEquals(List.of(new BigDecimal("660.00"), new BigDecimal("550.00")),
+                forecast.getByVendor().stream().map(RenewalForecastBucket::getProjectedCost).toList());
+        verifyNoInteractions(licenseRepository);
+    }
+
+    @Test
+    @DisplayName("a license moved to another month should leave its old month and drop it when empty")
+    void recordLicenseChange_ValidToMoved_MovesContribution() {
+        RenewalRollupEntry before = new RenewalRollupEntry(JANUARY, 1L, Region.DELHI, LicenseType.PER_USER, new BigDecimal("100.00"));
+        RenewalRollupEntry after = new RenewalRollupEntry(MARCH, 1L, Region.DELHI, LicenseType.PER_USER, new BigDecimal("120.00"));
+
+        renewalForecastService.recordLicenseChange(before, after);
+        renewalForecastService.recordLicenseChange(after, new RenewalRollupEntry(MARCH, 1L, Region.DELHI,
+                LicenseType.PER_USER, new BigDecimal("120.0")));
+
+        verify(rollupRepository).addToMonth(MARCH, 1L, "DELHI", "PER_USER", 1, new BigDecimal("120.00"));
+        verify(rollupRepository).addToMonth(JANUARY, 1L, "DELHI", "PER_USER", -1, new BigDecimal("-100.00"));
+        verify(rollupRepository).deleteIfEmpty(before.key());
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("a horizon ending before it starts should be rejected")
+    void getForecast_FromAfterTo_Throws() {
+        assertThrows(ValidationException.class,
+                () -> renewalForecastService.getForecast(MARCH, JANUARY, RenewalScenario.baseline()));
+        verifyNoInteractions(rollupRepository, licenseRepository);
+    }
+
+    private static LicenseRenewalRollup rollup(LocalDate month, long vendorId, Region region, LicenseType type,
+                                               long count, String cost) {
+        return new LicenseRenewalRollup(new LicenseRenewalRollup.Key(month, vendorId, region, type),
+                count, new BigDecimal(cost));
+    }
+
+    private static RenewalCostRow row(int year, int month, Long vendorId, Region region, LicenseType type,
+                                      long count, String cost) {
+        return new Row(year, month, vendorId, region, type, count, cost != null ? new BigDecimal(cost) : null);
+    }
+
+    private static List<String> keys(List<RenewalForecastBucket> buckets) {
+        return buckets.stream().map(RenewalForecastBucket::getKey).toList();
+    }
+
+    private record Row(Integer getRenewalYear, Integer getRenewalMonth, Long getVendorId, Region getRegion,
+                       LicenseType getLicenseType, Long getLicenseCount, BigDecimal getTotalCost)
+            implements RenewalCostRow {
+    }
+}
@@ -0,0 +1,107 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.dto.SlowRequestResponse;
+import com.prodapt.license_tracker_backend.monitoring.RequestTracer;
+import com.prodapt.license_tracker_backend.monitoring.SlowRequestLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTracerTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTracer.detach();
+    }
+
+    @Test
+    @DisplayName("nested spans should be recorded in start order with their depth")
+    void start_NestedSpans_RecordedWithDepth() {
+        RequestTracer.Trace trace = new RequestTracer.Trace("GET /api/devices", 200, false);
+        RequestTracer.Span root = RequestTracer.startTrace(trace, "http", "GET /api/devices");
+        try (RequestTracer.Span controller = RequestTracer.start("controller", "DeviceController.getAllDevices")) {
+            try (RequestTracer.Span service = RequestTracer.start("service", "DeviceServiceImpl.getAllDevices")) {
+                RequestTracer.start("repository", "DeviceRepository.findAll").close();
+            }
+        }
+        root.close();
+
+        List<RequestTracer.Span> spans = trace.getSpans();
+        assertEquals(List.of("http", "controller", "service", "repository"),
+                spans.stream().map(RequestTracer.Span::getKind).toList());
+        assertEquals(List.of(0, 1, 2, 3), spans.stream().map(RequestTracer.Span::getDepth).toList());
+        assertFalse(RequestTracer.isActive());
+    }
+
+    @Test
+    @DisplayName("spans outside a request should not be recorded")
+    void start_NoTrace_NoOp() {
+        RequestTracer.Span span = RequestTracer.start("service", "AlertServiceImpl.generateLicenseExpiryAlerts");
+        span.close();
+
+        assertFalse(RequestTracer.isActive());
+    }
+
+    @Test
+    @DisplayName("work handed to another thread should join the request's trace")
+    void propagate_OtherThread_JoinsTrace() throws Exception {
+        RequestTracer.Trace trace = new RequestTracer.Trace("POST /api/chat", 200, false);
+        RequestTracer.Span root = RequestTracer.startTrace(trace, "http", "POST /api/chat");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.supplyAsync(RequestTracer.propagate(() -> {
+                try (RequestTracer.Span model = RequestTracer.start("ai.model", "chat")) {
+                    return "answer";
+                }
+            }), executor).get();
+
+            // The pool thread must not keep the request's trace
+            assertFalse(executor.submit(RequestTracer::isActive).get());
+        } finally {
+            executor.shutdown();
+        }
+        root.close();
+
+        List<RequestTracer.Span> spans = trace.getSpans();
+        assertEquals(2, spans.size());
+        assertEquals("ai.model", spans.get(1).getKind());
+        assertEquals(1, spans.get(1).getDepth());
+    }
+
+    @Test
+    @DisplayName("spans past the limit should be counted as dropped, keeping the root")
+    void start_PastMaxSpans_Dropped() {
+        RequestTracer.Trace trace = new RequestTracer.Trace("GET /api/reports/devices", 3, false);
+        RequestTracer.Span root = RequestTracer.startTrace(trace, "http", "GET /api/reports/devices");
+        for (int i = 0; i < 10; i++) {
+            RequestTracer.start("repository", "LicenseAssignmentRepository.existsByDeviceAndActiveTrue").close();
+        }
+        root.close();
+
+        assertEquals(4, trace.getSpans().size());
+        assertEquals(7, trace.getDroppedSpans());
+    }
+
+    @Test
+    @DisplayName("the slow request log should keep the newest entries, newest first")
+    void record_PastCapacity_KeepsNewest() {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(3);
+        for (int i = 1; i <= 5; i++) {
+            slowRequestLog.record(SlowRequestResponse.builder().path("/api/request/" + i).build());
+        }
+
+        assertEquals(List.of("/api/request/5", "/api/request/4", "/api/request/3"),
+                slowRequestLog.recent().stream().map(SlowRequestResponse::getPath).toList());
+        assertEquals(5, slowRequestLog.getRecordedCount());
+
+        slowRequestLog.clear();
+        assertTrue(slowRequestLog.recent().isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.config.SecondLevelCacheMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import com.prodapt.license_tracker_backend.repository.VendorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each TransactionTemplate call stands in for a separate request, so entries
+ * only reach the second-level cache once the writing transaction commits.
+ * Vendors use IDENTITY ids, which Hibernate does not cache on insert, so tests
+ * load a vendor once before asserting on cache hits.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> vendorRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("findById should be served from the second-level cache across transactions")
+    void findById_RepeatedAcrossTransactions_HitsCache() {
+        Long id = saveVendor("Cisco", "sales@cisco.com");
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+        statistics.clear();
+
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getCacheRegionStatistics(CacheNames.VENDOR_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("region hits should be published from Ehcache's statistics")
+    void regionStatistics_RepeatedFindById_CountsHits() {
+        SecondLevelCacheMetrics metrics = new SecondLevelCacheMetrics(entityManagerFactory);
+        metrics.bindTo(new SimpleMeterRegistry());
+        Long id = saveVendor("Arista", "sales@arista.com");
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+        long hitsBefore = (long) metrics.getRegionStatistics().get("hibernate:" + CacheNames.VENDOR_REGION).get("hits");
+
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+
+        assertEquals(hitsBefore + 2,
+                (long) metrics.getRegionStatistics().get("hibernate:" + CacheNames.VENDOR_REGION).get("hits"));
+    }
+
+    @Test
+    @DisplayName("findById should return the updated state from cache after an update commits")
+    void findById_AfterUpdate_ReturnsFreshStateFromCache() {
+        Long id = saveVendor("Juniper", "old@juniper.net");
+
+        tx.executeWithoutResult(status -> {
+            Vendor vendor = vendorRepository.findById(id).orElseThrow();
+            vendor.setContactEmail("new@juniper.net");
+        });
+        statistics.clear();
+
+        Vendor reloaded = tx.execute(status -> vendorRepository.findById(id).orElseThrow());
+
+        assertEquals("new@juniper.net", reloaded.getContactEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findByVendorName results should be invalidated when the vendors table is written")
+    void findByVendorName_AfterWrite_QueryCacheInvalidated() {
+        saveVendor("Fortinet", "sales@fortinet.com");
+        statistics.clear();
+
+        tx.executeWithoutResult(status -> vendorRepository.findByVendorName("Fortinet").orElseThrow());
+        tx.executeWithoutResult(status -> vendorRepository.findByVendorName("Fortinet").orElseThrow());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        saveVendor("Palo Alto", "sales@paloalto.com");
+        statistics.clear();
+
+        tx.executeWithoutResult(status -> vendorRepository.findByVendorName("Fortinet").orElseThrow());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    @DisplayName("deleteById should stop the entity being served from the second-level cache")
+    void deleteById_EvictsEntity() {
+        Long id = saveVendor("Aruba", "sales@aruba.com");
+        tx.executeWithoutResult(status -> vendorRepository.findById(id).orElseThrow());
+
+        tx.executeWithoutResult(status -> vendorRepository.deleteById(id));
+        statistics.clear();
+
+        // READ_WRITE keeps a soft lock under the key, so Cache.contains stays true until it times out
+        assertTrue(tx.execute(status -> vendorRepository.findById(id)).isEmpty());
+        assertEquals(0, statistics.getCacheRegionStatistics(CacheNames.VENDOR_REGION).getHitCount());
+    }
+
+    private Long saveVendor(String name, String email) {
+        return tx.execute(status -> vendorRepository.save(Vendor.builder()
+                .vendorName(name)
+                .contactEmail(email)
+                .build()).getId());
+    }
+}
@@ -0,0 +1,125 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.ai.DataDomain;
+import com.prodapt.license_tracker_backend.ai.SemanticAnswerCache;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemanticAnswerCacheTest {
+
+    private static final String QUESTION = "How many licenses expire in 30 days?";
+
+    private final WordEmbeddingModel embeddingModel = new WordEmbeddingModel();
+    private final SemanticAnswerCache cache = new SemanticAnswerCache(embeddingModel, true, 0.92, 100, 60, 12);
+
+    @Test
+    @DisplayName("a rephrased question with the same literals should be answered from the cache")
+    void lookup_SameQuestionRephrased_Hits() {
+        cache.store(cache.lookup(QUESTION), "12 licenses", Set.of(DataDomain.LICENSES));
+
+        SemanticAnswerCache.Lookup lookup = cache.lookup("  how many licenses   expire in 30 days ");
+
+        assertTrue(lookup.isHit());
+        assertEquals("12 licenses", lookup.getAnswer());
+    }
+
+    @Test
+    @DisplayName("questions differing only in a number should not share an answer")
+    void lookup_DifferentNumberOfDays_Misses() {
+        cache.store(cache.lookup(QUESTION), "12 licenses", Set.of(DataDomain.LICENSES));
+
+        // Identical embeddings: only the literal key tells the two apart
+        assertFalse(cache.lookup("How many licenses expire in 90 days?").isHit());
+        assertFalse(cache.lookup("How many licenses expire in 30 months?").isHit());
+    }
+
+    @Test
+    @DisplayName("questions about different vendors or license keys should not share an answer")
+    void lookup_DifferentVendorOrKey_Misses() {
+        cache.store(cache.lookup("Show the licenses bought from Cisco"), "Cisco licenses", Set.of(DataDomain.LICENSES));
+        cache.store(cache.lookup("What is the status of LIC-2024-0042?"), "Active", Set.of(DataDomain.LICENSES));
+
+        assertFalse(cache.lookup("Show the licenses bought from Juniper").isHit());
+        assertFalse(cache.lookup("What is the status of LIC-2024-0043?").isHit());
+        assertTrue(cache.lookup("show the licenses bought from Cisco").isHit());
+    }
+
+    @Test
+    @DisplayName("invalidating a domain should drop only the answers built from it")
+    void invalidate_DependentDomain_DropsAnswer() {
+        cache.store(cache.lookup(QUESTION), "12 licenses", Set.of(DataDomain.LICENSES));
+
+        cache.invalidate(DataDomain.VENDORS);
+        assertTrue(cache.lookup(QUESTION).isHit());
+
+        cache.invalidate(DataDomain.LICENSES);
+        assertFalse(cache.lookup(QUESTION).isHit());
+        assertEquals(0, cache.getStatistics().get("size"));
+    }
+
+    @Test
+    @DisplayName("an answer generated while its data changed should never be served")
+    void store_DomainChangedSinceLookup_AnswerIsStale() {
+        SemanticAnswerCache.Lookup lookup = cache.lookup(QUESTION);
+        cache.invalidate(DataDomain.LICENSES);
+        cache.store(lookup, "12 licenses", Set.of(DataDomain.LICENSES));
+
+        assertFalse(cache.lookup(QUESTION).isHit());
+    }
+
+    @Test
+    @DisplayName("an answer with unknown dependencies should be dropped by any domain change")
+    void store_UnknownDependencies_TiedToEveryDomain() {
+        cache.store(cache.lookup(QUESTION), "12 licenses", null);
+
+        cache.invalidate(DataDomain.DEVICES);
+
+        assertFalse(cache.lookup(QUESTION).isHit());
+    }
+
+    @Test
+    @DisplayName("short follow-ups should bypass the cache without being embedded")
+    void lookup_ShortFollowUp_Skipped() {
+        SemanticAnswerCache.Lookup lookup = cache.lookup("yes, please");
+        cache.store(lookup, "3 devices", null);
+
+        assertFalse(lookup.isHit());
+        assertEquals(0, embeddingModel.calls.get());
+        assertEquals(0, cache.getStatistics().get("size"));
+    }
+
+    /**
+     * Bag of words over letters only, so numbers and keys do not change the vector at all:
+     * the worst case for a real embedding model
+     */
+    private static class WordEmbeddingModel implements EmbeddingModel {
+
+        private static final int DIMENSIONS = 64;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+            calls.incrementAndGet();
+            return Response.from(segments.stream().map(segment -> Embedding.from(embed(segment))).toList());
+        }
+
+        private static float[] embed(TextSegment segment) {
+            float[] vector = new float[DIMENSIONS];
+            for (String word : segment.text().toLowerCase().replaceAll("[^a-z ]", " ").trim().split("\\s+")) {
+                vector[Math.floorMod(word.hashCode(), DIMENSIONS)] += 1;
+            }
+            return vector;
+        }
+    }
+}
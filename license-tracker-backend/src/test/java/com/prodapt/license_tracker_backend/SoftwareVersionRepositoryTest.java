@@ -0,0 +1,191 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.dto.SoftwareVersionCheckRow;
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.SoftwareVersion;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.entities.enums.SoftwareVersionStatus;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.repository.SoftwareVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The set-based catalog propagation and the keyset scan behind the bulk update check,
+ * run against H2 so the JPQL (COALESCE, IN lists, nullable filter parameters) is executed.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SoftwareVersionRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 2);
+
+    @Autowired
+    private SoftwareVersionRepository softwareVersionRepository;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Device bangalore;
+    private Device chennai;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        bangalore = saveDevice("RTR-BLR-01", Region.BANGALORE);
+        chennai = saveDevice("RTR-MAA-01", Region.CHENNAI);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            softwareVersionRepository.deleteAllInBatch();
+            deviceRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("applyCatalogRelease should update only rows of the product on the given installed versions")
+    void applyCatalogRelease_MatchingVersions_UpdatesOnlyThoseRows() {
+        Long onOld = save(bangalore, "IOS-XE", "16.9", SoftwareVersionStatus.UP_TO_DATE, null);
+        Long onOlder = save(chennai, "IOS-XE", "16.6", SoftwareVersionStatus.UP_TO_DATE, null);
+        Long onCurrent = save(chennai, "IOS-XE", "17.3", SoftwareVersionStatus.UP_TO_DATE, null);
+        Long otherProduct = save(bangalore, "JunOS", "16.9", SoftwareVersionStatus.UP_TO_DATE, null);
+
+        int updated = tx.execute(status -> softwareVersionRepository.applyCatalogRelease(
+                "IOS-XE", List.of("16.9", "16.6"), "17.3", SoftwareVersionStatus.OUTDATED, TODAY,
+                "https://example.com/ios-xe/17.3", LocalDate.of(2025, 5, 1)));
+
+        assertEquals(2, updated);
+        for (Long id : List.of(onOld, onOlder)) {
+            SoftwareVersion row = find(id);
+            assertEquals("17.3", row.getLatestVersion());
+            assertEquals(SoftwareVersionStatus.OUTDATED, row.getStatus());
+            assertEquals(TODAY, row.getLastChecked());
+            assertEquals("https://example.com/ios-xe/17.3", row.getUpdateUrl());
+            assertEquals(LocalDate.of(2025, 5, 1), row.getReleaseDate());
+        }
+        for (Long id : List.of(onCurrent, otherProduct)) {
+            SoftwareVersion row = find(id);
+            assertEquals(SoftwareVersionStatus.UP_TO_DATE, row.getStatus());
+            assertNull(row.getLastChecked());
+            assertNull(row.getUpdateUrl());
+        }
+    }
+
+    @Test
+    @DisplayName("applyCatalogRelease should keep the existing update URL and release date when the release has none")
+    void applyCatalogRelease_NullUrlAndDate_KeepsExistingValues() {
+        Long id = tx.execute(status -> softwareVersionRepository.save(SoftwareVersion.builder()
+                .device(bangalore)
+                .softwareName("IOS-XE")
+                .currentVersion("16.9")
+                .status(SoftwareVersionStatus.OUTDATED)
+                .updateUrl("https://example.com/ios-xe/17.1")
+                .releaseDate(LocalDate.of(2024, 11, 1))
+                .build()).getId());
+
+        tx.execute(status -> softwareVersionRepository.applyCatalogRelease(
+                "IOS-XE", List.of("16.9"), "17.3", SoftwareVersionStatus.CRITICAL, TODAY, null, null));
+
+        SoftwareVersion row = find(id);
+        assertEquals(SoftwareVersionStatus.CRITICAL, row.getStatus());
+        assertEquals("17.3", row.getLatestVersion());
+        assertEquals("https://example.com/ios-xe/17.1", row.getUpdateUrl());
+        assertEquals(LocalDate.of(2024, 11, 1), row.getReleaseDate());
+    }
+
+    @Test
+    @DisplayName("findCheckCandidates should page by id and return every row when no filter is set")
+    void findCheckCandidates_NoFilters_PagesThroughAllRows() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(save(i % 2 == 0 ? bangalore : chennai, "IOS-XE", "16." + i, SoftwareVersionStatus.UNKNOWN, null));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        Long afterId = 0L;
+        while (afterId != null) {
+            List<SoftwareVersionCheckRow> rows = candidates(afterId, null, null, null, 2);
+            rows.forEach(row -> seen.add(row.getId()));
+            afterId = rows.size() < 2 ? null : rows.get(rows.size() - 1).getId();
+        }
+
+        assertEquals(ids, seen);
+    }
+
+    @Test
+    @DisplayName("findCheckCandidates should apply each filter that is set and treat never-checked rows as due")
+    void findCheckCandidates_Filters_ReturnMatchingRows() {
+        Long outdatedBlrStale = save(bangalore, "IOS-XE", "16.9", SoftwareVersionStatus.OUTDATED, TODAY.minusDays(40));
+        Long outdatedBlrFresh = save(bangalore, "IOS-XE", "16.6", SoftwareVersionStatus.OUTDATED, TODAY.minusDays(1));
+        Long outdatedBlrNeverChecked = save(bangalore, "JunOS", "20.4", SoftwareVersionStatus.OUTDATED, null);
+        Long outdatedMaaStale = save(chennai, "IOS-XE", "16.9", SoftwareVersionStatus.OUTDATED, TODAY.minusDays(40));
+        Long criticalBlrStale = save(bangalore, "IOS-XE", "15.2", SoftwareVersionStatus.CRITICAL, TODAY.minusDays(40));
+
+        assertEquals(List.of(outdatedBlrStale, outdatedBlrFresh, outdatedBlrNeverChecked, outdatedMaaStale),
+                ids(candidates(0L, SoftwareVersionStatus.OUTDATED, null, null, 100)));
+        assertEquals(List.of(outdatedBlrStale, outdatedBlrNeverChecked, outdatedMaaStale, criticalBlrStale),
+                ids(candidates(0L, null, TODAY.minusDays(30), null, 100)));
+        assertEquals(List.of(outdatedMaaStale),
+                ids(candidates(0L, null, null, Region.CHENNAI, 100)));
+        assertEquals(List.of(outdatedBlrStale, outdatedBlrNeverChecked),
+                ids(candidates(0L, SoftwareVersionStatus.OUTDATED, TODAY.minusDays(30), Region.BANGALORE, 100)));
+    }
+
+    private List<SoftwareVersionCheckRow> candidates(Long afterId, SoftwareVersionStatus status,
+                                                     LocalDate lastCheckedBefore, Region region, int size) {
+        return tx.execute(s -> softwareVersionRepository.findCheckCandidates(
+                afterId, status, lastCheckedBefore, region, PageRequest.of(0, size)));
+    }
+
+    private static List<Long> ids(List<SoftwareVersionCheckRow> rows) {
+        return rows.stream().map(SoftwareVersionCheckRow::getId).toList();
+    }
+
+    private SoftwareVersion find(Long id) {
+        return tx.execute(status -> softwareVersionRepository.findById(id).orElseThrow());
+    }
+
+    private Long save(Device device, String softwareName, String currentVersion,
+                      SoftwareVersionStatus status, LocalDate lastChecked) {
+        return tx.execute(s -> softwareVersionRepository.save(SoftwareVersion.builder()
+                .device(device)
+                .softwareName(softwareName)
+                .currentVersion(currentVersion)
+                .status(status)
+                .lastChecked(lastChecked)
+                .build()).getId());
+    }
+
+    private Device saveDevice(String deviceId, Region region) {
+        return tx.execute(status -> deviceRepository.save(Device.builder()
+                .deviceId(deviceId)
+                .deviceType(DeviceType.values()[0])
+                .model("ISR 4331")
+                .region(region)
+                .lifecycle(DeviceLifecycle.values()[0])
+                .build()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.monitoring.SqlStatementTracker;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.repository.LicenseAssignmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The statement inspector is wired through application.yaml, so these run against the same
+ * Hibernate configuration as the application. The per-device lookup mirrors the loop in
+ * ReportServiceImpl.getComplianceReportByRegion.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SqlStatementBudgetTest {
+
+    private static final int DEVICES = 15;
+    private static final int N_PLUS_ONE_THRESHOLD = 10;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private LicenseAssignmentRepository assignmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Device> devices = new ArrayList<>(DEVICES);
+        for (int i = 0; i < DEVICES; i++) {
+            devices.add(Device.builder()
+                    .deviceId("SQL-" + i)
+                    .deviceType(DeviceType.values()[i % DeviceType.values().length])
+                    .model("Model " + i)
+                    .region(Region.values()[i % Region.values().length])
+                    .lifecycle(DeviceLifecycle.ACTIVE)
+                    .build());
+        }
+        deviceRepository.saveAll(devices);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deviceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("a query per loaded row should be reported as a repeated statement shape")
+    void track_QueryPerDevice_FlaggedAsRepeated() {
+        SqlStatementTracker.Stats stats = QueryBudget.track(() -> deviceRepository.findAll()
+                .forEach(assignmentRepository::existsByDeviceAndActiveTrue));
+
+        assertEquals(DEVICES + 1, stats.getStatementCount());
+        Map<String, Integer> repeated = stats.repeatedShapes(N_PLUS_ONE_THRESHOLD);
+        assertEquals(1, repeated.size());
+        assertEquals(DEVICES, repeated.values().iterator().next());
+    }
+
+    @Test
+    @DisplayName("work within its query budget should return its result")
+    void atMost_WithinBudget_ReturnsResult() {
+        List<Device> devices = QueryBudget.atMost(1, () -> deviceRepository.findAll());
+
+        assertEquals(DEVICES, devices.size());
+    }
+
+    @Test
+    @DisplayName("work over its query budget should fail with the statements it ran")
+    void atMost_OverBudget_ThrowsWithStatementShapes() {
+        AssertionError error = assertThrows(AssertionError.class, () -> QueryBudget.atMost(5,
+                () -> deviceRepository.findAll().forEach(assignmentRepository::existsByDeviceAndActiveTrue)));
+
+        assertTrue(error.getMessage().contains("ran " + (DEVICES + 1)));
+        assertTrue(error.getMessage().contains(DEVICES + "x "));
+    }
+
+    @Test
+    @DisplayName("a statement repeated past the threshold should fail the N+1 check")
+    void noRepeatedStatements_QueryPerDevice_Throws() {
+        assertThrows(AssertionError.class, () -> QueryBudget.noRepeatedStatements(N_PLUS_ONE_THRESHOLD,
+                () -> deviceRepository.findAll().forEach(assignmentRepository::existsByDeviceAndActiveTrue)));
+    }
+
+    @Test
+    @DisplayName("statements should count towards every enclosing tracker")
+    void track_Nested_CountsTowardsOuterTracker() {
+        SqlStatementTracker.Stats outer = SqlStatementTracker.start();
+        try {
+            SqlStatementTracker.Stats inner = QueryBudget.track(() -> deviceRepository.count());
+            deviceRepository.count();
+
+            assertEquals(1, inner.getStatementCount());
+            assertEquals(2, outer.getStatementCount());
+            assertEquals(Map.of(inner.getShapeCounts().keySet().iterator().next(), 2), outer.getShapeCounts());
+        } finally {
+            SqlStatementTracker.stop(outer);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.prodapt.license_tracker_backend;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prodapt.license_tracker_backend.ai.DataDomain;
+import com.prodapt.license_tracker_backend.ai.ToolResultCache;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.constants.CacheNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolResultCacheTest {
+
+    private static final String TOOL = "getExpiringLicenses";
+    private static final Set<DataDomain> DOMAINS = Set.of(DataDomain.LICENSES);
+    private static final List<Integer> ARGS = List.of(30);
+    private static final String FALLBACK = "Error retrieving expiring licenses";
+    private static final Clock MONDAY = Clock.fixed(Instant.parse("2025-06-02T23:59:00Z"), ZoneOffset.UTC);
+    private static final Clock TUESDAY = Clock.fixed(Instant.parse("2025-06-03T00:01:00Z"), ZoneOffset.UTC);
+
+    private final CaffeineCacheManager cacheManager = cacheManager();
+    private final ApplicationMetrics applicationMetrics = new ApplicationMetrics(new SimpleMeterRegistry());
+    private final ToolResultCache cache = new ToolResultCache(cacheManager, applicationMetrics, true, MONDAY);
+
+    @Test
+    @DisplayName("a call made while the same call is loading should join it instead of loading again")
+    void get_IdenticalCallInFlight_JoinsLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(TOOL, DOMAINS, ARGS, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "12 licenses";
+        }, FALLBACK));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(TOOL, DOMAINS, ARGS, () -> {
+            loads.incrementAndGet();
+            return "loaded twice";
+        }, FALLBACK));
+        release.countDown();
+
+        assertEquals("12 licenses", first.get(5, TimeUnit.SECONDS));
+        assertEquals("12 licenses", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("a failed load should be answered with the fallback and not cached")
+    void get_LoaderFails_NotCached() {
+        String failed = cache.get(TOOL, DOMAINS, ARGS, () -> {
+            throw new IllegalStateException("database unavailable");
+        }, FALLBACK);
+        String retried = cache.get(TOOL, DOMAINS, ARGS, () -> "12 licenses", FALLBACK);
+
+        assertEquals(FALLBACK, failed);
+        assertEquals("12 licenses", retried);
+    }
+
+    @Test
+    @DisplayName("results cached on one day should not be served on the next")
+    void get_DateRollsOver_LoadsAgain() {
+        ToolResultCache nextDay = new ToolResultCache(cacheManager, applicationMetrics, true, TUESDAY);
+
+        cache.get(TOOL, DOMAINS, ARGS, () -> "12 licenses", FALLBACK);
+
+        assertEquals("11 licenses", nextDay.get(TOOL, DOMAINS, ARGS, () -> "11 licenses", FALLBACK));
+        assertEquals("12 licenses", cache.get(TOOL, DOMAINS, ARGS, () -> "loaded again", FALLBACK));
+    }
+
+    private static CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheNames.AI_TOOL_RESULTS, Caffeine.newBuilder().build());
+        return cacheManager;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
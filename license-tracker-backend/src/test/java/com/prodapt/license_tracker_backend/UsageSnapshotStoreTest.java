@@ -0,0 +1,75 @@
+package com.prodapt.license_tracker_backend;
+
+import com.prodapt.license_tracker_backend.analytics.LicenseSnapshot;
+import com.prodapt.license_tracker_backend.analytics.SnapshotColumn;
+import com.prodapt.license_tracker_backend.analytics.TrendGranularity;
+import com.prodapt.license_tracker_backend.analytics.TrendQuery;
+import com.prodapt.license_tracker_backend.analytics.TrendRow;
+import com.prodapt.license_tracker_backend.analytics.UsageSnapshotStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsageSnapshotStoreTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_31 = LocalDate.of(2025, 3, 31);
+    private static final LocalDate APRIL_30 = LocalDate.of(2025, 4, 30);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("monthly trend should group the last snapshot of each month and apply filters")
+    void query_MonthlyByVendorInRegion_LastSnapshotPerMonth() throws Exception {
+        UsageSnapshotStore store = new UsageSnapshotStore(directory, 100);
+        store.write(MARCH_1, List.of(
+                snapshot(1, "Cisco", "BANGALORE", "ACTIVE", 1, 10, 10000)));
+        store.write(MARCH_31, List.of(
+                snapshot(2, "Juniper", "BANGALORE", "ACTIVE", 8, 10, 5050),
+                snapshot(1, "Cisco", "BANGALORE", "NEAR_CAPACITY", 9, 10, 10000),
+                snapshot(3, "Cisco", "CHENNAI", "ACTIVE", 5, 10, 20000)));
+        store.write(APRIL_30, List.of(
+                snapshot(1, "Cisco", "BANGALORE", "EXPIRED", 0, 10, 10000)));
+
+        List<TrendRow> rows = store.query(new TrendQuery(MARCH_1, APRIL_30, TrendGranularity.MONTH,
+                SnapshotColumn.VENDOR, Map.of(SnapshotColumn.REGION, "BANGALORE")));
+
+        assertEquals(List.of(
+                new TrendRow(MARCH_1, MARCH_31, "Cisco", 1, 9, 10, 10000, Map.of("NEAR_CAPACITY", 1L)),
+                new TrendRow(MARCH_1, MARCH_31, "Juniper", 1, 8, 10, 5050, Map.of("ACTIVE", 1L)),
+                new TrendRow(APRIL_30.withDayOfMonth(1), APRIL_30, "Cisco", 1, 0, 10, 10000, Map.of("EXPIRED", 1L))),
+                rows);
+    }
+
+    @Test
+    @DisplayName("snapshots should be found again after a restart and unknown filter values match nothing")
+    void query_AfterReopen_LicenseTrend() throws Exception {
+        UsageSnapshotStore store = new UsageSnapshotStore(directory, 100);
+        store.write(MARCH_1, List.of(snapshot(1, "Cisco", "DELHI", "ACTIVE", 3, 10, 999)));
+        store.write(MARCH_31, List.of(snapshot(1, "Cisco", "DELHI", "ACTIVE", 4, 10, 999)));
+
+        UsageSnapshotStore reopened = new UsageSnapshotStore(directory, 100);
+        List<TrendRow> daily = reopened.query(new TrendQuery(MARCH_1, MARCH_31, TrendGranularity.DAY,
+                SnapshotColumn.LICENSE_KEY, Map.of(SnapshotColumn.LICENSE_KEY, "LIC-1")));
+        List<TrendRow> unknown = reopened.query(new TrendQuery(MARCH_1, MARCH_31, TrendGranularity.DAY,
+                SnapshotColumn.LICENSE_KEY, Map.of(SnapshotColumn.LICENSE_KEY, "LIC-404")));
+
+        assertEquals(List.of(MARCH_1, MARCH_31), reopened.getDays());
+        assertEquals(List.of(3L, 4L), daily.stream().map(TrendRow::currentUsage).toList());
+        assertTrue(unknown.isEmpty());
+    }
+
+    private static LicenseSnapshot snapshot(long id, String vendor, String region, String status,
+                                            int currentUsage, int maxUsage, long costCents) {
+        return new LicenseSnapshot(id, "LIC-" + id, "IOS XE", vendor, region, "PER_DEVICE", status,
+                currentUsage, maxUsage, costCents);
+    }
+}
@@ -0,0 +1,187 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.prodapt.license_tracker_backend.audit.AuditChange;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.audit.DeviceAuditEvents;
+import com.prodapt.license_tracker_backend.constants.DeviceConstants.AuditDetailsKeys;
+import com.prodapt.license_tracker_backend.constants.DeviceConstants.DefaultValues;
+import com.prodapt.license_tracker_backend.dto.LicenseRequest;
+import com.prodapt.license_tracker_backend.dto.LicenseResponse;
+import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import com.prodapt.license_tracker_backend.service.AuditLogService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON details written with every audit entry: the per-row details from device bulk upload,
+ * the old/new changes from device updates, and the method/arguments/result payload
+ * AuditLoggingAspect builds for @Auditable endpoints. The serialize* benchmarks are the
+ * HashMap and ObjectMapper baseline, the write* ones the typed records through
+ * AuditDetailsWriter. persistBulkUploadRow adds the AuditLogServiceImpl write against the
+ * in-memory database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditDetailsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Payloads {
+
+        // Configured like Spring Boot's auto-configured mapper that the services receive
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        final Map<String, Object> bulkUploadRow = new HashMap<>();
+        final Map<String, Object> deviceUpdate = new HashMap<>();
+        final Map<String, Object> auditedEndpoint = new HashMap<>();
+
+        final AuditDetailsWriter writer = new AuditDetailsWriter(objectMapper, 1024, 4096);
+        DeviceAuditEvents.Created typedBulkUploadRow;
+        DeviceAuditEvents.Updated typedDeviceUpdate;
+        String method;
+        Object[] arguments;
+        Object result;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bulkUploadRow.put(AuditDetailsKeys.DEVICE_ID, "RTR-BLR-000123");
+            bulkUploadRow.put(AuditDetailsKeys.DEVICE_TYPE, DeviceType.values()[0]);
+            bulkUploadRow.put(AuditDetailsKeys.MODEL, "ISR 4451");
+            bulkUploadRow.put(AuditDetailsKeys.REGION, Region.values()[0]);
+            bulkUploadRow.put(AuditDetailsKeys.SOURCE, DefaultValues.BULK_UPLOAD_SOURCE);
+
+            Map<String, Object> changes = new HashMap<>();
+            changes.put(AuditDetailsKeys.MODEL, Map.of(AuditDetailsKeys.OLD, "ISR 4451", AuditDetailsKeys.NEW, "ISR 4461"));
+            changes.put("lifecycle", Map.of(AuditDetailsKeys.OLD, DeviceLifecycle.values()[0],
+                    AuditDetailsKeys.NEW, DeviceLifecycle.values()[1]));
+            changes.put("softwareVersion", Map.of(AuditDetailsKeys.OLD, "17.6", AuditDetailsKeys.NEW, "17.9"));
+            deviceUpdate.put(AuditDetailsKeys.DEVICE_ID, "RTR-BLR-000123");
+            deviceUpdate.put(AuditDetailsKeys.CHANGES, changes);
+
+            typedBulkUploadRow = new DeviceAuditEvents.Created("RTR-BLR-000123", DeviceType.values()[0],
+                    "ISR 4451", Region.values()[0], DefaultValues.BULK_UPLOAD_SOURCE);
+            Map<String, AuditChange> typedChanges = new LinkedHashMap<>();
+            AuditChange.track(typedChanges, AuditDetailsKeys.MODEL, "ISR 4451", "ISR 4461");
+            AuditChange.track(typedChanges, "lifecycle", DeviceLifecycle.values()[0], DeviceLifecycle.values()[1]);
+            AuditChange.track(typedChanges, "softwareVersion", "17.6", "17.9");
+            typedDeviceUpdate = new DeviceAuditEvents.Updated("RTR-BLR-000123", typedChanges);
+
+            LicenseRequest request = LicenseRequest.builder()
+                    .licenseKey("LIC-2025-000042")
+                    .softwareName("Cisco DNA Advantage")
+                    .licenseType(LicenseType.values()[0])
+                    .maxUsage(250)
+                    .validFrom(LocalDate.of(2025, 1, 1))
+                    .validTo(LocalDate.of(2027, 12, 31))
+                    .region(Region.values()[0])
+                    .poNumber("PO-88231")
+                    .cost(new BigDecimal("125000.00"))
+                    .vendorId(7L)
+                    .description("Three-year subscription for the branch routers")
+                    .build();
+            LicenseResponse response = LicenseResponse.builder()
+                    .id(42L)
+                    .licenseKey(request.getLicenseKey())
+                    .softwareName(request.getSoftwareName())
+                    .licenseType(request.getLicenseType().name())
+                    .maxUsage(request.getMaxUsage())
+                    .currentUsage(0)
+                    .validFrom(request.getValidFrom())
+                    .validTo(request.getValidTo())
+                    .region(request.getRegion().name())
+                    .poNumber(request.getPoNumber())
+                    .cost(request.getCost())
+                    .active(true)
+                    .vendorId(7L)
+                    .vendorName("Cisco")
+                    .description(request.getDescription())
+                    .build();
+            auditedEndpoint.put("method", "createLicense");
+            auditedEndpoint.put("arguments", new Object[]{request});
+            auditedEndpoint.put("result", response);
+
+            method = "createLicense";
+            arguments = new Object[]{request};
+            result = response;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Persistence {
+
+        ConfigurableApplicationContext context;
+        AuditLogService auditLogService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkPersistence.start();
+            auditLogService = context.getBean(AuditLogService.class);
+        }
+
+        @TearDown(Level.Iteration)
+        public void clearLogs() {
+            context.getBean(AuditLogRepository.class).deleteAllInBatch();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public String serializeBulkUploadRow(Payloads payloads) throws Exception {
+        return payloads.objectMapper.writeValueAsString(payloads.bulkUploadRow);
+    }
+
+    @Benchmark
+    public String serializeDeviceUpdate(Payloads payloads) throws Exception {
+        return payloads.objectMapper.writeValueAsString(payloads.deviceUpdate);
+    }
+
+    @Benchmark
+    public String serializeAuditedEndpoint(Payloads payloads) throws Exception {
+        return payloads.objectMapper.writeValueAsString(payloads.auditedEndpoint);
+    }
+
+    @Benchmark
+    public String writeBulkUploadRow(Payloads payloads) throws Exception {
+        return payloads.writer.write(payloads.typedBulkUploadRow);
+    }
+
+    @Benchmark
+    public String writeDeviceUpdate(Payloads payloads) throws Exception {
+        return payloads.writer.write(payloads.typedDeviceUpdate);
+    }
+
+    @Benchmark
+    public String writeAuditedEndpoint(Payloads payloads) throws Exception {
+        return payloads.writer.writeMethodCall(payloads.method, payloads.arguments, payloads.result);
+    }
+
+    @Benchmark
+    public void persistBulkUploadRow(Payloads payloads, Persistence persistence) {
+        persistence.auditLogService.log(null, "benchmark", EntityType.DEVICE, "123", AuditAction.CREATE,
+                payloads.typedBulkUploadRow);
+    }
+}
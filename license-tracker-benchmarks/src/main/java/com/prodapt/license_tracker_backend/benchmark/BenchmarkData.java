@@ -0,0 +1,95 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.prodapt.license_tracker_backend.constants.DeviceConstants.CsvHeaders.ALL_HEADERS;
+
+/**
+ * Deterministic inputs shared by the benchmarks; a fixed seed keeps runs comparable.
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 20250101L;
+
+    private BenchmarkData() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * A device upload CSV in the template's column order, with device ids starting at the
+     * given prefix so repeated uploads do not collide
+     */
+    static String deviceCsv(String idPrefix, int rows) {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder(rows * 120);
+        csv.append(String.join(",", ALL_HEADERS)).append('\n');
+        for (int i = 0; i < rows; i++) {
+            csv.append(idPrefix).append('-').append(i).append(',')
+                    .append(pick(DeviceType.values(), random)).append(',')
+                    .append("Model ").append(random.nextInt(50)).append(',')
+                    .append("10.").append(random.nextInt(256)).append('.').append(random.nextInt(256))
+                    .append('.').append(random.nextInt(256)).append(',')
+                    .append("Rack ").append(random.nextInt(40)).append(',')
+                    .append(pick(Region.values(), random).name().toLowerCase()).append(',')
+                    .append(pick(DeviceLifecycle.values(), random)).append(',')
+                    .append("IOS XE").append(',')
+                    .append("17.").append(random.nextInt(12)).append(',')
+                    .append(LocalDate.of(2018, 1, 1).plusDays(random.nextInt(2500))).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Licenses spread over expired, expiring, near-capacity and healthy states, so every
+     * branch of the report status logic is exercised
+     */
+    static List<License> licenses(int count, List<Vendor> vendors) {
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        List<License> licenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int maxUsage = 10 + random.nextInt(490);
+            licenses.add(License.builder()
+                    .licenseKey("BENCH-" + i)
+                    .softwareName("Software " + random.nextInt(60))
+                    .licenseType(pick(LicenseType.values(), random))
+                    .maxUsage(maxUsage)
+                    .currentUsage(random.nextInt(maxUsage + 1))
+                    .validFrom(today.minusDays(365 + random.nextInt(365)))
+                    .validTo(today.plusDays(random.nextInt(730) - 180))
+                    .region(pick(Region.values(), random))
+                    .vendor(vendors.isEmpty() ? null : vendors.get(random.nextInt(vendors.size())))
+                    .poNumber("PO-" + random.nextInt(100_000))
+                    .cost(BigDecimal.valueOf(random.nextInt(5_000_000), 2))
+                    .active(true)
+                    .build());
+        }
+        return licenses;
+    }
+
+    static List<Vendor> vendors(int count) {
+        List<Vendor> vendors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vendors.add(Vendor.builder()
+                    .vendorName("Vendor " + i)
+                    .contactEmail("sales@vendor" + i + ".example.com")
+                    .build());
+        }
+        return vendors;
+    }
+
+    private static <T> T pick(T[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,112 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.audit.AuditArchive;
+import com.prodapt.license_tracker_backend.audit.AuditDetailsWriter;
+import com.prodapt.license_tracker_backend.config.ApplicationMetrics;
+import com.prodapt.license_tracker_backend.entities.Device;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.service.ReferenceCacheService;
+import com.prodapt.license_tracker_backend.service.implementation.AuditLogServiceImpl;
+import com.prodapt.license_tracker_backend.service.implementation.DeviceServiceImpl;
+import com.prodapt.license_tracker_backend.service.implementation.ReportServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.Map;
+
+/**
+ * The slice of the application the persisting benchmarks need: the real entities,
+ * repositories and services on an in-memory H2 database in MySQL mode. Everything else
+ * (web, security, caches, the assistant) stays out, so timings reflect the service and
+ * JPA work only.
+ */
+@Configuration
+@ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+})
+@EntityScan(basePackageClasses = Device.class)
+@EnableJpaRepositories(basePackageClasses = DeviceRepository.class)
+@Import({DeviceServiceImpl.class, AuditLogServiceImpl.class, ReportServiceImpl.class, ApplicationMetrics.class,
+        AuditDetailsWriter.class, AuditArchive.class})
+public class BenchmarkPersistence {
+
+    // Passed as command line arguments so they win over the application.yaml in the backend jar
+    private static final String[] OVERRIDES = {
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                    + "DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+            "--audit.archive.directory=${java.io.tmpdir}/license-tracker-benchmark/audit-archive",
+            "--logging.level.root=WARN"
+    };
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BenchmarkPersistence.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(OVERRIDES);
+    }
+
+    // Meters are recorded in memory only, as the services would in the application
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public ReferenceCacheService referenceCacheService() {
+        return new ReferenceCacheService() {
+            @Override
+            public void evictLicense(String licenseKey) {
+            }
+
+            @Override
+            public void evictAllLicenses() {
+            }
+
+            @Override
+            public void evictDevice(String deviceId) {
+            }
+
+            @Override
+            public void evictVendors() {
+            }
+
+            @Override
+            public void evictToolResults() {
+            }
+
+            @Override
+            public void clearAll() {
+            }
+
+            @Override
+            public Map<String, Map<String, Object>> getStatistics() {
+                return Map.of();
+            }
+        };
+    }
+}
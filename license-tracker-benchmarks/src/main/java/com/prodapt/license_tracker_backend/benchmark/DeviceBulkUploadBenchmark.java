@@ -0,0 +1,125 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.dto.BulkUploadResult;
+import com.prodapt.license_tracker_backend.dto.DeviceBulkUploadRequest;
+import com.prodapt.license_tracker_backend.repository.AuditLogRepository;
+import com.prodapt.license_tracker_backend.repository.DeviceRepository;
+import com.prodapt.license_tracker_backend.service.DeviceService;
+import com.prodapt.license_tracker_backend.service.implementation.DeviceServiceImpl;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Device CSV bulk upload. parseRecords covers reading the file and DeviceServiceImpl's
+ * per-row parsing and validation; bulkUpload is the whole service call against the
+ * in-memory database, including the duplicate check, inserts and per-row audit entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeviceBulkUploadBenchmark {
+
+    private static final MethodHandle PARSE_CSV_RECORD;
+
+    static {
+        try {
+            PARSE_CSV_RECORD = MethodHandles.privateLookupIn(DeviceServiceImpl.class, MethodHandles.lookup())
+                    .findVirtual(DeviceServiceImpl.class, "parseCSVRecord",
+                            MethodType.methodType(DeviceBulkUploadRequest.class, CSVRecord.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Same settings as DeviceServiceImpl.bulkUploadDevices
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setIgnoreSurroundingSpaces(true)
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class ParseInput {
+
+        @Param({"100", "1000"})
+        int rows;
+
+        // Parsing touches no collaborator, so it runs on an instance without them
+        DeviceServiceImpl deviceService;
+        String csv;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            deviceService = new DeviceServiceImpl(null, null, null, null, null, null, null, null);
+            csv = BenchmarkData.deviceCsv("PARSE", rows);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Upload {
+
+        @Param({"100", "1000"})
+        int uploadRows;
+
+        ConfigurableApplicationContext context;
+        DeviceService deviceService;
+        MockMultipartFile next;
+        private int uploads;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkPersistence.start();
+            deviceService = context.getBean(DeviceService.class);
+        }
+
+        // Every upload needs unused device ids; building the file per invocation is acceptable
+        // here because a single upload takes milliseconds
+        @Setup(Level.Invocation)
+        public void prepareFile() {
+            String csv = BenchmarkData.deviceCsv("UPLOAD-" + uploads++, uploadRows);
+            next = new MockMultipartFile("file", "devices.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Keeps the table at a realistic size instead of growing it across iterations
+        @TearDown(Level.Iteration)
+        public void clearUploads() {
+            context.getBean(AuditLogRepository.class).deleteAllInBatch();
+            context.getBean(DeviceRepository.class).deleteAllInBatch();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public void parseRecords(ParseInput input, Blackhole blackhole) throws Throwable {
+        try (CSVParser parser = new CSVParser(new StringReader(input.csv), CSV_FORMAT)) {
+            int rowNumber = 1;
+            for (CSVRecord record : parser) {
+                rowNumber++;
+                blackhole.consume((DeviceBulkUploadRequest) PARSE_CSV_RECORD.invokeExact(input.deviceService, record, rowNumber));
+            }
+        }
+    }
+
+    @Benchmark
+    public BulkUploadResult bulkUpload(Upload upload) throws IOException {
+        return upload.deviceService.bulkUploadDevices(upload.next);
+    }
+}
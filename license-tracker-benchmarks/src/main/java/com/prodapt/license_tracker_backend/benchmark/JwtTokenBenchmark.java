@@ -0,0 +1,69 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.entities.User;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.entities.enums.UserRole;
+import com.prodapt.license_tracker_backend.security.jwt.JwtTokenUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling on the request path: JwtAuthenticationFilter validates the token and then
+ * reads the username from it, so every authenticated request parses the same token twice.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    // Same length as the configured jwt.secret, since key derivation runs on every parse
+    private static final String SECRET = "B".repeat(160);
+
+    private JwtTokenUtil jwtTokenUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 86_400_000L);
+
+        user = User.builder()
+                .id(42L)
+                .username("benchmark.user")
+                .email("benchmark.user@example.com")
+                .fullName("Benchmark User")
+                .role(UserRole.values()[0])
+                .region(Region.values()[0])
+                .active(true)
+                .build();
+        token = jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenUtil.getUsernameFromToken(token);
+    }
+
+    // What JwtAuthenticationFilter does per request
+    @Benchmark
+    public String authenticateRequest() {
+        return jwtTokenUtil.validateToken(token) ? jwtTokenUtil.getUsernameFromToken(token) : null;
+    }
+}
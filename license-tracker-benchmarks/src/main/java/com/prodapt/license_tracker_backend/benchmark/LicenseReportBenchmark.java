@@ -0,0 +1,93 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.dto.LicenseReportResponse;
+import com.prodapt.license_tracker_backend.entities.License;
+import com.prodapt.license_tracker_backend.entities.Vendor;
+import com.prodapt.license_tracker_backend.repository.LicenseRepository;
+import com.prodapt.license_tracker_backend.repository.VendorRepository;
+import com.prodapt.license_tracker_backend.service.ReportService;
+import com.prodapt.license_tracker_backend.service.implementation.ReportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The license report: the per-license mapping on its own, and the whole report against the
+ * in-memory database, where loading the licenses and their lazy vendors adds to the mapping.
+ * The report runs inside a transaction, as open-in-view provides for the controller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LicenseReportBenchmark {
+
+    private static final MethodHandle MAP_TO_LICENSE_REPORT;
+
+    static {
+        try {
+            MAP_TO_LICENSE_REPORT = MethodHandles.privateLookupIn(ReportServiceImpl.class, MethodHandles.lookup())
+                    .findVirtual(ReportServiceImpl.class, "mapToLicenseReport",
+                            MethodType.methodType(LicenseReportResponse.class, License.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"1000", "10000"})
+    private int licenseCount;
+
+    private ConfigurableApplicationContext context;
+    private ReportServiceImpl unwiredReportService;
+    private ReportService reportService;
+    private TransactionTemplate transactionTemplate;
+    private List<License> detachedLicenses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkPersistence.start();
+        List<Vendor> vendors = context.getBean(VendorRepository.class).saveAll(BenchmarkData.vendors(25));
+        context.getBean(LicenseRepository.class).saveAll(BenchmarkData.licenses(licenseCount, vendors));
+
+        reportService = context.getBean(ReportService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        // The mapping touches no repository, so it runs on an instance without them
+        unwiredReportService = new ReportServiceImpl(null, null, null);
+        detachedLicenses = BenchmarkData.licenses(licenseCount, BenchmarkData.vendors(25));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void mapToLicenseReport(Blackhole blackhole) throws Throwable {
+        for (License license : detachedLicenses) {
+            blackhole.consume((LicenseReportResponse) MAP_TO_LICENSE_REPORT.invokeExact(unwiredReportService, license));
+        }
+    }
+
+    @Benchmark
+    public List<LicenseReportResponse> licenseReportUnfiltered() {
+        return transactionTemplate.execute(status -> reportService.getLicenseReport(null, null, null, null));
+    }
+
+    @Benchmark
+    public List<LicenseReportResponse> licenseReportByVendorAndStatus() {
+        return transactionTemplate.execute(status ->
+                reportService.getLicenseReport("Vendor 3", null, null, "EXPIRING_SOON"));
+    }
+}
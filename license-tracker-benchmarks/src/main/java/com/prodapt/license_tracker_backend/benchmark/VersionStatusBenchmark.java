@@ -0,0 +1,45 @@
+package com.prodapt.license_tracker_backend.benchmark;
+
+import com.prodapt.license_tracker_backend.util.VersionStatusEvaluator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Version status evaluation as run for every software version on create, update, the
+ * scheduled check and catalog release propagation. The pairs cover each outcome; the
+ * unparseable pair takes the exception and warning-log path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionStatusBenchmark {
+
+    private static final String[][] PARSEABLE = {
+            {"16.4", "16.4"},
+            {"16.2.1", "16.4"},
+            {"14.1", "17.0"},
+            {"7", "7.2"},
+            {"10.0.19045", "10.0.22631"},
+            {"2.9", "2.10"}
+    };
+
+    private static final String[] UNPARSEABLE = {"v2-beta", "3.1"};
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void parseableVersions(Blackhole blackhole) {
+        for (String[] pair : PARSEABLE) {
+            blackhole.consume(VersionStatusEvaluator.determineStatus(pair[0], pair[1]));
+        }
+    }
+
+    @Benchmark
+    public Object unparseableVersion() {
+        return VersionStatusEvaluator.determineStatus(UNPARSEABLE[0], UNPARSEABLE[1]);
+    }
+}
@@ -0,0 +1,523 @@
+package com.prodapt.license_tracker_backend.loadtest;
+
+import com.prodapt.license_tracker_backend.entities.enums.AuditAction;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceLifecycle;
+import com.prodapt.license_tracker_backend.entities.enums.DeviceType;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.LicenseType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import com.prodapt.license_tracker_backend.entities.enums.UserRole;
+import org.flywaydb.core.Flyway;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills an empty database with an enterprise-sized, internally consistent dataset for load
+ * testing. Volumes default to 1M devices, 100k licenses, 5M assignments and 20M audit rows
+ * and scale together with --scale. Distributions are skewed the way production data is:
+ * a few regions and device types dominate, a small share of licenses carries most
+ * assignments, and license usage counters match the active assignments.
+ *
+ * Rows go in through JDBC batches on connections of their own, with the assignment and
+ * audit tables loaded in parallel. The schema comes from the application's migrations.
+ * Afterwards a manifest with the volumes and login is written for {@link LoadDriver}.
+ *
+ *   java -cp target/benchmarks.jar com.prodapt.license_tracker_backend.loadtest.DatasetGenerator --scale=0.1
+ */
+public final class DatasetGenerator {
+
+    static final String DEFAULT_URL = "jdbc:h2:file:./target/loadtest/licensetracker;"
+            + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE";
+    static final String DEFAULT_MANIFEST = "target/loadtest/dataset.properties";
+    static final String LOGIN_USER = "loadtest";
+    static final String LOGIN_PASSWORD = "loadtest";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int COMMIT_SIZE = 50_000;
+    private static final int USERS = 50;
+    private static final long SEED = 20250101L;
+
+    private static final String[] VENDORS = {
+            "Cisco", "Juniper Networks", "Palo Alto Networks", "Fortinet", "Nokia", "Ericsson",
+            "F5", "Arista Networks", "Microsoft", "Red Hat", "VMware", "Oracle"
+    };
+
+    // Software title and the index of its vendor in VENDORS
+    private static final Object[][] SOFTWARE = {
+            {"Cisco IOS XE", 0}, {"Cisco DNA Advantage", 0}, {"Cisco ThousandEyes", 0}, {"Cisco Umbrella", 0},
+            {"Junos OS", 1}, {"Juniper Mist AI", 1}, {"Juniper Apstra", 1},
+            {"PAN-OS", 2}, {"Prisma Access", 2}, {"Cortex XDR", 2},
+            {"FortiOS", 3}, {"FortiManager", 3}, {"FortiAnalyzer", 3},
+            {"Nokia SR OS", 4}, {"Nokia NSP", 4},
+            {"Ericsson RAN Compute", 5}, {"Ericsson Network Manager", 5},
+            {"BIG-IP LTM", 6}, {"BIG-IP ASM", 6},
+            {"Arista EOS", 7}, {"CloudVision", 7},
+            {"Windows Server Datacenter", 8}, {"Microsoft 365 E5", 8}, {"SQL Server Enterprise", 8},
+            {"Red Hat Enterprise Linux", 9}, {"Ansible Automation Platform", 9}, {"OpenShift", 9},
+            {"vSphere Enterprise Plus", 10}, {"NSX", 10},
+            {"Oracle Database Enterprise", 11}, {"Oracle WebLogic", 11}
+    };
+
+    private static final String[] MODELS = {"ISR 4451", "ASR 1002", "Catalyst 9300", "Nexus 93180", "MX204",
+            "EX4400", "PA-5450", "FortiGate 600F", "BIG-IP i5800", "PowerEdge R750", "AirScale BTS", "7750 SR-1"};
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/126.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_5) AppleWebKit/605.1.15 Version/17.5 Safari/605.1.15",
+            "Apache-HttpClient/5.3 (Java/17)"
+    };
+
+    private static final String[] REVOCATION_REASONS = {"Device decommissioned", "License reallocated",
+            "Contract ended", "Replaced by enterprise license", "AUTO_REVOKE"};
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final long devices;
+    private final int licenses;
+    private final long assignments;
+    private final long auditLogs;
+    private final Path manifest;
+    private final LocalDate today = LocalDate.now();
+
+    // License state shared between the license and assignment loads
+    private LocalDate[] licenseValidFrom;
+    private LocalDate[] licenseValidTo;
+    private boolean[] licenseActive;
+    private int[] activeAssignmentsPerLicense;
+
+    private DatasetGenerator(Options options) {
+        double scale = options.getDouble("scale", 1.0);
+        this.url = options.get("url", DEFAULT_URL);
+        this.user = options.get("user", "sa");
+        this.password = options.get("password", "");
+        this.devices = options.getLong("devices", Math.round(1_000_000 * scale));
+        this.licenses = options.getInt("licenses", (int) Math.round(100_000 * scale));
+        this.assignments = options.getLong("assignments", Math.round(5_000_000 * scale));
+        this.auditLogs = options.getLong("audit-logs", Math.round(20_000_000 * scale));
+        this.manifest = Path.of(options.get("manifest", DEFAULT_MANIFEST));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(Options.parse(args)).generate();
+    }
+
+    private void generate() throws Exception {
+        long start = System.nanoTime();
+        System.out.printf("Generating %,d devices, %,d licenses, %,d assignments and %,d audit rows into %s%n",
+                devices, licenses, assignments, auditLogs, url);
+
+        // Same locations as spring.flyway.locations; db/vendor/mysql partitions audit_logs
+        String[] locations = url.startsWith("jdbc:mysql:")
+                ? new String[]{"classpath:db/migration", "classpath:db/vendor/mysql"}
+                : new String[]{"classpath:db/migration"};
+        Flyway.configure().dataSource(url, user, password).locations(locations).load().migrate();
+        requireEmpty();
+
+        loadVendors();
+        loadUsers();
+        planLicenses();
+        planAssignments();
+        loadLicenses();
+        loadDevices();
+
+        // Independent of each other once licenses and devices exist
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> assignmentLoad = executor.submit(() -> {
+                loadAssignments();
+                return null;
+            });
+            Future<?> auditLoad = executor.submit(() -> {
+                loadAuditLogs();
+                return null;
+            });
+            assignmentLoad.get();
+            auditLoad.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        restartIdentities();
+        writeManifest();
+        System.out.printf("Dataset ready in %d s; manifest written to %s%n",
+                (System.nanoTime() - start) / 1_000_000_000L, manifest);
+    }
+
+    private void requireEmpty() throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM licenses")) {
+            rows.next();
+            if (rows.getLong(1) > 0) {
+                throw new IllegalStateException("The target database already has licenses; generate into an empty database");
+            }
+        }
+    }
+
+    private void loadVendors() throws SQLException {
+        load("vendors", "INSERT INTO vendors (id, vendor_name, contact_email, contact_phone, support_email) VALUES (?, ?, ?, ?, ?)",
+                VENDORS.length, 1, (statement, i, random) -> {
+                    String domain = VENDORS[(int) i].toLowerCase().replaceAll("[^a-z]", "") + ".example.com";
+                    statement.setLong(1, i + 1);
+                    statement.setString(2, VENDORS[(int) i]);
+                    statement.setString(3, "sales@" + domain);
+                    statement.setString(4, "+1-800-555-" + String.format("%04d", i));
+                    statement.setString(5, "support@" + domain);
+                });
+    }
+
+    // The first user is the load driver's admin login; the rest only appear in audit rows
+    private void loadUsers() throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(LOGIN_PASSWORD);
+        UserRole[] roles = UserRole.values();
+        load("users", "INSERT INTO users (id, username, email, password, full_name, role, region, active, "
+                        + "password_change_required, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                USERS, 2, (statement, i, random) -> {
+                    String username = i == 0 ? LOGIN_USER : String.format("user%02d", i);
+                    statement.setLong(1, i + 1);
+                    statement.setString(2, username);
+                    statement.setString(3, username + "@example.com");
+                    statement.setString(4, passwordHash);
+                    statement.setString(5, i == 0 ? "Load Test" : "User " + i);
+                    statement.setString(6, i == 0 ? UserRole.ADMIN.name() : roles[(int) (i % roles.length)].name());
+                    statement.setString(7, Weighted.REGION.pick(random).name());
+                    statement.setBoolean(8, true);
+                    statement.setBoolean(9, false);
+                    statement.setObject(10, LocalDateTime.now());
+                    statement.setObject(11, LocalDateTime.now());
+                });
+    }
+
+    // 10% expired and deactivated, 6% expiring within 30 days, the rest valid for up to three years
+    private void planLicenses() {
+        SplittableRandom random = new SplittableRandom(SEED ^ 3);
+        licenseValidFrom = new LocalDate[licenses];
+        licenseValidTo = new LocalDate[licenses];
+        licenseActive = new boolean[licenses];
+        for (int i = 0; i < licenses; i++) {
+            double state = random.nextDouble();
+            LocalDate validTo;
+            if (state < 0.10) {
+                validTo = today.minusDays(1 + random.nextInt(365));
+            } else if (state < 0.16) {
+                validTo = today.plusDays(random.nextInt(31));
+            } else {
+                validTo = today.plusDays(31 + random.nextInt(1065));
+            }
+            licenseValidTo[i] = validTo;
+            licenseValidFrom[i] = validTo.minusYears(1 + random.nextInt(3));
+            licenseActive[i] = state >= 0.10;
+        }
+    }
+
+    // Counts active assignments per license up front so usage counters can be written with the licenses
+    private void planAssignments() {
+        activeAssignmentsPerLicense = new int[licenses];
+        SplittableRandom random = new SplittableRandom(SEED ^ 5);
+        for (long i = 0; i < assignments; i++) {
+            AssignmentRow row = nextAssignment(random);
+            if (row.active) {
+                activeAssignmentsPerLicense[row.license]++;
+            }
+        }
+    }
+
+    private void loadLicenses() throws SQLException {
+        load("licenses", "INSERT INTO licenses (id, license_key, software_name, license_type, max_usage, current_usage, "
+                        + "valid_from, valid_to, region, vendor_id, po_number, cost, active, description, usage_ratio) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                licenses, 3, (statement, i, random) -> {
+                    int index = (int) i;
+                    Object[] software = SOFTWARE[random.nextInt(SOFTWARE.length)];
+                    int used = activeAssignmentsPerLicense[index];
+                    // Headroom keeps most assignment attempts from the load driver valid
+                    int maxUsage = Math.max(used + 5 + used / 10, 10 + random.nextInt(200));
+                    statement.setLong(1, i + 1);
+                    statement.setString(2, String.format("LIC-%d-%07d", licenseValidFrom[index].getYear(), i + 1));
+                    statement.setString(3, (String) software[0]);
+                    statement.setString(4, Weighted.LICENSE_TYPE.pick(random).name());
+                    statement.setInt(5, maxUsage);
+                    statement.setInt(6, used);
+                    statement.setObject(7, licenseValidFrom[index]);
+                    statement.setObject(8, licenseValidTo[index]);
+                    statement.setString(9, Weighted.REGION.pick(random).name());
+                    statement.setLong(10, (int) software[1] + 1);
+                    statement.setString(11, "PO-" + (100_000 + random.nextInt(900_000)));
+                    statement.setBigDecimal(12, BigDecimal.valueOf(50_000 + random.nextLong(50_000_000), 2));
+                    statement.setBoolean(13, licenseActive[index]);
+                    statement.setNull(14, Types.VARCHAR);
+                    statement.setDouble(15, used / (double) maxUsage);
+                });
+    }
+
+    private void loadDevices() throws SQLException {
+        load("devices", "INSERT INTO devices (id, device_id, device_type, model, ip_address, location, region, lifecycle, "
+                        + "software_name, software_version, purchased_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                devices, 4, (statement, i, random) -> {
+                    Region region = Weighted.REGION.pick(random);
+                    DeviceType type = Weighted.DEVICE_TYPE.pick(random);
+                    long id = i + 1;
+                    statement.setLong(1, id);
+                    statement.setString(2, deviceCode(id));
+                    statement.setString(3, type.name());
+                    statement.setString(4, MODELS[random.nextInt(MODELS.length)]);
+                    statement.setString(5, "10." + ((id >> 16) & 0xFF) + "." + ((id >> 8) & 0xFF) + "." + (id & 0xFF));
+                    statement.setString(6, region.name().charAt(0) + region.name().substring(1).toLowerCase()
+                            + " DC-" + (1 + random.nextInt(8)) + " Rack " + (1 + random.nextInt(60)));
+                    statement.setString(7, region.name());
+                    statement.setString(8, Weighted.LIFECYCLE.pick(random).name());
+                    statement.setString(9, (String) SOFTWARE[random.nextInt(SOFTWARE.length)][0]);
+                    statement.setString(10, (14 + random.nextInt(4)) + "." + random.nextInt(12) + "." + random.nextInt(5));
+                    statement.setObject(11, today.minusDays(random.nextInt(7 * 365)));
+                });
+    }
+
+    private void loadAssignments() throws SQLException {
+        // Same seed as planAssignments, so the rows match the usage counters on the licenses
+        SplittableRandom plan = new SplittableRandom(SEED ^ 5);
+        load("license_assignments", "INSERT INTO license_assignments (id, license_id, device_id, assigned_on, assigned_by, "
+                        + "revoked_on, revoked_by, revocation_reason, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                assignments, 6, (statement, i, random) -> {
+                    AssignmentRow row = nextAssignment(plan);
+                    LocalDate from = licenseValidFrom[row.license];
+                    LocalDate until = licenseValidTo[row.license].isBefore(today) ? licenseValidTo[row.license] : today;
+                    long span = Math.max(1, until.toEpochDay() - from.toEpochDay());
+                    LocalDateTime assignedOn = from.plusDays(random.nextLong(span)).atTime(8 + random.nextInt(10), random.nextInt(60));
+                    statement.setLong(1, i + 1);
+                    statement.setLong(2, row.license + 1);
+                    statement.setLong(3, row.device + 1);
+                    statement.setObject(4, assignedOn);
+                    statement.setString(5, username(random));
+                    if (row.active) {
+                        statement.setNull(6, Types.TIMESTAMP);
+                        statement.setNull(7, Types.VARCHAR);
+                        statement.setNull(8, Types.VARCHAR);
+                    } else {
+                        statement.setObject(6, assignedOn.plusDays(1 + random.nextInt(300)));
+                        statement.setString(7, username(random));
+                        statement.setString(8, REVOCATION_REASONS[random.nextInt(REVOCATION_REASONS.length)]);
+                    }
+                    statement.setBoolean(9, row.active);
+                });
+    }
+
+    // Two years of history with ids and timestamps rising together, as the application writes them
+    private void loadAuditLogs() throws SQLException {
+        LocalDateTime first = today.minusYears(2).atStartOfDay();
+        long spanSeconds = java.time.Duration.between(first, LocalDateTime.now()).getSeconds();
+        load("audit_logs", "INSERT INTO audit_logs (log_id, user_id, username, entity_type, entity_id, action, timestamp, "
+                        + "details, ip_address, user_agent) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                auditLogs, 7, (statement, i, random) -> {
+                    AuditEvent event = Weighted.AUDIT_EVENT.pick(random);
+                    int userIndex = random.nextInt(USERS);
+                    long entityId = switch (event.entityType) {
+                        case DEVICE -> 1 + random.nextLong(Math.max(1, devices));
+                        case LICENSE -> 1 + random.nextInt(Math.max(1, licenses));
+                        case ASSIGNMENT -> 1 + random.nextLong(Math.max(1, assignments));
+                        default -> 1 + userIndex;
+                    };
+                    statement.setLong(1, i + 1);
+                    statement.setLong(2, userIndex + 1);
+                    statement.setString(3, userIndex == 0 ? LOGIN_USER : String.format("user%02d", userIndex));
+                    statement.setString(4, event.entityType.name());
+                    statement.setString(5, Long.toString(entityId));
+                    statement.setString(6, event.action.name());
+                    statement.setObject(7, first.plusSeconds(spanSeconds * i / Math.max(1, auditLogs) + random.nextInt(60)));
+                    statement.setString(8, auditDetails(event, entityId, random));
+                    statement.setString(9, "10.20." + random.nextInt(256) + "." + random.nextInt(256));
+                    statement.setString(10, USER_AGENTS[random.nextInt(USER_AGENTS.length)]);
+                });
+    }
+
+    private String auditDetails(AuditEvent event, long entityId, SplittableRandom random) {
+        return switch (event.entityType) {
+            case DEVICE -> "{\"deviceId\":\"" + deviceCode(entityId) + "\",\"region\":\""
+                    + Weighted.REGION.pick(random).name() + "\"}";
+            case LICENSE -> "{\"licenseKey\":\"LIC-" + licenseValidFrom[(int) entityId - 1].getYear()
+                    + String.format("-%07d", entityId) + "\",\"softwareName\":\""
+                    + SOFTWARE[random.nextInt(SOFTWARE.length)][0] + "\"}";
+            case ASSIGNMENT -> "{\"licenseId\":" + (1 + random.nextInt(Math.max(1, licenses)))
+                    + ",\"deviceId\":\"" + deviceCode(1 + random.nextLong(Math.max(1, devices))) + "\"}";
+            default -> "{\"source\":\"web\"}";
+        };
+    }
+
+    // Identity columns in H2 do not move past explicitly inserted ids; MySQL's AUTO_INCREMENT does
+    private void restartIdentities() throws SQLException {
+        if (!url.startsWith("jdbc:h2:")) {
+            return;
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE vendors ALTER COLUMN id RESTART WITH " + (VENDORS.length + 1));
+            statement.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (USERS + 1));
+            statement.execute("ALTER TABLE licenses ALTER COLUMN id RESTART WITH " + (licenses + 1));
+        }
+    }
+
+    private void writeManifest() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("url", url);
+        properties.setProperty("user", user);
+        properties.setProperty("password", password);
+        properties.setProperty("devices", Long.toString(devices));
+        properties.setProperty("licenses", Integer.toString(licenses));
+        properties.setProperty("assignments", Long.toString(assignments));
+        properties.setProperty("audit-logs", Long.toString(auditLogs));
+        properties.setProperty("login-user", LOGIN_USER);
+        properties.setProperty("login-password", LOGIN_PASSWORD);
+        if (manifest.getParent() != null) {
+            Files.createDirectories(manifest.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(manifest)) {
+            properties.store(out, "Written by DatasetGenerator; read by LoadDriver");
+        }
+    }
+
+    /**
+     * Power-law skew: about 20% of the licenses carry 60% of the assignments. Assignments on
+     * expired licenses are all revoked; elsewhere 85% are still active.
+     */
+    private AssignmentRow nextAssignment(SplittableRandom random) {
+        int license = (int) (licenses * Math.pow(random.nextDouble(), 2.5));
+        long device = random.nextLong(Math.max(1, devices));
+        boolean active = licenseActive[license] && random.nextDouble() < 0.85;
+        return new AssignmentRow(license, (int) device, active);
+    }
+
+    private void load(String table, String sql, long rows, int salt, RowWriter writer) throws SQLException {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(SEED ^ (salt * 0x9E3779B97F4A7C15L));
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            relaxChecks(connection);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (long i = 0; i < rows; i++) {
+                    writer.write(statement, i, random);
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                    if ((i + 1) % COMMIT_SIZE == 0) {
+                        connection.commit();
+                    }
+                    if ((i + 1) % 1_000_000 == 0) {
+                        System.out.printf("  %s: %,d of %,d%n", table, i + 1, rows);
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-20s %,12d rows in %6.1f s (%,.0f rows/s)%n", table, rows, seconds, rows / Math.max(seconds, 1e-9));
+    }
+
+    // Foreign keys are consistent by construction; MySQL checking them per row halves load speed
+    private void relaxChecks(Connection connection) throws SQLException {
+        if (url.startsWith("jdbc:mysql:")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET foreign_key_checks = 0");
+                statement.execute("SET unique_checks = 0");
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    private static String deviceCode(long id) {
+        return String.format("DEV-%07d", id);
+    }
+
+    private static String username(SplittableRandom random) {
+        int index = random.nextInt(USERS);
+        return index == 0 ? LOGIN_USER : String.format("user%02d", index);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, long index, SplittableRandom random) throws SQLException;
+    }
+
+    private record AssignmentRow(int license, int device, boolean active) {
+    }
+
+    private record AuditEvent(EntityType entityType, AuditAction action) {
+    }
+
+    /**
+     * Fixed category weights, picked by walking a cumulative table
+     */
+    private static final class Weighted<T> {
+
+        static final Weighted<Region> REGION = new Weighted<Region>()
+                .add(Region.BANGALORE, 28).add(Region.MUMBAI, 20).add(Region.CHENNAI, 18)
+                .add(Region.DELHI, 17).add(Region.HYDERABAD, 11).add(Region.KOLKATA, 6);
+
+        static final Weighted<DeviceType> DEVICE_TYPE = new Weighted<DeviceType>()
+                .add(DeviceType.SWITCH, 35).add(DeviceType.ROUTER, 30).add(DeviceType.SERVER, 15)
+                .add(DeviceType.FIREWALL, 10).add(DeviceType.LOAD_BALANCER, 5).add(DeviceType.BASE_STATION, 5);
+
+        static final Weighted<DeviceLifecycle> LIFECYCLE = new Weighted<DeviceLifecycle>()
+                .add(DeviceLifecycle.ACTIVE, 78).add(DeviceLifecycle.MAINTENANCE, 9)
+                .add(DeviceLifecycle.OBSOLETE, 8).add(DeviceLifecycle.DECOMMISSIONED, 5);
+
+        static final Weighted<LicenseType> LICENSE_TYPE = new Weighted<LicenseType>()
+                .add(LicenseType.PER_DEVICE, 60).add(LicenseType.PER_USER, 20)
+                .add(LicenseType.ENTERPRISE, 12).add(LicenseType.REGION, 8);
+
+        static final Weighted<AuditEvent> AUDIT_EVENT = new Weighted<AuditEvent>()
+                .add(new AuditEvent(EntityType.ASSIGNMENT, AuditAction.ASSIGN), 30)
+                .add(new AuditEvent(EntityType.ASSIGNMENT, AuditAction.UNASSIGN), 10)
+                .add(new AuditEvent(EntityType.DEVICE, AuditAction.UPDATE), 15)
+                .add(new AuditEvent(EntityType.DEVICE, AuditAction.CREATE), 10)
+                .add(new AuditEvent(EntityType.LICENSE, AuditAction.UPDATE), 10)
+                .add(new AuditEvent(EntityType.LICENSE, AuditAction.CREATE), 5)
+                .add(new AuditEvent(EntityType.USER, AuditAction.LOGIN), 15)
+                .add(new AuditEvent(EntityType.ALERT, AuditAction.ACKNOWLEDGE), 5);
+
+        private final List<T> values = new ArrayList<>();
+        private final List<Integer> cumulative = new ArrayList<>();
+        private int total;
+
+        Weighted<T> add(T value, int weight) {
+            total += weight;
+            values.add(value);
+            cumulative.add(total);
+            return this;
+        }
+
+        T pick(SplittableRandom random) {
+            int point = random.nextInt(total);
+            for (int i = 0; i < values.size(); i++) {
+                if (point < cumulative.get(i)) {
+                    return values.get(i);
+                }
+            }
+            throw new IllegalStateException("unreachable");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.prodapt.license_tracker_backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Response times of one operation. Every sample is kept, so percentiles are exact; a
+ * load test of a few minutes stays within a few million samples.
+ */
+final class LatencyRecorder {
+
+    private final String operation;
+    private long[] nanos = new long[4096];
+    private int count;
+    private long errors;
+
+    LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    synchronized void record(long elapsedNanos, boolean success) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, nanos.length * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        return new Snapshot(operation, sorted, errors);
+    }
+
+    record Snapshot(String operation, long[] sorted, long errors) {
+
+        int count() {
+            return sorted.length;
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds
+         */
+        double percentile(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+
+        double max() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.prodapt.license_tracker_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prodapt.license_tracker_backend.LicenseTrackerBackendApplication;
+import com.prodapt.license_tracker_backend.entities.enums.EntityType;
+import com.prodapt.license_tracker_backend.entities.enums.Region;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Replays a weighted mix of API traffic against the application and reports latency
+ * percentiles per operation. By default it starts the application in this JVM on the
+ * database written by {@link DatasetGenerator}; with --base-url it drives an application
+ * that is already running on that dataset.
+ *
+ *   java -cp target/benchmarks.jar com.prodapt.license_tracker_backend.loadtest.LoadDriver \
+ *        --concurrency=32 --warmup=30s --duration=2m --mix=dashboard-stats:5,assign:1
+ *
+ * Results are printed as a table and written as CSV next to the dataset manifest.
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String[] SEARCH_TERMS = {"Cisco", "FortiOS", "Bangalore", "DEV-00012", "LIC-2025", "revoked"};
+
+    private final Options options;
+    private final Properties dataset = new Properties();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    // Assignments created by this run; revokes only take these so the generated data stays intact
+    private final ConcurrentLinkedQueue<Long> createdAssignments = new ConcurrentLinkedQueue<>();
+
+    private String baseUrl;
+    private String token;
+    private long devices;
+    private long licenses;
+
+    private LoadDriver(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(Options.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        Path manifest = Path.of(options.get("manifest", DatasetGenerator.DEFAULT_MANIFEST));
+        try (InputStream in = Files.newInputStream(manifest)) {
+            dataset.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("No dataset manifest at " + manifest + "; run DatasetGenerator first", e);
+        }
+        devices = Long.parseLong(dataset.getProperty("devices"));
+        licenses = Long.parseLong(dataset.getProperty("licenses"));
+
+        ConfigurableApplicationContext application = null;
+        if (options.has("base-url")) {
+            baseUrl = options.get("base-url", null);
+        } else {
+            application = startApplication();
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            token = login();
+            List<Operation> operations = mix();
+            int concurrency = options.getInt("concurrency", 16);
+            Duration warmup = options.getDuration("warmup", Duration.ofSeconds(30));
+            Duration duration = options.getDuration("duration", Duration.ofMinutes(2));
+
+            System.out.printf("Warming up for %d s with %d clients against %s%n", warmup.toSeconds(), concurrency, baseUrl);
+            drive(operations, concurrency, warmup, null);
+
+            Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+            operations.forEach(operation -> recorders.put(operation.name(), new LatencyRecorder(operation.name())));
+            System.out.printf("Measuring for %d s%n", duration.toSeconds());
+            drive(operations, concurrency, duration, recorders);
+
+            report(recorders, duration, manifest.toAbsolutePath().getParent());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(LicenseTrackerBackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + dataset.getProperty("url"),
+                        "--spring.datasource.username=" + dataset.getProperty("user"),
+                        "--spring.datasource.password=" + dataset.getProperty("password"),
+                        "--spring.datasource.driver-class-name=" + driverClass(dataset.getProperty("url")),
+                        "--spring.jpa.properties.hibernate.dialect=" + dialect(dataset.getProperty("url")),
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.jpa.show-sql=false",
+                        "--ai.model.provider=offline",
+                        "--ai.rag.enabled=false",
+                        "--gemini.api.key=unused",
+                        "--datasource.self-check.enabled=false",
+                        "--logging.level.root=WARN");
+    }
+
+    private String login() throws IOException, InterruptedException {
+        String body = MAPPER.writeValueAsString(Map.of(
+                "username", dataset.getProperty("login-user"),
+                "password", dataset.getProperty("login-password")));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with " + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body()).path("token").asText();
+    }
+
+    /**
+     * Default traffic is read-heavy, as in production: dashboards and device lookups
+     * dominate, with a steady trickle of assignment changes and audit searches. The full
+     * device and assignment reports return the whole table and are left out unless named
+     * in --mix.
+     */
+    private List<Operation> mix() {
+        List<Operation> all = List.of(
+                new Operation("dashboard-stats", 20, random -> get("/api/dashboard/stats")),
+                new Operation("dashboard-region", 10, random -> get("/api/dashboard/stats/region/" + region(random))),
+                new Operation("assignments-by-device", 15, random -> get("/api/assignments/by-device/" + deviceId(random))),
+                new Operation("assignments-by-license", 5, random -> get("/api/assignments/by-license/" + licenseId(random))),
+                new Operation("assign", 10, this::assign),
+                new Operation("revoke", 8, this::revoke),
+                new Operation("audit-recent", 8, random -> get("/api/audit-logs?page=0&size=20")),
+                new Operation("audit-filter", 8, random -> get("/api/audit-logs/filter?entityType="
+                        + EntityType.values()[random.nextInt(4)] + "&startDate="
+                        + LocalDateTime.now().minusDays(1 + random.nextInt(30)).withNano(0) + "&page=0&size=20")),
+                new Operation("audit-entity", 5, random -> get("/api/audit-logs/entity/LICENSE/" + licenseId(random))),
+                new Operation("audit-search", 3, random -> get("/api/audit-logs/search?searchTerm="
+                        + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8))),
+                new Operation("report-compliance", 3, random -> get("/api/reports/compliance/" + region(random))),
+                new Operation("report-licenses", 2, random -> get("/api/reports/licenses?region=" + region(random) + "&status=ACTIVE")),
+                new Operation("report-devices", 0, random -> get("/api/reports/devices")),
+                new Operation("report-assignments", 0, random -> get("/api/reports/assignments?region=" + region(random) + "&active=true")));
+
+        if (!options.has("mix")) {
+            return all.stream().filter(operation -> operation.weight() > 0).toList();
+        }
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : options.get("mix", "").split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(parts[0].trim(), parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+        }
+        List<Operation> selected = new ArrayList<>();
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            Operation operation = all.stream()
+                    .filter(candidate -> candidate.name().equals(weight.getKey()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in --mix: " + weight.getKey()));
+            selected.add(new Operation(operation.name(), weight.getValue(), operation.request()));
+        }
+        return selected;
+    }
+
+    private void drive(List<Operation> operations, int concurrency, Duration duration,
+                       Map<String, LatencyRecorder> recorders) throws InterruptedException {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick(operations, totalWeight, random);
+                        HttpRequest request = operation.request().apply(random);
+                        if (request == null) {
+                            continue;
+                        }
+                        long start = System.nanoTime();
+                        boolean success;
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            success = response.statusCode() / 100 == 2;
+                            if (success && operation.name().equals("assign")) {
+                                createdAssignments.add(MAPPER.readTree(response.body()).path("id").asLong());
+                            }
+                        } catch (IOException e) {
+                            success = false;
+                        }
+                        if (recorders != null) {
+                            recorders.get(operation.name()).record(System.nanoTime() - start, success);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "load-driver-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+    }
+
+    private static Operation pick(List<Operation> operations, int totalWeight, ThreadLocalRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            point -= operation.weight();
+            if (point < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private HttpRequest assign(ThreadLocalRandom random) {
+        JsonNode body = MAPPER.createObjectNode()
+                .put("deviceId", deviceId(random))
+                .put("licenseId", licenseId(random))
+                .put("assignedBy", dataset.getProperty("login-user"));
+        return post("/api/assignments", body);
+    }
+
+    // Skipped until the run has created something to revoke
+    private HttpRequest revoke(ThreadLocalRandom random) {
+        Long id = createdAssignments.poll();
+        if (id == null) {
+            return null;
+        }
+        JsonNode body = MAPPER.createObjectNode()
+                .put("revokedBy", dataset.getProperty("login-user"))
+                .put("revocationReason", "Load test");
+        return post("/api/assignments/" + id + "/revoke", body);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private long deviceId(ThreadLocalRandom random) {
+        return 1 + random.nextLong(Math.max(1, devices));
+    }
+
+    private long licenseId(ThreadLocalRandom random) {
+        return 1 + random.nextLong(Math.max(1, licenses));
+    }
+
+    private static String region(ThreadLocalRandom random) {
+        return Region.values()[random.nextInt(Region.values().length)].name();
+    }
+
+    private void report(Map<String, LatencyRecorder> recorders, Duration duration, Path directory) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        List<LatencyRecorder.Snapshot> snapshots = recorders.values().stream().map(LatencyRecorder::snapshot).toList();
+
+        String header = String.format("%-24s %9s %7s %8s %9s %9s %9s %9s %9s %9s",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        System.out.println();
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+        for (LatencyRecorder.Snapshot s : snapshots) {
+            System.out.printf("%-24s %9d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.operation(), s.count(), s.errors(), s.count() / seconds, s.percentile(50), s.percentile(90),
+                    s.percentile(95), s.percentile(99), s.percentile(99.9), s.max());
+        }
+
+        Files.createDirectories(directory);
+        Path csv = directory.resolve("latency-" + LocalDateTime.now().format(FILE_STAMP) + ".csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            out.println("operation,count,errors,req_per_s,p50_ms,p90_ms,p95_ms,p99_ms,p999_ms,max_ms");
+            for (LatencyRecorder.Snapshot s : snapshots) {
+                out.printf("%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        s.operation(), s.count(), s.errors(), s.count() / seconds, s.percentile(50), s.percentile(90),
+                        s.percentile(95), s.percentile(99), s.percentile(99.9), s.max());
+            }
+        }
+        System.out.println();
+        System.out.println("Latencies written to " + csv);
+    }
+
+    private static String driverClass(String url) {
+        return url.startsWith("jdbc:h2:") ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver";
+    }
+
+    private static String dialect(String url) {
+        return url.startsWith("jdbc:h2:") ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.MySQLDialect";
+    }
+
+    /**
+     * One kind of request; the function returns null when there is nothing to do this time
+     */
+    private record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+}
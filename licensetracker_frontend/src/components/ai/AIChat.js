@@ -17,6 +17,7 @@ const AIChat = () => {
     const [messages, setMessages] = useState([]);
     const [input, setInput] = useState('');
     const [loading, setLoading] = useState(false);
+    const [streaming, setStreaming] = useState(false);
     const [chatId, setChatId] = useState(null);
     const [showSuggestions, setShowSuggestions] = useState(true);
     const messagesEndRef = useRef(null);
@@ -138,34 +139,42 @@ const AIChat = () => {
         setShowSuggestions(false);
         setLoading(true);
 
-        try {
-            const response = await chatService.sendMessage(input);
+        const aiMessageId = messages.length + 2;
+        const upsertAiMessage = (fields) => {
+            setMessages(prev => prev.some(m => m.id === aiMessageId)
+                ? prev.map(m => (m.id === aiMessageId ? { ...m, ...fields } : m))
+                : [...prev, { id: aiMessageId, sender: 'ai', timestamp: new Date(), ...fields }]);
+        };
 
-            const aiMessage = {
-                id: messages.length + 2,
-                text: response.response,
-                sender: 'ai',
-                timestamp: new Date(),
-                chatId: response.chatId
-            };
+        try {
+            // Render tokens as they arrive instead of waiting for the full answer
+            let streamedText = '';
+            const response = await chatService.streamMessage(input, (token) => {
+                streamedText += token;
+                setStreaming(true);
+                upsertAiMessage({ text: streamedText });
+            });
 
-            setMessages(prev => [...prev, aiMessage]);
+            upsertAiMessage({ text: response.response, chatId: response.chatId });
             if (response.chatId) {
                 setChatId(response.chatId);
             }
         } catch (error) {
             console.error('Error sending message:', error);
-            const errorMessage = {
-                id: messages.length + 2,
-                text: 'Sorry, I encountered an error. Please try again.',
-                sender: 'ai',
-                timestamp: new Date(),
-                isError: true
-            };
-            setMessages(prev => [...prev, errorMessage]);
+            setMessages(prev => [
+                ...prev.filter(m => m.id !== aiMessageId),
+                {
+                    id: aiMessageId,
+                    text: 'Sorry, I encountered an error. Please try again.',
+                    sender: 'ai',
+                    timestamp: new Date(),
+                    isError: true
+                }
+            ]);
             toast.error('Failed to send message');
         } finally {
             setLoading(false);
+            setStreaming(false);
         }
     };
 
@@ -173,8 +182,15 @@ const AIChat = () => {
         setInput(prompt);
     };
 
-    const handleClearChat = () => {
+    const handleClearChat = async () => {
         if (window.confirm('Are you sure you want to clear the chat history?')) {
+            try {
+                await chatService.clearOwnHistory();
+            } catch (error) {
+                console.error('Error clearing chat history:', error);
+                toast.error('Failed to clear chat history');
+                return;
+            }
             setMessages([
                 {
                     id: 1,
@@ -354,7 +370,7 @@ const AIChat = () => {
                                             messages.map(msg => renderMessage(msg))
                                         )}
 
-                                        {loading && (
+                                        {loading && !streaming && (
                                             <div className="message-container ai-message">
                                                 <div className="message ai">
                                                     <div className="ai-avatar">
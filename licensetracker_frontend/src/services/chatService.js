@@ -12,6 +12,78 @@ const chatService = {
         return response.data;
     },
 
+    /**
+     * Send message and receive the answer as server-sent events.
+     * onToken is called with each chunk of text; resolves with { response, chatId }
+     */
+    streamMessage: async (message, onToken) => {
+        const token = localStorage.getItem('token');
+        const res = await fetch(`${api.defaults.baseURL}/ai/chat/stream`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+                Accept: 'text/event-stream',
+                ...(token ? { Authorization: `Bearer ${token}` } : {})
+            },
+            body: JSON.stringify({ message })
+        });
+
+        if (!res.ok || !res.body) {
+            throw new Error(`Chat stream failed with status ${res.status}`);
+        }
+
+        const reader = res.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+
+        while (true) {
+            const { value, done } = await reader.read();
+            if (done) {
+                break;
+            }
+            buffer += decoder.decode(value, { stream: true });
+
+            // Events are separated by a blank line
+            let boundary;
+            while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+                const rawEvent = buffer.slice(0, boundary);
+                buffer = buffer.slice(boundary + 2);
+
+                let eventName = 'message';
+                const dataLines = [];
+                rawEvent.split('\n').forEach(line => {
+                    if (line.startsWith('event:')) {
+                        eventName = line.slice(6).trim();
+                    } else if (line.startsWith('data:')) {
+                        dataLines.push(line.slice(5));
+                    }
+                });
+                if (dataLines.length === 0) {
+                    continue;
+                }
+
+                const data = JSON.parse(dataLines.join('\n'));
+                if (eventName === 'token') {
+                    onToken(data.token);
+                } else if (eventName === 'done') {
+                    return data;
+                } else if (eventName === 'error') {
+                    throw new Error(data.message);
+                }
+            }
+        }
+
+        throw new Error('Chat stream ended unexpectedly');
+    },
+
+    /**
+     * Clear the current user's conversation history on the server
+     */
+    clearOwnHistory: async () => {
+        const response = await api.delete('/ai/chat/history');
+        return response.data;
+    },
+
     /**
      * Clear chat history
      */